@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Config for the asynchronous pipeline of connection logs, which buffers the log calls of a connection and formats,
+ * stores and publishes them in batches outside of the threads consuming and publishing messages.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public interface ConnectionLogPipelineConfig {
+
+    /**
+     * Indicates whether connection logs are processed asynchronously. If disabled, connection logs are formatted,
+     * stored and published by the thread which logs them.
+     *
+     * @return {@code true} if connection logs are processed asynchronously.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of connection logs buffered per connection. Further logs are dropped until the
+     * buffer was drained. It is rounded up to the next power of two.
+     *
+     * @return the buffer size.
+     */
+    int getBufferSize();
+
+    /**
+     * Returns the maximum number of buffered connection logs processed in one batch.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the maximum number of success logs per second per connection and
+     * {@link org.eclipse.ditto.connectivity.model.LogCategory}, further success logs of the second are dropped.
+     * Failure logs are not limited. {@code 0} disables the limit.
+     *
+     * @return the maximum number of success logs per second and category.
+     */
+    int getSuccessLogsPerSecondPerCategory();
+
+    /**
+     * Returns the number of threads of the dedicated executor draining the pipelines of all connections. The
+     * pipelines block these threads while they publish logs.
+     *
+     * @return the number of threads.
+     */
+    int getThreads();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ConnectionLogPipelineConfig}.
+     */
+    enum ConnectionLogPipelineConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether connection logs are processed asynchronously.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of connection logs buffered per connection.
+         */
+        BUFFER_SIZE("buffer-size", 1024),
+
+        /**
+         * The maximum number of buffered connection logs processed in one batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 128),
+
+        /**
+         * The maximum number of success logs per second per connection and log category, 0 for no limit.
+         */
+        SUCCESS_LOGS_PER_SECOND_PER_CATEGORY("success-logs-per-second-per-category", 0),
+
+        /**
+         * The number of threads draining the pipelines of all connections.
+         */
+        THREADS("threads", 2);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConnectionLogPipelineConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * Default implementation of {@link ConnectionLogPipelineConfig}.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class DefaultConnectionLogPipelineConfig implements ConnectionLogPipelineConfig {
+
+    private static final String CONFIG_PATH = "pipeline";
+
+    private final boolean enabled;
+    private final int bufferSize;
+    private final int maxBatchSize;
+    private final int successLogsPerSecondPerCategory;
+    private final int threads;
+
+    private DefaultConnectionLogPipelineConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(ConnectionLogPipelineConfigValue.ENABLED.getConfigPath());
+        bufferSize = config.getPositiveIntOrThrow(ConnectionLogPipelineConfigValue.BUFFER_SIZE);
+        maxBatchSize = config.getPositiveIntOrThrow(ConnectionLogPipelineConfigValue.MAX_BATCH_SIZE);
+        successLogsPerSecondPerCategory =
+                config.getNonNegativeIntOrThrow(ConnectionLogPipelineConfigValue.SUCCESS_LOGS_PER_SECOND_PER_CATEGORY);
+        threads = config.getPositiveIntOrThrow(ConnectionLogPipelineConfigValue.THREADS);
+    }
+
+    /**
+     * Returns {@link ConnectionLogPipelineConfig}.
+     *
+     * @param config is supposed to provide the settings of the logger config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static ConnectionLogPipelineConfig of(final Config config) {
+        return new DefaultConnectionLogPipelineConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConnectionLogPipelineConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public int getSuccessLogsPerSecondPerCategory() {
+        return successLogsPerSecondPerCategory;
+    }
+
+    @Override
+    public int getThreads() {
+        return threads;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultConnectionLogPipelineConfig that = (DefaultConnectionLogPipelineConfig) o;
+        return enabled == that.enabled &&
+                bufferSize == that.bufferSize &&
+                maxBatchSize == that.maxBatchSize &&
+                successLogsPerSecondPerCategory == that.successLogsPerSecondPerCategory &&
+                threads == that.threads;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, bufferSize, maxBatchSize, successLogsPerSecondPerCategory, threads);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", bufferSize=" + bufferSize +
+                ", maxBatchSize=" + maxBatchSize +
+                ", successLogsPerSecondPerCategory=" + successLogsPerSecondPerCategory +
+                ", threads=" + threads +
+                "]";
+    }
+
+}
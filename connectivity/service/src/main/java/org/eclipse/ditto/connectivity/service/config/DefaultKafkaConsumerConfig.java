@@ -36,6 +36,7 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
 
     private final ConnectionThrottlingConfig throttlingConfig;
     private final ExponentialBackOffConfig restartBackOffConfig;
+    private final KafkaConsumerPartitioningConfig partitioningConfig;
     private final Config pekkoConnectorsConfig;
     private final Duration metricCollectingInterval;
     private final long initTimeoutSeconds;
@@ -44,6 +45,7 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
         throttlingConfig = ConnectionThrottlingConfig.of(kafkaConsumerScopedConfig);
         restartBackOffConfig =
                 DefaultExponentialBackOffConfig.of(getConfigOrEmpty(kafkaConsumerScopedConfig, RESTART_PATH));
+        partitioningConfig = KafkaConsumerPartitioningConfig.of(kafkaConsumerScopedConfig);
         pekkoConnectorsConfig = getConfigOrEmpty(kafkaConsumerScopedConfig, PEKKO_CONNECTORS_PATH);
         metricCollectingInterval =
                 kafkaConsumerScopedConfig.getDuration(ConfigValue.METRIC_COLLECTING_INTERVAL.getConfigPath());
@@ -78,6 +80,11 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
         return restartBackOffConfig;
     }
 
+    @Override
+    public KafkaConsumerPartitioningConfig getPartitioningConfig() {
+        return partitioningConfig;
+    }
+
     @Override
     public Config getPekkoConnectorsConfig() {
         return pekkoConnectorsConfig;
@@ -104,6 +111,7 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
         final DefaultKafkaConsumerConfig that = (DefaultKafkaConsumerConfig) o;
         return Objects.equals(throttlingConfig, that.throttlingConfig) &&
                 Objects.equals(restartBackOffConfig, that.restartBackOffConfig) &&
+                Objects.equals(partitioningConfig, that.partitioningConfig) &&
                 Objects.equals(pekkoConnectorsConfig, that.pekkoConnectorsConfig) &&
                 Objects.equals(metricCollectingInterval, that.metricCollectingInterval) &&
                 Objects.equals(initTimeoutSeconds, that.initTimeoutSeconds);
@@ -111,8 +119,8 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(throttlingConfig, restartBackOffConfig, pekkoConnectorsConfig, metricCollectingInterval,
-                initTimeoutSeconds);
+        return Objects.hash(throttlingConfig, restartBackOffConfig, partitioningConfig, pekkoConnectorsConfig,
+                metricCollectingInterval, initTimeoutSeconds);
     }
 
     @Override
@@ -120,6 +128,7 @@ final class DefaultKafkaConsumerConfig implements KafkaConsumerConfig {
         return getClass().getSimpleName() + " [" +
                 "throttlingConfig=" + throttlingConfig +
                 ", restartBackOffConfig=" + restartBackOffConfig +
+                ", partitioningConfig=" + partitioningConfig +
                 ", pekkoConnectorsConfig=" + pekkoConnectorsConfig +
                 ", metricCollectingInterval=" + metricCollectingInterval +
                 ", initTimeoutSeconds=" + initTimeoutSeconds +
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link KafkaConsumerPartitioningConfig}.
+ */
+@Immutable
+final class DefaultKafkaConsumerPartitioningConfig implements KafkaConsumerPartitioningConfig {
+
+    private final boolean enabled;
+    private final int maxPartitions;
+    private final int maxInFlightPerPartition;
+
+    private DefaultKafkaConsumerPartitioningConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        maxPartitions = config.getPositiveIntOrThrow(ConfigValue.MAX_PARTITIONS);
+        maxInFlightPerPartition = config.getPositiveIntOrThrow(ConfigValue.MAX_IN_FLIGHT_PER_PARTITION);
+    }
+
+    static DefaultKafkaConsumerPartitioningConfig of(final Config config) {
+        return new DefaultKafkaConsumerPartitioningConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxPartitions() {
+        return maxPartitions;
+    }
+
+    @Override
+    public int getMaxInFlightPerPartition() {
+        return maxInFlightPerPartition;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultKafkaConsumerPartitioningConfig that = (DefaultKafkaConsumerPartitioningConfig) o;
+        return enabled == that.enabled &&
+                maxPartitions == that.maxPartitions &&
+                maxInFlightPerPartition == that.maxInFlightPerPartition;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxPartitions, maxInFlightPerPartition);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxPartitions=" + maxPartitions +
+                ", maxInFlightPerPartition=" + maxInFlightPerPartition +
+                "]";
+    }
+
+}
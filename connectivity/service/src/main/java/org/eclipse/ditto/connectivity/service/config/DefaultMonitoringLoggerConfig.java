@@ -37,6 +37,7 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
     private final Duration logDuration;
     private final Duration loggingActiveCheckInterval;
     private final LoggerPublisherConfig loggerPublisherConfig;
+    private final ConnectionLogPipelineConfig connectionLogPipelineConfig;
 
     private DefaultMonitoringLoggerConfig(final ConfigWithFallback config) {
         successCapacity = config.getNonNegativeIntOrThrow(MonitoringLoggerConfigValue.SUCCESS_CAPACITY);
@@ -46,6 +47,7 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
         loggingActiveCheckInterval =
                 config.getNonNegativeAndNonZeroDurationOrThrow(MonitoringLoggerConfigValue.LOGGING_ACTIVE_CHECK_INTERVAL);
         loggerPublisherConfig = DefaultLoggerPublisherConfig.of(config);
+        connectionLogPipelineConfig = DefaultConnectionLogPipelineConfig.of(config);
     }
 
     /**
@@ -90,6 +92,11 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
         return loggerPublisherConfig;
     }
 
+    @Override
+    public ConnectionLogPipelineConfig getConnectionLogPipelineConfig() {
+        return connectionLogPipelineConfig;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -104,13 +111,14 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
                 maxLogSizeInBytes == that.maxLogSizeInBytes &&
                 Objects.equals(logDuration, that.logDuration) &&
                 Objects.equals(loggingActiveCheckInterval, that.loggingActiveCheckInterval) &&
-                Objects.equals(loggerPublisherConfig, that.loggerPublisherConfig);
+                Objects.equals(loggerPublisherConfig, that.loggerPublisherConfig) &&
+                Objects.equals(connectionLogPipelineConfig, that.connectionLogPipelineConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(successCapacity, failureCapacity, maxLogSizeInBytes, logDuration,
-                loggingActiveCheckInterval, loggerPublisherConfig);
+                loggingActiveCheckInterval, loggerPublisherConfig, connectionLogPipelineConfig);
     }
 
     @Override
@@ -122,6 +130,7 @@ public final class DefaultMonitoringLoggerConfig implements MonitoringLoggerConf
                 ", logDuration=" + logDuration +
                 ", loggingActiveCheckInterval=" + loggingActiveCheckInterval +
                 ", loggerPublisherConfig=" + loggerPublisherConfig +
+                ", connectionLogPipelineConfig=" + connectionLogPipelineConfig +
                 "]";
     }
 
@@ -42,6 +42,14 @@ public interface KafkaConsumerConfig {
      */
     ExponentialBackOffConfig getRestartBackOffConfig();
 
+    /**
+     * Returns the config for consuming the assigned partitions in separate streams.
+     *
+     * @return the config.
+     * @since 3.6.0
+     */
+    KafkaConsumerPartitioningConfig getPartitioningConfig();
+
     /**
      * Returns the Config for consumers needed by the Kafka client.
      *
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides configuration settings for consuming the assigned partitions of a Kafka source in separate streams.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public interface KafkaConsumerPartitioningConfig {
+
+    /**
+     * Config path relative to its parent.
+     */
+    String CONFIG_PATH = "partitioning";
+
+    /**
+     * Returns whether each assigned partition is consumed, acknowledged and committed in its own stream.
+     *
+     * @return true if partitioned consumption is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of partitions which are consumed concurrently by one consumer. The consumer stream
+     * fails if more partitions are assigned to it.
+     *
+     * @return the maximum number of partitions.
+     */
+    int getMaxPartitions();
+
+    /**
+     * Returns how many unacknowledged messages are allowed per partition. Messages with different record keys are
+     * processed in parallel within this window, messages with the same record key one after the other.
+     *
+     * @return the maximum number of messages in flight per partition.
+     */
+    int getMaxInFlightPerPartition();
+
+    /**
+     * Returns an instance of {@code KafkaConsumerPartitioningConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    static KafkaConsumerPartitioningConfig of(final Config config) {
+        return DefaultKafkaConsumerPartitioningConfig.of(config);
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConsumerPartitioningConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether each assigned partition is consumed in its own stream.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of partitions which are consumed concurrently by one consumer.
+         */
+        MAX_PARTITIONS("max-partitions", 64),
+
+        /**
+         * The maximum number of unacknowledged messages per partition.
+         */
+        MAX_IN_FLIGHT_PER_PARTITION("max-in-flight-per-partition", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -69,6 +69,14 @@ public interface MonitoringLoggerConfig {
      */
     LoggerPublisherConfig getLoggerPublisherConfig();
 
+    /**
+     * Returns the configuration of the asynchronous pipeline processing the connection logs.
+     *
+     * @return the configuration of the connection log pipeline.
+     * @since 3.6.0
+     */
+    ConnectionLogPipelineConfig getConnectionLogPipelineConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for {@code
      * ExponentialBackOffConfig}.
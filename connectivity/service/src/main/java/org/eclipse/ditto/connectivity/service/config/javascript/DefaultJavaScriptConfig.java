@@ -38,6 +38,7 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
     private final int maxScriptStackDepth;
     private final boolean allowUnsafeStandardObjects;
     @Nullable private final Path commonJsModulesPath;
+    private final int maxPooledScripts;
 
     private DefaultJavaScriptConfig(final ScopedConfig config) {
         maxScriptSizeBytes = config.getPositiveIntOrThrow(JavaScriptConfigValue.MAX_SCRIPT_SIZE_BYTES);
@@ -53,6 +54,7 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
         } else {
             commonJsModulesPath = Path.of(commonJsModulesPathString);
         }
+        maxPooledScripts = config.getPositiveIntOrThrow(JavaScriptConfigValue.MAX_POOLED_SCRIPTS);
     }
 
     /**
@@ -92,6 +94,11 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
         return Optional.ofNullable(commonJsModulesPath);
     }
 
+    @Override
+    public int getMaxPooledScripts() {
+        return maxPooledScripts;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -104,6 +111,7 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
         return maxScriptSizeBytes == that.maxScriptSizeBytes &&
                 maxScriptStackDepth == that.maxScriptStackDepth &&
                 allowUnsafeStandardObjects == that.allowUnsafeStandardObjects &&
+                maxPooledScripts == that.maxPooledScripts &&
                 Objects.equals(maxScriptExecutionTime, that.maxScriptExecutionTime) &&
                 Objects.equals(commonJsModulesPath, that.commonJsModulesPath);
     }
@@ -111,7 +119,7 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
     @Override
     public int hashCode() {
         return Objects.hash(maxScriptSizeBytes, maxScriptExecutionTime, maxScriptStackDepth, allowUnsafeStandardObjects,
-                commonJsModulesPath);
+                commonJsModulesPath, maxPooledScripts);
     }
 
     @Override
@@ -122,6 +130,7 @@ public final class DefaultJavaScriptConfig implements JavaScriptConfig {
                 ", maxScriptStackDepth=" + maxScriptStackDepth +
                 ", allowUnsafeStandardObjects=" + allowUnsafeStandardObjects +
                 ", commonJsModulesPath=" + commonJsModulesPath +
+                ", maxPooledScripts=" + maxPooledScripts +
                 "]";
     }
 
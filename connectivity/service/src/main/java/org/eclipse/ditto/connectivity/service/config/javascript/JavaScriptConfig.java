@@ -66,6 +66,15 @@ public interface JavaScriptConfig {
      */
     Optional<Path> getCommonJsModulesPath();
 
+    /**
+     * Returns the maximum number of distinct compiled mapping scripts which are kept together with the scope of their
+     * JavaScript libraries in order to share them between the mappers of all connections.
+     *
+     * @return the maximum number of pooled compiled mapping scripts.
+     * @since 3.6.0
+     */
+    int getMaxPooledScripts();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code JavaScriptConfig}.
@@ -96,7 +105,12 @@ public interface JavaScriptConfig {
          * The filesystem path where to load CommonJS modules from, by default empty indicating to not load any CommonJS
          * modules.
          */
-        COMMON_JS_MODULE_PATH("commonJsModulePath", "");
+        COMMON_JS_MODULE_PATH("commonJsModulePath", ""),
+
+        /**
+         * The maximum number of distinct compiled mapping scripts to keep.
+         */
+        MAX_POOLED_SCRIPTS("maxPooledScripts", 100);
 
         private final String path;
         private final Object defaultValue;
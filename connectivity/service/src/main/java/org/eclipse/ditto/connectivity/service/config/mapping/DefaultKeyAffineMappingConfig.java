@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config.mapping;
+
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of the key-affine mapping config.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class DefaultKeyAffineMappingConfig implements KeyAffineMappingConfig {
+
+    private static final String CONFIG_PATH = "key-affine-lanes";
+
+    private final boolean enabled;
+    private final int maxLanes;
+    private final int minLanes;
+    private final int queueDepthPerLane;
+    private final List<String> keyHeaders;
+
+    private DefaultKeyAffineMappingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(KeyAffineMappingConfigValue.ENABLED.getConfigPath());
+        maxLanes = config.getNonNegativeIntOrThrow(KeyAffineMappingConfigValue.MAX_LANES);
+        minLanes = config.getPositiveIntOrThrow(KeyAffineMappingConfigValue.MIN_LANES);
+        queueDepthPerLane = config.getPositiveIntOrThrow(KeyAffineMappingConfigValue.QUEUE_DEPTH_PER_LANE);
+        keyHeaders = List.copyOf(config.getStringList(KeyAffineMappingConfigValue.KEY_HEADERS.getConfigPath()));
+    }
+
+    /**
+     * Returns an instance of {@code DefaultKeyAffineMappingConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the key-affine mapping config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultKeyAffineMappingConfig of(final Config config) {
+        return new DefaultKeyAffineMappingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, KeyAffineMappingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxLanes() {
+        return maxLanes;
+    }
+
+    @Override
+    public int getMinLanes() {
+        return minLanes;
+    }
+
+    @Override
+    public int getQueueDepthPerLane() {
+        return queueDepthPerLane;
+    }
+
+    @Override
+    public List<String> getKeyHeaders() {
+        return keyHeaders;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultKeyAffineMappingConfig that = (DefaultKeyAffineMappingConfig) o;
+        return enabled == that.enabled &&
+                maxLanes == that.maxLanes &&
+                minLanes == that.minLanes &&
+                queueDepthPerLane == that.queueDepthPerLane &&
+                Objects.equals(keyHeaders, that.keyHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxLanes, minLanes, queueDepthPerLane, keyHeaders);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxLanes=" + maxLanes +
+                ", minLanes=" + minLanes +
+                ", queueDepthPerLane=" + queueDepthPerLane +
+                ", keyHeaders=" + keyHeaders +
+                "]";
+    }
+
+}
@@ -34,17 +34,21 @@ public final class DefaultMappingConfig implements MappingConfig {
     private final int bufferSize;
     private final int parallelism;
     private final int maxPoolSize;
+    private final int maxInboundBatchSize;
     private final boolean publishFailedEnrichments;
     private final JavaScriptConfig javaScriptConfig;
     private final MapperLimitsConfig mapperLimitsConfig;
+    private final KeyAffineMappingConfig keyAffineMappingConfig;
 
     private DefaultMappingConfig(final ScopedConfig config) {
         bufferSize = config.getNonNegativeIntOrThrow(MappingConfigValue.BUFFER_SIZE);
         parallelism = config.getPositiveIntOrThrow(MappingConfigValue.PARALLELISM);
         maxPoolSize = config.getPositiveIntOrThrow(MappingConfigValue.MAX_POOL_SIZE);
+        maxInboundBatchSize = config.getPositiveIntOrThrow(MappingConfigValue.MAX_INBOUND_BATCH_SIZE);
         publishFailedEnrichments = config.getBoolean(MappingConfigValue.PUBLISH_FAILED_ENRICHMENTS.getConfigPath());
         mapperLimitsConfig = DefaultMapperLimitsConfig.of(config);
         javaScriptConfig = DefaultJavaScriptConfig.of(config);
+        keyAffineMappingConfig = DefaultKeyAffineMappingConfig.of(config);
     }
 
     /**
@@ -76,6 +80,11 @@ public final class DefaultMappingConfig implements MappingConfig {
         return maxPoolSize;
     }
 
+    @Override
+    public int getMaxInboundBatchSize() {
+        return maxInboundBatchSize;
+    }
+
     @Override
     public boolean getPublishFailedEnrichments() {
         return publishFailedEnrichments;
@@ -91,6 +100,11 @@ public final class DefaultMappingConfig implements MappingConfig {
         return mapperLimitsConfig;
     }
 
+    @Override
+    public KeyAffineMappingConfig getKeyAffineMappingConfig() {
+        return keyAffineMappingConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -103,14 +117,17 @@ public final class DefaultMappingConfig implements MappingConfig {
         return bufferSize == that.bufferSize &&
                 parallelism == that.parallelism &&
                 maxPoolSize == that.maxPoolSize &&
+                maxInboundBatchSize == that.maxInboundBatchSize &&
                 publishFailedEnrichments == that.publishFailedEnrichments &&
                 Objects.equals(javaScriptConfig, that.javaScriptConfig) &&
-                Objects.equals(mapperLimitsConfig, that.mapperLimitsConfig);
+                Objects.equals(mapperLimitsConfig, that.mapperLimitsConfig) &&
+                Objects.equals(keyAffineMappingConfig, that.keyAffineMappingConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(bufferSize, parallelism, maxPoolSize, publishFailedEnrichments, javaScriptConfig, mapperLimitsConfig);
+        return Objects.hash(bufferSize, parallelism, maxPoolSize, maxInboundBatchSize, publishFailedEnrichments,
+                javaScriptConfig, mapperLimitsConfig, keyAffineMappingConfig);
     }
 
     @Override
@@ -119,9 +136,11 @@ public final class DefaultMappingConfig implements MappingConfig {
                 "bufferSize=" + bufferSize +
                 ", parallelism=" + parallelism +
                 ", maxPoolSize=" + maxPoolSize +
+                ", maxInboundBatchSize=" + maxInboundBatchSize +
                 ", publishFailedEnrichments=" + publishFailedEnrichments +
                 ", javaScriptConfig=" + javaScriptConfig +
                 ", mapperLimitsConfig=" + mapperLimitsConfig +
+                ", keyAffineMappingConfig=" + keyAffineMappingConfig +
                 "]";
     }
 
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config.mapping;
+
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the key-affine inbound mapping, which maps inbound messages in lanes selected
+ * by the key of the messages, e.g. the ID of the thing.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public interface KeyAffineMappingConfig {
+
+    /**
+     * Returns whether inbound messages are mapped in key-affine lanes instead of a pool of
+     * {@link org.eclipse.ditto.connectivity.model.Connection#getProcessorPoolSize()} parallel mappings.
+     *
+     * @return whether the key-affine mapping is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of lanes. {@code 0} means the number of available processors.
+     *
+     * @return the maximum number of lanes.
+     */
+    int getMaxLanes();
+
+    /**
+     * Returns the number of lanes which are always active.
+     *
+     * @return the minimum number of lanes.
+     */
+    int getMinLanes();
+
+    /**
+     * Returns the number of in-flight batches per active lane from which on a further lane is activated.
+     *
+     * @return the queue depth per lane.
+     */
+    int getQueueDepthPerLane();
+
+    /**
+     * Returns the names of the headers of inbound messages to determine the lane of a message by. The first present
+     * header is used.
+     *
+     * @return the header names.
+     */
+    List<String> getKeyHeaders();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KeyAffineMappingConfig}.
+     */
+    enum KeyAffineMappingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the key-affine mapping is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of lanes, 0 for the number of available processors.
+         */
+        MAX_LANES("max-lanes", 0),
+
+        /**
+         * The number of lanes which are always active.
+         */
+        MIN_LANES("min-lanes", 1),
+
+        /**
+         * The number of in-flight batches per active lane from which on a further lane is activated.
+         */
+        QUEUE_DEPTH_PER_LANE("queue-depth-per-lane", 4),
+
+        /**
+         * The headers to determine the lane of an inbound message by.
+         */
+        KEY_HEADERS("key-headers", List.of("ditto-entity-id", "device_id", "kafka.key", "mqtt.topic"));
+
+        private final String path;
+        private final Object defaultValue;
+
+        KeyAffineMappingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
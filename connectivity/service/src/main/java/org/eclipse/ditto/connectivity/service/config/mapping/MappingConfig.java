@@ -46,6 +46,15 @@ public interface MappingConfig {
      */
     int getMaxPoolSize();
 
+    /**
+     * Returns the maximum number of inbound messages of a connection which are mapped together in one batch.
+     * Batches are only formed while the mapping is backpressured.
+     *
+     * @return the maximum inbound batch size.
+     * @since 3.6.0
+     */
+    int getMaxInboundBatchSize();
+
     /**
      * @return whether messages with failed enrichments should be published.
      */
@@ -65,6 +74,14 @@ public interface MappingConfig {
      */
     MapperLimitsConfig getMapperLimitsConfig();
 
+    /**
+     * Returns the config of the key-affine inbound mapping.
+     *
+     * @return the config.
+     * @since 3.6.0
+     */
+    KeyAffineMappingConfig getKeyAffineMappingConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MappingConfig}.
@@ -86,6 +103,11 @@ public interface MappingConfig {
          */
         MAX_POOL_SIZE("max-pool-size", 5),
 
+        /**
+         * The maximum number of inbound messages of a connection mapped together in one batch.
+         */
+        MAX_INBOUND_BATCH_SIZE("max-inbound-batch-size", 10),
+
         /**
          * If messages with failed enrichments should be published.
          */
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
@@ -103,6 +104,20 @@ public interface MessageMapper extends DittoExtensionPoint {
      */
     List<Adaptable> map(ExternalMessage message);
 
+    /**
+     * Runs the mappings of a batch of messages by this mapper, e.g. in order to set up the execution environment of
+     * the mapper only once for the whole batch instead of once per message. Failures of single mappings are thrown
+     * by the mapping calls inside the batch as usual.
+     *
+     * @param batchMapping calls this mapper for each message of the batch.
+     * @param <T> the result type of the batch.
+     * @return the result of the batch.
+     * @since 3.6.0
+     */
+    default <T> T mapBatch(final Supplier<T> batchMapping) {
+        return batchMapping.get();
+    }
+
     /**
      * Lets the mapper implementation calculate additional DittoHeaders to set for an incoming inbound
      * {@code externalMessage}.
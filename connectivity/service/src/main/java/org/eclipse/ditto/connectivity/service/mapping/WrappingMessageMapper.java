@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -120,6 +121,11 @@ final class WrappingMessageMapper implements MessageMapper {
         return checkMaxMappedMessagesLimit(delegate.map(message), inboundMessageLimit, message.getInternalHeaders());
     }
 
+    @Override
+    public <T> T mapBatch(final Supplier<T> batchMapping) {
+        return delegate.mapBatch(batchMapping);
+    }
+
     @Override
     public DittoHeaders getAdditionalInboundHeaders(final ExternalMessage message) {
         return delegate.getAdditionalInboundHeaders(message);
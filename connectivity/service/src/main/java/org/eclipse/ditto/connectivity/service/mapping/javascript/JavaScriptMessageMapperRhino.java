@@ -13,15 +13,11 @@
 package org.eclipse.ditto.connectivity.service.mapping.javascript;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
@@ -34,14 +30,14 @@ import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
 import org.eclipse.ditto.connectivity.service.mapping.AbstractMessageMapper;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapper;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapperConfiguration;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.internal.utils.tracing.span.SpanTagKey;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
-import org.mozilla.javascript.commonjs.module.RequireBuilder;
-import org.mozilla.javascript.commonjs.module.provider.SoftCachingModuleScriptProvider;
-import org.mozilla.javascript.commonjs.module.provider.UrlModuleSourceProvider;
 
 import com.typesafe.config.Config;
 
@@ -49,15 +45,19 @@ import org.apache.pekko.actor.ActorSystem;
 
 /**
  * This mapper executes its mapping methods on the <b>current thread</b>. The caller should be aware of that.
+ * <p>
+ * The compiled mapping scripts and libraries and the sealed standard objects are shared with all other mappers with
+ * the same scripts via the {@link MappingScriptPool}; global variables of the mapping scripts and the state of the
+ * libraries are kept in a scope of this mapper.
+ * </p>
  */
 final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
     private static final String PAYLOAD_MAPPER_ALIAS = "JavaScript";
 
-    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
-
-    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
-    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
+    private static final String SCRIPT_TIMER_NAME = "connectivity_javascript_mapping";
+    private static final String DIRECTION_TAG_NAME = "direction";
+    private static final String MAPPER_TAG_NAME = "mapper";
 
     static final String DITTO_SCOPE_SCRIPT = "/javascript/ditto-scope.js";
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
@@ -65,6 +65,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
     @Nullable private ContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
+    @Nullable private PreparedTimer incomingScriptTimer;
+    @Nullable private PreparedTimer outgoingScriptTimer;
 
     private MappingFunction<ExternalMessage, List<Adaptable>> incomingMapping = DefaultIncomingMapping.get();
     private MappingFunction<Adaptable, List<ExternalMessage>> outgoingMapping = DefaultOutgoingMapping.get();
@@ -83,6 +85,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         super(copyFromMapper);
         this.contextFactory = copyFromMapper.contextFactory;
         this.configuration = copyFromMapper.configuration;
+        this.incomingScriptTimer = copyFromMapper.incomingScriptTimer;
+        this.outgoingScriptTimer = copyFromMapper.outgoingScriptTimer;
         this.incomingMapping = copyFromMapper.incomingMapping;
         this.outgoingMapping = copyFromMapper.outgoingMapping;
     }
@@ -113,8 +117,10 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
         final JavaScriptConfig javaScriptConfig = mappingConfig.getJavaScriptConfig();
         final int maxScriptSizeBytes = javaScriptConfig.getMaxScriptSizeBytes();
-        final Integer incomingScriptSize = configuration.getIncomingScript().map(String::length).orElse(0);
-        final Integer outgoingScriptSize = configuration.getOutgoingScript().map(String::length).orElse(0);
+        final String userIncomingScript = configuration.getIncomingScript().orElse("");
+        final String userOutgoingScript = configuration.getOutgoingScript().orElse("");
+        final int incomingScriptSize = userIncomingScript.length();
+        final int outgoingScriptSize = userOutgoingScript.length();
 
         if (incomingScriptSize > maxScriptSizeBytes || outgoingScriptSize > maxScriptSizeBytes) {
             throw MessageMapperConfigurationFailedException
@@ -127,18 +133,19 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
                 javaScriptConfig.getMaxScriptStackDepth());
 
+        final MappingScriptPool.Key key = new MappingScriptPool.Key(userIncomingScript,
+                userOutgoingScript,
+                configuration.isLoadLongJS(),
+                configuration.isLoadBytebufferJS(),
+                javaScriptConfig.isAllowUnsafeStandardObjects(),
+                javaScriptConfig.getCommonJsModulesPath().orElse(null));
+
         try {
-            // create scope once and load the required libraries in order to get best performance:
-            contextFactory.call(cx -> {
-                final Scriptable scope;
-                if (javaScriptConfig.isAllowUnsafeStandardObjects()) {
-                    scope = cx.initStandardObjects();
-                } else {
-                    scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                }
-                initLibraries(cx, scope, javaScriptConfig.getCommonJsModulesPath().orElse(null));
-                return scope;
-            });
+            final MappingScriptPool.MappingScripts mappingScripts = MappingScriptPool.getInstance()
+                    .getOrCompile(key, javaScriptConfig.getMaxPooledScripts(), contextFactory);
+            // the worker scope of this mapper executes the top level code of the mapping scripts only once:
+            final Scriptable scope = contextFactory.call(mappingScripts::newWorkerScope);
+            initMappings(scope, userIncomingScript, userOutgoingScript);
         } catch (final RhinoException e) {
             final boolean sourceExists = e.lineSource() != null && !e.lineSource().isEmpty();
             final String lineSource = sourceExists ? (", source:\n" + e.lineSource()) : "";
@@ -149,11 +156,26 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                     .cause(e)
                     .build();
         }
+
+        incomingScriptTimer = newScriptTimer(connection, options.getId(), "inbound");
+        outgoingScriptTimer = newScriptTimer(connection, options.getId(), "outbound");
     }
 
     @Override
     public List<Adaptable> map(final ExternalMessage message) {
-        return incomingMapping.apply(message);
+        return timed(incomingScriptTimer, () -> incomingMapping.apply(message));
+    }
+
+    /**
+     * Enters the Rhino context only once for the whole batch: the mapping calls of the batch on this thread reuse
+     * the entered context.
+     */
+    @Override
+    public <T> T mapBatch(final Supplier<T> batchMapping) {
+        if (null == contextFactory) {
+            return batchMapping.get();
+        }
+        return contextFactory.call(cx -> batchMapping.get());
     }
 
     @Override
@@ -163,69 +185,46 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
     @Override
     public List<ExternalMessage> map(final Adaptable adaptable) {
-        return outgoingMapping.apply(adaptable);
+        return timed(outgoingScriptTimer, () -> outgoingMapping.apply(adaptable));
     }
 
-    private void initLibraries(final Context cx, final Scriptable scope, @Nullable final Path commonJsModulePath) {
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
-        }
-        if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
-        }
+    private void initMappings(final Scriptable scope, final String userIncomingScript,
+            final String userOutgoingScript) {
 
-        final List<URI> paths = new ArrayList<>();
-        try {
-            paths.add(getClass().getResource(WEBJARS_LONG).toURI());
-            paths.add(getClass().getResource(WEBJARS_BYTEBUFFER).toURI());
-        } catch (URISyntaxException e) {
-            throw new IllegalStateException("Could not webjars", e);
-        }
-        if (null != commonJsModulePath) {
-            paths.add(commonJsModulePath.toUri());
-        }
-        new RequireBuilder().setModuleScriptProvider(
-                        new SoftCachingModuleScriptProvider(new UrlModuleSourceProvider(paths, null)))
-                .setSandboxed(true)
-                .createRequire(cx, scope)
-                .install(scope);
-
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
-
-        final String userIncomingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
-                .orElse("");
         if (userIncomingScript.isEmpty()) {
             // shortcut: the user defined an empty incoming mapping script -> assume that the ExternalMessage is in DittoProtocol
             incomingMapping = DefaultIncomingMapping.get();
         } else {
             incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
         }
 
-        final String userOutgoingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
-                .orElse("");
         if (userOutgoingScript.isEmpty()) {
             // shortcut: the user defined an empty outgoing mapping script -> send the Adaptable as DittoProtocol JSON
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
             outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
         }
     }
 
-    private Optional<JavaScriptMessageMapperConfiguration> getConfiguration() {
-        return Optional.ofNullable(configuration);
+    private static PreparedTimer newScriptTimer(final Connection connection, final String mapperId,
+            final String direction) {
+
+        return DittoMetrics.timer(SCRIPT_TIMER_NAME)
+                .tag(SpanTagKey.CONNECTION_ID.getTagForValue(connection.getId()))
+                .tag(MAPPER_TAG_NAME, mapperId)
+                .tag(DIRECTION_TAG_NAME, direction);
+    }
+
+    private static <T> T timed(@Nullable final PreparedTimer timer, final Supplier<T> mapping) {
+        if (null == timer) {
+            return mapping.get();
+        }
+        final long startNanos = System.nanoTime();
+        try {
+            return mapping.get();
+        } finally {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
     static void loadJavascriptLibrary(final Context cx,
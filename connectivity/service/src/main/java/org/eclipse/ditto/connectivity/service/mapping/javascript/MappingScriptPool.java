@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.commonjs.module.ModuleScriptProvider;
+import org.mozilla.javascript.commonjs.module.RequireBuilder;
+import org.mozilla.javascript.commonjs.module.provider.SoftCachingModuleScriptProvider;
+import org.mozilla.javascript.commonjs.module.provider.UrlModuleSourceProvider;
+
+/**
+ * Bounded pool of compiled mapping scripts and of the sealed scopes they share. Mappers of all connections and of all
+ * mapping processors of a connection with the same scripts compile them and the JavaScript libraries only once.
+ * <p>
+ * The shared scope only holds the sealed standard objects, so that no mapper can change the objects used by the
+ * mappers of other connections. Each mapper executes the compiled libraries, the Ditto scope and the mapping scripts in
+ * a worker scope of its own whose prototype is the shared scope. This isolates the global variables of mappers and the
+ * internal state of the libraries, e.g. the caches of "long.js", from each other.
+ * </p>
+ */
+@ThreadSafe
+final class MappingScriptPool {
+
+    private static final MappingScriptPool INSTANCE = new MappingScriptPool();
+
+    private static final String WEBJARS_PATH = "/META-INF/resources/webjars";
+    private static final String WEBJARS_BYTEBUFFER = WEBJARS_PATH + "/bytebuffer/5.0.1/dist/bytebuffer.js";
+    private static final String WEBJARS_LONG = WEBJARS_PATH + "/long/3.2.0/dist/long.min.js";
+
+    // access ordered in order to evict the least recently used scripts
+    private final Map<Key, MappingScripts> pool;
+
+    private MappingScriptPool() {
+        pool = new LinkedHashMap<>(16, 0.75F, true);
+    }
+
+    /**
+     * @return the pool of this JVM.
+     */
+    static MappingScriptPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the compiled scripts for the given key, compiling them if they are not pooled yet.
+     *
+     * @param key the mapping scripts and the libraries to load.
+     * @param maxPooledScripts the maximum number of compiled scripts to keep in the pool.
+     * @param contextFactory the context factory to compile the scripts with.
+     * @return the compiled scripts.
+     * @throws org.mozilla.javascript.RhinoException if the scripts could not be compiled.
+     */
+    MappingScripts getOrCompile(final Key key, final int maxPooledScripts, final ContextFactory contextFactory) {
+        synchronized (pool) {
+            final MappingScripts pooled = pool.get(key);
+            if (null != pooled) {
+                return pooled;
+            }
+        }
+        // compile outside the lock; concurrent compilations of the same scripts yield equivalent results
+        final MappingScripts compiled = contextFactory.call(cx -> compile(cx, key));
+        synchronized (pool) {
+            final MappingScripts pooled = pool.putIfAbsent(key, compiled);
+            final Iterator<MappingScripts> leastRecentlyUsed = pool.values().iterator();
+            while (pool.size() > maxPooledScripts && leastRecentlyUsed.hasNext()) {
+                leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+            }
+            return null != pooled ? pooled : compiled;
+        }
+    }
+
+    /**
+     * @return the number of pooled compiled scripts.
+     */
+    int size() {
+        synchronized (pool) {
+            return pool.size();
+        }
+    }
+
+    private static MappingScripts compile(final Context cx, final Key key) {
+        // sealing the standard objects prevents mappers from changing the objects shared with other connections
+        final ScriptableObject sharedScope;
+        if (key.allowUnsafeStandardObjects()) {
+            sharedScope = cx.initStandardObjects(null, true);
+        } else {
+            sharedScope = cx.initSafeStandardObjects(null, true); // that one disables "print, exit, quit", etc.
+        }
+        sharedScope.sealObject();
+
+        final List<Script> scripts = new ArrayList<>();
+        if (key.loadLongJs()) {
+            scripts.add(compileResource(cx, WEBJARS_LONG));
+        }
+        if (key.loadBytebufferJs()) {
+            scripts.add(compileResource(cx, WEBJARS_BYTEBUFFER));
+        }
+        scripts.add(compileResource(cx, JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT));
+        scripts.add(compileResource(cx, JavaScriptMessageMapperRhino.INCOMING_SCRIPT));
+        scripts.add(compileResource(cx, JavaScriptMessageMapperRhino.OUTGOING_SCRIPT));
+        if (!key.incomingScript().isEmpty()) {
+            scripts.add(cx.compileString(key.incomingScript(),
+                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null));
+        }
+        if (!key.outgoingScript().isEmpty()) {
+            scripts.add(cx.compileString(key.outgoingScript(),
+                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null));
+        }
+
+        return new MappingScripts(sharedScope, newModuleScriptProvider(key.commonJsModulePath()),
+                List.copyOf(scripts));
+    }
+
+    private static ModuleScriptProvider newModuleScriptProvider(@Nullable final Path commonJsModulePath) {
+        final List<URI> paths = new ArrayList<>();
+        try {
+            paths.add(MappingScriptPool.class.getResource(WEBJARS_LONG).toURI());
+            paths.add(MappingScriptPool.class.getResource(WEBJARS_BYTEBUFFER).toURI());
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException("Could not webjars", e);
+        }
+        if (null != commonJsModulePath) {
+            paths.add(commonJsModulePath.toUri());
+        }
+        return new SoftCachingModuleScriptProvider(new UrlModuleSourceProvider(paths, null));
+    }
+
+    private static Script compileResource(final Context cx, final String resourceName) {
+        try (final Reader reader = openResource(resourceName)) {
+            return cx.compileReader(reader, resourceName, 1, null);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not load script <" + resourceName + ">", e);
+        }
+    }
+
+    private static Reader openResource(final String resourceName) {
+        return new InputStreamReader(MappingScriptPool.class.getResourceAsStream(resourceName),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Identifies compiled mapping scripts by everything which goes into them.
+     *
+     * @param incomingScript the user defined incoming script, empty if there is none.
+     * @param outgoingScript the user defined outgoing script, empty if there is none.
+     * @param loadLongJs whether to load the "long.js" library.
+     * @param loadBytebufferJs whether to load the "bytebuffer.js" library.
+     * @param allowUnsafeStandardObjects whether to allow 'print', 'exit', 'quit'.
+     * @param commonJsModulePath the path to load CommonJS modules from.
+     */
+    record Key(String incomingScript,
+               String outgoingScript,
+               boolean loadLongJs,
+               boolean loadBytebufferJs,
+               boolean allowUnsafeStandardObjects,
+               @Nullable Path commonJsModulePath) {}
+
+    /**
+     * Compiled mapping scripts and libraries together with the sealed scope of standard objects they share. Compiled
+     * scripts run in interpreted mode and can be executed by any number of threads.
+     */
+    static final class MappingScripts {
+
+        private final ScriptableObject sharedScope;
+        private final ModuleScriptProvider moduleScriptProvider;
+        private final List<Script> scripts;
+
+        private MappingScripts(final ScriptableObject sharedScope, final ModuleScriptProvider moduleScriptProvider,
+                final List<Script> scripts) {
+
+            this.sharedScope = sharedScope;
+            this.moduleScriptProvider = moduleScriptProvider;
+            this.scripts = scripts;
+        }
+
+        /**
+         * Creates a worker scope for one mapper and executes the compiled libraries and mapping scripts in it.
+         *
+         * @param cx the current context.
+         * @return the worker scope.
+         * @throws org.mozilla.javascript.RhinoException if the top level code of a script fails.
+         */
+        Scriptable newWorkerScope(final Context cx) {
+            final Scriptable workerScope = cx.newObject(sharedScope);
+            workerScope.setPrototype(sharedScope);
+            workerScope.setParentScope(null);
+            new RequireBuilder().setModuleScriptProvider(moduleScriptProvider)
+                    .setSandboxed(true)
+                    .createRequire(cx, workerScope)
+                    .install(workerScope);
+            for (final Script script : scripts) {
+                script.exec(cx, workerScope);
+            }
+            return workerScope;
+        }
+
+    }
+
+}
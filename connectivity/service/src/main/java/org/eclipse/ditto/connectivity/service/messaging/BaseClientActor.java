@@ -1876,9 +1876,11 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         final var context = getContext();
         final var actorSystem = context.getSystem();
         final int processorPoolSize = connection.getProcessorPoolSize();
+        final int processorCount = InboundMappingSink.getInboundMappingProcessorCount(processorPoolSize,
+                connectivityConfig.getMappingConfig());
         try {
             // this one throws DittoRuntimeExceptions when the mapper could not be configured
-            inboundMappingProcessors = IntStream.range(0, processorPoolSize)
+            inboundMappingProcessors = IntStream.range(0, processorCount)
                     .mapToObj(i -> InboundMappingProcessor.of(connection, connectivityConfig, actorSystem,
                             protocolAdapter, logger))
                     .toList();
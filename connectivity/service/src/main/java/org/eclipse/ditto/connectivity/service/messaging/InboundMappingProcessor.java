@@ -16,8 +16,11 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -147,6 +150,29 @@ public final class InboundMappingProcessor
         );
     }
 
+    /**
+     * Processes a batch of {@link ExternalMessage}s within one batch of each mapper of the messages, see
+     * {@link MessageMapper#mapBatch(Supplier)}.
+     *
+     * @param messages the messages of the batch.
+     * @param batchProcessing processes the messages of the batch, e.g. by calling {@link #process(ExternalMessage)}
+     * for each of them.
+     * @param <T> the result type of the batch.
+     * @return the result of {@code batchProcessing}.
+     */
+    <T> T processBatch(final Collection<ExternalMessage> messages, final Supplier<T> batchProcessing) {
+        final Set<MessageMapper> mappers = new LinkedHashSet<>();
+        for (final ExternalMessage message : messages) {
+            mappers.addAll(getMappers(message.getPayloadMapping().orElse(null)));
+        }
+        Supplier<T> batch = batchProcessing;
+        for (final MessageMapper mapper : mappers) {
+            final Supplier<T> innerBatch = batch;
+            batch = () -> mapper.mapBatch(innerBatch);
+        }
+        return batch.get();
+    }
+
     private Stream<MappingOutcome<MappedInboundExternalMessage>> runMapper(final MessageMapper mapper,
             final ExternalMessage message, final MappingTimer timer) {
 
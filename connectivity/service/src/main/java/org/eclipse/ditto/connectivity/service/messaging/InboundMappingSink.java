@@ -15,14 +15,18 @@ package org.eclipse.ditto.connectivity.service.messaging;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotEmpty;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.service.config.ThrottlingConfig;
+import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.model.ConnectionId;
+import org.eclipse.ditto.connectivity.service.config.mapping.KeyAffineMappingConfig;
 import org.eclipse.ditto.connectivity.service.config.mapping.MappingConfig;
 import org.eclipse.ditto.connectivity.service.messaging.mappingoutcome.MappingOutcome;
 import org.eclipse.ditto.connectivity.service.util.ConnectivityMdcEntryKey;
@@ -48,6 +52,10 @@ public final class InboundMappingSink {
     @Nullable private final ThrottlingConfig throttlingConfig;
     private final MessageDispatcher messageMappingProcessorDispatcher;
     private final int processorPoolSize;
+    private final int maxInboundBatchSize;
+    private final List<String> laneKeyHeaders;
+    @Nullable private final KeyAffineMappingLanes keyAffineMappingLanes;
+    private final int keyAffineParallelism;
 
     private InboundMappingSink(final List<InboundMappingProcessor> inboundMappingProcessors,
             final ConnectionId connectionId,
@@ -68,6 +76,20 @@ public final class InboundMappingSink {
                 .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connectionId);
 
         this.processorPoolSize = this.determinePoolSize(processorPoolSize, mappingConfig.getMaxPoolSize());
+        maxInboundBatchSize = mappingConfig.getMaxInboundBatchSize();
+
+        final KeyAffineMappingConfig keyAffineMappingConfig = mappingConfig.getKeyAffineMappingConfig();
+        laneKeyHeaders = keyAffineMappingConfig.getKeyHeaders();
+        if (keyAffineMappingConfig.isEnabled()) {
+            // each lane has its own mapping processor
+            final int maxLanes = Math.min(getMaxLanes(keyAffineMappingConfig), inboundMappingProcessors.size());
+            keyAffineMappingLanes = new KeyAffineMappingLanes(maxLanes, keyAffineMappingConfig.getMinLanes(),
+                    keyAffineMappingConfig.getQueueDepthPerLane(), messageMappingProcessorDispatcher);
+            keyAffineParallelism = maxLanes * keyAffineMappingConfig.getQueueDepthPerLane();
+        } else {
+            keyAffineMappingLanes = null;
+            keyAffineParallelism = 0;
+        }
     }
 
 
@@ -106,6 +128,26 @@ public final class InboundMappingSink {
         return inboundMappingSink.getSink();
     }
 
+    /**
+     * Returns the number of inbound mapping processors to create for a connection.
+     *
+     * @param processorPoolSize the processor pool size of the connection.
+     * @param mappingConfig the mapping config.
+     * @return the number of processors, which provides one processor per lane if the key-affine mapping is enabled.
+     */
+    static int getInboundMappingProcessorCount(final int processorPoolSize, final MappingConfig mappingConfig) {
+        final KeyAffineMappingConfig keyAffineMappingConfig = mappingConfig.getKeyAffineMappingConfig();
+        if (keyAffineMappingConfig.isEnabled()) {
+            return Math.max(processorPoolSize, getMaxLanes(keyAffineMappingConfig));
+        }
+        return processorPoolSize;
+    }
+
+    private static int getMaxLanes(final KeyAffineMappingConfig keyAffineMappingConfig) {
+        final int maxLanes = keyAffineMappingConfig.getMaxLanes();
+        return maxLanes > 0 ? maxLanes : Runtime.getRuntime().availableProcessors();
+    }
+
     private Sink<Object, NotUsed> getSink() {
         return Flow.create()
                 .divertTo(logStatusFailure(), Status.Failure.class::isInstance)
@@ -121,21 +163,40 @@ public final class InboundMappingSink {
     }
 
     private Sink<Object, NotUsed> mapMessage() {
-        final Flow<Object, InboundMappingOutcomes, NotUsed> mapMessageFlow =
+        final Flow<Object, List<ExternalMessageWithSender>, NotUsed> batchFlow =
                 Flow.fromFunction(ExternalMessageWithSender.class::cast)
-                        .zipWithIndex()
-                        // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
-                        .mapAsync(processorPoolSize, pair -> CompletableFuture.supplyAsync(
-                                () -> {
-                                    final var message = pair.first();
-                                    final int processorIndex = (int) (pair.second() % inboundMappingProcessors.size());
-                                    final var inboundMappingProcessor = inboundMappingProcessors.get(processorIndex);
-                                    logger.debug("Received inbound Message to map with processor no. <{}>: {}",
-                                            processorIndex, message);
-                                    return mapInboundMessage(message, inboundMappingProcessor);
-                                },
-                                messageMappingProcessorDispatcher)
-                        );
+                        // while mapping is backpressured, map several messages in one batch of the mappers
+                        .batch(maxInboundBatchSize, InboundMappingSink::newBatch, InboundMappingSink::addToBatch);
+
+        final Flow<Object, InboundMappingOutcomes, NotUsed> mapMessageFlow;
+        if (keyAffineMappingLanes != null) {
+            mapMessageFlow = batchFlow
+                    // messages with the same key are mapped in order by the processor of their lane
+                    .mapAsync(keyAffineParallelism, batch -> keyAffineMappingLanes.submit(batch,
+                            this::getLaneKey,
+                            (lane, laneBatch) -> {
+                                logger.debug("Received <{}> inbound Messages to map in lane no. <{}>: {}",
+                                        laneBatch.size(), lane, laneBatch);
+                                return mapInboundMessages(laneBatch, inboundMappingProcessors.get(lane));
+                            }))
+                    .mapConcat(outcomes -> outcomes);
+        } else {
+            mapMessageFlow = batchFlow
+                    .zipWithIndex()
+                    // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
+                    .mapAsync(processorPoolSize, pair -> CompletableFuture.supplyAsync(
+                            () -> {
+                                final var batch = pair.first();
+                                final int processorIndex = (int) (pair.second() % inboundMappingProcessors.size());
+                                final var inboundMappingProcessor = inboundMappingProcessors.get(processorIndex);
+                                logger.debug("Received <{}> inbound Messages to map with processor no. <{}>: {}",
+                                        batch.size(), processorIndex, batch);
+                                return mapInboundMessages(batch, inboundMappingProcessor);
+                            },
+                            messageMappingProcessorDispatcher)
+                    )
+                    .mapConcat(outcomes -> outcomes);
+        }
 
         final Flow<Object, InboundMappingOutcomes, NotUsed> flowWithOptionalThrottling;
         if (throttlingConfig != null && throttlingConfig.isEnabled()) {
@@ -164,6 +225,39 @@ public final class InboundMappingSink {
         return connectionPoolSize;
     }
 
+    private String getLaneKey(final ExternalMessageWithSender withSender) {
+        final ExternalMessage externalMessage = withSender.externalMessage();
+        return laneKeyHeaders.stream()
+                .map(externalMessage::findHeaderIgnoreCase)
+                .flatMap(Optional::stream)
+                .findFirst()
+                .or(externalMessage::getSourceAddress)
+                .orElse("");
+    }
+
+    private static List<ExternalMessageWithSender> newBatch(final ExternalMessageWithSender message) {
+        final List<ExternalMessageWithSender> batch = new ArrayList<>();
+        batch.add(message);
+        return batch;
+    }
+
+    private static List<ExternalMessageWithSender> addToBatch(final List<ExternalMessageWithSender> batch,
+            final ExternalMessageWithSender message) {
+
+        batch.add(message);
+        return batch;
+    }
+
+    private List<InboundMappingOutcomes> mapInboundMessages(final List<ExternalMessageWithSender> batch,
+            final InboundMappingProcessor inboundMappingProcessor) {
+
+        final List<ExternalMessage> externalMessages =
+                batch.stream().map(ExternalMessageWithSender::externalMessage).toList();
+        return inboundMappingProcessor.processBatch(externalMessages, () -> batch.stream()
+                .map(withSender -> mapInboundMessage(withSender, inboundMappingProcessor))
+                .toList());
+    }
+
     private InboundMappingOutcomes mapInboundMessage(final ExternalMessageWithSender withSender,
             final InboundMappingProcessor inboundMappingProcessor) {
 
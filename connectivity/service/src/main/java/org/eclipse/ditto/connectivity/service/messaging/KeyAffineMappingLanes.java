@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+
+/**
+ * Runs tasks in lanes selected by the keys of their elements: the tasks of a lane run one after another in the order
+ * of their submission, the tasks of different lanes run in parallel.
+ * <p>
+ * The number of active lanes adapts to the number of in-flight tasks between {@code minLanes} and {@code maxLanes}:
+ * a further lane is activated as soon as each active lane has {@code queueDepthPerLane} tasks in flight, and the
+ * lanes are reduced to {@code minLanes} whenever no task is in flight. As changing the number of lanes assigns keys to
+ * other lanes, the tasks submitted after a change wait for all tasks submitted before it.
+ * </p>
+ */
+@ThreadSafe
+final class KeyAffineMappingLanes {
+
+    private static final ThreadSafeDittoLogger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(KeyAffineMappingLanes.class);
+
+    private final int maxLanes;
+    private final int minLanes;
+    private final int queueDepthPerLane;
+    private final Executor executor;
+
+    // guarded by this
+    private final CompletableFuture<?>[] tails;
+    private int activeLanes;
+    private int inFlight;
+
+    /**
+     * Creates lanes.
+     *
+     * @param maxLanes the maximum number of lanes.
+     * @param minLanes the number of lanes which are always active.
+     * @param queueDepthPerLane the number of in-flight tasks per active lane from which on a further lane is
+     * activated.
+     * @param executor the executor to run the tasks on.
+     * @throws IllegalArgumentException if {@code maxLanes}, {@code minLanes} or {@code queueDepthPerLane} is not
+     * positive.
+     */
+    KeyAffineMappingLanes(final int maxLanes, final int minLanes, final int queueDepthPerLane,
+            final Executor executor) {
+
+        if (maxLanes < 1 || minLanes < 1 || queueDepthPerLane < 1) {
+            throw new IllegalArgumentException("maxLanes, minLanes and queueDepthPerLane must be positive.");
+        }
+        this.maxLanes = maxLanes;
+        this.minLanes = Math.min(minLanes, maxLanes);
+        this.queueDepthPerLane = queueDepthPerLane;
+        this.executor = executor;
+        tails = new CompletableFuture<?>[maxLanes];
+        Arrays.fill(tails, CompletableFuture.completedFuture(null));
+        activeLanes = this.minLanes;
+        inFlight = 0;
+    }
+
+    /**
+     * Splits a batch into one sub-batch per lane and runs the task for each sub-batch in its lane. The order of the
+     * elements with the same key is retained.
+     *
+     * @param batch the batch.
+     * @param keyExtractor extracts the key of an element.
+     * @param laneTask the task to run for the index of a lane and its sub-batch.
+     * @param <E> the type of the elements.
+     * @param <R> the type of the results.
+     * @return the results of all sub-batches, failed if any task failed.
+     */
+    <E, R> CompletableFuture<List<R>> submit(final List<E> batch, final Function<E, String> keyExtractor,
+            final BiFunction<Integer, List<E>, List<R>> laneTask) {
+
+        final List<CompletableFuture<List<R>>> results = new ArrayList<>();
+        synchronized (this) {
+            adaptActiveLanes();
+            final Map<Integer, List<E>> batchesPerLane = new LinkedHashMap<>();
+            for (final E element : batch) {
+                batchesPerLane.computeIfAbsent(getLane(keyExtractor.apply(element)), lane -> new ArrayList<>())
+                        .add(element);
+            }
+            batchesPerLane.forEach((lane, laneBatch) -> {
+                // a failed task must not stop its lane
+                final CompletableFuture<List<R>> result = tails[lane]
+                        .handle((previousResult, error) -> null)
+                        .thenApplyAsync(previous -> laneTask.apply(lane, laneBatch), executor);
+                tails[lane] = result;
+                ++inFlight;
+                results.add(result);
+            });
+        }
+        results.forEach(result -> result.whenComplete((laneResult, error) -> onTaskCompleted()));
+
+        return CompletableFuture.allOf(results.toArray(CompletableFuture<?>[]::new))
+                .thenApply(done -> results.stream()
+                        .flatMap(result -> result.join().stream())
+                        .toList());
+    }
+
+    /**
+     * @return the number of currently active lanes.
+     */
+    synchronized int getActiveLanes() {
+        return activeLanes;
+    }
+
+    private void adaptActiveLanes() {
+        final int wantedLanes =
+                Math.max(minLanes, Math.min(maxLanes, (inFlight + queueDepthPerLane) / queueDepthPerLane));
+        if (wantedLanes > activeLanes || (wantedLanes < activeLanes && inFlight == 0)) {
+            if (inFlight > 0) {
+                // keys move to other lanes, so the order per key requires waiting for all in-flight tasks
+                final CompletableFuture<Void> barrier = CompletableFuture.allOf(tails);
+                Arrays.fill(tails, barrier);
+            }
+            LOGGER.debug("Changing number of active mapping lanes from <{}> to <{}> with <{}> tasks in flight.",
+                    activeLanes, wantedLanes, inFlight);
+            activeLanes = wantedLanes;
+        }
+    }
+
+    private int getLane(final String key) {
+        final int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), activeLanes);
+    }
+
+    private synchronized void onTaskCompleted() {
+        --inFlight;
+    }
+
+}
@@ -16,7 +16,10 @@ import java.nio.ByteBuffer;
 import java.util.function.Supplier;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.japi.Pair;
 import org.apache.pekko.kafka.AutoSubscription;
 import org.apache.pekko.kafka.ConsumerMessage;
 import org.apache.pekko.kafka.ConsumerSettings;
@@ -44,10 +47,25 @@ class AtLeastOnceKafkaConsumerSourceSupplier
 
     @Override
     public Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, Consumer.Control> get() {
-        final ConsumerSettings<String, ByteBuffer> consumerSettings = propertiesFactory.getConsumerSettings(dryRun)
-                .withProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        return Consumer.committableSource(getConsumerSettings(), Subscriptions.topics(sourceAddress));
+    }
+
+    /**
+     * Returns a source which emits a sub-source for each partition assigned to the consumer. A sub-source completes
+     * when its partition is revoked.
+     *
+     * @return the source of partitions.
+     */
+    Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed>>,
+            Consumer.Control> getPartitioned() {
+
         final AutoSubscription subscription = Subscriptions.topics(sourceAddress);
-        return Consumer.committableSource(consumerSettings, subscription);
+        return Consumer.committablePartitionedSource(getConsumerSettings(), subscription);
+    }
+
+    private ConsumerSettings<String, ByteBuffer> getConsumerSettings() {
+        return propertiesFactory.getConsumerSettings(dryRun)
+                .withProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
     }
 
 }
@@ -14,12 +14,15 @@ package org.eclipse.ditto.connectivity.service.messaging.kafka;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.apache.kafka.common.Metric;
 import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.connectivity.model.ConnectionId;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,17 +36,22 @@ public final class KafkaConsumerMetrics {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaConsumerMetrics.class);
     private static final String KAFKA_CONSUMER_METRIC_PREFIX = "kafka_consumer_";
+    private static final String PROCESSED_RECORDS_METRIC = KAFKA_CONSUMER_METRIC_PREFIX + "partition_processed_records";
+    private static final String TOPIC_TAG = "topic";
+    private static final String PARTITION_TAG = "partition";
 
     private final Consumer.Control consumerControl;
     private final ConnectionId connectionId;
     private final String consumerId;
+    private final boolean perPartition;
 
     private KafkaConsumerMetrics(final Consumer.Control consumerControl, final ConnectionId connectionId,
-            final String consumerId) {
+            final String consumerId, final boolean perPartition) {
 
         this.consumerControl = consumerControl;
         this.connectionId = connectionId;
         this.consumerId = consumerId;
+        this.perPartition = perPartition;
     }
 
     /**
@@ -62,7 +70,27 @@ public final class KafkaConsumerMetrics {
         checkNotNull(connectionId, "connectionId");
         checkNotNull(consumerId, "consumerId");
 
-        return new KafkaConsumerMetrics(consumerControl, connectionId, consumerId);
+        return new KafkaConsumerMetrics(consumerControl, connectionId, consumerId, false);
+    }
+
+    /**
+     * Returns a new instance of {@code KafkaConsumerMetrics} which reports the Apache Kafka metrics of single
+     * partitions, e.g. the lag, tagged with their topic and partition instead of overwriting each other.
+     *
+     * @param consumerControl the consumer control from which to retrieve the metrics.
+     * @param connectionId the {@code connectionId} for which the metrics are applicable.
+     * @param consumerId the unique identifier of the consumer stream.
+     * @return the new instance.
+     * @throws java.lang.NullPointerException if any argument is {@code null}.
+     */
+    static KafkaConsumerMetrics newPartitionedInstance(final Consumer.Control consumerControl,
+            final ConnectionId connectionId, final String consumerId) {
+
+        checkNotNull(consumerControl, "consumerControl");
+        checkNotNull(connectionId, "connectionId");
+        checkNotNull(consumerId, "consumerId");
+
+        return new KafkaConsumerMetrics(consumerControl, connectionId, consumerId, true);
     }
 
     private static Predicate<Metric> metricContainsValue() {
@@ -90,10 +118,35 @@ public final class KafkaConsumerMetrics {
         }
     }
 
+    /**
+     * Returns the counter of the records of a partition whose processing finished, i.e. which were acknowledged or
+     * could not be processed and do not need to be redelivered.
+     *
+     * @param connectionId the {@code connectionId} of the consumer.
+     * @param consumerId the unique identifier of the consumer stream.
+     * @param topicPartition the partition.
+     * @return the counter.
+     */
+    static Counter getProcessedRecordsCounter(final ConnectionId connectionId, final String consumerId,
+            final TopicPartition topicPartition) {
+
+        return DittoMetrics.counter(PROCESSED_RECORDS_METRIC)
+                .tag("connectionId", connectionId.toString())
+                .tag("consumerId", consumerId)
+                .tag(TOPIC_TAG, topicPartition.topic())
+                .tag(PARTITION_TAG, String.valueOf(topicPartition.partition()));
+    }
+
     private Gauge getGauge(final MetricName metricName) {
-        return DittoMetrics.gauge(KAFKA_CONSUMER_METRIC_PREFIX + metricName.name().replace("-", "_"))
+        final Gauge gauge = DittoMetrics.gauge(KAFKA_CONSUMER_METRIC_PREFIX + metricName.name().replace("-", "_"))
                 .tag("connectionId", connectionId.toString())
                 .tag("consumerId", consumerId);
+        final Map<String, String> tags = metricName.tags();
+        if (perPartition && tags.containsKey(TOPIC_TAG) && tags.containsKey(PARTITION_TAG)) {
+            return gauge.tag(TOPIC_TAG, tags.get(TOPIC_TAG))
+                    .tag(PARTITION_TAG, tags.get(PARTITION_TAG));
+        }
+        return gauge;
     }
 
 }
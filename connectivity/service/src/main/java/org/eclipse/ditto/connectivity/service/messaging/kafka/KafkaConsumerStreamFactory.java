@@ -24,6 +24,7 @@ import org.eclipse.ditto.connectivity.model.Enforcement;
 import org.eclipse.ditto.connectivity.model.EnforcementFilterFactory;
 import org.eclipse.ditto.connectivity.model.Source;
 import org.eclipse.ditto.connectivity.service.config.ConnectionThrottlingConfig;
+import org.eclipse.ditto.connectivity.service.config.KafkaConsumerPartitioningConfig;
 import org.eclipse.ditto.connectivity.service.messaging.AcknowledgeableMessage;
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
 
@@ -31,6 +32,8 @@ import org.apache.pekko.NotUsed;
 import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.javadsl.Sink;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * A factory for building different {@link KafkaConsumerStream} implementations, e.g. for different quality of services.
  */
@@ -42,13 +45,16 @@ final class KafkaConsumerStreamFactory {
     private final AtMostOnceKafkaConsumerSourceSupplier atMostOnceKafkaConsumerSourceSupplier;
     private final AtLeastOnceKafkaConsumerSourceSupplier atLeastOnceKafkaConsumerSourceSupplier;
     private final ConnectionThrottlingConfig throttlingConfig;
+    private final KafkaConsumerPartitioningConfig partitioningConfig;
 
     KafkaConsumerStreamFactory(final ConnectionThrottlingConfig throttlingConfig,
+            final KafkaConsumerPartitioningConfig partitioningConfig,
             final PropertiesFactory propertiesFactory,
             final ConsumerData consumerData,
             final boolean dryRun) {
 
         this.throttlingConfig = throttlingConfig;
+        this.partitioningConfig = partitioningConfig;
         this.consumerData = consumerData;
         this.dryRun = dryRun;
         this.propertiesFactory = propertiesFactory;
@@ -77,6 +83,7 @@ final class KafkaConsumerStreamFactory {
         this.dryRun = dryRun;
         propertiesFactory = null;
         this.throttlingConfig = throttlingConfig;
+        partitioningConfig = KafkaConsumerPartitioningConfig.of(ConfigFactory.empty());
         this.atMostOnceKafkaConsumerSourceSupplier = atMostOnceKafkaConsumerSourceSupplier;
         this.atLeastOnceKafkaConsumerSourceSupplier = atLeastOnceKafkaConsumerSourceSupplier;
     }
@@ -114,6 +121,21 @@ final class KafkaConsumerStreamFactory {
 
         final KafkaMessageTransformer kafkaMessageTransformer = buildKafkaMessageTransformer(inboundMonitor,
                 connectionId);
+        if (partitioningConfig.isEnabled()) {
+            return new PartitionedAtLeastOnceConsumerStream(atLeastOnceKafkaConsumerSourceSupplier,
+                    propertiesFactory.getCommitterSettings(),
+                    throttlingConfig,
+                    partitioningConfig,
+                    kafkaMessageTransformer,
+                    dryRun,
+                    materializer,
+                    inboundMonitor,
+                    ackMonitor,
+                    messageMappingSink,
+                    dreSink,
+                    connectionId,
+                    consumerId);
+        }
         return new AtLeastOnceConsumerStream(atLeastOnceKafkaConsumerSourceSupplier,
                 propertiesFactory.getCommitterSettings(),
                 throttlingConfig,
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.connectivity.model.Connection;
+import org.eclipse.ditto.connectivity.model.ConnectionConfigurationInvalidException;
+
+/**
+ * Allows to configure the batching of published messages via the specific config of a connection:
+ * <ul>
+ * <li>{@code producerBatching}: whether messages to the same topic are sent as one batch,</li>
+ * <li>{@code producerBatchMaxMessages}: the maximum number of messages of a batch,</li>
+ * <li>{@code producerBatchWindowMs}: how long to wait for further messages of a batch,</li>
+ * <li>{@code producerLingerMs}: the Kafka {@code linger.ms},</li>
+ * <li>{@code producerBatchSize}: the Kafka {@code batch.size} in bytes,</li>
+ * <li>{@code producerCompressionType}: the Kafka {@code compression.type}.</li>
+ * </ul>
+ */
+final class KafkaProducerBatchingSpecificConfig implements KafkaSpecificConfig {
+
+    static final String BATCHING_KEY = "producerBatching";
+    static final String BATCH_MAX_MESSAGES_KEY = "producerBatchMaxMessages";
+    static final String BATCH_WINDOW_MS_KEY = "producerBatchWindowMs";
+    static final String LINGER_MS_KEY = "producerLingerMs";
+    static final String BATCH_SIZE_KEY = "producerBatchSize";
+    static final String COMPRESSION_TYPE_KEY = "producerCompressionType";
+
+    private static final int DEFAULT_BATCH_MAX_MESSAGES = 100;
+    private static final long DEFAULT_BATCH_WINDOW_MS = 5L;
+    private static final List<String> COMPRESSION_TYPES = List.of("none", "gzip", "snappy", "lz4", "zstd");
+
+    private static KafkaProducerBatchingSpecificConfig instance;
+
+    private KafkaProducerBatchingSpecificConfig() {
+    }
+
+    static KafkaProducerBatchingSpecificConfig getInstance() {
+        if (instance == null) {
+            instance = new KafkaProducerBatchingSpecificConfig();
+        }
+        return instance;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        return !connection.getTargets().isEmpty();
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        if (!isValid(connection)) {
+            final String message = MessageFormat.format(
+                    "The connection configuration contains an invalid value for the producer batching. " +
+                            "<{0}> must be true or false, <{1}> and <{2}> must be positive integers, <{3}> " +
+                            "and <{4}> must be non-negative integers and <{5}> must be one of <{6}>.",
+                    BATCHING_KEY, BATCH_MAX_MESSAGES_KEY, BATCH_SIZE_KEY, BATCH_WINDOW_MS_KEY, LINGER_MS_KEY,
+                    COMPRESSION_TYPE_KEY, COMPRESSION_TYPES);
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        return getValue(connection, BATCHING_KEY).map(KafkaProducerBatchingSpecificConfig::isBoolean).orElse(true) &&
+                getValue(connection, BATCH_MAX_MESSAGES_KEY).map(value -> parseLong(value) > 0).orElse(true) &&
+                getValue(connection, BATCH_SIZE_KEY).map(value -> parseLong(value) > 0).orElse(true) &&
+                getValue(connection, BATCH_WINDOW_MS_KEY).map(value -> parseLong(value) >= 0).orElse(true) &&
+                getValue(connection, LINGER_MS_KEY).map(value -> parseLong(value) >= 0).orElse(true) &&
+                getValue(connection, COMPRESSION_TYPE_KEY).map(COMPRESSION_TYPES::contains).orElse(true);
+    }
+
+    @Override
+    public Map<String, String> apply(final Connection connection) {
+        if (!isApplicable(connection) || !isValid(connection)) {
+            return Map.of();
+        }
+        final Map<String, String> properties = new HashMap<>();
+        getValue(connection, LINGER_MS_KEY)
+                .ifPresent(value -> properties.put(ProducerConfig.LINGER_MS_CONFIG, value));
+        getValue(connection, BATCH_SIZE_KEY)
+                .ifPresent(value -> properties.put(ProducerConfig.BATCH_SIZE_CONFIG, value));
+        getValue(connection, COMPRESSION_TYPE_KEY)
+                .ifPresent(value -> properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, value));
+        return properties;
+    }
+
+    /**
+     * Returns whether the messages published by the connection are sent in batches per topic.
+     *
+     * @param connection the connection.
+     * @return whether batching is enabled and valid.
+     */
+    boolean isBatchingEnabled(final Connection connection) {
+        return isValid(connection) && getValue(connection, BATCHING_KEY).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Returns the maximum number of messages of a batch.
+     *
+     * @param connection the connection.
+     * @return the maximum number of messages.
+     */
+    int getBatchMaxMessages(final Connection connection) {
+        return getValue(connection, BATCH_MAX_MESSAGES_KEY)
+                .map(KafkaProducerBatchingSpecificConfig::parseLong)
+                .filter(value -> value > 0)
+                .map(value -> (int) Math.min(value, Integer.MAX_VALUE))
+                .orElse(DEFAULT_BATCH_MAX_MESSAGES);
+    }
+
+    /**
+     * Returns how long to wait for further messages before a batch is sent. The Kafka producer lingers independently
+     * of this window according to {@code producerLingerMs}.
+     *
+     * @param connection the connection.
+     * @return the batch window.
+     */
+    Duration getBatchWindow(final Connection connection) {
+        return Duration.ofMillis(getValue(connection, BATCH_WINDOW_MS_KEY)
+                .map(KafkaProducerBatchingSpecificConfig::parseLong)
+                .filter(value -> value >= 0)
+                .orElse(DEFAULT_BATCH_WINDOW_MS));
+    }
+
+    private static Optional<String> getValue(final Connection connection, final String key) {
+        return Optional.ofNullable(connection.getSpecificConfig().get(key));
+    }
+
+    private static boolean isBoolean(final String value) {
+        return "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value);
+    }
+
+    private static long parseLong(final String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+}
@@ -15,12 +15,18 @@ package org.eclipse.ditto.connectivity.service.messaging.kafka;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -55,6 +61,9 @@ import org.eclipse.ditto.connectivity.service.messaging.ConnectivityStatusResolv
 import org.eclipse.ditto.connectivity.service.messaging.ExceptionToAcknowledgementConverter;
 import org.eclipse.ditto.connectivity.service.messaging.SendResult;
 import org.eclipse.ditto.connectivity.service.messaging.internal.ConnectionFailure;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
@@ -314,6 +323,11 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     final class KafkaProducerStream {
 
+        private static final String BATCH_TIMER_NAME = "kafka_publish_batch_time";
+        private static final String BATCH_SIZE_HISTOGRAM_NAME = "kafka_publish_batch_size";
+        private static final String CONNECTION_ID_TAG = "id";
+        private static final Duration MIN_BATCH_WINDOW = Duration.ofMillis(1L);
+
         private static final String TOO_MANY_IN_FLIGHT_MESSAGE_DESCRIPTION = """ 
                 This can have the following reasons:
                  a) The Kafka consumer does not consume the messages fast enough.
@@ -337,20 +351,81 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                             queue(config.getQueueSize(), OverflowStrategy.dropNew()).preMaterialize(materializer);
 
             sourceQueue = sourcePair.first();
-            killSwitch = sourcePair.second()
-                    .via(RestartFlow.onFailuresWithBackoff(restartSettings, () -> {
-                        logger.debug("Creating new kafka publish flow.");
-                        Optional.ofNullable(sendProducer.getAndSet(producerFactory.newSendProducer()))
-                                .ifPresent(SendProducer::close);
-                        return Flow.fromFunction(envelope -> sendProducer.get()
-                                .sendEnvelope(envelope)
-                                .whenComplete((results, exception) -> handleSendResult(results,
-                                        exception,
-                                        envelope.passThrough())));
-                    }))
-                    .viaMat(KillSwitches.single(), Keep.right())
-                    .toMat(Sink.ignore(), Keep.left())
-                    .run(materializer);
+            final KafkaProducerBatchingSpecificConfig batchingConfig =
+                    KafkaProducerBatchingSpecificConfig.getInstance();
+            if (batchingConfig.isBatchingEnabled(connection)) {
+                killSwitch = sourcePair.second()
+                        .groupedWithin(batchingConfig.getBatchMaxMessages(connection),
+                                max(batchingConfig.getBatchWindow(connection), MIN_BATCH_WINDOW))
+                        .mapConcat(KafkaProducerStream::toBatchesPerTopic)
+                        .via(RestartFlow.onFailuresWithBackoff(restartSettings, () -> {
+                            renewSendProducer(producerFactory);
+                            final PreparedTimer batchTimer = DittoMetrics.timer(BATCH_TIMER_NAME)
+                                    .tag(CONNECTION_ID_TAG, connection.getId().toString());
+                            final Histogram batchSizes = DittoMetrics.histogram(BATCH_SIZE_HISTOGRAM_NAME)
+                                    .tag(CONNECTION_ID_TAG, connection.getId().toString());
+                            return Flow.fromFunction(batch -> {
+                                final long startNanos = System.nanoTime();
+                                batchSizes.record((long) batch.passThrough().size());
+                                return sendProducer.get()
+                                        .sendEnvelope(batch)
+                                        .whenComplete((results, exception) -> {
+                                            batchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                                            handleBatchSendResult(results, exception, batch.passThrough());
+                                        });
+                            });
+                        }))
+                        .viaMat(KillSwitches.single(), Keep.right())
+                        .toMat(Sink.ignore(), Keep.left())
+                        .run(materializer);
+            } else {
+                killSwitch = sourcePair.second()
+                        .via(RestartFlow.onFailuresWithBackoff(restartSettings, () -> {
+                            renewSendProducer(producerFactory);
+                            return Flow.fromFunction(envelope -> sendProducer.get()
+                                    .sendEnvelope(envelope)
+                                    .whenComplete((results, exception) -> handleSendResult(results,
+                                            exception,
+                                            envelope.passThrough())));
+                        }))
+                        .viaMat(KillSwitches.single(), Keep.right())
+                        .toMat(Sink.ignore(), Keep.left())
+                        .run(materializer);
+            }
+        }
+
+        private void renewSendProducer(final SendProducerFactory producerFactory) {
+            logger.debug("Creating new kafka publish flow.");
+            Optional.ofNullable(sendProducer.getAndSet(producerFactory.newSendProducer()))
+                    .ifPresent(SendProducer::close);
+        }
+
+        /*
+         * Groups the messages of one batch by their topic into multi-messages. The order of the messages per topic
+         * and thus per key is retained.
+         */
+        private static List<ProducerMessage.Envelope<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>>
+        toBatchesPerTopic(
+                final List<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>> envelopes) {
+
+            final Map<String, List<ProducerMessage.Message<String, ByteBuffer, CompletableFuture<RecordMetadata>>>>
+                    messagesPerTopic = new LinkedHashMap<>();
+            for (final var envelope : envelopes) {
+                // publish() only offers single messages to the source queue
+                final var message =
+                        (ProducerMessage.Message<String, ByteBuffer, CompletableFuture<RecordMetadata>>) envelope;
+                messagesPerTopic.computeIfAbsent(message.record().topic(), topic -> new ArrayList<>()).add(message);
+            }
+            return messagesPerTopic.values()
+                    .stream()
+                    .map(messages -> ProducerMessage.multi(
+                            messages.stream().map(ProducerMessage.Message::record).toList(),
+                            messages.stream().map(ProducerMessage.Message::passThrough).toList()))
+                    .toList();
+        }
+
+        private static Duration max(final Duration duration, final Duration minimum) {
+            return duration.compareTo(minimum) < 0 ? minimum : duration;
         }
 
         private void handleSendResult(
@@ -376,6 +451,38 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
             }
         }
 
+        private void handleBatchSendResult(
+                @Nullable final ProducerMessage.Results<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>
+                        results,
+                @Nullable final Throwable exception,
+                final List<CompletableFuture<RecordMetadata>> resultFutures) {
+
+            if (exception == null) {
+                if (results instanceof ProducerMessage.MultiResult<String, ByteBuffer,
+                        List<CompletableFuture<RecordMetadata>>> multiResult) {
+                    final Iterator<CompletableFuture<RecordMetadata>> futures = resultFutures.iterator();
+                    for (final ProducerMessage.MultiResultPart<String, ByteBuffer> part : multiResult.getParts()) {
+                        if (futures.hasNext()) {
+                            futures.next().complete(part.metadata());
+                        }
+                    }
+                    futures.forEachRemaining(future -> future.completeExceptionally(
+                            new IllegalStateException("Received no result for record of batch.")));
+                } else {
+                    // should never happen, we provide only ProducerMessage.multi to the batching flow
+                    logger.warning("Received single result for batch, ignoring: {}", results);
+                    resultFutures.forEach(future -> future.completeExceptionally(
+                            new IllegalArgumentException("Received unexpected single result.")));
+                }
+            } else {
+                logger.debug("Failed to send batch of <{}> kafka records: [{}] {}", resultFutures.size(),
+                        exception.getClass().getName(), exception.getMessage());
+                resultFutures.forEach(future -> future.completeExceptionally(exception));
+                escalate(exception, ConnectionFailure.determineFailureDescription(Instant.now(),
+                        exception, "Broker may not be available."));
+            }
+        }
+
         private CompletableFuture<RecordMetadata> publish(final KafkaPublishTarget publishTarget,
                 final ExternalMessage externalMessage) {
 
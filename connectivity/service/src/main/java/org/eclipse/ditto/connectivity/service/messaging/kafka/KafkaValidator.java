@@ -67,7 +67,8 @@ public final class KafkaValidator extends AbstractProtocolValidator {
         specificConfigs = List.of(KafkaAuthenticationSpecificConfig.getInstance(),
                 KafkaBootstrapServerSpecificConfig.getInstance(),
                 KafkaConsumerGroupSpecificConfig.getInstance(),
-                KafkaConsumerOffsetResetSpecificConfig.getInstance());
+                KafkaConsumerOffsetResetSpecificConfig.getInstance(),
+                KafkaProducerBatchingSpecificConfig.getInstance());
     }
 
     /**
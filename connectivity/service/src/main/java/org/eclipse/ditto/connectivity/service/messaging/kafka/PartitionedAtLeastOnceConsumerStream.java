@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.connectivity.api.ExternalMessage;
+import org.eclipse.ditto.connectivity.model.ConnectionId;
+import org.eclipse.ditto.connectivity.service.config.ConnectionThrottlingConfig;
+import org.eclipse.ditto.connectivity.service.config.KafkaConsumerPartitioningConfig;
+import org.eclipse.ditto.connectivity.service.messaging.AcknowledgeableMessage;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.slf4j.Logger;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.kafka.CommitterSettings;
+import org.apache.pekko.kafka.ConsumerMessage.CommittableMessage;
+import org.apache.pekko.kafka.ConsumerMessage.CommittableOffset;
+import org.apache.pekko.kafka.javadsl.Committer;
+import org.apache.pekko.kafka.javadsl.Consumer;
+import org.apache.pekko.stream.BoundedSourceQueue;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.QueueOfferResult;
+import org.apache.pekko.stream.javadsl.MergeHub;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+
+/**
+ * Kafka consumer stream with "at least once" (QoS 1) semantics which consumes each assigned partition in its own
+ * sub-stream.
+ * <p>
+ * Every partition has its own window of {@code max-in-flight-per-partition} unacknowledged messages and its own commit
+ * batching, so that a slow partition does not stall the other partitions of the consumer. Within a partition, messages
+ * with different record keys are processed in parallel while messages with the same record key are only forwarded
+ * after the previous message with that key was acknowledged. Offsets are committed in the order of the partition.
+ * </p>
+ */
+@Immutable
+final class PartitionedAtLeastOnceConsumerStream implements KafkaConsumerStream {
+
+    private static final Logger LOGGER =
+            DittoLoggerFactory.getThreadSafeLogger(PartitionedAtLeastOnceConsumerStream.class);
+
+    private final CommitterSettings committerSettings;
+    private final ConnectionThrottlingConfig throttlingConfig;
+    private final KafkaConsumerPartitioningConfig partitioningConfig;
+    private final KafkaMessageTransformer kafkaMessageTransformer;
+    private final boolean dryRun;
+    private final ConnectionMonitor ackMonitor;
+    private final ConnectionId connectionId;
+    private final String consumerId;
+    private final Materializer materializer;
+    private final BoundedSourceQueue<KafkaAcknowledgableMessage> externalMessageQueue;
+    private final Sink<CommittableTransformationResult, NotUsed> dreSink;
+    private final Sink<CommittableTransformationResult, NotUsed> unexpectedMessageSink;
+    private final Consumer.DrainingControl<Done> consumerControl;
+    private final KafkaConsumerMetrics consumerMetrics;
+
+    PartitionedAtLeastOnceConsumerStream(
+            final AtLeastOnceKafkaConsumerSourceSupplier sourceSupplier,
+            final CommitterSettings committerSettings,
+            final ConnectionThrottlingConfig throttlingConfig,
+            final KafkaConsumerPartitioningConfig partitioningConfig,
+            final KafkaMessageTransformer kafkaMessageTransformer,
+            final boolean dryRun,
+            final Materializer materializer,
+            final ConnectionMonitor inboundMonitor,
+            final ConnectionMonitor ackMonitor,
+            final Sink<AcknowledgeableMessage, NotUsed> inboundMappingSink,
+            final Sink<DittoRuntimeException, ?> exceptionSink,
+            final ConnectionId connectionId,
+            final String consumerId) {
+
+        this.committerSettings = committerSettings;
+        this.throttlingConfig = throttlingConfig;
+        this.partitioningConfig = partitioningConfig;
+        this.kafkaMessageTransformer = kafkaMessageTransformer;
+        this.dryRun = dryRun;
+        this.ackMonitor = ackMonitor;
+        this.connectionId = connectionId;
+        this.consumerId = consumerId;
+        this.materializer = materializer;
+
+        /*
+         * Messages are forwarded when the previous message with the same key was acknowledged, i.e. outside the
+         * stream. The queue cannot overflow as at most max-partitions partitions are consumed and each partition has
+         * at most max-in-flight-per-partition messages in flight.
+         */
+        externalMessageQueue = Source.<KafkaAcknowledgableMessage>queue(
+                        partitioningConfig.getMaxPartitions() * partitioningConfig.getMaxInFlightPerPartition())
+                .map(KafkaAcknowledgableMessage::getAcknowledgeableMessage)
+                .to(inboundMappingSink)
+                .run(materializer);
+
+        dreSink = MergeHub.of(CommittableTransformationResult.class)
+                .map(PartitionedAtLeastOnceConsumerStream::extractDittoRuntimeException)
+                .to(exceptionSink)
+                .run(materializer);
+
+        unexpectedMessageSink = MergeHub.of(CommittableTransformationResult.class)
+                .to(Sink.foreach(transformationResult -> inboundMonitor.exception(
+                        "Got unexpected transformation result <{0}>. This is an internal error. " +
+                                "Please contact the service team", transformationResult)))
+                .run(materializer);
+
+        // one more than max-partitions, so that an exceeding partition fails the stream instead of never being consumed
+        final AtomicInteger consumedPartitions = new AtomicInteger();
+        consumerControl = sourceSupplier.getPartitioned()
+                .mapAsyncUnordered(partitioningConfig.getMaxPartitions() + 1,
+                        partition -> consumePartitionWithinLimit(partition.first(), partition.second(),
+                                consumedPartitions))
+                .toMat(Sink.ignore(), Consumer::createDrainingControl)
+                .run(materializer);
+        consumerControl.streamCompletion().whenComplete((done, error) -> externalMessageQueue.complete());
+
+        consumerMetrics = KafkaConsumerMetrics.newPartitionedInstance(consumerControl, connectionId, consumerId);
+    }
+
+    @Override
+    public CompletionStage<Done> whenComplete(final BiConsumer<? super Done, ? super Throwable> handleCompletion) {
+        return consumerControl.streamCompletion().whenComplete(handleCompletion);
+    }
+
+    @Override
+    public CompletionStage<Done> stop() {
+        return consumerControl.drainAndShutdown(materializer.executionContext());
+    }
+
+    @Override
+    public void reportMetrics() {
+        consumerMetrics.reportMetrics();
+    }
+
+    private CompletionStage<Done> consumePartitionWithinLimit(final TopicPartition topicPartition,
+            final Source<CommittableMessage<String, ByteBuffer>, NotUsed> partitionSource,
+            final AtomicInteger consumedPartitions) {
+
+        if (consumedPartitions.incrementAndGet() > partitioningConfig.getMaxPartitions()) {
+            consumedPartitions.decrementAndGet();
+            LOGGER.error("Consumer <{}> of connection <{}> was assigned partition <{}> while already consuming the " +
+                            "maximum of <{}> partitions. Increase max-partitions of the partitioning config.",
+                    consumerId, connectionId, topicPartition, partitioningConfig.getMaxPartitions());
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "Number of assigned partitions exceeds max-partitions <" +
+                            partitioningConfig.getMaxPartitions() + ">."));
+        }
+        return consumePartition(topicPartition, partitionSource)
+                .whenComplete((done, error) -> consumedPartitions.decrementAndGet());
+    }
+
+    private CompletionStage<Done> consumePartition(final TopicPartition topicPartition,
+            final Source<CommittableMessage<String, ByteBuffer>, NotUsed> partitionSource) {
+
+        LOGGER.debug("Consuming partition <{}>.", topicPartition);
+        final PerKeySequencer sequencer = new PerKeySequencer();
+        final Counter processedRecords =
+                KafkaConsumerMetrics.getProcessedRecordsCounter(connectionId, consumerId, topicPartition);
+
+        final var source = partitionSource
+                .filter(committableMessage -> isNotDryRun(committableMessage.record(), dryRun))
+                .map(committableMessage -> new KeyedTransformationResult(committableMessage.record().key(),
+                        kafkaMessageTransformer.transform(committableMessage)));
+
+        // the throttling limit applies to each partition
+        final Source<KeyedTransformationResult, NotUsed> throttledSource;
+        if (throttlingConfig.isEnabled()) {
+            throttledSource = source.throttle(throttlingConfig.getLimit(), throttlingConfig.getInterval());
+        } else {
+            throttledSource = source;
+        }
+
+        return throttledSource
+                .flatMapConcat(keyedResult -> processTransformationResult(keyedResult, sequencer))
+                .mapAsync(partitioningConfig.getMaxInFlightPerPartition(), x -> x)
+                .map(committableOffset -> {
+                    processedRecords.increment();
+                    return committableOffset;
+                })
+                .via(Committer.flow(committerSettings))
+                .runWith(Sink.ignore(), materializer);
+    }
+
+    private Source<CompletableFuture<CommittableOffset>, NotUsed> processTransformationResult(
+            final KeyedTransformationResult keyedResult, final PerKeySequencer sequencer) {
+
+        final CommittableTransformationResult result = keyedResult.result;
+        final CompletableFuture<CommittableOffset> offsetFuture =
+                CompletableFuture.completedFuture(result.getCommittableOffset());
+
+        if (isExpired(result)) {
+            return Source.single(offsetFuture);
+        }
+
+        if (isExternalMessage(result)) {
+            return Source.single(sequencer.submit(keyedResult.key, () -> forward(toAcknowledgeableMessage(result))));
+        }
+        /*
+         * For all other cases a retry for consuming this message makes no sense, so we want to commit these offsets.
+         * Therefore, we return an already completed future holding the offset to commit. No reject needed.
+         */
+        if (isDittoRuntimeException(result)) {
+            return Source.single(result)
+                    .alsoTo(dreSink)
+                    .map(transformationResult -> offsetFuture);
+        }
+        return Source.single(result)
+                .alsoTo(unexpectedMessageSink)
+                .map(unexpected -> offsetFuture);
+    }
+
+    private CompletableFuture<CommittableOffset> forward(final KafkaAcknowledgableMessage message) {
+        final QueueOfferResult queueOfferResult = externalMessageQueue.offer(message);
+        if (queueOfferResult instanceof QueueOfferResult.Failure failure) {
+            return CompletableFuture.failedFuture(failure.cause());
+        } else if (!QueueOfferResult.enqueued().equals(queueOfferResult)) {
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "Could not forward consumed message to the inbound mapping: " + queueOfferResult));
+        }
+        return message.getAcknowledgementFuture();
+    }
+
+    private static boolean isExpired(final CommittableTransformationResult transformationResult) {
+        return transformationResult.getTransformationResult().isExpired();
+    }
+
+    private static boolean isExternalMessage(final CommittableTransformationResult transformationResult) {
+        return transformationResult.getTransformationResult().getExternalMessage().isPresent();
+    }
+
+    private KafkaAcknowledgableMessage toAcknowledgeableMessage(final CommittableTransformationResult value) {
+        final ExternalMessage externalMessage = value.getTransformationResult()
+                .getExternalMessage()
+                .orElseThrow(); // at this point, the ExternalMessage is present
+        final CommittableOffset committableOffset = value.getCommittableOffset();
+        return new KafkaAcknowledgableMessage(externalMessage, committableOffset, ackMonitor);
+    }
+
+    private static boolean isNotDryRun(final ConsumerRecord<String, ByteBuffer> cRecord, final boolean dryRun) {
+        if (dryRun && LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Dropping record (key: {}, topic: {}, partition: {}, offset: {}) in dry run mode.",
+                    cRecord.key(), cRecord.topic(), cRecord.partition(), cRecord.offset());
+        }
+        return !dryRun;
+    }
+
+    private static boolean isDittoRuntimeException(final CommittableTransformationResult value) {
+        return value.getTransformationResult().getDittoRuntimeException().isPresent();
+    }
+
+    private static DittoRuntimeException extractDittoRuntimeException(final CommittableTransformationResult value) {
+        return value.getTransformationResult()
+                .getDittoRuntimeException()
+                .orElseThrow(); // at this point, the DRE is present
+    }
+
+    /**
+     * A transformation result together with the key of its Kafka record, which determines the order of processing.
+     */
+    private static final class KeyedTransformationResult {
+
+        @Nullable private final String key;
+        private final CommittableTransformationResult result;
+
+        private KeyedTransformationResult(@Nullable final String key, final CommittableTransformationResult result) {
+            this.key = key;
+            this.result = result;
+        }
+
+    }
+
+}
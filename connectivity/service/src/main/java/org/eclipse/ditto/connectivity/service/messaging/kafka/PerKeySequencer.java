@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.kafka;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Runs asynchronous tasks so that tasks with the same key run one after the other in submission order while tasks
+ * with different keys run in parallel.
+ * A task only starts after the task previously submitted with the same key completed. If that task failed, the
+ * following task is not started and fails with the same cause, so that no message overtakes a message which has to
+ * be redelivered.
+ */
+@ThreadSafe
+final class PerKeySequencer {
+
+    private final Map<String, CompletableFuture<?>> lastTaskPerKey;
+
+    PerKeySequencer() {
+        lastTaskPerKey = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Submits a task.
+     *
+     * @param key the key of the task or {@code null} if the task does not need to be ordered.
+     * @param task supplies the future of the started task.
+     * @param <T> the result type of the task.
+     * @return a future which completes with the result of the task.
+     */
+    <T> CompletableFuture<T> submit(@Nullable final String key, final Supplier<CompletionStage<T>> task) {
+        if (null == key) {
+            return start(task);
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final CompletableFuture<?> previous = lastTaskPerKey.put(key, result);
+        result.whenComplete((value, error) -> lastTaskPerKey.remove(key, result));
+        if (null == previous) {
+            forward(start(task), result);
+        } else {
+            previous.whenComplete((value, error) -> {
+                if (null != error) {
+                    result.completeExceptionally(error);
+                } else {
+                    forward(start(task), result);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of keys for which a task is running or waiting.
+     */
+    int getPendingKeys() {
+        return lastTaskPerKey.size();
+    }
+
+    private static <T> CompletableFuture<T> start(final Supplier<CompletionStage<T>> task) {
+        try {
+            return task.get().toCompletableFuture();
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <T> void forward(final CompletableFuture<T> source, final CompletableFuture<T> target) {
+        source.whenComplete((value, error) -> {
+            if (null != error) {
+                target.completeExceptionally(error);
+            } else {
+                target.complete(value);
+            }
+        });
+    }
+
+}
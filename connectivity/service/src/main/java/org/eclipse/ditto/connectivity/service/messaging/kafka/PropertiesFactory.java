@@ -63,7 +63,7 @@ final class PropertiesFactory {
         commonSpecificConfigs = List.of(KafkaAuthenticationSpecificConfig.getInstance(),
                 KafkaBootstrapServerSpecificConfig.getInstance());
         consumerSpecificConfigs = getConsumerSpecificConfigs(commonSpecificConfigs);
-        producerSpecificConfigs = List.copyOf(commonSpecificConfigs);
+        producerSpecificConfigs = getProducerSpecificConfigs(commonSpecificConfigs);
     }
 
     private static Collection<KafkaSpecificConfig> getConsumerSpecificConfigs(
@@ -74,6 +74,13 @@ final class PropertiesFactory {
         return List.copyOf(consumerSpecificConfigs);
     }
 
+    private static Collection<KafkaSpecificConfig> getProducerSpecificConfigs(
+            final Collection<KafkaSpecificConfig> commonSpecificConfigs) {
+        final Collection<KafkaSpecificConfig> producerSpecificConfigs = new ArrayList<>(commonSpecificConfigs);
+        producerSpecificConfigs.add(KafkaProducerBatchingSpecificConfig.getInstance());
+        return List.copyOf(producerSpecificConfigs);
+    }
+
     /**
      * Returns an instance of the factory.
      *
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.connectivity.model.LogCategory;
+import org.eclipse.ditto.connectivity.model.LogEntry;
+import org.eclipse.ditto.connectivity.model.LogLevel;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
+
+/**
+ * Logger which submits the log calls to the {@link ConnectionLogPipeline} of its connection instead of running them
+ * on the calling thread. Reading or clearing the logs first runs the log calls buffered so far.
+ */
+@ThreadSafe
+final class AsyncConnectionLogger implements MuteableConnectionLogger {
+
+    private final MuteableConnectionLogger delegate;
+    private final LogCategory category;
+    private final boolean logsWhenMuted;
+    private final ConnectionLogPipeline pipeline;
+
+    /**
+     * Creates a new AsyncConnectionLogger.
+     *
+     * @param delegate the logger running the log calls.
+     * @param category the category of the logs of the delegate.
+     * @param logsWhenMuted whether the delegate logs even if it is muted, e.g. because it publishes the logs.
+     * @param pipeline the pipeline of the connection.
+     */
+    AsyncConnectionLogger(final MuteableConnectionLogger delegate, final LogCategory category,
+            final boolean logsWhenMuted, final ConnectionLogPipeline pipeline) {
+
+        this.delegate = checkNotNull(delegate, "delegate");
+        this.category = checkNotNull(category, "category");
+        this.logsWhenMuted = logsWhenMuted;
+        this.pipeline = checkNotNull(pipeline, "pipeline");
+    }
+
+    @Override
+    public void success(final ConnectionMonitor.InfoProvider infoProvider) {
+        submit(LogLevel.SUCCESS, () -> delegate.success(infoProvider));
+    }
+
+    @Override
+    public void success(final ConnectionMonitor.InfoProvider infoProvider, final String message,
+            final Object... messageArguments) {
+
+        submit(LogLevel.SUCCESS, () -> delegate.success(infoProvider, message, messageArguments));
+    }
+
+    @Override
+    public void failure(final ConnectionMonitor.InfoProvider infoProvider,
+            @Nullable final DittoRuntimeException exception) {
+
+        submit(LogLevel.FAILURE, () -> delegate.failure(infoProvider, exception));
+    }
+
+    @Override
+    public void failure(final ConnectionMonitor.InfoProvider infoProvider, final String message,
+            final Object... messageArguments) {
+
+        submit(LogLevel.FAILURE, () -> delegate.failure(infoProvider, message, messageArguments));
+    }
+
+    @Override
+    public void exception(final ConnectionMonitor.InfoProvider infoProvider, @Nullable final Throwable exception) {
+        submit(LogLevel.FAILURE, () -> delegate.exception(infoProvider, exception));
+    }
+
+    @Override
+    public void exception(final ConnectionMonitor.InfoProvider infoProvider, final String message,
+            final Object... messageArguments) {
+
+        submit(LogLevel.FAILURE, () -> delegate.exception(infoProvider, message, messageArguments));
+    }
+
+    @Override
+    public void logEntry(final LogEntry logEntry) {
+        checkNotNull(logEntry, "logEntry");
+        submit(logEntry.getLogLevel(), () -> delegate.logEntry(logEntry));
+    }
+
+    private void submit(final LogLevel logLevel, final Runnable logCall) {
+        // muted loggers would drop the log anyway, so it is not buffered in the first place
+        if (logsWhenMuted || !delegate.isMuted()) {
+            pipeline.submit(category, logLevel, logCall);
+        }
+    }
+
+    @Override
+    public Collection<LogEntry> getLogs() {
+        pipeline.drain();
+        return delegate.getLogs();
+    }
+
+    @Override
+    public void clear() {
+        pipeline.drain();
+        delegate.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        pipeline.drain();
+        delegate.close();
+    }
+
+    @Override
+    public void mute() {
+        delegate.mute();
+    }
+
+    @Override
+    public void unmute() {
+        delegate.unmute();
+    }
+
+    @Override
+    public boolean isMuted() {
+        return delegate.isMuted();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AsyncConnectionLogger that = (AsyncConnectionLogger) o;
+        return logsWhenMuted == that.logsWhenMuted &&
+                category == that.category &&
+                Objects.equals(delegate, that.delegate) &&
+                Objects.equals(pipeline, that.pipeline);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delegate, category, logsWhenMuted, pipeline);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegate=" + delegate +
+                ", category=" + category +
+                ", logsWhenMuted=" + logsWhenMuted +
+                ", pipeline=" + pipeline +
+                "]";
+    }
+
+}
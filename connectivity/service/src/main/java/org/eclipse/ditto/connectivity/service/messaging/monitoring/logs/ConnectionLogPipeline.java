@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import java.time.Clock;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.connectivity.model.ConnectionId;
+import org.eclipse.ditto.connectivity.model.LogCategory;
+import org.eclipse.ditto.connectivity.model.LogLevel;
+import org.eclipse.ditto.connectivity.service.config.ConnectionLogPipelineConfig;
+import org.eclipse.ditto.connectivity.service.util.ConnectivityMdcEntryKey;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+
+/**
+ * Buffers the log calls of the loggers of one connection in a bounded ring and runs them in batches on an executor.
+ * <p>
+ * Submitting a log call never blocks: it claims a slot of the ring with a single compare-and-set and drops the log
+ * call if the ring is full or if the success logs of its {@link LogCategory} exceed their limit per second. The ring
+ * is drained by one thread at a time, so the log calls of a connection run one after another in the order of their
+ * submission and the formatting of their messages only happens while draining.
+ * </p>
+ */
+@ThreadSafe
+final class ConnectionLogPipeline {
+
+    private static final Counter DROPPED_LOGS = DittoMetrics.counter("connection_logs_dropped");
+    private static final Counter BUFFER_FULL_DROPPED_LOGS = DROPPED_LOGS.tag("reason", "buffer_full");
+    private static final Counter RATE_LIMITED_DROPPED_LOGS = DROPPED_LOGS.tag("reason", "rate_limited");
+
+    // the upper bits of a rate limit hold the second, the lower bits the number of success logs within the second
+    private static final int PERMIT_BITS = 32;
+    private static final long PERMIT_MASK = (1L << PERMIT_BITS) - 1;
+
+    private final ThreadSafeDittoLogger logger;
+    private final int maxBatchSize;
+    private final int successLogsPerSecondPerCategory;
+    private final Executor executor;
+    private final Clock clock;
+
+    private final AtomicReferenceArray<Runnable> ring;
+    private final int mask;
+    private final AtomicLong producerIndex;
+    // only written while holding the drainLock
+    private volatile long consumerIndex;
+    private final AtomicBoolean drainScheduled;
+    private final ReentrantLock drainLock;
+    private final AtomicLongArray successRateLimits;
+
+    ConnectionLogPipeline(final ConnectionId connectionId, final ConnectionLogPipelineConfig config,
+            final Executor executor, final Clock clock) {
+
+        logger = DittoLoggerFactory.getThreadSafeLogger(ConnectionLogPipeline.class)
+                .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID.toString(), connectionId);
+        maxBatchSize = config.getMaxBatchSize();
+        successLogsPerSecondPerCategory = config.getSuccessLogsPerSecondPerCategory();
+        this.executor = executor;
+        this.clock = clock;
+
+        final int capacity = Integer.highestOneBit(Math.max(1, config.getBufferSize() - 1)) << 1;
+        ring = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        producerIndex = new AtomicLong();
+        consumerIndex = 0L;
+        drainScheduled = new AtomicBoolean();
+        drainLock = new ReentrantLock();
+        successRateLimits = new AtomicLongArray(LogCategory.values().length);
+    }
+
+    /**
+     * Submits a log call to be run asynchronously.
+     *
+     * @param category the category of the log.
+     * @param logLevel the level of the log.
+     * @param logCall the log call.
+     * @return whether the log call was accepted, {@code false} if it was dropped.
+     */
+    boolean submit(final LogCategory category, final LogLevel logLevel, final Runnable logCall) {
+        if (LogLevel.SUCCESS == logLevel && !acquireSuccessPermit(category)) {
+            RATE_LIMITED_DROPPED_LOGS.increment();
+            return false;
+        }
+        if (!offer(logCall)) {
+            BUFFER_FULL_DROPPED_LOGS.increment();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Runs the log calls buffered so far in the calling thread, e.g. before the logs are read.
+     */
+    void drain() {
+        drainLock.lock();
+        try {
+            drainBatch(ring.length());
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private boolean acquireSuccessPermit(final LogCategory category) {
+        if (successLogsPerSecondPerCategory <= 0) {
+            return true;
+        }
+        final long second = clock.millis() / 1000L;
+        final int index = category.ordinal();
+        long rateLimit;
+        long updated;
+        do {
+            rateLimit = successRateLimits.get(index);
+            if (rateLimit >>> PERMIT_BITS != second) {
+                updated = (second << PERMIT_BITS) | 1L;
+            } else if ((rateLimit & PERMIT_MASK) < successLogsPerSecondPerCategory) {
+                updated = rateLimit + 1;
+            } else {
+                return false;
+            }
+        } while (!successRateLimits.compareAndSet(index, rateLimit, updated));
+        return true;
+    }
+
+    private boolean offer(final Runnable logCall) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex > mask) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        ring.lazySet((int) index & mask, logCall);
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::runScheduledDrain);
+            } catch (final RejectedExecutionException e) {
+                drainScheduled.set(false);
+                logger.warn("Could not schedule draining the connection logs: <{}>", e.getMessage());
+            }
+        }
+    }
+
+    private void runScheduledDrain() {
+        drainLock.lock();
+        try {
+            // reset before draining so that log calls submitted meanwhile schedule the next drain
+            drainScheduled.set(false);
+            drainBatch(maxBatchSize);
+        } finally {
+            drainLock.unlock();
+        }
+        if (producerIndex.get() != consumerIndex) {
+            // yield the executor to the other connections between batches
+            scheduleDrain();
+        }
+    }
+
+    private void drainBatch(final int batchSize) {
+        int drained = 0;
+        long index = consumerIndex;
+        while (drained < batchSize) {
+            final int slot = (int) index & mask;
+            final Runnable logCall = ring.get(slot);
+            if (null == logCall) {
+                // the ring is empty or the log call of the slot is not yet visible
+                break;
+            }
+            ring.lazySet(slot, null);
+            consumerIndex = ++index;
+            run(logCall);
+            drained++;
+        }
+    }
+
+    private void run(final Runnable logCall) {
+        try {
+            logCall.run();
+        } catch (final RuntimeException e) {
+            logger.warn("Failed to process connection log: <{}: {}>", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + ring.length() +
+                ", maxBatchSize=" + maxBatchSize +
+                ", successLogsPerSecondPerCategory=" + successLogsPerSecondPerCategory +
+                ", buffered=" + (producerIndex.get() - consumerIndex) +
+                "]";
+    }
+
+}
@@ -16,9 +16,14 @@ package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
@@ -27,6 +32,7 @@ import org.eclipse.ditto.connectivity.model.ConnectionId;
 import org.eclipse.ditto.connectivity.model.LogCategory;
 import org.eclipse.ditto.connectivity.model.LogLevel;
 import org.eclipse.ditto.connectivity.model.LogType;
+import org.eclipse.ditto.connectivity.service.config.ConnectionLogPipelineConfig;
 import org.eclipse.ditto.internal.utils.config.InstanceIdentifierSupplier;
 import org.komamitsu.fluency.Fluency;
 
@@ -40,6 +46,9 @@ import org.komamitsu.fluency.Fluency;
 final class ConnectionLoggerFactory {
 
     private static final String EMPTY_PAYLOAD_MAPPING_MESSAGE = "Payload mapping returned null, message is dropped.";
+    private static final String LOG_PIPELINE_THREAD_NAME_PREFIX = "connection-log-pipeline-";
+
+    @Nullable private static ExecutorService logPipelineExecutor;
 
     private ConnectionLoggerFactory() {
         throw new AssertionError();
@@ -95,6 +104,57 @@ final class ConnectionLoggerFactory {
         return new DefaultMuteableConnectionLogger(connectionId, checkNotNull(delegate));
     }
 
+    /**
+     * Creates a new {@link ConnectionLogPipeline} running the log calls of a connection in batches on the executor
+     * dedicated to the pipelines of all connections. The executor is created with the number of threads of the
+     * config of the first pipeline.
+     *
+     * @param connectionId the connection for which the pipeline is created.
+     * @param config the config of the pipeline.
+     * @return a new pipeline.
+     * @throws java.lang.NullPointerException if {@code config} is null.
+     */
+    static ConnectionLogPipeline newLogPipeline(final ConnectionId connectionId,
+            final ConnectionLogPipelineConfig config) {
+
+        checkNotNull(config);
+        return new ConnectionLogPipeline(connectionId, config, getLogPipelineExecutor(config.getThreads()),
+                Clock.systemUTC());
+    }
+
+    private static synchronized Executor getLogPipelineExecutor(final int threads) {
+        if (null == logPipelineExecutor) {
+            final AtomicInteger threadCounter = new AtomicInteger();
+            logPipelineExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                final Thread thread =
+                        new Thread(runnable, LOG_PIPELINE_THREAD_NAME_PREFIX + threadCounter.incrementAndGet());
+                // the pipelines must not keep the JVM alive
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return logPipelineExecutor;
+    }
+
+    /**
+     * Creates a new {@link MuteableConnectionLogger} which runs the log calls of the delegate asynchronously via the
+     * pipeline of the connection.
+     *
+     * @param delegate the delegate running the log calls.
+     * @param logCategory the category of the logs of the delegate.
+     * @param logsWhenMuted whether the delegate logs even if it is muted.
+     * @param pipeline the pipeline of the connection.
+     * @return a new asynchronous logger.
+     * @throws java.lang.NullPointerException if any argument is null.
+     */
+    static MuteableConnectionLogger newAsyncLogger(final MuteableConnectionLogger delegate,
+            final LogCategory logCategory,
+            final boolean logsWhenMuted,
+            final ConnectionLogPipeline pipeline) {
+
+        return new AsyncConnectionLogger(delegate, logCategory, logsWhenMuted, pipeline);
+    }
+
     /**
      * Creates a new {@link FluentPublishingConnectionLoggerContext} used by
      * {@link #newPublishingLogger(ConnectionId, LogCategory, LogType, String, FluentPublishingConnectionLoggerContext)}
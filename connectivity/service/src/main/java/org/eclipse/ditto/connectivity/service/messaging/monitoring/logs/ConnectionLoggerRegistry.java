@@ -44,6 +44,7 @@ import org.eclipse.ditto.connectivity.model.LogEntry;
 import org.eclipse.ditto.connectivity.model.LogType;
 import org.eclipse.ditto.connectivity.model.Source;
 import org.eclipse.ditto.connectivity.model.Target;
+import org.eclipse.ditto.connectivity.service.config.ConnectionLogPipelineConfig;
 import org.eclipse.ditto.connectivity.service.config.FluencyLoggerPublisherConfig;
 import org.eclipse.ditto.connectivity.service.config.LoggerPublisherConfig;
 import org.eclipse.ditto.connectivity.service.config.MonitoringLoggerConfig;
@@ -68,6 +69,7 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
 
     private static final ConcurrentMap<MapKey, ConnectionLogger> LOGGERS = new ConcurrentHashMap<>();
     private static final ConcurrentMap<EntityId, LogMetadata> METADATA = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<ConnectionId, ConnectionLogPipeline> PIPELINES = new ConcurrentHashMap<>();
 
     // artificial internal address for responses
     private static final String RESPONSES_ADDRESS = "_responses";
@@ -77,17 +79,20 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
     private final TemporalAmount loggingDuration;
     private final long maximumLogSizeInByte;
     @Nullable private final FluentPublishingConnectionLoggerContext fluentPublishingConnectionLoggerContext;
+    private final ConnectionLogPipelineConfig connectionLogPipelineConfig;
 
     private ConnectionLoggerRegistry(final int successCapacity,
             final int failureCapacity,
             final long maximumLogSizeInByte,
             final Duration loggingDuration,
-            final LoggerPublisherConfig loggerPublisherConfig) {
+            final LoggerPublisherConfig loggerPublisherConfig,
+            final ConnectionLogPipelineConfig connectionLogPipelineConfig) {
 
         this.successCapacity = successCapacity;
         this.failureCapacity = failureCapacity;
         this.maximumLogSizeInByte = maximumLogSizeInByte;
         this.loggingDuration = checkNotNull(loggingDuration);
+        this.connectionLogPipelineConfig = checkNotNull(connectionLogPipelineConfig);
 
         if (loggerPublisherConfig.isEnabled()) {
             final FluencyLoggerPublisherConfig fluencyConfig = loggerPublisherConfig.getFluencyLoggerPublisherConfig();
@@ -113,7 +118,8 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
     public static ConnectionLoggerRegistry fromConfig(final MonitoringLoggerConfig config) {
         checkNotNull(config);
         return new ConnectionLoggerRegistry(config.successCapacity(), config.failureCapacity(),
-                config.maxLogSizeInBytes(), config.logDuration(), config.getLoggerPublisherConfig());
+                config.maxLogSizeInBytes(), config.logDuration(), config.getLoggerPublisherConfig(),
+                config.getConnectionLogPipelineConfig());
     }
 
     /**
@@ -335,6 +341,7 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
             }
             LOGGERS.remove(loggerKey);
         });
+        PIPELINES.remove(connectionId);
     }
 
     private void initLogger(final ConnectionId connectionId) {
@@ -514,7 +521,7 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
             final LogType logType,
             @Nullable final String address) {
 
-        final ConnectionLogger result;
+        final MuteableConnectionLogger result;
         final var evictingLogger = ConnectionLoggerFactory.newEvictingLogger(successCapacity,
                 failureCapacity,
                 logCategory,
@@ -537,6 +544,13 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
         } else {
             result = muteableLogger;
         }
+
+        if (connectionLogPipelineConfig.isEnabled()) {
+            final ConnectionLogPipeline pipeline = PIPELINES.computeIfAbsent(connectionId,
+                    id -> ConnectionLoggerFactory.newLogPipeline(id, connectionLogPipelineConfig));
+            return ConnectionLoggerFactory.newAsyncLogger(result, logCategory,
+                    null != fluentPublishingConnectionLoggerContext, pipeline);
+        }
         return result;
     }
 
@@ -553,13 +567,14 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
                 failureCapacity == that.failureCapacity &&
                 maximumLogSizeInByte == that.maximumLogSizeInByte &&
                 Objects.equals(loggingDuration, that.loggingDuration) &&
-                Objects.equals(fluentPublishingConnectionLoggerContext, that.fluentPublishingConnectionLoggerContext);
+                Objects.equals(fluentPublishingConnectionLoggerContext, that.fluentPublishingConnectionLoggerContext) &&
+                Objects.equals(connectionLogPipelineConfig, that.connectionLogPipelineConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(successCapacity, failureCapacity, loggingDuration, maximumLogSizeInByte,
-                fluentPublishingConnectionLoggerContext);
+                fluentPublishingConnectionLoggerContext, connectionLogPipelineConfig);
     }
 
     @Override
@@ -570,6 +585,7 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
                 ", loggingDuration=" + loggingDuration +
                 ", maximumLogSizeInByte=" + maximumLogSizeInByte +
                 ", fluentPublishingConnectionLoggerContext=" + fluentPublishingConnectionLoggerContext +
+                ", connectionLogPipelineConfig=" + connectionLogPipelineConfig +
                 "]";
     }
 
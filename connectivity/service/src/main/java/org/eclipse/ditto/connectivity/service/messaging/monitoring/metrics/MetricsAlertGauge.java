@@ -122,6 +122,11 @@ public final class MetricsAlertGauge implements Gauge {
         return true;
     }
 
+    @Override
+    public boolean remove() {
+        return delegee.remove();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
@@ -19,19 +19,16 @@ import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
- * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * Implementation of a sliding window using one fixed-size {@link SlotRing} per recording window. Depending on the
+ * given parameters {@code window} and {@code duration} this implementation holds counter for time slots of size
+ * {@code duration} to fill the {@code window}. Measurements older than the recording window are not counted.
  */
 public final class SlidingWindowCounter {
 
@@ -43,35 +40,79 @@ public final class SlidingWindowCounter {
     private final MeasurementWindow[] windowsForRecording;
     private final MeasurementWindow[] windowsForReporting;
 
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    // one ring per recording window, at the same index as the window
+    private final SlotRing[] successMeasurements;
+    private final SlotRing[] failureMeasurements;
+
+    // the index of the recording window to compute each reporting window from, at the same index as the window
+    private final int[] recordingWindowIndexForReporting;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
     private final Counter metricsCounter;
+    private final Counter successMetricsCounter;
+    private final Counter failureMetricsCounter;
     @Nullable private final MetricsAlert metricsAlert;
     private final long maximumPerSlot;
-    private final boolean cleanUpEnabled;
 
     // allows to override the reported value with a fixed value by checking the last modified timestamp instead of
-    // calculating from the measurement maps (allows more accuracy for the shortest window)
+    // calculating from the measurement rings (allows more accuracy for the shortest window)
     private final Map<MeasurementWindow, Long> lastTimestampOverrides;
 
     private SlidingWindowCounter(final SlidingWindowCounterBuilder builder) {
         metricsCounter = builder.metricsCounter;
+        // tagging creates a new counter, so it is done once instead of on every increment
+        successMetricsCounter = metricsCounter.tag("success", true);
+        failureMetricsCounter = metricsCounter.tag("success", false);
         clock = builder.clock;
         metricsAlert = builder.metricsAlert;
-        cleanUpEnabled = builder.cleanUpEnabled;
         windowsForRecording = builder.recordingMeasurementWindows;
         windowsForReporting = builder.reportingMeasurementWindows;
         maximumPerSlot = builder.maximumPerSlot;
         lastTimestampOverrides = builder.lastTimestampOverrides;
 
-        minResolution = Stream.of(windowsForRecording)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        successMeasurements = createRings(windowsForRecording);
+        failureMeasurements = createRings(windowsForRecording);
+        recordingWindowIndexForReporting = Arrays.stream(windowsForReporting)
+                .mapToInt(window -> getRecordingWindowIndex(windowsForRecording, window))
+                .toArray();
+    }
+
+    private static SlotRing[] createRings(final MeasurementWindow[] windows) {
+        return Arrays.stream(windows).map(SlotRing::new).toArray(SlotRing[]::new);
+    }
+
+    /**
+     * Determines the recording window with the same resolution as the given reporting window which covers it,
+     * preferring the smallest one.
+     *
+     * @return the index of the recording window or -1 if no recording window has the same resolution.
+     */
+    private static int getRecordingWindowIndex(final MeasurementWindow[] windowsForRecording,
+            final MeasurementWindow reportingWindow) {
+
+        int result = -1;
+        for (int i = 0; i < windowsForRecording.length; i++) {
+            final MeasurementWindow candidate = windowsForRecording[i];
+            if (candidate.getResolution().equals(reportingWindow.getResolution()) &&
+                    (result < 0 || isBetterCoverage(candidate, windowsForRecording[result], reportingWindow))) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isBetterCoverage(final MeasurementWindow candidate, final MeasurementWindow current,
+            final MeasurementWindow reportingWindow) {
+
+        final boolean candidateCovers = candidate.getWindow().compareTo(reportingWindow.getWindow()) >= 0;
+        final boolean currentCovers = current.getWindow().compareTo(reportingWindow.getWindow()) >= 0;
+        if (candidateCovers != currentCovers) {
+            return candidateCovers;
+        }
+        // among covering windows the smallest one, otherwise the largest one
+        final int comparison = candidate.getWindow().compareTo(current.getWindow());
+        return candidateCovers ? comparison < 0 : comparison > 0;
     }
 
     /**
@@ -111,7 +152,8 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        final long now = clock.millis();
+        increment(success, now, now);
     }
 
     /**
@@ -121,60 +163,39 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
+        increment(success, ts, clock.millis());
+    }
+
+    private void increment(final boolean success, final long ts, final long now) {
         if (success) {
-            metricsCounter.tag("success", true).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
-            incrementMeasurements(ts, successMeasurements);
+            successMetricsCounter.increment();
+            updateTimestamp(lastSuccessTimestamp, ts);
+            incrementMeasurements(ts, now, successMeasurements);
         } else {
-            metricsCounter.tag("success", false).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
-            incrementMeasurements(ts, failureMeasurements);
-        }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (cleanUpEnabled && previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
+            failureMetricsCounter.increment();
+            updateTimestamp(lastFailureTimestamp, ts);
+            incrementMeasurements(ts, now, failureMeasurements);
         }
     }
 
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
-    }
-
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windowsForRecording) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            final long newValue = measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
-            if (metricsAlert != null && metricsAlert.evaluateCondition(window, slot, newValue)) {
-                metricsAlert.triggerAction(ts, newValue);
-            }
+    private static void updateTimestamp(final AtomicLong toUpdate, final long ts) {
+        long previous = toUpdate.get();
+        while (previous < ts && !toUpdate.compareAndSet(previous, ts)) {
+            previous = toUpdate.get();
         }
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(final long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windowsForRecording) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
+    private void incrementMeasurements(final long ts, final long now, final SlotRing[] measurements) {
+        for (int i = 0; i < measurements.length; i++) {
+            final SlotRing ring = measurements[i];
+            final long slot = ring.getSlot(ts);
+            if (ring.increment(slot, ring.getSlot(now)) && metricsAlert != null) {
+                final long newValue = ring.getCount(slot);
+                if (metricsAlert.evaluateCondition(windowsForRecording[i], slot, newValue)) {
+                    metricsAlert.triggerAction(ts, newValue);
+                }
             }
         }
-        return true;
     }
 
     /**
@@ -193,30 +214,24 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the measurement rings to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements,
-            final long lastTimestamp) {
+    private Map<Duration, Long> getCounts(final SlotRing[] measurements, final long lastTimestamp) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windowsForReporting) {
+        final long now = clock.millis();
+        for (int i = 0; i < windowsForReporting.length; i++) {
+            final MeasurementWindow window = windowsForReporting[i];
+            final int recordingWindowIndex = recordingWindowIndexForReporting[i];
             long sum = 0;
             if (lastTimestampOverrides.containsKey(window) && now - window.getWindow().toMillis() < lastTimestamp) {
                 sum = lastTimestampOverrides.get(window);
-            } else {
-                // min is where we start to sum up the slots
-                final long windowInMs = window.getWindow().toMillis();
-                final long resolutionInMs = window.getResolution().toMillis();
-                final long min = getSlot(now - windowInMs, resolutionInMs);
-                // max is the current active time slot
-                final long max = getSlot(now, resolutionInMs);
-                for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                    final long slot = e.getKey();
-                    if (slot > min && slot <= max) {
-                        sum += Math.min(maximumPerSlot, e.getValue());
-                    }
-                }
+            } else if (recordingWindowIndex >= 0) {
+                final SlotRing ring = measurements[recordingWindowIndex];
+                // min is where we start to sum up the slots, max is the current active time slot
+                final long min = ring.getSlot(now - window.getWindow().toMillis());
+                final long max = ring.getSlot(now);
+                sum = ring.sum(min, max, maximumPerSlot);
             }
             result.put(window.getWindow(), sum);
         }
@@ -231,12 +246,10 @@ public final class SlidingWindowCounter {
         reset(failureMeasurements);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
-    }
-
-    private long getSlot(final long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+    private static void reset(final SlotRing[] measurements) {
+        for (final SlotRing ring : measurements) {
+            ring.reset();
+        }
     }
 
     /**
@@ -247,7 +260,6 @@ public final class SlidingWindowCounter {
         private final Counter metricsCounter;
         private Clock clock = Clock.systemUTC();
         private MetricsAlert metricsAlert = null;
-        private boolean cleanUpEnabled = true;
         private MeasurementWindow[] recordingMeasurementWindows;
         private MeasurementWindow[] reportingMeasurementWindows;
         private long maximumPerSlot = Long.MAX_VALUE;
@@ -267,11 +279,6 @@ public final class SlidingWindowCounter {
             return this;
         }
 
-        SlidingWindowCounterBuilder cleanUpEnabled(final boolean cleanUpEnabled) {
-            this.cleanUpEnabled = cleanUpEnabled;
-            return this;
-        }
-
         SlidingWindowCounterBuilder recordingMeasurementWindows(
                 final MeasurementWindow... recordingMeasurementWindows) {
             this.recordingMeasurementWindows = recordingMeasurementWindows;
@@ -313,15 +320,13 @@ public final class SlidingWindowCounter {
                 "clock=" + clock +
                 ", windowsForRecording=" + Arrays.toString(windowsForRecording) +
                 ", windowsForReporting=" + Arrays.toString(windowsForReporting) +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                ", successMeasurements=" + Arrays.toString(successMeasurements) +
+                ", failureMeasurements=" + Arrays.toString(failureMeasurements) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
-                ", minResolution=" + minResolution +
                 ", metricsCounter=" + metricsCounter +
                 ", metricsAlert=" + metricsAlert +
                 ", maximumPerSlot=" + maximumPerSlot +
-                ", cleanUpEnabled=" + cleanUpEnabled +
                 ", lastTimestampOverrides=" + lastTimestampOverrides +
                 "]";
     }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Fixed-size ring of the counts of the time slots of one {@link MeasurementWindow}.
+ * <p>
+ * The ring holds the slots of the window plus the current and the next slot. Each slot is split into stripes which
+ * are selected by the incrementing thread to reduce contention. A stripe is a single {@code long} holding the count
+ * in its lower {@value #COUNT_BITS} bits and, in its upper bits, the number of the lap of the ring the count belongs
+ * to. A stripe of a previous lap is thereby reset by the first increment of the new lap without any clean up, and
+ * neither incrementing nor reading allocates.
+ * </p>
+ */
+@ThreadSafe
+final class SlotRing {
+
+    private static final int COUNT_BITS = 40;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long LAP_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+    private static final long HALF_LAPS = (LAP_MASK + 1) / 2;
+
+    /**
+     * Limits the memory of rings with many slots, e.g. one day with one minute resolution.
+     */
+    private static final int MAX_CELLS = 512;
+    private static final int MAX_STRIPES =
+            Math.min(8, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+
+    private final long resolutionInMs;
+    private final long windowInSlots;
+    private final int slots;
+    private final int stripeMask;
+
+    // stripes of the same slot are "slots" cells apart so that they are not on the same cache line
+    private final AtomicLongArray cells;
+
+    /**
+     * Creates a ring for the slots of a window.
+     *
+     * @param window the window.
+     */
+    SlotRing(final MeasurementWindow window) {
+        resolutionInMs = window.getResolution().toMillis();
+        windowInSlots = window.getWindow().toMillis() / resolutionInMs;
+        slots = (int) windowInSlots + 2;
+        final int stripes = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, MAX_CELLS / slots)));
+        stripeMask = stripes - 1;
+        cells = new AtomicLongArray(stripes * slots);
+    }
+
+    /**
+     * @return the resolution of the slots in milliseconds.
+     */
+    long getResolutionInMs() {
+        return resolutionInMs;
+    }
+
+    /**
+     * @return the number of slots of the window of this ring.
+     */
+    long getWindowInSlots() {
+        return windowInSlots;
+    }
+
+    /**
+     * Returns the slot of a timestamp.
+     *
+     * @param ts the timestamp in milliseconds.
+     * @return the slot.
+     */
+    long getSlot(final long ts) {
+        return ts / resolutionInMs;
+    }
+
+    /**
+     * Increments the count of a slot. Slots which are older than the window or newer than the next slot are ignored.
+     *
+     * @param slot the slot to increment.
+     * @param currentSlot the slot of the current time.
+     * @return whether the slot was incremented.
+     */
+    boolean increment(final long slot, final long currentSlot) {
+        if (slot > currentSlot + 1 || slot <= currentSlot + 1 - slots) {
+            return false;
+        }
+        final int index = getIndex(slot, (int) Thread.currentThread().getId() & stripeMask);
+        final long lap = getLap(slot);
+        long cell;
+        long updated;
+        do {
+            cell = cells.get(index);
+            final long cellLap = cell >>> COUNT_BITS;
+            if (cellLap == lap) {
+                if ((cell & COUNT_MASK) == COUNT_MASK) {
+                    return true;
+                }
+                updated = cell + 1;
+            } else if ((cell & COUNT_MASK) == 0 || ((lap - cellLap) & LAP_MASK) < HALF_LAPS) {
+                // the cell is unused or belongs to an older lap
+                updated = (lap << COUNT_BITS) | 1L;
+            } else {
+                // the cell was already taken over by a newer slot, so the slot is outside the ring
+                return false;
+            }
+        } while (!cells.compareAndSet(index, cell, updated));
+        return true;
+    }
+
+    /**
+     * Returns the count of a slot summed up over all stripes.
+     *
+     * @param slot the slot.
+     * @return the count.
+     */
+    long getCount(final long slot) {
+        final long lap = getLap(slot);
+        long count = 0L;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            final long cell = cells.get(getIndex(slot, stripe));
+            if (cell >>> COUNT_BITS == lap) {
+                count += cell & COUNT_MASK;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sums up the counts of the slots in {@code (minSlot, maxSlot]} which are still in the ring.
+     *
+     * @param minSlot the slot before the first slot to sum up.
+     * @param maxSlot the last slot to sum up.
+     * @param maximumPerSlot the maximum count to add per slot.
+     * @return the sum.
+     */
+    long sum(final long minSlot, final long maxSlot, final long maximumPerSlot) {
+        long sum = 0L;
+        for (long slot = Math.max(minSlot, maxSlot - slots) + 1; slot <= maxSlot; slot++) {
+            sum += Math.min(maximumPerSlot, getCount(slot));
+        }
+        return sum;
+    }
+
+    /**
+     * Resets all counts.
+     */
+    void reset() {
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0L);
+        }
+    }
+
+    private int getIndex(final long slot, final int stripe) {
+        return stripe * slots + (int) Math.floorMod(slot, (long) slots);
+    }
+
+    private long getLap(final long slot) {
+        return Math.floorDiv(slot, (long) slots) & LAP_MASK;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "resolutionInMs=" + resolutionInMs +
+                ", slots=" + slots +
+                ", stripes=" + (stripeMask + 1) +
+                "]";
+    }
+
+}
@@ -17,8 +17,10 @@ import static org.eclipse.ditto.protocol.TopicPath.Criterion.EVENTS;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -28,7 +30,6 @@ import org.eclipse.ditto.base.model.entity.id.WithEntityId;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.base.model.signals.Signal;
-import org.eclipse.ditto.base.model.signals.WithResource;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
 import org.eclipse.ditto.base.model.signals.events.Event;
@@ -73,13 +74,20 @@ public final class SignalFilter {
     private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
     private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
 
+    private static final QueryFilterCriteriaFactory QUERY_FILTER_CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), TOPIC_PATH_PLACEHOLDER,
+                    RESOURCE_PLACEHOLDER, TIME_PLACEHOLDER);
+    private static final Thing EMPTY_THING = Thing.newBuilder().build();
+
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final Map<FilteredTopic, CompiledFilter> compiledFilters;
 
     SignalFilter(final Connection connection,
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        compiledFilters = new ConcurrentHashMap<>();
     }
 
     /**
@@ -105,14 +113,15 @@ public final class SignalFilter {
      */
     @SuppressWarnings("squid:S3864")
     public List<Target> filter(final Signal<?> signal) {
+        final SignalContext signalContext = new SignalContext(signal);
         return connection.getTargets().stream()
                 .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
-                .filter(t -> isTargetSubscribedForTopicGenerally(t, signal))
+                .filter(t -> isTargetSubscribedForTopicGenerally(t, signalContext))
                 // count authorized targets which generally are interested in the topic (e.g. "live messages")
                 .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection,
                         authorizedTarget.getAddress())
                         .success(signal))
-                .filter(t -> isTargetSubscribedForTopicWithFiltering(t, signal))
+                .filter(t -> isTargetSubscribedForTopicWithFiltering(t, signalContext))
                 // count authorized + filtered targets
                 .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection,
                         filteredTarget.getAddress())
@@ -131,20 +140,21 @@ public final class SignalFilter {
         }
     }
 
-    private static boolean isTargetSubscribedForTopicGenerally(final Target target, final Signal<?> signal) {
+    private static boolean isTargetSubscribedForTopicGenerally(final Target target,
+            final SignalContext signalContext) {
         return target.getTopics().stream()
-                .anyMatch(applyTopicFilter(signal));
+                .anyMatch(applyTopicFilter(signalContext));
     }
 
-    private static boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopicWithFiltering(final Target target, final SignalContext signalContext) {
         return target.getTopics().stream()
-                .filter(applyTopicFilter(signal))
-                .filter(applyNamespaceFilter(signal))
-                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal));
+                .filter(applyTopicFilter(signalContext))
+                .filter(applyNamespaceFilter(signalContext.signal))
+                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signalContext));
     }
 
-    private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
-        return t -> t.getTopic().equals(topicFromSignal(signal).orElse(null));
+    private static Predicate<FilteredTopic> applyTopicFilter(final SignalContext signalContext) {
+        return t -> t.getTopic().equals(signalContext.topic);
     }
 
     private static Predicate<FilteredTopic> applyNamespaceFilter(final Signal<?> signal) {
@@ -157,33 +167,16 @@ public final class SignalFilter {
         return NamespaceReader.fromEntityId(withEntityId.getEntityId()).orElse(null);
     }
 
-    private static boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
-        final Optional<String> filterOptional = filteredTopic.getFilter();
-        if (filterOptional.isPresent()) {
+    private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic,
+            final SignalContext signalContext) {
+        if (filteredTopic.getFilter().isPresent()) {
             // match filter ignoring "extraFields"
-
-            final TopicPath topicPath = DITTO_PROTOCOL_ADAPTER.toTopicPath(signal);
-            final PlaceholderResolver<TopicPath> topicPathPlaceholderResolver =
-                    PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER, topicPath);
-            final PlaceholderResolver<WithResource> resourcePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal);
-            final PlaceholderResolver<Object> timePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(TIME_PLACEHOLDER, new Object());
-            final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders(),
-                    topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
-            final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
-                    .map(JsonFieldSelector::getPointers)
-                    .orElse(Collections.emptySet());
-            if (signal instanceof ThingEvent) {
-                return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
-                        .filter(thing -> Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing,
-                                topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver))
-                        .isPresent();
-            } else {
-                final Thing emptyThing = Thing.newBuilder().build();
-                return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, emptyThing,
-                        topicPathPlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
-            }
+            final CompiledFilter compiledFilter = compiledFilters.computeIfAbsent(filteredTopic,
+                    topic -> CompiledFilter.of(topic, signalContext.signal.getDittoHeaders()));
+            return signalContext.getPartialThing()
+                    .filter(thing -> compiledFilter.evaluation.couldBeTrue(thing,
+                            signalContext.getPlaceholderResolvers()))
+                    .isPresent();
         } else {
             return true;
         }
@@ -193,10 +186,8 @@ public final class SignalFilter {
      * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter string cannot be
      * mapped to a valid criterion
      */
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders,
-            final PlaceholderResolver<?>... placeholderResolvers) {
-        return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), placeholderResolvers)
-                .filterCriteria(filter, dittoHeaders);
+    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        return QUERY_FILTER_CRITERIA_FACTORY.filterCriteria(filter, dittoHeaders);
     }
 
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
@@ -252,4 +243,73 @@ public final class SignalFilter {
         return criterion;
     }
 
+    /**
+     * The filter of a topic parsed once and compiled for the evaluation against partial things.
+     */
+    private static final class CompiledFilter {
+
+        private final Thing3ValuePredicateVisitor.Evaluation evaluation;
+
+        private CompiledFilter(final Thing3ValuePredicateVisitor.Evaluation evaluation) {
+            this.evaluation = evaluation;
+        }
+
+        /**
+         * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter string cannot be
+         * mapped to a valid criterion
+         */
+        private static CompiledFilter of(final FilteredTopic filteredTopic, final DittoHeaders dittoHeaders) {
+            final Criteria criteria = parseCriteria(filteredTopic.getFilter().orElseThrow(), dittoHeaders);
+            final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
+                    .map(JsonFieldSelector::getPointers)
+                    .orElse(Collections.emptySet());
+            return new CompiledFilter(Thing3ValuePredicateVisitor.compile(criteria, extraFields));
+        }
+
+    }
+
+    /**
+     * What the filters of all targets need to know about one signal, computed at most once per signal.
+     */
+    private static final class SignalContext {
+
+        private final Signal<?> signal;
+        @Nullable private final Topic topic;
+        @Nullable private List<PlaceholderResolver<?>> placeholderResolvers;
+        @Nullable private Thing partialThing;
+        private boolean partialThingConverted;
+
+        private SignalContext(final Signal<?> signal) {
+            this.signal = signal;
+            topic = topicFromSignal(signal).orElse(null);
+            placeholderResolvers = null;
+            partialThing = null;
+            partialThingConverted = false;
+        }
+
+        private List<PlaceholderResolver<?>> getPlaceholderResolvers() {
+            if (null == placeholderResolvers) {
+                final TopicPath topicPath = DITTO_PROTOCOL_ADAPTER.toTopicPath(signal);
+                placeholderResolvers = List.of(
+                        PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER, topicPath),
+                        PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
+                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object()));
+            }
+            return placeholderResolvers;
+        }
+
+        private Optional<Thing> getPartialThing() {
+            if (!partialThingConverted) {
+                if (signal instanceof ThingEvent<?> thingEvent) {
+                    partialThing = ThingEventToThingConverter.thingEventToThing(thingEvent).orElse(null);
+                } else {
+                    partialThing = EMPTY_THING;
+                }
+                partialThingConverted = true;
+            }
+            return Optional.ofNullable(partialThing);
+        }
+
+    }
+
 }
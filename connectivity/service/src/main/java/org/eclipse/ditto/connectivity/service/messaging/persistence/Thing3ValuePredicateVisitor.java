@@ -12,12 +12,10 @@
  */
 package org.eclipse.ditto.connectivity.service.messaging.persistence;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Function;
 
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonPointer;
@@ -36,17 +34,19 @@ import org.eclipse.ditto.things.model.Thing;
 
 /**
  * Visitor to evaluate a criteria against a partial thing with unknown fields.
+ * <p>
+ * The visitor compiles a criteria once into an {@link Evaluation} which can be applied to any number of partial things.
+ * Whether a field is unknown is decided at compile time, the placeholder resolvers are only bound when the evaluation
+ * is applied.
+ * </p>
  */
-final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thing, Trilean>> {
+final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Thing3ValuePredicateVisitor.Evaluation> {
 
     private final Set<JsonPointer> unknownFields;
-    private final List<PlaceholderResolver<?>> placeholderResolvers;
 
-    private Thing3ValuePredicateVisitor(final Set<JsonPointer> unknownFields,
-            final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+    private Thing3ValuePredicateVisitor(final Set<JsonPointer> unknownFields) {
         // only internally instantiable, therefore no copying + immutability of fields
         this.unknownFields = unknownFields;
-        this.placeholderResolvers = new ArrayList<>(placeholderResolvers);
     }
 
     /**
@@ -82,50 +82,68 @@ final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thin
             final Set<JsonPointer> unknownFields,
             final Thing partialThing,
             final Collection<PlaceholderResolver<?>> placeholderResolvers) {
-        return Trilean.FALSE != criteria.accept(new Thing3ValuePredicateVisitor(unknownFields, placeholderResolvers))
-                .apply(partialThing);
+        return compile(criteria, unknownFields).couldBeTrue(partialThing, List.copyOf(placeholderResolvers));
+    }
+
+    /**
+     * Compiles criteria into an evaluation against partial things.
+     *
+     * @param criteria the criteria.
+     * @param unknownFields the set of unknown fields that shall not falsify the criteria evaluation result.
+     * @return the evaluation which may be applied to any number of partial things.
+     */
+    static Evaluation compile(final Criteria criteria, final Set<JsonPointer> unknownFields) {
+        return criteria.accept(new Thing3ValuePredicateVisitor(Set.copyOf(unknownFields)));
     }
 
     @Override
-    public Function<Thing, Trilean> visitAnd(final List<Function<Thing, Trilean>> conjuncts) {
-        return thing -> conjuncts.stream().map(f -> f.apply(thing)).reduce(Trilean::and).orElse(Trilean.TRUE);
+    public Evaluation visitAnd(final List<Evaluation> conjuncts) {
+        return (thing, placeholderResolvers) -> conjuncts.stream()
+                .map(f -> f.apply(thing, placeholderResolvers))
+                .reduce(Trilean::and)
+                .orElse(Trilean.TRUE);
     }
 
     @Override
-    public Function<Thing, Trilean> visitAny() {
-        return thing -> Trilean.TRUE;
+    public Evaluation visitAny() {
+        return (thing, placeholderResolvers) -> Trilean.TRUE;
     }
 
     @Override
-    public Function<Thing, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
-        return thing -> isUnknownField(fieldExpression)
-                ? Trilean.UNKNOWN
-                : Trilean.lift(ExistsThingPredicateVisitor.apply(fieldExpression, placeholderResolvers).test(thing));
+    public Evaluation visitExists(final ExistsFieldExpression fieldExpression) {
+        if (isUnknownField(fieldExpression)) {
+            return (thing, placeholderResolvers) -> Trilean.UNKNOWN;
+        }
+        return (thing, placeholderResolvers) -> Trilean.lift(
+                ExistsThingPredicateVisitor.apply(fieldExpression, placeholderResolvers).test(thing));
     }
 
     @Override
-    public Function<Thing, Trilean> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return thing -> {
-            if (isUnknownField(fieldExpression)) {
-                return Trilean.UNKNOWN;
-            } else {
-                final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor
-                        .createInstance(placeholderResolvers);
-                return Trilean.lift(
-                        FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
-                );
-            }
+    public Evaluation visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
+        if (isUnknownField(fieldExpression)) {
+            return (thing, placeholderResolvers) -> Trilean.UNKNOWN;
+        }
+        return (thing, placeholderResolvers) -> {
+            final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor
+                    .createInstance(placeholderResolvers);
+            return Trilean.lift(
+                    FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
+            );
         };
     }
 
     @Override
-    public Function<Thing, Trilean> visitNor(final List<Function<Thing, Trilean>> negativeDisjoints) {
-        return visitOr(negativeDisjoints).andThen(Trilean::not);
+    public Evaluation visitNor(final List<Evaluation> negativeDisjoints) {
+        final Evaluation disjunction = visitOr(negativeDisjoints);
+        return (thing, placeholderResolvers) -> Trilean.not(disjunction.apply(thing, placeholderResolvers));
     }
 
     @Override
-    public Function<Thing, Trilean> visitOr(final List<Function<Thing, Trilean>> disjoints) {
-        return thing -> disjoints.stream().map(f -> f.apply(thing)).reduce(Trilean::or).orElse(Trilean.FALSE);
+    public Evaluation visitOr(final List<Evaluation> disjoints) {
+        return (thing, placeholderResolvers) -> disjoints.stream()
+                .map(f -> f.apply(thing, placeholderResolvers))
+                .reduce(Trilean::or)
+                .orElse(Trilean.FALSE);
     }
 
     private boolean isUnknownField(final FieldExpression fieldExpression) {
@@ -136,6 +154,36 @@ final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thin
                 );
     }
 
+    /**
+     * A criteria compiled for the evaluation against partial things.
+     */
+    @FunctionalInterface
+    interface Evaluation {
+
+        /**
+         * Evaluates the compiled criteria against a partial thing.
+         *
+         * @param partialThing the partial thing.
+         * @param placeholderResolvers the {@code PlaceholderResolver}s to use in order to resolve placeholders in the
+         * form {@code prefix:name}.
+         * @return the 3-valued result of the evaluation.
+         */
+        Trilean apply(Thing partialThing, List<PlaceholderResolver<?>> placeholderResolvers);
+
+        /**
+         * Evaluates the compiled criteria against a partial thing to see whether it could be true.
+         *
+         * @param partialThing the partial thing.
+         * @param placeholderResolvers the {@code PlaceholderResolver}s to use in order to resolve placeholders in the
+         * form {@code prefix:name}.
+         * @return whether the criteria may evaluate to true.
+         */
+        default boolean couldBeTrue(final Thing partialThing, final List<PlaceholderResolver<?>> placeholderResolvers) {
+            return Trilean.FALSE != apply(partialThing, placeholderResolvers);
+        }
+
+    }
+
     private static final class GetJsonPointer implements FieldExpressionVisitor<JsonPointer> {
 
         @Override
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Map;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultConnectionLogPipelineConfig}.
+ */
+public final class DefaultConnectionLogPipelineConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultConnectionLogPipelineConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultConnectionLogPipelineConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final ConnectionLogPipelineConfig underTest = DefaultConnectionLogPipelineConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getBufferSize())
+                .as(ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.BUFFER_SIZE.getConfigPath())
+                .isEqualTo(ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(
+                        ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+        final ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue successLogsPerSecondPerCategory =
+                ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.SUCCESS_LOGS_PER_SECOND_PER_CATEGORY;
+        softly.assertThat(underTest.getSuccessLogsPerSecondPerCategory())
+                .as(successLogsPerSecondPerCategory.getConfigPath())
+                .isEqualTo(successLogsPerSecondPerCategory.getDefaultValue());
+        softly.assertThat(underTest.getThreads())
+                .as(ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.THREADS.getConfigPath())
+                .isEqualTo(ConnectionLogPipelineConfig.ConnectionLogPipelineConfigValue.THREADS.getDefaultValue());
+    }
+
+    @Test
+    public void pipelineIsDisabledWithoutLimitByDefault() {
+        final ConnectionLogPipelineConfig underTest = DefaultConnectionLogPipelineConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled()).isFalse();
+        softly.assertThat(underTest.getSuccessLogsPerSecondPerCategory()).isZero();
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfig() {
+        final ConnectionLogPipelineConfig underTest = DefaultConnectionLogPipelineConfig.of(ConfigFactory.parseMap(
+                Map.of("pipeline.enabled", true,
+                        "pipeline.buffer-size", 4711,
+                        "pipeline.max-batch-size", 42,
+                        "pipeline.success-logs-per-second-per-category", 1000,
+                        "pipeline.threads", 4)));
+
+        softly.assertThat(underTest.isEnabled()).isTrue();
+        softly.assertThat(underTest.getBufferSize()).isEqualTo(4711);
+        softly.assertThat(underTest.getMaxBatchSize()).isEqualTo(42);
+        softly.assertThat(underTest.getSuccessLogsPerSecondPerCategory()).isEqualTo(1000);
+        softly.assertThat(underTest.getThreads()).isEqualTo(4);
+    }
+
+}
@@ -63,6 +63,7 @@ public class DefaultKafkaConfigTest {
         final DefaultKafkaConfig underTest = DefaultKafkaConfig.of(kafkaTestConf);
         assertThat(underTest.getConsumerConfig().getThrottlingConfig().getLimit()).isEqualTo(100);
         assertThat(underTest.getConsumerConfig().getThrottlingConfig().getInterval()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(underTest.getConsumerConfig().getPartitioningConfig().isEnabled()).isFalse();
 
         assertThat(underTest.getConsumerConfig()
                 .getPekkoConnectorsConfig()
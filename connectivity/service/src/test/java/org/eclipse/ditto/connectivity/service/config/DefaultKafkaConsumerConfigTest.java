@@ -34,7 +34,7 @@ public class DefaultKafkaConsumerConfigTest {
     @Test
     public void assertImmutability() {
         assertInstancesOf(DefaultKafkaConsumerConfig.class, areImmutable(), provided(Config.class,
-                ConnectionThrottlingConfig.class).areAlsoImmutable());
+                ConnectionThrottlingConfig.class, KafkaConsumerPartitioningConfig.class).areAlsoImmutable());
     }
 
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link DefaultKafkaConsumerPartitioningConfig}.
+ */
+public final class DefaultKafkaConsumerPartitioningConfigTest {
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultKafkaConsumerPartitioningConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultKafkaConsumerPartitioningConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final KafkaConsumerPartitioningConfig underTest =
+                DefaultKafkaConsumerPartitioningConfig.of(ConfigFactory.empty());
+
+        assertThat(underTest.isEnabled())
+                .isEqualTo(KafkaConsumerPartitioningConfig.ConfigValue.ENABLED.getDefaultValue());
+        assertThat(underTest.getMaxPartitions())
+                .isEqualTo(KafkaConsumerPartitioningConfig.ConfigValue.MAX_PARTITIONS.getDefaultValue());
+        assertThat(underTest.getMaxInFlightPerPartition())
+                .isEqualTo(KafkaConsumerPartitioningConfig.ConfigValue.MAX_IN_FLIGHT_PER_PARTITION.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsConfiguredValues() {
+        final KafkaConsumerPartitioningConfig underTest = DefaultKafkaConsumerPartitioningConfig.of(
+                ConfigFactory.parseString("partitioning { enabled = true, max-partitions = 8, " +
+                        "max-in-flight-per-partition = 20 }"));
+
+        assertThat(underTest.isEnabled()).isTrue();
+        assertThat(underTest.getMaxPartitions()).isEqualTo(8);
+        assertThat(underTest.getMaxInFlightPerPartition()).isEqualTo(20);
+    }
+
+    @Test
+    public void rejectsNonPositiveWindow() {
+        assertThatExceptionOfType(DittoConfigError.class).isThrownBy(() -> DefaultKafkaConsumerPartitioningConfig.of(
+                ConfigFactory.parseString("partitioning.max-in-flight-per-partition = 0")));
+    }
+
+}
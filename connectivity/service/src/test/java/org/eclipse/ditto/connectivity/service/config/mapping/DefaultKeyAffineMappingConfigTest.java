@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config.mapping;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.List;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultKeyAffineMappingConfig}.
+ */
+public final class DefaultKeyAffineMappingConfigTest {
+
+    private static Config keyAffineTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        keyAffineTestConfig = ConfigFactory.load("key-affine-lanes-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultKeyAffineMappingConfig.class,
+                areImmutable(),
+                assumingFields("keyHeaders").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultKeyAffineMappingConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultKeyAffineMappingConfig underTest = DefaultKeyAffineMappingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(KeyAffineMappingConfig.KeyAffineMappingConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxLanes())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.MAX_LANES.getConfigPath())
+                .isEqualTo(KeyAffineMappingConfig.KeyAffineMappingConfigValue.MAX_LANES.getDefaultValue());
+
+        softly.assertThat(underTest.getMinLanes())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.MIN_LANES.getConfigPath())
+                .isEqualTo(KeyAffineMappingConfig.KeyAffineMappingConfigValue.MIN_LANES.getDefaultValue());
+
+        softly.assertThat(underTest.getQueueDepthPerLane())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.QUEUE_DEPTH_PER_LANE.getConfigPath())
+                .isEqualTo(KeyAffineMappingConfig.KeyAffineMappingConfigValue.QUEUE_DEPTH_PER_LANE.getDefaultValue());
+
+        softly.assertThat(underTest.getKeyHeaders())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.KEY_HEADERS.getConfigPath())
+                .isEqualTo(KeyAffineMappingConfig.KeyAffineMappingConfigValue.KEY_HEADERS.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultKeyAffineMappingConfig underTest = DefaultKeyAffineMappingConfig.of(keyAffineTestConfig);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getMaxLanes())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.MAX_LANES.getConfigPath())
+                .isEqualTo(6);
+
+        softly.assertThat(underTest.getMinLanes())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.MIN_LANES.getConfigPath())
+                .isEqualTo(2);
+
+        softly.assertThat(underTest.getQueueDepthPerLane())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.QUEUE_DEPTH_PER_LANE.getConfigPath())
+                .isEqualTo(3);
+
+        softly.assertThat(underTest.getKeyHeaders())
+                .as(KeyAffineMappingConfig.KeyAffineMappingConfigValue.KEY_HEADERS.getConfigPath())
+                .isEqualTo(List.of("device_id"));
+    }
+
+}
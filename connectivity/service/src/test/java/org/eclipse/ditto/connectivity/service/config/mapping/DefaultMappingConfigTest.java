@@ -46,7 +46,8 @@ public final class DefaultMappingConfigTest {
     public void assertImmutability() {
         assertInstancesOf(DefaultMappingConfig.class,
                 areImmutable(),
-                provided(JavaScriptConfig.class).isAlsoImmutable());
+                provided(JavaScriptConfig.class, MapperLimitsConfig.class, KeyAffineMappingConfig.class)
+                        .areAlsoImmutable());
     }
 
     @Test
@@ -62,7 +63,8 @@ public final class DefaultMappingConfigTest {
 
         softly.assertThat(underTest.toString())
                 .contains(underTest.getClass().getSimpleName())
-                .contains("javaScriptConfig", "mapperLimitsConfig", "publishFailedEnrichments", "bufferSize", "parallelism", "maxPoolSize");
+                .contains("javaScriptConfig", "mapperLimitsConfig", "publishFailedEnrichments", "bufferSize",
+                        "parallelism", "maxPoolSize", "maxInboundBatchSize", "keyAffineMappingConfig");
     }
 
     @Test
@@ -81,6 +83,10 @@ public final class DefaultMappingConfigTest {
                 .describedAs(MappingConfig.MappingConfigValue.MAX_POOL_SIZE.getConfigPath())
                 .isEqualTo(37);
 
+        softly.assertThat(underTest.getMaxInboundBatchSize())
+                .describedAs(MappingConfig.MappingConfigValue.MAX_INBOUND_BATCH_SIZE.getConfigPath())
+                .isEqualTo(3);
+
         softly.assertThat(underTest.getPublishFailedEnrichments())
                 .describedAs(MappingConfig.MappingConfigValue.PUBLISH_FAILED_ENRICHMENTS.getConfigPath())
                 .isEqualTo(true);
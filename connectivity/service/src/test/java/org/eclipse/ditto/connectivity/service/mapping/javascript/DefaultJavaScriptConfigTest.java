@@ -75,6 +75,10 @@ public final class DefaultJavaScriptConfigTest {
         softly.assertThat(underTest.getMaxScriptStackDepth())
                 .as(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getConfigPath())
                 .isEqualTo(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxPooledScripts())
+                .as(JavaScriptConfig.JavaScriptConfigValue.MAX_POOLED_SCRIPTS.getConfigPath())
+                .isEqualTo(JavaScriptConfig.JavaScriptConfigValue.MAX_POOLED_SCRIPTS.getDefaultValue());
     }
 
     @Test
@@ -92,5 +96,9 @@ public final class DefaultJavaScriptConfigTest {
         softly.assertThat(underTest.getMaxScriptStackDepth())
                 .as(JavaScriptConfig.JavaScriptConfigValue.MAX_SCRIPT_STACK_DEPTH.getConfigPath())
                 .isEqualTo(1);
+
+        softly.assertThat(underTest.getMaxPooledScripts())
+                .as(JavaScriptConfig.JavaScriptConfigValue.MAX_POOLED_SCRIPTS.getConfigPath())
+                .isEqualTo(7);
     }
 }
@@ -1094,6 +1094,27 @@ public final class JavaScriptMessageMapperRhinoTest {
         assertThat(adaptable.getPayload().getValue()).contains(JsonValue.of(MAPPING_INCOMING_PAYLOAD_STRING));
     }
 
+    @Test
+    public void testPlainJavascriptIncomingMappingInBatch() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put(HEADER_CORRELATION_ID, UUID.randomUUID().toString());
+        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE_PLAIN);
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(MAPPING_INCOMING_PAYLOAD_STRING)
+                .build();
+
+        final List<List<Adaptable>> batch = javaScriptRhinoMapperPlain.mapBatch(() -> List.of(
+                javaScriptRhinoMapperPlain.map(message),
+                javaScriptRhinoMapperPlain.map(message)));
+
+        assertThat(batch).hasSize(2).allSatisfy(adaptables -> {
+            assertThat(adaptables).hasSize(1);
+            assertThat(adaptables.get(0).getPayload().getValue())
+                    .contains(JsonValue.of(MAPPING_INCOMING_PAYLOAD_STRING));
+        });
+        assertThat(batch.get(1)).isEqualTo(javaScriptRhinoMapperPlain.map(message));
+    }
+
     @Test
     public void testPlainJavascriptIncomingMappingWithStatus() {
         final String correlationId = UUID.randomUUID().toString();
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.EvaluatorException;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Tests {@link MappingScriptPool}.
+ */
+public final class MappingScriptPoolTest {
+
+    private static final String COUNTER_SCRIPT = "var counter = 0;\n" +
+            "function increment() {\n" +
+            "  counter++;\n" +
+            "  return counter;\n" +
+            "}\n";
+
+    private final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+
+    @Test
+    public void returnsPooledScriptsForSameKey() {
+        final MappingScriptPool.Key key = newKey(uniqueScript());
+        final MappingScriptPool.Key equalKey = newKey(key.incomingScript());
+
+        final MappingScriptPool.MappingScripts compiled =
+                MappingScriptPool.getInstance().getOrCompile(key, 10, contextFactory);
+
+        assertThat(MappingScriptPool.getInstance().getOrCompile(equalKey, 10, contextFactory)).isSameAs(compiled);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedScripts() {
+        final MappingScriptPool underTest = MappingScriptPool.getInstance();
+        final MappingScriptPool.Key key = newKey(uniqueScript());
+        final MappingScriptPool.MappingScripts compiled = underTest.getOrCompile(key, 1, contextFactory);
+
+        underTest.getOrCompile(newKey(uniqueScript()), 1, contextFactory);
+
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.getOrCompile(key, 1, contextFactory)).isNotSameAs(compiled);
+    }
+
+    @Test
+    public void isolatesGlobalVariablesOfWorkerScopes() {
+        final MappingScriptPool.MappingScripts compiled = MappingScriptPool.getInstance()
+                .getOrCompile(newKey(COUNTER_SCRIPT), 10, contextFactory);
+
+        contextFactory.call(cx -> {
+            final Scriptable scope1 = compiled.newWorkerScope(cx);
+            final Scriptable scope2 = compiled.newWorkerScope(cx);
+
+            assertThat(increment(cx, scope1)).isEqualTo(1.0);
+            assertThat(increment(cx, scope1)).isEqualTo(2.0);
+            assertThat(increment(cx, scope2)).isEqualTo(1.0);
+            return null;
+        });
+    }
+
+    @Test
+    public void isolatesLibrariesOfWorkerScopes() {
+        final MappingScriptPool.MappingScripts compiled = MappingScriptPool.getInstance()
+                .getOrCompile(new MappingScriptPool.Key(uniqueScript(), "", true, true, false, null), 10,
+                        contextFactory);
+
+        contextFactory.call(cx -> {
+            final Scriptable scope1 = compiled.newWorkerScope(cx);
+            final Scriptable scope2 = compiled.newWorkerScope(cx);
+
+            cx.evaluateString(scope1, "Ditto.buildDittoProtocolMsg = function() { return null; };", "test", 1, null);
+            cx.evaluateString(scope1, "dcodeIO.Long.prototype.toString = function() { return ''; };", "test", 1,
+                    null);
+
+            assertThat(scope1.getPrototype().has("Ditto", scope1)).isFalse();
+            assertThat(cx.evaluateString(scope2, "Ditto.buildDittoProtocolMsg('a', 'b', 'things', 'twin', " +
+                    "'commands', 'modify', '/', {}, {}) !== null", "test", 1, null)).isEqualTo(true);
+            assertThat(cx.evaluateString(scope2, "new dcodeIO.Long(1, 0).toString()", "test", 1, null)).isEqualTo("1");
+            return null;
+        });
+    }
+
+    @Test
+    public void standardObjectsOfSharedScopeCannotBeModified() {
+        final MappingScriptPool.MappingScripts compiled = MappingScriptPool.getInstance()
+                .getOrCompile(newKey(uniqueScript()), 10, contextFactory);
+
+        contextFactory.call(cx -> {
+            final Scriptable scope = compiled.newWorkerScope(cx);
+
+            assertThatExceptionOfType(EvaluatorException.class).isThrownBy(() ->
+                    cx.evaluateString(scope, "Object.prototype.injected = 42;", "test", 1, null));
+            assertThatExceptionOfType(EvaluatorException.class).isThrownBy(() ->
+                    cx.evaluateString(scope, "Array.prototype.push = function() { return 0; };", "test", 1, null));
+            assertThatExceptionOfType(EvaluatorException.class).isThrownBy(() ->
+                    cx.evaluateString(scope, "JSON.stringify = function() { return ''; };", "test", 1, null));
+
+            // objects created by the mapping scripts remain modifiable
+            assertThat(Context.toNumber(
+                    cx.evaluateString(scope, "var o = {}; o.custom = 2; o.custom", "test", 1, null)))
+                    .isEqualTo(2.0);
+            return null;
+        });
+    }
+
+    private static double increment(final Context cx, final Scriptable scope) {
+        final Function increment = (Function) scope.get("increment", scope);
+        return Context.toNumber(increment.call(cx, scope, scope, new Object[0]));
+    }
+
+    private static MappingScriptPool.Key newKey(final String incomingScript) {
+        return new MappingScriptPool.Key(incomingScript, "", false, false, false, null);
+    }
+
+    private static String uniqueScript() {
+        return "var id = '" + UUID.randomUUID() + "';\n";
+    }
+
+}
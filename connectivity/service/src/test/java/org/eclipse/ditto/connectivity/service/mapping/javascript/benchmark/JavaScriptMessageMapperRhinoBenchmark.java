@@ -32,6 +32,7 @@ public class JavaScriptMessageMapperRhinoBenchmark {
     private static final int MEASUREMENT_ITERATIONS = 10;
     private static final int WARMUP_TIME = 1000;
     private static final int MEASUREMENT_TIME = 1000;
+    private static final int BATCH_SIZE = 10;
 
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
@@ -40,6 +41,36 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    /**
+     * Maps {@value #BATCH_SIZE} messages one by one, the baseline of {@link #simpleMapTextPayloadInBatch}.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void simpleMapTextPayloadOneByOne(final SimpleMapTextPayloadToDitto scenario) {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            runScenario(scenario);
+        }
+    }
+
+    /**
+     * Maps {@value #BATCH_SIZE} messages in one batch of the mapper.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int simpleMapTextPayloadInBatch(final SimpleMapTextPayloadToDitto scenario) {
+        final MessageMapper messageMapper = scenario.getMessageMapper();
+        final ExternalMessage externalMessage = scenario.getExternalMessage();
+        return messageMapper.mapBatch(() -> {
+            int mapped = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                mapped += messageMapper.map(externalMessage).size();
+            }
+            return mapped;
+        });
+    }
+
     @Benchmark
     @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
     @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link KeyAffineMappingLanes}.
+ */
+public final class KeyAffineMappingLanesTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @After
+    public void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void nonPositiveLanesAreRejected() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new KeyAffineMappingLanes(0, 1, 1, executor));
+    }
+
+    @Test
+    public void elementsWithSameKeyAreProcessedInOrderByTheSameLane() throws Exception {
+        final KeyAffineMappingLanes underTest = new KeyAffineMappingLanes(4, 4, 1, executor);
+        final Map<String, List<String>> processedPerKey = new ConcurrentHashMap<>();
+        final Map<String, Integer> lanePerKey = new ConcurrentHashMap<>();
+
+        final List<CompletableFuture<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final List<String> batch = List.of("a:" + i, "b:" + i, "c:" + i, "d:" + i);
+            results.add(underTest.submit(batch, KeyAffineMappingLanesTest::getKey, (lane, laneBatch) -> {
+                laneBatch.forEach(element -> {
+                    processedPerKey.computeIfAbsent(getKey(element), key -> new ArrayList<>()).add(element);
+                    assertThat(lanePerKey.computeIfAbsent(getKey(element), key -> lane)).isEqualTo(lane);
+                });
+                return laneBatch;
+            }));
+        }
+        for (final CompletableFuture<List<String>> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).hasSize(4);
+        }
+
+        assertThat(processedPerKey).hasSize(4);
+        processedPerKey.forEach((key, processed) -> {
+            final List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                expected.add(key + ":" + i);
+            }
+            assertThat(processed).containsExactlyElementsOf(expected);
+        });
+    }
+
+    @Test
+    public void resultsRetainOrderPerKey() throws Exception {
+        final KeyAffineMappingLanes underTest = new KeyAffineMappingLanes(4, 4, 1, executor);
+
+        final List<String> result = underTest.submit(List.of("a:1", "b:1", "a:2", "b:2", "a:3"),
+                        KeyAffineMappingLanesTest::getKey,
+                        (lane, laneBatch) -> laneBatch)
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(result).containsExactlyInAnyOrder("a:1", "b:1", "a:2", "b:2", "a:3");
+        assertThat(result.stream().filter(element -> element.startsWith("a:")))
+                .containsExactly("a:1", "a:2", "a:3");
+        assertThat(result.stream().filter(element -> element.startsWith("b:")))
+                .containsExactly("b:1", "b:2");
+    }
+
+    @Test
+    public void failedTaskDoesNotStopItsLane() throws Exception {
+        final KeyAffineMappingLanes underTest = new KeyAffineMappingLanes(1, 1, 1, executor);
+
+        final CompletableFuture<List<String>> failed = underTest.submit(List.of("a:1"),
+                KeyAffineMappingLanesTest::getKey,
+                (lane, laneBatch) -> {
+                    throw new IllegalStateException("expected");
+                });
+        final CompletableFuture<List<String>> succeeded =
+                underTest.submit(List.of("a:2"), KeyAffineMappingLanesTest::getKey, (lane, laneBatch) -> laneBatch);
+
+        assertThat(succeeded.get(10, TimeUnit.SECONDS)).containsExactly("a:2");
+        assertThat(failed).isCompletedExceptionally();
+    }
+
+    @Test
+    public void lanesAreActivatedWithQueueDepthAndReducedWhenIdle() throws Exception {
+        final KeyAffineMappingLanes underTest = new KeyAffineMappingLanes(4, 1, 2, executor);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Function<String, String> keyExtractor = Function.identity();
+
+        final List<CompletableFuture<List<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(underTest.submit(List.of("key" + i), keyExtractor, (lane, laneBatch) -> {
+                await(latch);
+                return laneBatch;
+            }));
+        }
+        assertThat(underTest.getActiveLanes()).isEqualTo(4);
+
+        latch.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture<?>[]::new)).get(10, TimeUnit.SECONDS);
+        waitUntilIdle(underTest, keyExtractor);
+
+        underTest.submit(List.of("key"), keyExtractor, (lane, laneBatch) -> laneBatch).get(10, TimeUnit.SECONDS);
+        assertThat(underTest.getActiveLanes()).isEqualTo(1);
+    }
+
+    private static void waitUntilIdle(final KeyAffineMappingLanes underTest,
+            final Function<String, String> keyExtractor) throws Exception {
+
+        // the completion of the tasks is recorded asynchronously, an empty batch reduces the lanes once idle
+        final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (underTest.getActiveLanes() > 1 && System.nanoTime() < deadline) {
+            underTest.submit(List.of(), keyExtractor, (lane, laneBatch) -> laneBatch).get(10, TimeUnit.SECONDS);
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String getKey(final String element) {
+        return element.substring(0, element.indexOf(':'));
+    }
+
+}
@@ -75,6 +75,15 @@ public final class MappingSinksTest {
 
     @Test
     public void inboundConcurrentJsMapping() {
+        testInboundConcurrentJsMapping(getMappingConfig(""));
+    }
+
+    @Test
+    public void inboundKeyAffineJsMapping() {
+        testInboundConcurrentJsMapping(getMappingConfig("key-affine-lanes { enabled = true, max-lanes = 5 }\n"));
+    }
+
+    private void testInboundConcurrentJsMapping(final MappingConfig mappingConfig) {
         new TestKit(resource.getActorSystem()) {{
             // GIVEN:
             // Incoming script sleeps for the seconds specified in the text payload,
@@ -86,7 +95,7 @@ public final class MappingSinksTest {
                     .toList();
             final var sink = Sink.foreach(o -> testActor().tell(o, ActorRef.noSender()));
             final var underTest = InboundMappingSink.createSink(processors, connection.getId(),
-                    processorPoolSize, sink, getMappingConfig(),
+                    processorPoolSize, sink, mappingConfig,
                     ThrottlingConfig.of(ConfigFactory.empty()),
                     (MessageDispatcher) resource.getActorSystem().getDispatcher());
 
@@ -96,7 +105,7 @@ public final class MappingSinksTest {
                     .map(i -> -i)
                     .<Object>mapToObj(i -> {
                         final var string = String.valueOf(i);
-                        final var headers = Map.of("i", string, "content-type", "text/plain");
+                        final var headers = Map.of("i", string, "content-type", "text/plain", "device_id", "ns:" + i);
                         final var message = ExternalMessageFactory.newExternalMessageBuilder(headers)
                                 .withText(string)
                                 .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping("javascript"))
@@ -230,9 +239,10 @@ public final class MappingSinksTest {
                 adapter, logger);
     }
 
-    private static MappingConfig getMappingConfig() {
+    private static MappingConfig getMappingConfig(final String additionalConfig) {
         final var config = ConfigFactory.parseString(
                 "mapping {\n" +
+                        additionalConfig +
                         "  javascript {\n" +
                         "    maxScriptSizeBytes = 50000 # 50kB\n" +
                         "    maxScriptExecutionTime = 60s\n" +
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.connectivity.model.Connection;
+import org.eclipse.ditto.connectivity.model.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.connectivity.model.Target;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class KafkaProducerBatchingSpecificConfigTest {
+
+    private final KafkaProducerBatchingSpecificConfig underTest = KafkaProducerBatchingSpecificConfig.getInstance();
+    @Mock
+    private Connection connection;
+
+    @Test
+    public void isNotApplicableToConnectionWithoutTargets() {
+        when(connection.getTargets()).thenReturn(List.of());
+        assertThat(underTest.isApplicable(connection)).isFalse();
+    }
+
+    @Test
+    public void isApplicableToConnectionWithTargets() {
+        final Target target = mock(Target.class);
+        when(connection.getTargets()).thenReturn(List.of(target));
+        assertThat(underTest.isApplicable(connection)).isTrue();
+    }
+
+    @Test
+    public void batchingIsDisabledByDefault() {
+        when(connection.getSpecificConfig()).thenReturn(Map.of());
+        assertThat(underTest.isBatchingEnabled(connection)).isFalse();
+        assertThat(underTest.getBatchMaxMessages(connection)).isEqualTo(100);
+        assertThat(underTest.getBatchWindow(connection)).isEqualTo(Duration.ofMillis(5L));
+    }
+
+    @Test
+    public void batchingIsEnabledWithConfiguredValues() {
+        final Map<String, String> specificConfig = Map.of(
+                "producerBatching", "true",
+                "producerBatchMaxMessages", "500",
+                "producerBatchWindowMs", "20",
+                "producerLingerMs", "10");
+        when(connection.getSpecificConfig()).thenReturn(specificConfig);
+        assertThat(underTest.isBatchingEnabled(connection)).isTrue();
+        assertThat(underTest.getBatchMaxMessages(connection)).isEqualTo(500);
+        assertThat(underTest.getBatchWindow(connection)).isEqualTo(Duration.ofMillis(20L));
+    }
+
+    @Test
+    public void batchingIsDisabledForInvalidConfig() {
+        final Map<String, String> specificConfig = Map.of(
+                "producerBatching", "true",
+                "producerBatchMaxMessages", "0");
+        when(connection.getSpecificConfig()).thenReturn(specificConfig);
+        assertThat(underTest.isBatchingEnabled(connection)).isFalse();
+    }
+
+    @Test
+    public void invalidBatchingFlagCauseConnectionConfigurationInvalidException() {
+        final Map<String, String> specificConfig = Map.of("producerBatching", "yes");
+        when(connection.getSpecificConfig()).thenReturn(specificConfig);
+        final DittoHeaders dittoHeaders = DittoHeaders.empty();
+        assertThatCode(() -> underTest.validateOrThrow(connection, dittoHeaders))
+                .isExactlyInstanceOf(ConnectionConfigurationInvalidException.class);
+    }
+
+    @Test
+    public void invalidCompressionTypeIsInvalid() {
+        final Map<String, String> specificConfig = Map.of("producerCompressionType", "brotli");
+        when(connection.getSpecificConfig()).thenReturn(specificConfig);
+        assertThat(underTest.isValid(connection)).isFalse();
+    }
+
+    @Test
+    public void negativeLingerIsInvalid() {
+        final Map<String, String> specificConfig = Map.of("producerLingerMs", "-1");
+        when(connection.getSpecificConfig()).thenReturn(specificConfig);
+        assertThat(underTest.isValid(connection)).isFalse();
+    }
+
+    @Test
+    public void negativeBatchWindowIsInvalid() {
+        final Map<String, String> specificConfig = Map.of("producerBatchWindowMs", "-1");
+        when(connection.getSpecificConfig()).thenReturn(specificConfig);
+        assertThat(underTest.isValid(connection)).isFalse();
+    }
+
+    @Test
+    public void validConfigCauseNoException() {
+        final Map<String, String> specificConfig = Map.of(
+                "producerBatching", "false",
+                "producerLingerMs", "0",
+                "producerBatchSize", "65536",
+                "producerCompressionType", "lz4");
+        when(connection.getSpecificConfig()).thenReturn(specificConfig);
+        final DittoHeaders dittoHeaders = DittoHeaders.empty();
+        assertThatCode(() -> underTest.validateOrThrow(connection, dittoHeaders))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    public void applyReturnsProducerConfigKeys() {
+        final Map<String, String> specificConfig = Map.of(
+                "producerBatching", "true",
+                "producerBatchWindowMs", "20",
+                "producerLingerMs", "10",
+                "producerBatchSize", "65536",
+                "producerCompressionType", "zstd");
+        when(connection.getTargets()).thenReturn(List.of(mock(Target.class)));
+        when(connection.getSpecificConfig()).thenReturn(specificConfig);
+
+        final Map<String, String> expectedConfig = Map.of(
+                ProducerConfig.LINGER_MS_CONFIG, "10",
+                ProducerConfig.BATCH_SIZE_CONFIG, "65536",
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd");
+        assertThat(underTest.apply(connection)).isEqualTo(expectedConfig);
+    }
+
+}
@@ -50,6 +50,7 @@ import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.api.ExternalMessageFactory;
 import org.eclipse.ditto.connectivity.api.OutboundSignal;
 import org.eclipse.ditto.connectivity.api.OutboundSignalFactory;
+import org.eclipse.ditto.connectivity.model.Connection;
 import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
 import org.eclipse.ditto.connectivity.model.MessageSendingFailedException;
 import org.eclipse.ditto.connectivity.model.Target;
@@ -246,6 +247,43 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         }};
     }
 
+    @Test
+    public void batchedMessagesArePublishedAndAcknowledged() {
+        new TestKit(actorSystem) {{
+            setupMocks(null);
+            final Connection connection = TestConstants.createConnection()
+                    .toBuilder()
+                    .specificConfig(Map.of("producerBatching", "true", "producerBatchWindowMs", "500"))
+                    .build();
+            final Props props = KafkaPublisherActor.props(connection,
+                    mockSendProducerFactory,
+                    false,
+                    mock(ConnectivityStatusResolver.class),
+                    connectivityConfig);
+            final ActorRef publisherActor = childActorOf(props);
+            publisherCreated(this, publisherActor);
+
+            final OutboundSignal.MultiMapped multiMapped = OutboundSignalFactory.newMultiMappedOutboundSignal(
+                    List.of(getMockOutboundSignalWithAutoAck("ack",
+                            DittoHeaderDefinition.DITTO_ACKREGATOR_ADDRESS.getKey(),
+                            getRef().path().toSerializationFormat())),
+                    getRef());
+            final int messages = 10;
+            IntStream.range(0, messages).forEach(i -> publisherActor.tell(multiMapped, getRef()));
+
+            for (int i = 0; i < messages; i++) {
+                assertThat(expectMsgClass(Duration.ofSeconds(5), Acknowledgements.class).getHttpStatus())
+                        .isEqualTo(HttpStatus.NO_CONTENT);
+            }
+            assertThat(published).hasSize(messages);
+            assertThat(published).allSatisfy(record -> assertThat(record.topic()).isEqualTo(TARGET_TOPIC));
+            // all records were sent as multi-messages and at least some of them together
+            final Queue<Integer> batchSizes = mockSendProducerFactory.getBatchSizes();
+            assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(messages);
+            assertThat(batchSizes).hasSizeLessThan(messages);
+        }};
+    }
+
     @Test
     public void verifyAcknowledgementsWithDebugEnabled() {
         new TestKit(actorSystem) {
@@ -17,8 +17,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -31,6 +33,8 @@ import org.apache.pekko.kafka.ProducerMessage;
 import org.apache.pekko.kafka.javadsl.SendProducer;
 import org.apache.pekko.kafka.testkit.ProducerResultFactory;
 
+import scala.jdk.javaapi.CollectionConverters;
+
 /**
  * Creates mock {@code SendProducer}s.
  */
@@ -43,6 +47,7 @@ final class MockSendProducerFactory implements SendProducerFactory {
     private final boolean blocking;
     private final AtomicBoolean wait = new AtomicBoolean();
     private final AtomicInteger counter = new AtomicInteger();
+    private final Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
 
     private MockSendProducerFactory(final String targetTopic,
             final Queue<ProducerRecord<String, ByteBuffer>> published,
@@ -90,6 +95,13 @@ final class MockSendProducerFactory implements SendProducerFactory {
         return new MockSendProducerFactory(targetTopic, published, false, true, null, false);
     }
 
+    /**
+     * Returns the number of records of each batch which was sent as one multi-message.
+     */
+    Queue<Integer> getBatchSizes() {
+        return batchSizes;
+    }
+
     @Override
     public SendProducer<String, ByteBuffer> newSendProducer() {
         final SendProducer<String, ByteBuffer> producer = mock(SendProducer.class);
@@ -110,11 +122,25 @@ final class MockSendProducerFactory implements SendProducerFactory {
                             Thread.sleep(1000);
                         }
 
-                        final ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>> envelope =
-                                invocationOnMock.getArgument(0);
                         final RecordMetadata dummyMetadata =
                                 new RecordMetadata(new TopicPartition(targetTopic, 5),
                                         0L, 0L, 0L, 0L, 0, 0);
+                        if (invocationOnMock.getArgument(0) instanceof ProducerMessage.MultiMessage<?, ?, ?>) {
+                            final ProducerMessage.MultiMessage<String, ByteBuffer, Object> multiMessage =
+                                    invocationOnMock.getArgument(0);
+                            batchSizes.offer(multiMessage.records().size());
+                            final List<ProducerMessage.MultiResultPart<String, ByteBuffer>> parts =
+                                    CollectionConverters.asJava(multiMessage.records())
+                                            .stream()
+                                            .peek(published::offer)
+                                            .map(record -> ProducerResultFactory.multiResultPart(dummyMetadata, record))
+                                            .toList();
+                            return CompletableFuture.completedFuture(
+                                    ProducerResultFactory.multiResult(parts, multiMessage.passThrough()));
+                        }
+
+                        final ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>> envelope =
+                                invocationOnMock.getArgument(0);
                         final ProducerMessage.Message<String, ByteBuffer, CompletableFuture<RecordMetadata>> message =
                                 (ProducerMessage.Message<String, ByteBuffer, CompletableFuture<RecordMetadata>>) envelope;
                         published.offer(message.record());
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.kafka;
+
+import static org.apache.kafka.clients.consumer.ConsumerRecord.NULL_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.eclipse.ditto.base.model.common.ByteBufferUtils;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.connectivity.api.ExternalMessage;
+import org.eclipse.ditto.connectivity.model.ConnectionId;
+import org.eclipse.ditto.connectivity.service.config.KafkaConsumerPartitioningConfig;
+import org.eclipse.ditto.connectivity.service.messaging.AcknowledgeableMessage;
+import org.eclipse.ditto.connectivity.service.messaging.TestConstants;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMonitor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.kafka.CommitterSettings;
+import org.apache.pekko.kafka.ConsumerMessage;
+import org.apache.pekko.kafka.javadsl.Consumer;
+import org.apache.pekko.stream.BoundedSourceQueue;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.QueueOfferResult;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.stream.testkit.TestSubscriber;
+import org.apache.pekko.stream.testkit.javadsl.TestSink;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+public final class PartitionedAtLeastOnceConsumerStreamTest {
+
+    private static final TopicPartition TOPIC_PARTITION = new TopicPartition("topic", 1);
+
+    private ActorSystem actorSystem;
+    private Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed>>,
+            Consumer.Control> source;
+    private Sink<AcknowledgeableMessage, NotUsed> inboundMappingSink;
+    private final AtomicReference<BoundedSourceQueue<ConsumerMessage.CommittableMessage<String, ByteBuffer>>>
+            sourceQueue = new AtomicReference<>();
+    private TestSubscriber.Probe<AcknowledgeableMessage> inboundSinkProbe;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("PekkoTestSystem");
+        final Consumer.Control control = mock(Consumer.Control.class);
+        final Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed> partitionSource =
+                Source.<ConsumerMessage.CommittableMessage<String, ByteBuffer>>queue(10)
+                        .mapMaterializedValue(queue -> {
+                            sourceQueue.set(queue);
+                            return NotUsed.getInstance();
+                        });
+        source = Source.single(Pair.create(TOPIC_PARTITION, partitionSource))
+                .concat(Source.never())
+                .mapMaterializedValue(notUsed -> control);
+        final Sink<AcknowledgeableMessage, TestSubscriber.Probe<AcknowledgeableMessage>> sink =
+                TestSink.probe(actorSystem);
+        final Pair<TestSubscriber.Probe<AcknowledgeableMessage>, Sink<AcknowledgeableMessage, NotUsed>> sinkPair =
+                sink.preMaterialize(actorSystem);
+        inboundSinkProbe = sinkPair.first();
+        inboundMappingSink = sinkPair.second();
+    }
+
+    @After
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Test
+    public void forwardsMessagesWithSameKeyOnlyAfterAcknowledgement() {
+        new TestKit(actorSystem) {{
+            final AtLeastOnceKafkaConsumerSourceSupplier sourceSupplier =
+                    mock(AtLeastOnceKafkaConsumerSourceSupplier.class);
+            when(sourceSupplier.getPartitioned()).thenReturn(source);
+            final KafkaMessageTransformer messageTransformer = mock(KafkaMessageTransformer.class);
+            final ConsumerMessage.CommittableMessage<String, ByteBuffer> first =
+                    message("thing1", 1, messageTransformer);
+            final ConsumerMessage.CommittableMessage<String, ByteBuffer> second =
+                    message("thing1", 2, messageTransformer);
+            final ConsumerMessage.CommittableMessage<String, ByteBuffer> third =
+                    message("thing2", 3, messageTransformer);
+            final Sink<DittoRuntimeException, TestSubscriber.Probe<DittoRuntimeException>> dreSink =
+                    TestSink.create(actorSystem);
+
+            // When starting the stream
+            new PartitionedAtLeastOnceConsumerStream(sourceSupplier, CommitterSettings.apply(actorSystem),
+                    TestConstants.KAFKA_THROTTLING_CONFIG,
+                    KafkaConsumerPartitioningConfig.of(ConfigFactory.parseString("partitioning.enabled=true")),
+                    messageTransformer, false, Materializer.createMaterializer(actorSystem),
+                    mock(ConnectionMonitor.class), mock(ConnectionMonitor.class), inboundMappingSink, dreSink,
+                    ConnectionId.generateRandom(), "someUniqueId");
+
+            inboundSinkProbe.ensureSubscription();
+            inboundSinkProbe.request(3);
+            awaitAssert(() -> assertThat(sourceQueue.get()).isNotNull());
+            assertThat(sourceQueue.get().offer(first)).isEqualTo(QueueOfferResult.enqueued());
+            assertThat(sourceQueue.get().offer(second)).isEqualTo(QueueOfferResult.enqueued());
+            assertThat(sourceQueue.get().offer(third)).isEqualTo(QueueOfferResult.enqueued());
+
+            // Then the first message of each key is forwarded while the second message of "thing1" waits for the ack
+            final AcknowledgeableMessage firstForwarded = inboundSinkProbe.expectNext();
+            final AcknowledgeableMessage secondForwarded = inboundSinkProbe.expectNext();
+            assertThat(firstForwarded.toString()).contains("message-1");
+            assertThat(secondForwarded.toString()).contains("message-3");
+            inboundSinkProbe.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void failsIfMorePartitionsThanMaxPartitionsAreAssigned() throws Exception {
+        new TestKit(actorSystem) {{
+            final AtLeastOnceKafkaConsumerSourceSupplier sourceSupplier =
+                    mock(AtLeastOnceKafkaConsumerSourceSupplier.class);
+            final Source<ConsumerMessage.CommittableMessage<String, ByteBuffer>, NotUsed> partitionSource =
+                    Source.never();
+            when(sourceSupplier.getPartitioned()).thenReturn(
+                    Source.from(List.of(Pair.create(TOPIC_PARTITION, partitionSource),
+                                    Pair.create(new TopicPartition("topic", 2), partitionSource)))
+                            .concat(Source.never())
+                            .mapMaterializedValue(notUsed -> mock(Consumer.Control.class)));
+            final Sink<DittoRuntimeException, TestSubscriber.Probe<DittoRuntimeException>> dreSink =
+                    TestSink.create(actorSystem);
+
+            // When starting the stream with more assigned partitions than max-partitions
+            final PartitionedAtLeastOnceConsumerStream underTest =
+                    new PartitionedAtLeastOnceConsumerStream(sourceSupplier, CommitterSettings.apply(actorSystem),
+                            TestConstants.KAFKA_THROTTLING_CONFIG,
+                            KafkaConsumerPartitioningConfig.of(ConfigFactory.parseString(
+                                    "partitioning { enabled = true, max-partitions = 1 }")),
+                            mock(KafkaMessageTransformer.class), false, Materializer.createMaterializer(actorSystem),
+                            mock(ConnectionMonitor.class), mock(ConnectionMonitor.class), inboundMappingSink,
+                            dreSink, ConnectionId.generateRandom(), "someUniqueId");
+
+            // Then the stream fails instead of leaving the exceeding partition unconsumed
+            final CompletableFuture<Throwable> failure = new CompletableFuture<>();
+            underTest.whenComplete((done, error) -> failure.complete(error));
+            assertThat(failure.get(10, TimeUnit.SECONDS)).hasStackTraceContaining("max-partitions");
+        }};
+    }
+
+    private static ConsumerMessage.CommittableMessage<String, ByteBuffer> message(final String key, final long offset,
+            final KafkaMessageTransformer messageTransformer) {
+
+        final ConsumerRecord<String, ByteBuffer> consumerRecord =
+                new ConsumerRecord<>(TOPIC_PARTITION.topic(), TOPIC_PARTITION.partition(), offset,
+                        Instant.now().toEpochMilli(), TimestampType.LOG_APPEND_TIME, -1L, NULL_SIZE, NULL_SIZE, key,
+                        ByteBufferUtils.fromUtf8String("Value"), new RecordHeaders());
+        final ConsumerMessage.CommittableMessage<String, ByteBuffer> committableMessage =
+                new ConsumerMessage.CommittableMessage<>(consumerRecord,
+                        mock(ConsumerMessage.CommittableOffset.class));
+        final ExternalMessage externalMessage = mock(ExternalMessage.class, "message-" + offset);
+        when(messageTransformer.transform(committableMessage))
+                .thenReturn(CommittableTransformationResult.of(TransformationResult.successful(externalMessage),
+                        committableMessage.committableOffset()));
+        return committableMessage;
+    }
+
+}
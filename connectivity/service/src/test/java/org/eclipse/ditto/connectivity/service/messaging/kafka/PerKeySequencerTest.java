@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PerKeySequencer}.
+ */
+public final class PerKeySequencerTest {
+
+    private final PerKeySequencer underTest = new PerKeySequencer();
+    private final List<String> started = new ArrayList<>();
+
+    @Test
+    public void tasksWithSameKeyRunOneAfterTheOther() {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final CompletableFuture<String> second = new CompletableFuture<>();
+
+        final CompletableFuture<String> firstResult = underTest.submit("thing", () -> start("first", first));
+        final CompletableFuture<String> secondResult = underTest.submit("thing", () -> start("second", second));
+
+        assertThat(started).containsExactly("first");
+        first.complete("1");
+        assertThat(firstResult).isCompletedWithValue("1");
+        assertThat(started).containsExactly("first", "second");
+        assertThat(secondResult).isNotDone();
+        second.complete("2");
+        assertThat(secondResult).isCompletedWithValue("2");
+        assertThat(underTest.getPendingKeys()).isZero();
+    }
+
+    @Test
+    public void tasksWithDifferentKeysRunInParallel() {
+        underTest.submit("thing1", () -> start("first", new CompletableFuture<>()));
+        underTest.submit("thing2", () -> start("second", new CompletableFuture<>()));
+        underTest.submit(null, () -> start("third", new CompletableFuture<>()));
+
+        assertThat(started).containsExactly("first", "second", "third");
+        assertThat(underTest.getPendingKeys()).isEqualTo(2);
+    }
+
+    @Test
+    public void taskIsNotStartedIfPreviousTaskWithSameKeyFailed() {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+
+        underTest.submit("thing", () -> start("first", first));
+        final CompletableFuture<String> secondResult =
+                underTest.submit("thing", () -> start("second", new CompletableFuture<>()));
+        first.completeExceptionally(MessageRejectedException.getInstance());
+
+        assertThat(started).containsExactly("first");
+        assertThat(secondResult).isCompletedExceptionally();
+        assertThat(underTest.getPendingKeys()).isZero();
+    }
+
+    @Test
+    public void failingTaskSupplierFailsResult() {
+        final CompletableFuture<String> result = underTest.submit("thing", () -> {
+            throw new IllegalStateException("failed");
+        });
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(underTest.getPendingKeys()).isZero();
+    }
+
+    private CompletableFuture<String> start(final String name, final CompletableFuture<String> future) {
+        started.add(name);
+        return future;
+    }
+
+}
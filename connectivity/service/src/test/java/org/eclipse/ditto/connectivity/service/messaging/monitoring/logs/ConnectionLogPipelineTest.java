@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.connectivity.model.LogCategory;
+import org.eclipse.ditto.connectivity.model.LogLevel;
+import org.eclipse.ditto.connectivity.service.config.ConnectionLogPipelineConfig;
+import org.eclipse.ditto.connectivity.service.config.DefaultConnectionLogPipelineConfig;
+import org.eclipse.ditto.connectivity.service.messaging.TestConstants;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ConnectionLogPipeline}.
+ */
+public final class ConnectionLogPipelineTest {
+
+    private List<Runnable> scheduledDrains;
+    private Clock clock;
+
+    @Before
+    public void setUp() {
+        scheduledDrains = new ArrayList<>();
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1_000L);
+    }
+
+    @Test
+    public void logCallsRunInOrderOfSubmissionWhenDrained() {
+        final ConnectionLogPipeline underTest = pipeline(16, 4, 0);
+        final List<Integer> logged = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            final int log = i;
+            assertThat(underTest.submit(LogCategory.SOURCE, LogLevel.SUCCESS, () -> logged.add(log))).isTrue();
+        }
+        assertThat(logged).isEmpty();
+        assertThat(scheduledDrains).hasSize(1);
+
+        runScheduledDrains();
+
+        assertThat(logged).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void scheduledDrainRunsAtMostOneBatch() {
+        final ConnectionLogPipeline underTest = pipeline(16, 4, 0);
+        final List<Integer> logged = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int log = i;
+            underTest.submit(LogCategory.SOURCE, LogLevel.SUCCESS, () -> logged.add(log));
+        }
+
+        final Runnable drain = scheduledDrains.remove(0);
+        drain.run();
+
+        assertThat(logged).containsExactly(0, 1, 2, 3);
+        assertThat(scheduledDrains).hasSize(1);
+    }
+
+    @Test
+    public void drainRunsAllBufferedLogCallsInCallingThread() {
+        final ConnectionLogPipeline underTest = pipeline(16, 4, 0);
+        final List<Integer> logged = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int log = i;
+            underTest.submit(LogCategory.TARGET, LogLevel.FAILURE, () -> logged.add(log));
+        }
+
+        underTest.drain();
+
+        assertThat(logged).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        runScheduledDrains();
+        assertThat(logged).hasSize(10);
+    }
+
+    @Test
+    public void logCallsAreDroppedIfBufferIsFull() {
+        final ConnectionLogPipeline underTest = pipeline(4, 4, 0);
+        final List<Integer> logged = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++) {
+            final int log = i;
+            final boolean accepted = underTest.submit(LogCategory.TARGET, LogLevel.FAILURE, () -> logged.add(log));
+            assertThat(accepted).isEqualTo(i < 4);
+        }
+        underTest.drain();
+        assertThat(logged).containsExactly(0, 1, 2, 3);
+
+        // draining frees the buffer again
+        assertThat(underTest.submit(LogCategory.TARGET, LogLevel.FAILURE, () -> logged.add(6))).isTrue();
+        underTest.drain();
+        assertThat(logged).containsExactly(0, 1, 2, 3, 6);
+    }
+
+    @Test
+    public void successLogsAreRateLimitedPerCategoryAndSecond() {
+        final ConnectionLogPipeline underTest = pipeline(64, 64, 2);
+
+        assertThat(underTest.submit(LogCategory.SOURCE, LogLevel.SUCCESS, () -> {})).isTrue();
+        assertThat(underTest.submit(LogCategory.SOURCE, LogLevel.SUCCESS, () -> {})).isTrue();
+        assertThat(underTest.submit(LogCategory.SOURCE, LogLevel.SUCCESS, () -> {})).isFalse();
+        assertThat(underTest.submit(LogCategory.TARGET, LogLevel.SUCCESS, () -> {})).isTrue();
+
+        when(clock.millis()).thenReturn(2_000L);
+        assertThat(underTest.submit(LogCategory.SOURCE, LogLevel.SUCCESS, () -> {})).isTrue();
+    }
+
+    @Test
+    public void failureLogsAreNotRateLimited() {
+        final ConnectionLogPipeline underTest = pipeline(64, 64, 1);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(underTest.submit(LogCategory.SOURCE, LogLevel.FAILURE, () -> {})).isTrue();
+        }
+    }
+
+    @Test
+    public void failingLogCallDoesNotStopDraining() {
+        final ConnectionLogPipeline underTest = pipeline(16, 16, 0);
+        final List<Integer> logged = new ArrayList<>();
+
+        underTest.submit(LogCategory.SOURCE, LogLevel.FAILURE, () -> logged.add(1));
+        underTest.submit(LogCategory.SOURCE, LogLevel.FAILURE, () -> {
+            throw new IllegalStateException("expected");
+        });
+        underTest.submit(LogCategory.SOURCE, LogLevel.FAILURE, () -> logged.add(3));
+        underTest.drain();
+
+        assertThat(logged).containsExactly(1, 3);
+    }
+
+    @Test
+    public void concurrentlySubmittedLogCallsAreAllRun() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final ConnectionLogPipeline underTest =
+                    new ConnectionLogPipeline(TestConstants.createRandomConnectionId(), config(4096, 16, 0),
+                            executor, Clock.systemUTC());
+            final List<String> logged = new CopyOnWriteArrayList<>();
+            final CountDownLatch done = new CountDownLatch(4);
+            for (int producer = 0; producer < 4; producer++) {
+                final String name = "producer" + producer;
+                executor.execute(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        final String log = name + ":" + i;
+                        underTest.submit(LogCategory.TARGET, LogLevel.FAILURE, () -> logged.add(log));
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            underTest.drain();
+
+            assertThat(logged).hasSize(2000);
+            for (int producer = 0; producer < 4; producer++) {
+                final String prefix = "producer" + producer + ":";
+                assertThat(logged.stream().filter(log -> log.startsWith(prefix)).toList())
+                        .isSortedAccordingTo((a, b) -> Integer.compare(index(a), index(b)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ConnectionLogPipeline pipeline(final int bufferSize, final int maxBatchSize,
+            final int successLogsPerSecondPerCategory) {
+
+        return new ConnectionLogPipeline(TestConstants.createRandomConnectionId(),
+                config(bufferSize, maxBatchSize, successLogsPerSecondPerCategory), scheduledDrains::add, clock);
+    }
+
+    private void runScheduledDrains() {
+        while (!scheduledDrains.isEmpty()) {
+            scheduledDrains.remove(0).run();
+        }
+    }
+
+    private static ConnectionLogPipelineConfig config(final int bufferSize, final int maxBatchSize,
+            final int successLogsPerSecondPerCategory) {
+
+        return DefaultConnectionLogPipelineConfig.of(ConfigFactory.parseMap(Map.of(
+                "pipeline.buffer-size", bufferSize,
+                "pipeline.max-batch-size", maxBatchSize,
+                "pipeline.success-logs-per-second-per-category", successLogsPerSecondPerCategory)));
+    }
+
+    private static int index(final String log) {
+        return Integer.parseInt(log.substring(log.indexOf(':') + 1));
+    }
+
+}
@@ -22,8 +22,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.connectivity.model.MetricType;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
@@ -100,7 +106,6 @@ public class SlidingWindowCounterTest {
                 .recordingMeasurementWindows(ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
                 .reportingMeasurementWindows(ONE_MINUTE_WITH_ONE_MINUTE_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION,
                         ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
-                .cleanUpEnabled(false)
                 .build();
 
         final long ts = System.currentTimeMillis() +
@@ -126,7 +131,12 @@ public class SlidingWindowCounterTest {
     @Test
     public void testCounterWithThrottledAlert() {
 
+        // fixed in the middle of a minute to have deterministic slots
+        final long now = System.currentTimeMillis() / 60_000L * 60_000L + 45_000L;
+        final Clock clock = Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC);
+
         final SlidingWindowCounter throttledCounter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .clock(clock)
                 .recordingMeasurementWindows(ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
                 .reportingMeasurementWindows(ONE_MINUTE_WITH_ONE_MINUTE_RESOLUTION,
                         ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION,
@@ -136,33 +146,60 @@ public class SlidingWindowCounterTest {
         final int threshold = 2;
 
         final SlidingWindowCounter consumedInboundCounter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .clock(clock)
                 .metricsAlert(new ThrottledMetricsAlert(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, threshold,
                         () -> new DummyConnectionMetricsCounter(throttledCounter)))
                 .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION)
-                .cleanUpEnabled(false) // better testability
                 .build();
 
         // add some measurements
-        final long now = System.currentTimeMillis();
         increment(consumedInboundCounter, 3, now); //above threshold
-        increment(consumedInboundCounter, 1, now - Duration.ofMinutes(1).toMillis()); // below threshold
-        increment(consumedInboundCounter, 1, now - Duration.ofMinutes(2).toMillis()); // below threshold
-        increment(consumedInboundCounter, 4, now - Duration.ofMinutes(3).toMillis()); // above threshold
-        increment(consumedInboundCounter, 5, now - Duration.ofMinutes(4).toMillis()); // above threshold
+        increment(consumedInboundCounter, 1, now - Duration.ofSeconds(10).toMillis()); // below threshold
+        increment(consumedInboundCounter, 1, now - Duration.ofSeconds(20).toMillis()); // below threshold
+        increment(consumedInboundCounter, 4, now - Duration.ofSeconds(30).toMillis()); // above threshold
+        increment(consumedInboundCounter, 5, now - Duration.ofSeconds(50).toMillis()); // above threshold
+        // older than the recording window with ten seconds resolution, so not evaluated by the alert
+        increment(consumedInboundCounter, 6, now - Duration.ofMinutes(3).toMillis());
 
         // verify measurements of the observed counter is correct
         final Map<Duration, Long> success = consumedInboundCounter.getCounts(true);
         assertThat(success)
-                .containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 3L)
-                .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 14L);
+                .containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 14L)
+                .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 20L);
 
         final Map<Duration, Long> throttled = throttledCounter.getCounts(false);
 
         assertThat(throttled)
                 // last minute was throttled
                 .containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 1L)
-                // 3 minutes within last hour were "throttled"
-                .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 3L);
+                // 2 minutes within last hour were "throttled"
+                .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 2L);
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws InterruptedException {
+        final SlidingWindowCounter counter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION)
+                .build();
+        final int threads = 8;
+        final int incrementsPerThread = 10_000;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        counter.increment(true);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counter.getCounts(true))
+                .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), (long) threads * incrementsPerThread);
     }
 
     private void increment(final SlidingWindowCounter counter, final int count, final long ts) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics.MeasurementWindow.ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SlotRing}.
+ */
+public final class SlotRingTest {
+
+    private static final long CURRENT_SLOT = 1_000_000L;
+
+    private final SlotRing underTest = new SlotRing(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION);
+
+    @Test
+    public void slotsOfTheWindowAreCounted() {
+        for (long slot = CURRENT_SLOT - 5; slot <= CURRENT_SLOT; slot++) {
+            assertThat(underTest.increment(slot, CURRENT_SLOT)).isTrue();
+            assertThat(underTest.increment(slot, CURRENT_SLOT)).isTrue();
+        }
+
+        assertThat(underTest.getWindowInSlots()).isEqualTo(6L);
+        assertThat(underTest.getCount(CURRENT_SLOT)).isEqualTo(2L);
+        assertThat(underTest.sum(CURRENT_SLOT - 6, CURRENT_SLOT, Long.MAX_VALUE)).isEqualTo(12L);
+        assertThat(underTest.sum(CURRENT_SLOT - 6, CURRENT_SLOT, 1L)).isEqualTo(6L);
+        assertThat(underTest.sum(CURRENT_SLOT - 2, CURRENT_SLOT, Long.MAX_VALUE)).isEqualTo(4L);
+    }
+
+    @Test
+    public void slotsOutsideOfTheRingAreIgnored() {
+        assertThat(underTest.increment(CURRENT_SLOT - 7, CURRENT_SLOT)).isFalse();
+        assertThat(underTest.increment(CURRENT_SLOT + 2, CURRENT_SLOT)).isFalse();
+        assertThat(underTest.increment(CURRENT_SLOT + 1, CURRENT_SLOT)).isTrue();
+
+        assertThat(underTest.sum(CURRENT_SLOT - 100, CURRENT_SLOT + 1, Long.MAX_VALUE)).isEqualTo(1L);
+    }
+
+    @Test
+    public void countsOfPreviousLapsAreReplaced() {
+        underTest.increment(CURRENT_SLOT, CURRENT_SLOT);
+        underTest.increment(CURRENT_SLOT, CURRENT_SLOT);
+
+        // the same position in the ring one lap later
+        final long nextLapSlot = CURRENT_SLOT + 8;
+        assertThat(underTest.increment(nextLapSlot, nextLapSlot)).isTrue();
+
+        assertThat(underTest.getCount(CURRENT_SLOT)).isZero();
+        assertThat(underTest.getCount(nextLapSlot)).isEqualTo(1L);
+        // a late increment of the previous lap must not overwrite the newer count
+        assertThat(underTest.increment(CURRENT_SLOT, CURRENT_SLOT)).isFalse();
+        assertThat(underTest.getCount(nextLapSlot)).isEqualTo(1L);
+        assertThat(underTest.sum(nextLapSlot - 6, nextLapSlot, Long.MAX_VALUE)).isEqualTo(1L);
+    }
+
+    @Test
+    public void resetClearsAllCounts() {
+        underTest.increment(CURRENT_SLOT, CURRENT_SLOT);
+        underTest.reset();
+
+        assertThat(underTest.getCount(CURRENT_SLOT)).isZero();
+        assertThat(underTest.increment(CURRENT_SLOT, CURRENT_SLOT)).isTrue();
+        assertThat(underTest.getCount(CURRENT_SLOT)).isEqualTo(1L);
+    }
+
+    @Test
+    public void concurrentIncrementsAreNotLost() throws InterruptedException {
+        final int threads = 8;
+        final int incrementsPerThread = 100_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < incrementsPerThread; j++) {
+                        underTest.increment(CURRENT_SLOT, CURRENT_SLOT);
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(underTest.getCount(CURRENT_SLOT)).isEqualTo((long) threads * incrementsPerThread);
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.ditto.connectivity.model.Connection;
+import org.eclipse.ditto.connectivity.service.config.ConnectivityConfig;
+import org.eclipse.ditto.connectivity.service.messaging.TestConstants;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics.ConnectionMetricsCounter;
+import org.eclipse.ditto.connectivity.service.messaging.monitoring.metrics.ConnectivityCounterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * JMH Benchmark for recording connection metrics from many threads at once, as done by the consumers and publishers
+ * of a connection.
+ * <p>
+ * Compares the counters of the {@link ConnectivityCounterRegistry}, which count in fixed rings of striped slots, with
+ * counting per slot in a {@link ConcurrentHashMap} as the counters did before.
+ * </p>
+ * <p>
+ * Run with {@code java -jar target/ditto-connectivity-service-*-benchmark.jar SlidingWindowCounterBenchmark}
+ * after building the module with the {@code build-benchmark-assembly} profile.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class SlidingWindowCounterBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+    private static final int THREADS = 8;
+
+    // resolution and window in milliseconds of the default measurement windows
+    private static final List<long[]> DEFAULT_WINDOWS = List.of(
+            new long[]{Duration.ofSeconds(10).toMillis(), Duration.ofMinutes(1).toMillis()},
+            new long[]{Duration.ofMinutes(1).toMillis(), Duration.ofHours(1).toMillis()},
+            new long[]{Duration.ofHours(1).toMillis(), Duration.ofDays(1).toMillis()});
+
+    private ConnectionMetricsCounter consumedCounter;
+    private MapBasedCounter mapBasedCounter;
+
+    @Setup
+    public void setup() {
+        final ConnectivityConfig connectivityConfig = ConnectivityConfig.of(ConfigFactory.load("test"));
+        final ConnectivityCounterRegistry registry = ConnectivityCounterRegistry.newInstance(connectivityConfig);
+        final Connection connection = TestConstants.createConnection();
+        registry.initForConnection(connection);
+        consumedCounter = registry.forInboundConsumed(connection, TestConstants.Sources.AMQP_SOURCE_ADDRESS);
+        mapBasedCounter = new MapBasedCounter();
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void recordWithSlotRings() {
+        consumedCounter.recordSuccess();
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void recordWithConcurrentMaps() {
+        mapBasedCounter.increment(System.currentTimeMillis());
+    }
+
+    /**
+     * The baseline: one boxed count per slot of all windows in a map, cleaned up while recording.
+     */
+    private static final class MapBasedCounter {
+
+        private final ConcurrentMap<Long, Long> measurements = new ConcurrentHashMap<>();
+        private final AtomicLong lastTimestamp = new AtomicLong();
+
+        private void increment(final long ts) {
+            final long previousTimestamp = lastTimestamp.getAndUpdate(previous -> Math.max(previous, ts));
+            for (final long[] window : DEFAULT_WINDOWS) {
+                measurements.compute(ts / window[0], (key, value) -> (value == null) ? 1 : value + 1);
+            }
+            if (previousTimestamp > ts - DEFAULT_WINDOWS.get(0)[0]) {
+                measurements.keySet().removeIf(slot -> isOld(slot, ts));
+            }
+        }
+
+        private static boolean isOld(final long slot, final long now) {
+            for (final long[] window : DEFAULT_WINDOWS) {
+                if (slot <= now / window[0] && slot >= (now - window[1]) / window[0]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
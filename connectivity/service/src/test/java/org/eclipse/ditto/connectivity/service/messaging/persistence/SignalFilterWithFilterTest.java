@@ -48,6 +48,7 @@ import org.eclipse.ditto.protocol.TopicPath;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
 import org.eclipse.ditto.things.model.signals.events.ThingModified;
 import org.junit.Test;
 
@@ -183,6 +184,39 @@ public final class SignalFilterWithFilterTest {
         assertThat(filteredTargets).containsOnly(targetA); // THEN: only targetA should be in the filtered targets
     }
 
+    @Test
+    public void applySameSignalFilterToSubsequentSignals() {
+        final Target target = ConnectivityModelFactory.newTargetBuilder()
+                .address("twin/a")
+                .authorizationContext(newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, AUTHORIZED))
+                .headerMapping(HEADER_MAPPING)
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withFilter("and(eq(topic:action,'modified'),gt(attributes/test,23))")
+                        .build())
+                .build();
+        final Connection connection = TestConstants.createConnection(CONNECTION_ID, target);
+        final DittoHeaders headers = DittoHeaders.newBuilder()
+                .readGrantedSubjects(Collections.singletonList(AUTHORIZED))
+                .build();
+        final Thing matchingThing = Thing.newBuilder()
+                .setId(THING_ID)
+                .setAttribute(JsonPointer.of("test"), JsonValue.of(42))
+                .build();
+        final Thing notMatchingThing = matchingThing.setAttribute(JsonPointer.of("test"), JsonValue.of(10));
+
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+
+        // the filter is compiled once, but the thing and the placeholders are those of the filtered signal
+        assertThat(signalFilter.filter(ThingModified.of(matchingThing, 3L, Instant.now(), headers, null)))
+                .containsOnly(target);
+        assertThat(signalFilter.filter(ThingModified.of(notMatchingThing, 4L, Instant.now(), headers, null)))
+                .isEmpty();
+        assertThat(signalFilter.filter(ThingCreated.of(matchingThing, 1L, Instant.now(), headers, null)))
+                .isEmpty();
+        assertThat(signalFilter.filter(ThingModified.of(matchingThing, 5L, Instant.now(), headers, null)))
+                .containsOnly(target);
+    }
+
     @Test
     public void applySignalFilterWithNamespacesAndRqlFilter() {
 
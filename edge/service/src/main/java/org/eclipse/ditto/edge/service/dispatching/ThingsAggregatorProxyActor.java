@@ -17,7 +17,9 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.CompletionStage;
@@ -40,9 +42,12 @@ import org.eclipse.ditto.internal.utils.pekko.actors.AbstractActorWithShutdownBe
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.cluster.JsonValueSourceRef;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
 import org.eclipse.ditto.internal.utils.tracing.span.StartedSpan;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingsResponse;
@@ -62,14 +67,21 @@ import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.SourceRef;
+import org.apache.pekko.stream.StreamRefAttributes;
 import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.stream.javadsl.StreamRefs;
 
 /**
  * Acts as a client for {@code ThingsAggregatorActor} which responds
  * to a {@link RetrieveThings} command via a {@link SourceRef} which is a pointer in the cluster emitting the retrieved
  * {@link Thing}s one after one in a stream. That ensures that the cluster messages size must not be increased when
  * streaming a larger amount of Things in the cluster.
+ * <p>
+ * If the {@code accept} header of the command contains {@value #NDJSON_MEDIA_TYPE}, the retrieved Things are not
+ * collected into one response but streamed to the sender in the requested order via a {@link JsonValueSourceRef},
+ * so that only a bounded number of Things of a request is held in memory at any time.
+ * </p>
  */
 public final class ThingsAggregatorProxyActor extends AbstractActorWithShutdownBehaviorAndRequestCounting {
 
@@ -83,6 +95,16 @@ public final class ThingsAggregatorProxyActor extends AbstractActorWithShutdownB
 
     private static final int ASK_TIMEOUT = 60;
 
+    /**
+     * The media type of newline delimited JSON which requests the streaming of the retrieved Things.
+     */
+    static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    /**
+     * The maximum number of retrieved Things buffered per streaming request.
+     */
+    private static final int STREAMING_BUFFER_CAPACITY = 16;
+
     private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private final ActorRef pubSubMediator;
@@ -190,7 +212,6 @@ public final class ThingsAggregatorProxyActor extends AbstractActorWithShutdownB
             final Command<?> originatingCommand, final ActorRef originatingSender, final StartedSpan startedSpan) {
         final Function<Jsonifiable<?>, PlainJson> thingPlainJsonSupplier;
         final Function<List<PlainJson>, CommandResponse<?>> overallResponseSupplier;
-        final UnaryOperator<List<PlainJson>> plainJsonSorter = supplyPlainJsonSorter(thingIds);
 
         if (originatingCommand instanceof SudoRetrieveThings) {
             thingPlainJsonSupplier = supplyPlainJsonFromSudoRetrieveThingResponse();
@@ -201,6 +222,12 @@ public final class ThingsAggregatorProxyActor extends AbstractActorWithShutdownB
             overallResponseSupplier = supplyRetrieveThingsResponse(originatingCommand.getDittoHeaders(), namespace);
         }
 
+        if (isStreamingRequested(originatingCommand.getDittoHeaders())) {
+            streamThings(sourceRef, thingPlainJsonSupplier, originatingSender, startedSpan);
+            return;
+        }
+        final UnaryOperator<List<PlainJson>> plainJsonSorter = supplyPlainJsonSorter(thingIds);
+
         final Source<Jsonifiable<?>, NotUsed> thingNotAccessibleExceptionSource = Source.single(
                 ThingNotAccessibleException.fromMessage("Thing could not be accessed.", DittoHeaders.empty())
         );
@@ -232,6 +259,41 @@ public final class ThingsAggregatorProxyActor extends AbstractActorWithShutdownB
         );
     }
 
+    private static boolean isStreamingRequested(final DittoHeaders dittoHeaders) {
+        return dittoHeaders.getAccept().filter(accept -> accept.contains(NDJSON_MEDIA_TYPE)).isPresent();
+    }
+
+    /*
+     * The ThingsAggregatorActor emits the retrieved Things in the order of the requested IDs, so they are passed on
+     * one by one without sorting; the stream is backpressured by the receiver of the JsonValueSourceRef.
+     */
+    private void streamThings(final SourceRef<?> sourceRef,
+            final Function<Jsonifiable<?>, PlainJson> thingPlainJsonSupplier,
+            final ActorRef originatingSender,
+            final StartedSpan startedSpan) {
+
+        final SourceRef<JsonValue> thingsSourceRef = sourceRef.getSource()
+                .<Jsonifiable<?>>map(Jsonifiable.class::cast)
+                .filterNot(DittoRuntimeException.class::isInstance)
+                .map(thingPlainJsonSupplier::apply)
+                .filter(plainJson -> plainJson != null && !plainJson.isEmpty())
+                .<JsonValue>map(plainJson -> JsonFactory.readFrom(plainJson.getJson()))
+                .log("retrieve-thing-response", log)
+                .watchTermination((notUsed, done) -> {
+                    done.whenComplete((result, error) -> {
+                        if (error != null) {
+                            startedSpan.tagAsFailed(error);
+                        }
+                        startedSpan.finish();
+                    });
+                    return notUsed;
+                })
+                .runWith(StreamRefs.<JsonValue>sourceRef()
+                        .addAttributes(StreamRefAttributes.bufferCapacity(STREAMING_BUFFER_CAPACITY)), materializer);
+
+        originatingSender.tell(JsonValueSourceRef.of(thingsSourceRef), getSelf());
+    }
+
     private Function<Jsonifiable<?>, PlainJson> supplyPlainJsonFromRetrieveThingResponse() {
         return jsonifiable -> {
             if (jsonifiable instanceof RetrieveThingResponse response) {
@@ -267,12 +329,14 @@ public final class ThingsAggregatorProxyActor extends AbstractActorWithShutdownB
 
     private UnaryOperator<List<PlainJson>> supplyPlainJsonSorter(final List<ThingId> thingIds) {
         return plainJsonThings -> {
+            final Map<String, Integer> indexes = new HashMap<>();
+            for (int i = thingIds.size() - 1; i >= 0; i--) {
+                indexes.put(thingIds.get(i).toString(), i);
+            }
             final Comparator<PlainJson> comparator = (pj1, pj2) -> {
                 if (!pj1.isEmpty() && !pj2.isEmpty()) {
-                    final ThingId thingId1 = ThingId.of(pj1.getId());
-                    final ThingId thingId2 = ThingId.of(pj2.getId());
-
-                    return Integer.compare(thingIds.indexOf(thingId1), thingIds.indexOf(thingId2));
+                    return Integer.compare(indexes.getOrDefault(pj1.getId(), -1),
+                            indexes.getOrDefault(pj2.getId(), -1));
                 } else {
                     return 0;
                 }
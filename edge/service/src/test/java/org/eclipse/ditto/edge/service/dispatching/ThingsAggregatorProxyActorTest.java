@@ -12,16 +12,21 @@
  */
 package org.eclipse.ditto.edge.service.dispatching;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.base.model.correlationid.TestNameCorrelationId;
 import org.eclipse.ditto.base.model.exceptions.DittoInternalErrorException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.internal.utils.cluster.JsonValueSourceRef;
 import org.eclipse.ditto.internal.utils.pekko.ActorSystemResource;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.ThingIdInvalidException;
@@ -39,6 +44,7 @@ import org.apache.pekko.actor.Props;
 import org.apache.pekko.cluster.pubsub.DistributedPubSubMediator;
 import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.SourceRef;
+import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
 import org.apache.pekko.stream.javadsl.StreamRefs;
 import org.apache.pekko.testkit.TestActor.AutoPilot;
@@ -152,6 +158,37 @@ public final class ThingsAggregatorProxyActorTest {
         }};
     }
 
+    @Test
+    public void streamThingsInRequestedOrderIfNdjsonIsAccepted() throws Exception {
+        final ActorSystem actorSystem = ACTOR_SYSTEM_RESOURCE.getActorSystem();
+        final ThingId secondThingId = ThingId.of(NAMESPACE, "second");
+        final Thing thing = Thing.newBuilder().setId(THING_ID).build();
+        final Thing secondThing = Thing.newBuilder().setId(secondThingId).build();
+        final DittoHeaders ndjsonHeaders = DITTO_HEADERS.toBuilder()
+                .accept(ThingsAggregatorProxyActor.NDJSON_MEDIA_TYPE)
+                .build();
+        new TestKit(actorSystem) {{
+            final TestProbe pubSubMediator = new TestProbe(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ThingsAggregatorProxyActor.props(pubSubMediator.ref()));
+
+            underTest.tell(RetrieveThings.getBuilder(THING_ID, secondThingId).dittoHeaders(ndjsonHeaders).build(),
+                    getRef());
+            pubSubMediator.expectMsgClass(DistributedPubSubMediator.Publish.class);
+            pubSubMediator.reply(getSourceRef(List.of(
+                    RetrieveThingResponse.of(THING_ID, thing.toJsonString(), ndjsonHeaders),
+                    DITTO_RUNTIME_EXCEPTION,
+                    RetrieveThingResponse.of(secondThingId, secondThing.toJsonString(), ndjsonHeaders))));
+
+            final JsonValueSourceRef sourceRef = expectMsgClass(JsonValueSourceRef.class);
+            final List<JsonValue> things = sourceRef.getSource()
+                    .runWith(Sink.seq(), Materializer.apply(actorSystem))
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+
+            assertThat(things).containsExactly(thing.toJson(), secondThing.toJson());
+        }};
+    }
+
     private static final class AutoPilotAnsweringWithException extends AutoPilot {
 
         private final Exception exceptionToRespond;
@@ -65,6 +65,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
     private final Props streamingSubscriptionManagerProps;
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
     private final HeaderTranslator headerTranslator;
+    private final StreamingSessionFilterIndex filterIndex;
     private int childCounter = -1;
 
     private StreamingConfig streamingConfig;
@@ -94,6 +95,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
         this.jwtAuthenticationResultProvider = jwtAuthenticationResultProvider;
         this.streamingConfig = streamingConfig;
         this.headerTranslator = headerTranslator;
+        filterIndex = StreamingSessionFilterIndex.newInstance();
         streamingSessionsCounter = DittoMetrics.gauge("streaming_sessions_count");
         final ActorSelection commandForwarderSelection = ActorSelection.apply(commandForwarder, "");
         final Materializer materializer = Materializer.createMaterializer(getContext());
@@ -155,7 +157,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
                             StreamingSessionActor.props(connect, dittoProtocolSub,
                                     commandRouter, streamingConfig, headerTranslator,
                                     subscriptionManagerProps, streamingSubscriptionManagerProps,
-                                    jwtValidator, jwtAuthenticationResultProvider),
+                                    jwtValidator, jwtAuthenticationResultProvider, filterIndex),
                             sessionActorName);
                     getSender().tell(streamingSessionActor, ActorRef.noSender());
                 })
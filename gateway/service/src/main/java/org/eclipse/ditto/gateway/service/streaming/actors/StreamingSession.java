@@ -18,16 +18,9 @@ import java.util.function.BiPredicate;
 
 import javax.annotation.Nullable;
 
-import org.eclipse.ditto.base.model.entity.id.WithEntityId;
 import org.eclipse.ditto.base.model.signals.Signal;
-import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.placeholders.PlaceholderFactory;
-import org.eclipse.ditto.placeholders.TimePlaceholder;
-import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
-import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
-import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
 import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.things.model.Thing;
@@ -41,34 +34,31 @@ import org.apache.pekko.actor.ActorRef;
  */
 public final class StreamingSession {
 
-    private static final EntityIdPlaceholder ENTITY_ID_PLACEHOLDER = EntityIdPlaceholder.getInstance();
-    private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
-    private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
-    private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
-
-    private static final DittoProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
-
     private final List<String> namespaces;
     private final BiPredicate<Thing, Signal<?>> thingPredicate;
     @Nullable private final ThingFieldSelector extraFields;
+    @Nullable private final StreamingSessionFilterIndex.Registration filterRegistration;
     private final ActorRef streamingSessionActor;
     private final ThreadSafeDittoLoggingAdapter logger;
 
-    private StreamingSession(final List<String> namespaces, @Nullable final Criteria filterCriteria,
-            @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
-            final ThreadSafeDittoLoggingAdapter logger) {
+    private StreamingSession(final List<String> namespaces, @Nullable final String filter,
+            @Nullable final Criteria filterCriteria, @Nullable final ThingFieldSelector extraFields,
+            final ActorRef streamingSessionActor, final ThreadSafeDittoLoggingAdapter logger,
+            @Nullable final StreamingSessionFilterIndex filterIndex) {
         this.namespaces = namespaces;
-        thingPredicate = filterCriteria == null
-                ? (thing, signal) -> true
-                : (thing, signal) -> ThingPredicateVisitor.apply(filterCriteria,
-                        PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
-                                PROTOCOL_ADAPTER.toTopicPath(signal)),
-                        PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
-                                        ((WithEntityId) signal).getEntityId()),
-                        PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
-                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
-                )
-                .test(thing);
+        if (null != filterIndex && null != filter && null != filterCriteria && null == extraFields) {
+            // the filter is evaluated against the thing of the signal alone, which the index can do for all sessions
+            final StreamingSessionFilterIndex.Registration registration = filterIndex.register(filter, filterCriteria);
+            filterRegistration = registration;
+            thingPredicate = (thing, signal) -> registration.matches(signal);
+        } else {
+            filterRegistration = null;
+            thingPredicate = filterCriteria == null
+                    ? (thing, signal) -> true
+                    : (thing, signal) -> ThingPredicateVisitor.apply(filterCriteria,
+                                    StreamingSessionFilterIndex.newPlaceholderResolvers(signal))
+                            .test(thing);
+        }
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
         this.logger = logger;
@@ -78,7 +68,17 @@ public final class StreamingSession {
             @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
             final ThreadSafeDittoLoggingAdapter logger) {
 
-        return new StreamingSession(namespaces, filterCriteria, extraFields, streamingSessionActor, logger);
+        return new StreamingSession(namespaces, null, filterCriteria, extraFields, streamingSessionActor, logger,
+                null);
+    }
+
+    static StreamingSession of(final List<String> namespaces, @Nullable final String filter,
+            @Nullable final Criteria filterCriteria, @Nullable final ThingFieldSelector extraFields,
+            final ActorRef streamingSessionActor, final ThreadSafeDittoLoggingAdapter logger,
+            final StreamingSessionFilterIndex filterIndex) {
+
+        return new StreamingSession(namespaces, filter, filterCriteria, extraFields, streamingSessionActor, logger,
+                filterIndex);
     }
 
     /**
@@ -131,4 +131,13 @@ public final class StreamingSession {
         return logger;
     }
 
+    /**
+     * Removes the filter of this session from the filter index of the node, if it was added to it.
+     */
+    void deregisterFilter() {
+        if (null != filterRegistration) {
+            filterRegistration.deregister();
+        }
+    }
+
 }
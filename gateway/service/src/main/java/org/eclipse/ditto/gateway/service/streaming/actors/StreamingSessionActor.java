@@ -136,6 +136,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
     private final Set<AcknowledgementLabel> declaredAcks;
+    private final StreamingSessionFilterIndex filterIndex;
     private final ThreadSafeDittoLoggingAdapter logger;
     private AuthorizationContext authorizationContext;
 
@@ -151,7 +152,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final Props subscriptionManagerProps,
             final Props streamingSubscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final StreamingSessionFilterIndex filterIndex) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -162,6 +164,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         this.streamingConfig = streamingConfig;
         this.jwtValidator = jwtValidator;
         this.jwtAuthenticationResultProvider = jwtAuthenticationResultProvider;
+        this.filterIndex = filterIndex;
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = connect.getConnectionAuthContext();
         killSwitch = connect.getKillSwitch().orElse(null);
@@ -201,6 +204,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
      * @param streamingSubscriptionManagerProps Props of the subscription manager for streaming subscription commands.
      * @param jwtValidator validator of JWT tokens.
      * @param jwtAuthenticationResultProvider provider of JWT authentication results.
+     * @param filterIndex the index of the filters of all streaming sessions of this node.
      * @return the Pekko configuration Props object.
      */
     static Props props(final Connect connect,
@@ -211,7 +215,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final Props subscriptionManagerProps,
             final Props streamingSubscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final StreamingSessionFilterIndex filterIndex) {
 
         return Props.create(StreamingSessionActor.class,
                 connect,
@@ -222,7 +227,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                 subscriptionManagerProps,
                 streamingSubscriptionManagerProps,
                 jwtValidator,
-                jwtAuthenticationResultProvider);
+                jwtAuthenticationResultProvider,
+                filterIndex);
     }
 
     @Override
@@ -246,6 +252,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         logger.info("Closing <{}> streaming session.", type);
         cancellableShutdownTask.cancel();
         cancelSessionTimeout();
+        streamingSessions.values().forEach(StreamingSession::deregisterFilter);
         eventAndResponsePublisher.complete();
     }
 
@@ -342,7 +349,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                             null,
                             getSelf(),
                             logger);
-                    streamingSessions.put(StreamingType.EVENTS, session);
+                    putStreamingSession(StreamingType.EVENTS, session);
 
                     Patterns.ask(commandForwarder, streamPersistedEvents, streamPersistedEvents.getDittoHeaders()
                                     .getTimeout()
@@ -387,9 +394,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         eventAndResponsePublisher.offer(SessionedJsonifiable.error(e));
                         return;
                     }
-                    final var session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
-                            startStreaming.getExtraFields().orElse(null), getSelf(), logger);
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                    final var session = StreamingSession.of(startStreaming.getNamespaces(),
+                            startStreaming.getFilter().orElse(null), criteria,
+                            startStreaming.getExtraFields().orElse(null), getSelf(), logger, filterIndex);
+                    putStreamingSession(startStreaming.getStreamingType(), session);
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -425,7 +433,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    @Nullable final var stoppedSession = streamingSessions.remove(stopStreaming.getStreamingType());
+                    if (null != stoppedSession) {
+                        stoppedSession.deregisterFilter();
+                    }
 
                     // In Cluster: Unsubscribe
                     final var unsubscribeConfirmation = new ConfirmUnsubscription(stopStreaming.getStreamingType());
@@ -691,6 +702,13 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         }
     }
 
+    private void putStreamingSession(final StreamingType streamingType, final StreamingSession session) {
+        @Nullable final var replacedSession = streamingSessions.put(streamingType, session);
+        if (null != replacedSession) {
+            replacedSession.deregisterFilter();
+        }
+    }
+
     private boolean matchesNamespaces(final Signal<?> signal, final StreamingSession session) {
         final List<String> namespaces = session.getNamespaces();
         final boolean result = namespaces.isEmpty() || namespaces.contains(namespaceFromId(signal));
@@ -0,0 +1,597 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.entity.id.WithEntityId;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.Predicate;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.rql.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Index of the filters of all streaming sessions (WebSocket and SSE) of one gateway node.
+ * <p>
+ * Each filter is decomposed into the conjuncts which can be looked up by the thing of a signal: {@code eq} and
+ * {@code in} with literal values on a field like {@code thingId} or {@code attributes/location}, and {@code exists} of
+ * an attribute. One of them is indexed per filter. When the sessions of the node receive a signal, the index is probed
+ * once for the thing of the signal, which yields the candidate sessions in time independent of the number of sessions.
+ * Sessions which are no candidate do not match without evaluating their filter. Filters without indexable conjunct
+ * and the filters of candidates are evaluated, but only once per signal for all sessions with the same filter.
+ * </p>
+ * <p>
+ * The index is only consulted for filters which are evaluated against the thing of the signal alone, i.e. of sessions
+ * without "extraFields".
+ * </p>
+ */
+@ThreadSafe
+public final class StreamingSessionFilterIndex {
+
+    private static final EntityIdPlaceholder ENTITY_ID_PLACEHOLDER = EntityIdPlaceholder.getInstance();
+    private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
+    private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
+    private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
+
+    private static final DittoProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
+
+    private static final String NUMBER_KEY_PREFIX = "n:";
+    private static final String STRING_KEY_PREFIX = "s:";
+    private static final String THING_ID_FIELD = "thingId";
+    private static final int MAX_SIGNALS_IN_FLIGHT = 1024;
+
+    private final Map<String, Map<String, Set<Registration>>> byFieldValue;
+    private final Map<String, Set<Registration>> byExistingField;
+    private final Set<Registration> registrations;
+    private final AtomicLong registrationCounter;
+    private final Cache<Signal<?>, SignalMatch> signalMatches;
+
+    private StreamingSessionFilterIndex() {
+        byFieldValue = new ConcurrentHashMap<>();
+        byExistingField = new ConcurrentHashMap<>();
+        registrations = ConcurrentHashMap.newKeySet();
+        registrationCounter = new AtomicLong();
+        // pubsub delivers the same signal instance to all local subscribers; identify signals by identity
+        signalMatches = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(MAX_SIGNALS_IN_FLIGHT)
+                .build();
+    }
+
+    /**
+     * Creates a new empty index.
+     *
+     * @return the index.
+     */
+    public static StreamingSessionFilterIndex newInstance() {
+        return new StreamingSessionFilterIndex();
+    }
+
+    /**
+     * Adds the filter of a streaming session to the index.
+     *
+     * @param filter the RQL filter string of the session.
+     * @param criteria the criteria parsed from {@code filter}.
+     * @return the registration of the filter to match signals with and to deregister once the session ends.
+     */
+    public Registration register(final String filter, final Criteria criteria) {
+        final Registration registration = new Registration(this, filter, criteria, selectIndexAtom(criteria));
+        registrations.add(registration);
+        @Nullable final IndexAtom indexAtom = registration.indexAtom;
+        if (null != indexAtom && null != indexAtom.valueKeys()) {
+            byFieldValue.compute(indexAtom.field(), (field, sessionsByValue) -> {
+                final Map<String, Set<Registration>> result =
+                        null != sessionsByValue ? sessionsByValue : new ConcurrentHashMap<>();
+                indexAtom.valueKeys().forEach(valueKey -> result.computeIfAbsent(valueKey,
+                        k -> ConcurrentHashMap.newKeySet()).add(registration));
+                return result;
+            });
+        } else if (null != indexAtom) {
+            byExistingField.compute(indexAtom.field(), (field, sessions) -> {
+                final Set<Registration> result = null != sessions ? sessions : ConcurrentHashMap.newKeySet();
+                result.add(registration);
+                return result;
+            });
+        }
+        // only signals probing the index after this point may rely on the absence of the registration
+        registration.number = registrationCounter.incrementAndGet();
+        return registration;
+    }
+
+    /**
+     * @return the number of registered filters.
+     */
+    public int size() {
+        return registrations.size();
+    }
+
+    private void deregister(final Registration registration) {
+        registrations.remove(registration);
+        @Nullable final IndexAtom indexAtom = registration.indexAtom;
+        if (null != indexAtom && null != indexAtom.valueKeys()) {
+            byFieldValue.computeIfPresent(indexAtom.field(), (field, sessionsByValue) -> {
+                indexAtom.valueKeys().forEach(valueKey -> sessionsByValue.computeIfPresent(valueKey, (k, sessions) -> {
+                    sessions.remove(registration);
+                    return sessions.isEmpty() ? null : sessions;
+                }));
+                return sessionsByValue.isEmpty() ? null : sessionsByValue;
+            });
+        } else if (null != indexAtom) {
+            byExistingField.computeIfPresent(indexAtom.field(), (field, sessions) -> {
+                sessions.remove(registration);
+                return sessions.isEmpty() ? null : sessions;
+            });
+        }
+    }
+
+    private SignalMatch getSignalMatch(final Signal<?> signal) {
+        return signalMatches.get(signal, this::newSignalMatch);
+    }
+
+    private SignalMatch newSignalMatch(final Signal<?> signal) {
+        // registrations added while probing the index are treated as not indexed for this signal
+        final long lastIndexedRegistration = registrationCounter.get();
+        // the thing a session without "extraFields" evaluates its filter against
+        final Thing thing = ThingEventToThingConverter.mergeThingWithExtraFields(signal, null, JsonObject.empty())
+                .orElseGet(() -> Thing.newBuilder().build());
+        final JsonObject thingJson = thing.toJson(field -> true);
+        final Set<Registration> candidates = new HashSet<>();
+        byFieldValue.forEach((field, sessionsByValue) -> {
+            final Set<String> valueKeys = new HashSet<>();
+            final boolean allKeyed = thingJson.getValueFlatteningArrays(field)
+                    .map(value -> collectValueKeys(value, valueKeys))
+                    .orElse(true);
+            if (allKeyed) {
+                valueKeys.forEach(valueKey -> {
+                    @Nullable final Set<Registration> sessions = sessionsByValue.get(valueKey);
+                    if (null != sessions) {
+                        candidates.addAll(sessions);
+                    }
+                });
+            } else {
+                sessionsByValue.values().forEach(candidates::addAll);
+            }
+        });
+        byExistingField.forEach((field, sessions) -> {
+            if (thingJson.getValue(field).isPresent()) {
+                candidates.addAll(sessions);
+            }
+        });
+        return new SignalMatch(signal, thing, lastIndexedRegistration, candidates);
+    }
+
+    /**
+     * Creates the placeholder resolvers which the filters of streaming sessions may refer to.
+     *
+     * @param signal the signal to resolve the placeholders from.
+     * @return the placeholder resolvers.
+     */
+    static List<PlaceholderResolver<?>> newPlaceholderResolvers(final Signal<?> signal) {
+        return List.of(
+                PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER, PROTOCOL_ADAPTER.toTopicPath(signal)),
+                PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
+                        ((WithEntityId) signal).getEntityId()),
+                PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
+                PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
+        );
+    }
+
+    @Nullable
+    private static IndexAtom selectIndexAtom(final Criteria criteria) {
+        // prefer the most selective conjunct: thing IDs before other values before existence
+        return criteria.accept(new IndexAtomVisitor())
+                .stream()
+                .min(Comparator.comparingInt(IndexAtom::selectivityRank))
+                .orElse(null);
+    }
+
+    /**
+     * Collects the keys of the values which an {@code eq} or {@code in} predicate compares, in the same way as
+     * {@link org.eclipse.ditto.rql.query.things.ThingPredicatePredicateVisitor}: values of arrays are compared one by
+     * one, objects and {@code null} never equal a literal value.
+     *
+     * @return whether the keys of all values could be determined.
+     */
+    private static boolean collectValueKeys(final JsonValue jsonValue, final Set<String> valueKeys) {
+        @Nullable final Object value;
+        if (jsonValue.isString()) {
+            value = jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            value = jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isInt()) {
+                value = jsonValue.asInt();
+            } else if (jsonValue.isLong()) {
+                value = jsonValue.asLong();
+            } else {
+                value = jsonValue.asDouble();
+            }
+        } else if (jsonValue.isArray()) {
+            return jsonValue.asArray().stream().allMatch(element -> collectValueKeys(element, valueKeys));
+        } else {
+            return true;
+        }
+        @Nullable final String valueKey = valueKey(value);
+        if (null != valueKey) {
+            valueKeys.add(valueKey);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Computes the key of a value such that values which the RQL predicates consider equal have the same key: numbers
+     * and numeric strings are compared as decimals, other values by their string representation.
+     */
+    @Nullable
+    private static String valueKey(@Nullable final Object value) {
+        if (value instanceof Number || value instanceof String) {
+            try {
+                return NUMBER_KEY_PREFIX + new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+            } catch (final NumberFormatException e) {
+                // not numeric
+            }
+        }
+        if (value instanceof String || value instanceof Boolean) {
+            return STRING_KEY_PREFIX + value;
+        }
+        return null;
+    }
+
+    /**
+     * The filter of one streaming session in the index.
+     */
+    @ThreadSafe
+    public static final class Registration {
+
+        private final StreamingSessionFilterIndex index;
+        private final String filter;
+        private final Criteria criteria;
+        @Nullable private final IndexAtom indexAtom;
+        private volatile long number;
+
+        private Registration(final StreamingSessionFilterIndex index, final String filter, final Criteria criteria,
+                @Nullable final IndexAtom indexAtom) {
+            this.index = index;
+            this.filter = filter;
+            this.criteria = criteria;
+            this.indexAtom = indexAtom;
+            number = 0L;
+        }
+
+        /**
+         * Test whether the thing of a signal matches the filter.
+         *
+         * @param signal the signal.
+         * @return whether the thing of the signal passes the filter.
+         */
+        public boolean matches(final Signal<?> signal) {
+            return index.getSignalMatch(signal).matches(this);
+        }
+
+        /**
+         * Removes the filter from the index.
+         */
+        public void deregister() {
+            index.deregister(this);
+        }
+
+        /**
+         * @return whether the filter has a conjunct which is indexed.
+         */
+        boolean isIndexed() {
+            return null != indexAtom;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "filter=" + filter +
+                    ", indexAtom=" + indexAtom +
+                    "]";
+        }
+
+    }
+
+    /**
+     * The result of matching one signal against the filters of the index, shared by all sessions receiving it.
+     */
+    private static final class SignalMatch {
+
+        private final Signal<?> signal;
+        private final Thing thing;
+        private final long lastIndexedRegistration;
+        private final Set<Registration> candidates;
+        private final Map<String, Boolean> resultsByFilter;
+        @Nullable private volatile List<PlaceholderResolver<?>> placeholderResolvers;
+
+        private SignalMatch(final Signal<?> signal, final Thing thing, final long lastIndexedRegistration,
+                final Set<Registration> candidates) {
+            this.signal = signal;
+            this.thing = thing;
+            this.lastIndexedRegistration = lastIndexedRegistration;
+            this.candidates = candidates;
+            resultsByFilter = new ConcurrentHashMap<>();
+            placeholderResolvers = null;
+        }
+
+        private boolean matches(final Registration registration) {
+            final long registrationNumber = registration.number;
+            if (registration.isIndexed() && 0L < registrationNumber && registrationNumber <= lastIndexedRegistration &&
+                    !candidates.contains(registration)) {
+                return false;
+            }
+            return resultsByFilter.computeIfAbsent(registration.filter, filter ->
+                    ThingPredicateVisitor.apply(registration.criteria, getPlaceholderResolvers()).test(thing));
+        }
+
+        private List<PlaceholderResolver<?>> getPlaceholderResolvers() {
+            @Nullable List<PlaceholderResolver<?>> result = placeholderResolvers;
+            if (null == result) {
+                result = newPlaceholderResolvers(signal);
+                placeholderResolvers = result;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * A conjunct of a filter which can be looked up by the thing of a signal.
+     *
+     * @param field the field as {@link org.eclipse.ditto.rql.query.things.ThingPredicatePredicateVisitor} resolves it
+     * in the JSON of the thing.
+     * @param valueKeys the keys of the values of an {@code eq} or {@code in} predicate, or {@code null} for
+     * {@code exists}.
+     */
+    private record IndexAtom(String field, @Nullable Set<String> valueKeys) {
+
+        private int selectivityRank() {
+            if (null == valueKeys) {
+                return 2;
+            }
+            return THING_ID_FIELD.equals(field) ? 0 : 1;
+        }
+
+    }
+
+    /**
+     * Finds the indexable conjuncts of a criteria.
+     */
+    private static final class IndexAtomVisitor implements CriteriaVisitor<List<IndexAtom>> {
+
+        @Override
+        public List<IndexAtom> visitAnd(final List<List<IndexAtom>> conjuncts) {
+            return conjuncts.stream().flatMap(Collection::stream).toList();
+        }
+
+        @Override
+        public List<IndexAtom> visitAny() {
+            return List.of();
+        }
+
+        @Override
+        public List<IndexAtom> visitExists(final ExistsFieldExpression fieldExpression) {
+            return fieldExpression.acceptExistsVisitor(new ExistingFieldVisitor())
+                    .map(field -> List.of(new IndexAtom(field, null)))
+                    .orElseGet(List::of);
+        }
+
+        @Override
+        public List<IndexAtom> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
+            final Optional<String> field = fieldExpression.acceptFilterVisitor(new FilteredFieldVisitor());
+            final Optional<Set<String>> valueKeys = predicate.accept(new ValueKeysVisitor());
+            if (field.isPresent() && valueKeys.isPresent()) {
+                return List.of(new IndexAtom(field.get(), valueKeys.get()));
+            }
+            return List.of();
+        }
+
+        @Override
+        public List<IndexAtom> visitNor(final List<List<IndexAtom>> negativeDisjoints) {
+            return List.of();
+        }
+
+        @Override
+        public List<IndexAtom> visitOr(final List<List<IndexAtom>> disjoints) {
+            return List.of();
+        }
+
+    }
+
+    /**
+     * Determines the field of a filter as {@link org.eclipse.ditto.rql.query.things.FilterThingPredicateVisitor}
+     * does. Placeholders like {@code topic:action} and metadata are not indexed.
+     */
+    private static final class FilteredFieldVisitor implements FilterFieldExpressionVisitor<Optional<String>> {
+
+        @Override
+        public Optional<String> visitAttribute(final String key) {
+            return Optional.of("/attributes/" + key);
+        }
+
+        @Override
+        public Optional<String> visitFeatureDefinition(final String featureId) {
+            return Optional.of("/features/" + featureId + "/definition");
+        }
+
+        @Override
+        public Optional<String> visitFeatureIdProperty(final String featureId, final String property) {
+            return Optional.of("/features/" + featureId + "/properties/" + property);
+        }
+
+        @Override
+        public Optional<String> visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+            return Optional.of("/features/" + featureId + "/desiredProperties/" + desiredProperty);
+        }
+
+        @Override
+        public Optional<String> visitSimple(final String fieldName) {
+            return fieldName.contains(":") ? Optional.empty() : Optional.of(fieldName);
+        }
+
+        @Override
+        public Optional<String> visitMetadata(final String key) {
+            return Optional.empty();
+        }
+
+    }
+
+    /**
+     * Determines the field of an {@code exists} filter as
+     * {@link org.eclipse.ditto.rql.query.things.ExistsThingPredicateVisitor} does, only attributes are indexed.
+     */
+    private static final class ExistingFieldVisitor implements ExistsFieldExpressionVisitor<Optional<String>> {
+
+        @Override
+        public Optional<String> visitAttribute(final String key) {
+            return Optional.of("/attributes/" + key);
+        }
+
+        @Override
+        public Optional<String> visitFeature(final String featureId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitFeatureDefinition(final String featureId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitFeatureProperties(final CharSequence featureId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitFeatureDesiredProperties(final CharSequence featureId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitFeatureIdProperty(final String featureId, final String property) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence property) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitSimple(final String fieldName) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visitMetadata(final String key) {
+            return Optional.empty();
+        }
+
+    }
+
+    /**
+     * Determines the keys of the literal values of {@code eq} and {@code in} predicates.
+     */
+    private static final class ValueKeysVisitor implements PredicateVisitor<Optional<Set<String>>> {
+
+        @Override
+        public Optional<Set<String>> visitEq(@Nullable final Object value) {
+            return Optional.ofNullable(valueKey(value)).map(Set::of);
+        }
+
+        @Override
+        public Optional<Set<String>> visitGe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitGt(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitLe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitLt(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitNe(@Nullable final Object value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitLike(@Nullable final String value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitILike(@Nullable final String value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<String>> visitIn(final List<?> values) {
+            final Set<String> valueKeys = new HashSet<>();
+            for (final Object value : values) {
+                @Nullable final String valueKey = valueKey(value);
+                if (null == valueKey) {
+                    return Optional.empty();
+                }
+                valueKeys.add(valueKey);
+            }
+            return valueKeys.isEmpty() ? Optional.empty() : Optional.of(Set.copyOf(valueKeys));
+        }
+
+    }
+
+}
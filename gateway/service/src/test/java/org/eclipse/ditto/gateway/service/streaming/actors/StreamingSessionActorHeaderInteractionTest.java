@@ -202,7 +202,8 @@ public final class StreamingSessionActorHeaderInteractionTest {
                 Props.create(TestProbeForwarder.class, subscriptionManagerProbe),
                 Props.create(TestProbeForwarder.class, streamingSubscriptionManagerProbe),
                 Mockito.mock(JwtValidator.class),
-                Mockito.mock(JwtAuthenticationResultProvider.class));
+                Mockito.mock(JwtAuthenticationResultProvider.class),
+                StreamingSessionFilterIndex.newInstance());
         final ActorRef createdActor = actorSystem.actorOf(props);
         createdActors.add(createdActor);
         return createdActor;
@@ -398,7 +398,8 @@ public final class StreamingSessionActorTest {
                 Props.create(Actor.class, () -> new TestActor(new LinkedBlockingDeque<>())),
                 Props.create(Actor.class, () -> new TestActor(new LinkedBlockingDeque<>())),
                 mockValidator,
-                mockAuthenticationResultProvider);
+                mockAuthenticationResultProvider,
+                StreamingSessionFilterIndex.newInstance());
     }
 
     private void onDeclareAckLabels(final CompletionStage<Void> answer) {
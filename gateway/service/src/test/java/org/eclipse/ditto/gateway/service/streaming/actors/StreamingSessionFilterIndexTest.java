@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.junit.Test;
+
+/**
+ * Tests {@link StreamingSessionFilterIndex}.
+ */
+public final class StreamingSessionFilterIndexTest {
+
+    private static final ThingId THING_ID_A = ThingId.of("org.eclipse.ditto:a");
+    private static final ThingId THING_ID_B = ThingId.of("org.eclipse.ditto:b");
+
+    private static final List<String> FILTERS = List.of(
+            "eq(thingId,'org.eclipse.ditto:a')",
+            "in(thingId,'org.eclipse.ditto:a','org.eclipse.ditto:c')",
+            "eq(attributes/location,'kitchen')",
+            "eq(attributes/temperature,21.0)",
+            "eq(attributes/temperature,'21')",
+            "eq(attributes/count,5)",
+            "eq(attributes/flag,'true')",
+            "eq(attributes/tags,'b')",
+            "in(attributes/tags,'x','a')",
+            "eq(attributes/rooms/name,'hall')",
+            "and(eq(attributes/location,'kitchen'),gt(attributes/temperature,20))",
+            "and(eq(attributes/location,'cellar'),exists(attributes/location))",
+            "exists(attributes/location)",
+            "or(eq(attributes/location,'cellar'),eq(attributes/temperature,21))",
+            "eq(topic:action,'modified')",
+            "and(eq(entity:id,'org.eclipse.ditto:b'),eq(attributes/location,'kitchen'))",
+            "eq(attributes/location,topic:action)",
+            "gt(attributes/temperature,20)"
+    );
+
+    @Test
+    public void matchesLikeThingPredicateVisitor() {
+        final StreamingSessionFilterIndex underTest = StreamingSessionFilterIndex.newInstance();
+        final List<StreamingSessionFilterIndex.Registration> registrations = FILTERS.stream()
+                .map(filter -> underTest.register(filter, parseCriteria(filter)))
+                .toList();
+
+        final SoftAssertions softly = new SoftAssertions();
+        for (final Signal<?> signal : getSignals()) {
+            for (int i = 0; i < FILTERS.size(); i++) {
+                final String filter = FILTERS.get(i);
+                softly.assertThat(registrations.get(i).matches(signal))
+                        .describedAs("filter <%s> on <%s>", filter, signal)
+                        .isEqualTo(evaluate(parseCriteria(filter), signal));
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    public void sessionsWithSameFilterMatchTheSameSignals() {
+        final StreamingSessionFilterIndex underTest = StreamingSessionFilterIndex.newInstance();
+        final String filter = "eq(attributes/location,'kitchen')";
+        final StreamingSessionFilterIndex.Registration registration1 =
+                underTest.register(filter, parseCriteria(filter));
+        final StreamingSessionFilterIndex.Registration registration2 =
+                underTest.register(filter, parseCriteria(filter));
+
+        for (final Signal<?> signal : getSignals()) {
+            assertThat(registration2.matches(signal)).isEqualTo(registration1.matches(signal));
+        }
+    }
+
+    @Test
+    public void deregisteredFiltersAreRemovedFromIndex() {
+        final StreamingSessionFilterIndex underTest = StreamingSessionFilterIndex.newInstance();
+        final List<StreamingSessionFilterIndex.Registration> registrations = FILTERS.stream()
+                .map(filter -> underTest.register(filter, parseCriteria(filter)))
+                .toList();
+        assertThat(underTest.size()).isEqualTo(FILTERS.size());
+
+        registrations.forEach(StreamingSessionFilterIndex.Registration::deregister);
+
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void registrationAfterSignalWasMatchedIsEvaluated() {
+        final StreamingSessionFilterIndex underTest = StreamingSessionFilterIndex.newInstance();
+        final String filter = "eq(attributes/location,'kitchen')";
+        final Signal<?> signal = getSignals().get(0);
+        assertThat(underTest.register(filter, parseCriteria(filter)).matches(signal)).isTrue();
+
+        final String otherFilter = "eq(thingId,'org.eclipse.ditto:a')";
+        assertThat(underTest.register(otherFilter, parseCriteria(otherFilter)).matches(signal)).isTrue();
+    }
+
+    private static List<Signal<?>> getSignals() {
+        final Thing thingA = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID_A)
+                .setAttribute(JsonPointer.of("location"), JsonValue.of("kitchen"))
+                .setAttribute(JsonPointer.of("temperature"), JsonValue.of(21))
+                .setAttribute(JsonPointer.of("count"), JsonValue.of("5.0"))
+                .setAttribute(JsonPointer.of("flag"), JsonValue.of(true))
+                .setAttribute(JsonPointer.of("tags"), JsonArray.newBuilder().add("a", "b").build())
+                .setAttribute(JsonPointer.of("rooms"), JsonArray.newBuilder()
+                        .add(JsonObject.newBuilder().set("name", "hall").build(),
+                                JsonObject.newBuilder().set("name", "bath").build())
+                        .build())
+                .build();
+        final Thing thingB = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID_B)
+                .setAttribute(JsonPointer.of("location"), JsonValue.of("kitchen"))
+                .setAttribute(JsonPointer.of("temperature"), JsonValue.of(19.5))
+                .setAttribute(JsonPointer.of("count"), JsonValue.of(5))
+                .setAttribute(JsonPointer.of("flag"), JsonValue.of("true"))
+                .build();
+        final DittoHeaders headers = DittoHeaders.empty();
+        return List.of(
+                ThingModified.of(thingA, 2L, null, headers, null),
+                ThingModified.of(thingB, 3L, null, headers, null),
+                AttributeModified.of(THING_ID_A, JsonPointer.of("location"), JsonValue.of("cellar"), 4L, null,
+                        headers, null),
+                AttributeModified.of(THING_ID_B, JsonPointer.of("temperature"), JsonValue.of(21L), 5L, null,
+                        headers, null)
+        );
+    }
+
+    private static boolean evaluate(final Criteria criteria, final Signal<?> signal) {
+        final Thing thing = ThingEventToThingConverter.mergeThingWithExtraFields(signal, null, JsonObject.empty())
+                .orElseThrow();
+        return ThingPredicateVisitor.apply(criteria, StreamingSessionFilterIndex.newPlaceholderResolvers(signal))
+                .test(thing);
+    }
+
+    private static Criteria parseCriteria(final String filter) {
+        return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
+                        TopicPathPlaceholder.getInstance(),
+                        EntityIdPlaceholder.getInstance(),
+                        ResourcePlaceholder.getInstance(),
+                        TimePlaceholder.getInstance())
+                .filterCriteria(filter, DittoHeaders.empty());
+    }
+
+}
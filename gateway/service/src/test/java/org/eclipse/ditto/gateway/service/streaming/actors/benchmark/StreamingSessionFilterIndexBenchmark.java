@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming.actors.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
+import org.eclipse.ditto.gateway.service.streaming.actors.StreamingSessionFilterIndex;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
+import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for the delivery of one thing event to all streaming sessions of a gateway node.
+ * <p>
+ * Every session subscribed with an RQL filter: two thirds filter for a single thing ID, one sixth for the value of an
+ * attribute and one sixth with a range comparison which cannot be indexed. Each operation emits a new event and
+ * decides for every session whether the event matches its filter, either by evaluating each filter on its own as
+ * sessions without the filter index do, or via {@link StreamingSessionFilterIndex}.
+ * </p>
+ * <p>
+ * Run with {@code java -jar target/ditto-gateway-service-*-benchmark.jar StreamingSessionFilterIndexBenchmark}
+ * after building the module with the {@code build-benchmark-assembly} profile.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class StreamingSessionFilterIndexBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int THINGS = 1000;
+    private static final String NAMESPACE = "org.eclipse.ditto";
+    private static final List<String> LOCATIONS = List.of("kitchen", "hall", "cellar", "attic");
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
+                    TopicPathPlaceholder.getInstance(),
+                    EntityIdPlaceholder.getInstance(),
+                    ResourcePlaceholder.getInstance(),
+                    TimePlaceholder.getInstance());
+
+    private static final DittoProtocolAdapter PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
+
+    /**
+     * The number of streaming sessions of the node.
+     */
+    @Param({"10000", "100000"})
+    public int sessions;
+
+    private List<Criteria> criteria;
+    private List<StreamingSessionFilterIndex.Registration> registrations;
+    private long revision;
+
+    @Setup
+    public void setup() {
+        final StreamingSessionFilterIndex filterIndex = StreamingSessionFilterIndex.newInstance();
+        criteria = new ArrayList<>(sessions);
+        registrations = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            final String filter = filter(i);
+            final Criteria sessionCriteria = CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+            criteria.add(sessionCriteria);
+            registrations.add(filterIndex.register(filter, sessionCriteria));
+        }
+        revision = 0;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int evaluateFilterPerSession() {
+        final Signal<?> signal = nextSignal();
+        int matchingSessions = 0;
+        for (final Criteria sessionCriteria : criteria) {
+            final Thing thing = ThingEventToThingConverter.mergeThingWithExtraFields(signal, null,
+                            JsonObject.empty())
+                    .orElseThrow();
+            if (ThingPredicateVisitor.apply(sessionCriteria, newPlaceholderResolvers(signal)).test(thing)) {
+                matchingSessions++;
+            }
+        }
+        return matchingSessions;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int matchWithFilterIndex() {
+        final Signal<?> signal = nextSignal();
+        int matchingSessions = 0;
+        for (final StreamingSessionFilterIndex.Registration registration : registrations) {
+            if (registration.matches(signal)) {
+                matchingSessions++;
+            }
+        }
+        return matchingSessions;
+    }
+
+    private Signal<?> nextSignal() {
+        final long currentRevision = ++revision;
+        final int thingNumber = (int) (currentRevision % THINGS);
+        final Thing thing = ThingsModelFactory.newThingBuilder()
+                .setId(thingId(thingNumber))
+                .setAttribute(JsonPointer.of("location"), JsonValue.of(LOCATIONS.get(thingNumber % LOCATIONS.size())))
+                .setAttribute(JsonPointer.of("temperature"), JsonValue.of(currentRevision % 40))
+                .build();
+        return ThingModified.of(thing, currentRevision, null, DittoHeaders.empty(), null);
+    }
+
+    private static String filter(final int session) {
+        return switch (session % 6) {
+            case 0 -> "eq(attributes/location,'" + LOCATIONS.get(session % LOCATIONS.size()) + "')";
+            case 1 -> "gt(attributes/temperature," + session % 40 + ")";
+            default -> "eq(thingId,'" + thingId(session % THINGS) + "')";
+        };
+    }
+
+    private static ThingId thingId(final int thingNumber) {
+        return ThingId.of(NAMESPACE, "thing-" + thingNumber);
+    }
+
+    private static List<PlaceholderResolver<?>> newPlaceholderResolvers(final Signal<?> signal) {
+        return List.of(
+                PlaceholderFactory.newPlaceholderResolver(TopicPathPlaceholder.getInstance(),
+                        PROTOCOL_ADAPTER.toTopicPath(signal)),
+                PlaceholderFactory.newPlaceholderResolver(EntityIdPlaceholder.getInstance(),
+                        ((ThingModified) signal).getEntityId()),
+                PlaceholderFactory.newPlaceholderResolver(ResourcePlaceholder.getInstance(), signal),
+                PlaceholderFactory.newPlaceholderResolver(TimePlaceholder.getInstance(), new Object())
+        );
+    }
+
+}
@@ -44,6 +44,14 @@ public interface CachingSignalEnrichmentFacade extends SignalEnrichmentFacade {
      */
     CompletionStage<JsonObject> retrieveThing(ThingId thingId, List<ThingEvent<?>> events, long minAcceptableSeqNr);
 
+    /**
+     * Selects the fields of the passed JSON object. If the selection does not drop anything, the passed JSON object
+     * itself is returned so that cache hits do not copy the cached thing.
+     *
+     * @param jsonObject the JSON object to select fields of.
+     * @param fieldSelector the fields to select or {@code null} to select all fields.
+     * @return the selected fields.
+     */
     default JsonObject applyJsonFieldSelector(final JsonObject jsonObject,
             @Nullable final JsonFieldSelector fieldSelector) {
         final JsonObject result;
@@ -58,7 +66,8 @@ public interface CachingSignalEnrichmentFacade extends SignalEnrichmentFacade {
                     .orElse(Collections.emptyList());
             final JsonFieldSelector expandedSelector =
                     ThingsModelFactory.expandFeatureIdWildcards(featureIds, fieldSelector);
-            result = jsonObject.get(expandedSelector);
+            final JsonObject selectedJsonObject = jsonObject.get(expandedSelector);
+            result = selectedJsonObject.equals(jsonObject) ? jsonObject : selectedJsonObject;
         }
 
         return result;
@@ -47,6 +47,8 @@ import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.eclipse.ditto.things.model.signals.events.ThingMerged;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
 /**
  * Retrieve additional parts of things by asking an asynchronous cache.
  * Instantiated once per cluster node so that it builds up a cache across all signal enrichments on a local cluster
@@ -68,7 +70,30 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
         final var cacheLoader = SignalEnrichmentCacheLoader.of(cacheLoaderFacade);
         final var cacheName = cacheNamePrefix + CACHE_NAME_SUFFIX;
 
-        extraFieldsCache = CacheFactory.createCache(cacheLoader, cacheConfig, cacheName, cacheLoaderExecutor);
+        if (0 < cacheConfig.getMaximumWeight()) {
+            extraFieldsCache = createOffHeapCache(cacheLoader, cacheConfig, cacheName, cacheLoaderExecutor);
+        } else {
+            extraFieldsCache = CacheFactory.createCache(cacheLoader, cacheConfig, cacheName, cacheLoaderExecutor);
+        }
+    }
+
+    /**
+     * Creates a cache which keeps the CBOR serialized things off-heap and which is bounded by their size in bytes.
+     * The things are deserialized on each cache hit.
+     */
+    private static Cache<SignalEnrichmentCacheKey, JsonObject> createOffHeapCache(
+            final SignalEnrichmentCacheLoader cacheLoader,
+            final CacheConfig cacheConfig,
+            final String cacheName,
+            final Executor cacheLoaderExecutor) {
+
+        final AsyncCacheLoader<SignalEnrichmentCacheKey, OffHeapThingSnapshot> snapshotLoader =
+                (key, executor) -> cacheLoader.asyncLoad(key, executor).thenApply(OffHeapThingSnapshot::of);
+        final Cache<SignalEnrichmentCacheKey, OffHeapThingSnapshot> snapshotCache =
+                CacheFactory.createCache(snapshotLoader, (key, snapshot) -> snapshot.getSizeInBytes(), cacheConfig,
+                        cacheName, cacheLoaderExecutor);
+
+        return snapshotCache.projectValues(OffHeapThingSnapshot::toJsonObject, OffHeapThingSnapshot::of);
     }
 
     /**
@@ -208,10 +233,16 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
                 extractConsecutiveTwinEvents(concernedSignals, cachingParameters.minAcceptableSeqNr);
         final var dittoHeaders = getLastDittoHeaders(concernedSignals);
 
-        // there are twin events, but their sequence numbers have gaps or do not reach the min acceptable seq nr
         if (thingEventsOptional.isEmpty()) {
-            extraFieldsCache.invalidate(cacheKey);
-            result = doCacheLookup(cacheKey, dittoHeaders);
+            if (cachingParameters.minAcceptableSeqNr < 0 || concernedSignals.isEmpty()) {
+                extraFieldsCache.invalidate(cacheKey);
+                result = doCacheLookup(cacheKey, dittoHeaders);
+            } else {
+                // there are twin events, but their sequence numbers have gaps or do not reach the min acceptable seq nr
+                final long minRevision =
+                        Math.max(getLast(concernedSignals).getRevision(), cachingParameters.minAcceptableSeqNr);
+                result = reloadIfOutdated(cacheKey, dittoHeaders, fieldSelector, minRevision);
+            }
         } else {
             final var thingEvents = thingEventsOptional.orElseThrow();
             // there are no twin events; return the cached thing
@@ -317,15 +348,49 @@ public class DittoCachingSignalEnrichmentFacade implements CachingSignalEnrichme
             result = handleNextExpectedThingEvents(cacheKey, cachedJsonObject,
                     nextExpectedThingEventsParameters);
         } else {
-            // the cache entry was already present, but we missed sth and need to invalidate the cache
-            // and to another cache lookup (via roundtrip)
-            extraFieldsCache.invalidate(cacheKey);
-            result = doCacheLookup(cacheKey, dittoHeaders);
+            // the cache entry was already present, but we missed sth and need to reload it (via roundtrip)
+            result = reloadIfOutdated(cacheKey, dittoHeaders, cachingParameters.fieldSelector,
+                    getLast(relevantEvents).getRevision());
         }
 
         return result;
     }
 
+    /**
+     * Reloads the cache entry unless it already reaches the passed revision. In contrast to invalidating the entry
+     * unconditionally, concurrent enrichments which need the same revision of a thing share one round trip: only the
+     * first of them invalidates the outdated entry, the others join its reload.
+     * Without a field selector the revision is not retrieved, so the entry is always reloaded.
+     */
+    private CompletableFuture<JsonObject> reloadIfOutdated(final SignalEnrichmentCacheKey cacheKey,
+            final DittoHeaders dittoHeaders, @Nullable final JsonFieldSelector fieldSelector, final long minRevision) {
+
+        if (null == fieldSelector) {
+            extraFieldsCache.invalidate(cacheKey);
+            return doCacheLookup(cacheKey, dittoHeaders);
+        }
+        return doCacheLookup(cacheKey, dittoHeaders).thenCompose(cachedJsonObject -> {
+            if (!isOutdated(cachedJsonObject, minRevision)) {
+                // another enrichment already reloaded the entry
+                return CompletableFuture.completedFuture(cachedJsonObject);
+            }
+            extraFieldsCache.invalidateConditionally(cacheKey, jsonObject -> isOutdated(jsonObject, minRevision));
+            return doCacheLookup(cacheKey, dittoHeaders).thenCompose(reloadedJsonObject -> {
+                if (isOutdated(reloadedJsonObject, minRevision)) {
+                    // joined a reload which was started before the revision was persisted
+                    extraFieldsCache.invalidate(cacheKey);
+                    return doCacheLookup(cacheKey, dittoHeaders);
+                } else {
+                    return CompletableFuture.completedFuture(reloadedJsonObject);
+                }
+            });
+        });
+    }
+
+    private static boolean isOutdated(final JsonObject jsonObject, final long minRevision) {
+        return jsonObject.getValue(Thing.JsonFields.REVISION).orElse(0L) < minRevision;
+    }
+
     private static <T> T getLast(final List<T> list) {
         return list.get(list.size() - 1);
     }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ServiceLoader;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A CBOR serialized snapshot of a (partial) thing which is held off-heap in a direct buffer. The snapshot is only
+ * deserialized when it is read, which keeps cached things from occupying the heap and makes the size of a cached
+ * thing known in bytes.
+ */
+@Immutable
+final class OffHeapThingSnapshot {
+
+    private static final CborFactory CBOR_FACTORY = loadCborFactory();
+
+    private final ByteBuffer cbor;
+
+    private OffHeapThingSnapshot(final ByteBuffer cbor) {
+        this.cbor = cbor;
+    }
+
+    /**
+     * Serializes the passed JSON object into a new off-heap snapshot.
+     *
+     * @param jsonObject the (partial) thing to serialize.
+     * @return the snapshot.
+     * @throws IllegalStateException if the JSON object could not be serialized.
+     */
+    static OffHeapThingSnapshot of(final JsonObject jsonObject) {
+        final byte[] bytes;
+        try {
+            bytes = CBOR_FACTORY.toByteArray(jsonObject);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to serialize thing snapshot to CBOR.", e);
+        }
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        return new OffHeapThingSnapshot(directBuffer.asReadOnlyBuffer());
+    }
+
+    /**
+     * @return the number of bytes the serialized snapshot occupies off-heap.
+     */
+    int getSizeInBytes() {
+        return cbor.capacity();
+    }
+
+    /**
+     * Deserializes the snapshot.
+     *
+     * @return the (partial) thing.
+     */
+    JsonObject toJsonObject() {
+        final JsonValue jsonValue = CBOR_FACTORY.readFrom(cbor.duplicate());
+        return jsonValue.isObject() ? jsonValue.asObject() : JsonFactory.nullObject();
+    }
+
+    private static CborFactory loadCborFactory() {
+        final CborFactory cborFactory = ServiceLoader.load(CborFactory.class)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Failed to get <CborFactory> from ServiceLoader."));
+        if (!cborFactory.isCborAvailable()) {
+            throw new IllegalStateException("<CborFactory> from ServiceLoader cannot handle CBOR.");
+        }
+        return cborFactory;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "sizeInBytes=" + getSizeInBytes() +
+                "]";
+    }
+
+}
@@ -270,6 +270,43 @@ abstract class AbstractCachingSignalEnrichmentFacadeTest extends AbstractSignalE
         });
     }
 
+    @Test
+    public void concurrentReloadsOfOutdatedCacheEntryAreCoalesced() {
+        DittoTestSystem.run(this, kit -> {
+            // GIVEN: SignalEnrichmentFacade.retrievePartialThing()
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders headers = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final Thing thing = ThingsModelFactory.newThing(getThingResponseThingJson());
+            final long eventRevision = thing.getRevision().orElseThrow().toLong() + 2;
+
+            // WHEN: the same thing is asked concurrently for an event 2 revisions ahead of the thing to be loaded
+            final CompletionStage<JsonObject> askResult1 = underTest.retrievePartialThing(thingId,
+                    getJsonFieldSelector(), headers, getThingEvent().setRevision(eventRevision));
+            final CompletionStage<JsonObject> askResult2 = underTest.retrievePartialThing(thingId,
+                    getJsonFieldSelector(), headers, getThingEvent().setRevision(eventRevision));
+
+            // THEN: the thing is loaded once, but the loaded thing is outdated
+            kit.expectMsgClass(RetrieveThing.class);
+            kit.reply(RetrieveThingResponse.of(thingId, getThingResponseThingJson(), headers));
+
+            // THEN: the outdated thing is reloaded once for both
+            final RetrieveThing retrieveThing2 = kit.expectMsgClass(RetrieveThing.class);
+            softly.assertThat(retrieveThing2.getSelectedFields())
+                    .contains(actualSelectedFields(getJsonFieldSelector()));
+            final Thing thingWithEventRevision = thing.toBuilder().setRevision(eventRevision).build();
+            kit.reply(RetrieveThingResponse.of(thingId, thingWithEventRevision.toJson(
+                    thingWithEventRevision.getImplementedSchemaVersion(), FieldType.all()), headers));
+            kit.expectNoMessage(Duration.ofSeconds(1));
+
+            askResult1.toCompletableFuture().join();
+            askResult2.toCompletableFuture().join();
+            softly.assertThat(askResult1).isCompletedWithValue(getExpectedThingJson());
+            softly.assertThat(askResult2).isCompletedWithValue(getExpectedThingJson());
+        });
+    }
+
     @Test
     public void differentAuthSubjectsLeadToCacheRetrievals() {
         DittoTestSystem.run(this, kit -> {
@@ -12,9 +12,23 @@
  */
 package org.eclipse.ditto.internal.models.signalenrichment;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
 import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.DittoTestSystem;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.junit.Test;
 
 /**
  * Unit tests for {@link DittoCachingSignalEnrichmentFacade}.
@@ -29,6 +43,34 @@ public final class DittoCachingSignalEnrichmentFacadeTest extends AbstractCachin
               "_metadata": {"attributes": {"x": {"type": "x attribute"}}}
             }""");
 
+    @Test
+    public void cacheHitReturnsCachedThingItself() {
+        DittoTestSystem.run(this, kit -> {
+            final SignalEnrichmentFacade underTest =
+                    createSignalEnrichmentFacadeUnderTest(kit, Duration.ofSeconds(10L));
+            final ThingId thingId = ThingId.generateRandom();
+            final DittoHeaders headers = DittoHeaders.newBuilder().randomCorrelationId().build();
+            final JsonFieldSelector selector = JsonFactory.newFieldSelectorBuilder()
+                    .addPointers(getJsonFieldSelector())
+                    .addFieldDefinition(Thing.JsonFields.REVISION)
+                    .build();
+            final CompletionStage<JsonObject> askResult =
+                    underTest.retrievePartialThing(thingId, selector, headers, getThingEvent());
+            kit.expectMsgClass(RetrieveThing.class);
+            kit.reply(RetrieveThingResponse.of(thingId, getThingResponseThingJson(), headers));
+            final JsonObject loadedThing = askResult.toCompletableFuture().join();
+
+            // the event's revision is already cached, so the cached thing is returned without a round trip
+            final JsonObject cachedThing =
+                    underTest.retrievePartialThing(thingId, selector, headers, getThingEvent())
+                            .toCompletableFuture()
+                            .join();
+
+            kit.expectNoMessage(Duration.ofMillis(200L));
+            assertThat(cachedThing).isSameAs(loadedThing);
+        });
+    }
+
     @Override
     protected CachingSignalEnrichmentFacade createCachingSignalEnrichmentFacade(final TestKit kit,
             final ByRoundTripSignalEnrichmentFacade cacheLoaderFacade, final CacheConfig cacheConfig) {
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.json.JsonObject;
+
+import com.typesafe.config.ConfigValueFactory;
+
+/**
+ * Unit tests for {@link DittoCachingSignalEnrichmentFacade} caching the things off-heap.
+ */
+public final class OffHeapCachingSignalEnrichmentFacadeTest extends AbstractCachingSignalEnrichmentFacadeTest {
+
+    private static final String CACHE_CONFIG_PATH = "off-heap-cache";
+
+    private static final JsonObject EXPECTED_THING_JSON = JsonObject.of("""
+            {
+              "policyId": "policy:id",
+              "attributes": {"x":  5},
+              "features": {"y": {"properties": {"z":  true}}},
+              "_metadata": {"attributes": {"x": {"type": "x attribute"}}}
+            }""");
+
+    @Override
+    protected CachingSignalEnrichmentFacade createCachingSignalEnrichmentFacade(final TestKit kit,
+            final ByRoundTripSignalEnrichmentFacade cacheLoaderFacade, final CacheConfig cacheConfig) {
+
+        final CacheConfig offHeapCacheConfig = DefaultCacheConfig.of(cacheConfig.render()
+                .withValue(CacheConfig.CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath(),
+                        ConfigValueFactory.fromAnyRef("1M"))
+                .atKey(CACHE_CONFIG_PATH), CACHE_CONFIG_PATH);
+
+        return DittoCachingSignalEnrichmentFacade.newInstance(
+                cacheLoaderFacade,
+                offHeapCacheConfig,
+                kit.getSystem().getDispatcher(),
+                "test");
+    }
+
+    @Override
+    protected JsonObject getExpectedThingJson() {
+        return EXPECTED_THING_JSON;
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.models.signalenrichment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Tests {@link OffHeapThingSnapshot}.
+ */
+public final class OffHeapThingSnapshotTest {
+
+    private static final JsonObject THING_JSON = JsonObject.of("""
+            {
+              "thingId": "org.eclipse.ditto:thing",
+              "policyId": "org.eclipse.ditto:policy",
+              "attributes": {"location": {"latitude": 47.68, "longitude": 9.38}, "tags": ["a", "b"]},
+              "features": {"y": {"properties": {"z": true, "counter": 9007199254740993}}},
+              "_revision": 42
+            }""");
+
+    @Test
+    public void deserializesSerializedThing() {
+        final OffHeapThingSnapshot underTest = OffHeapThingSnapshot.of(THING_JSON);
+
+        assertThat(underTest.toJsonObject()).isEqualTo(THING_JSON);
+        // may be deserialized any number of times
+        assertThat(underTest.toJsonObject()).isEqualTo(THING_JSON);
+    }
+
+    @Test
+    public void sizeIsNumberOfSerializedBytes() {
+        final OffHeapThingSnapshot underTest = OffHeapThingSnapshot.of(THING_JSON);
+
+        assertThat(underTest.getSizeInBytes()).isPositive()
+                .isLessThan(THING_JSON.toString().length());
+        assertThat(OffHeapThingSnapshot.of(JsonObject.empty()).getSizeInBytes())
+                .isLessThan(underTest.getSizeInBytes());
+    }
+
+}
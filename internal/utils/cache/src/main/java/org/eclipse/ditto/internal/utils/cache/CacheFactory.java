@@ -24,6 +24,7 @@ import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.internal.utils.cache.config.CacheConfig}.
@@ -97,12 +98,56 @@ public final class CacheFactory {
         return CaffeineCache.of(caffeine(cacheConfig, executor, expiry), cacheLoader, cacheName);
     }
 
+    /**
+     * Creates a cache which is bounded by the total weight of its entries, e.g. by the number of bytes of serialized
+     * entries, if {@link CacheConfig#getMaximumWeight()} is configured. Otherwise the cache is bounded by
+     * {@link CacheConfig#getMaximumSize()} and the weigher is not used.
+     *
+     * @param cacheLoader the cache loader.
+     * @param weigher determines the weight of each entry.
+     * @param cacheConfig the cache's configuration.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument but {@code cacheName} is {@code null}.
+     * @since 3.6.0
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final Weigher<? super K, ? super V> weigher,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName,
+            final Executor executor) {
+
+        checkNotNull(cacheLoader, "cacheLoader");
+        checkNotNull(weigher, "weigher");
+        checkNotNull(cacheConfig, "CacheConfig");
+
+        final long maximumWeight = cacheConfig.getMaximumWeight();
+        if (0 < maximumWeight) {
+            final Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
+            caffeine.maximumWeight(maximumWeight);
+            configureExpiryAndExecutor(caffeine, cacheConfig, executor);
+            return CaffeineCache.of(caffeine.weigher(weigher), cacheLoader, cacheName);
+        } else {
+            return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
+        }
+    }
+
     private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
         checkNotNull(cacheConfig, "CacheConfig");
-        checkNotNull(executor, "Executor");
 
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
         caffeine.maximumSize(cacheConfig.getMaximumSize());
+        configureExpiryAndExecutor(caffeine, cacheConfig, executor);
+        return caffeine;
+    }
+
+    private static void configureExpiryAndExecutor(final Caffeine<Object, Object> caffeine,
+            final CacheConfig cacheConfig, final Executor executor) {
+
+        checkNotNull(executor, "Executor");
 
         if (!cacheConfig.getExpireAfterCreate().isZero()) {
             // special case "expire-after-create" needs the following API invocation of Caffeine:
@@ -129,7 +174,6 @@ public final class CacheFactory {
             caffeine.expireAfterAccess(cacheConfig.getExpireAfterAccess());
         }
         caffeine.executor(executor);
-        return caffeine;
     }
 
     private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor,
@@ -52,7 +52,8 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
 
         if (cacheName != null) {
             this.metricStatsCounter =
-                    MetricsStatsCounter.of(cacheName, this::getMaxCacheSize, this::getCurrentCacheSize);
+                    MetricsStatsCounter.of(cacheName, this::getMaxCacheSize, this::getCurrentCacheSize,
+                            this::getCurrentCacheWeight);
             caffeine.recordStats(() -> metricStatsCounter);
         } else {
             this.metricStatsCounter = null;
@@ -85,6 +86,19 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.estimatedSize();
     }
 
+    @SuppressWarnings({"squid:S2583", "ConstantConditions"})
+    private Long getCurrentCacheWeight() {
+        if (synchronousCacheView == null) {
+            // This can occur if this method is called by metricStatsCounter before the cache has been initialized.
+            return 0L;
+        }
+
+        return synchronousCacheView.policy()
+                .eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
     @SuppressWarnings({"squid:S2583", "ConstantConditions"})
     private Long getMaxCacheSize() {
         if (synchronousCacheView == null) {
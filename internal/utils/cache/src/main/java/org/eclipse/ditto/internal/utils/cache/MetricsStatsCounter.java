@@ -78,7 +78,12 @@ public final class MetricsStatsCounter implements StatsCounter {
          */
         ESTIMATED_SIZE(CACHE_PREFIX + "_estimated-size"),
         /**
-         * The maximum size of the cache.
+         * The estimated total weight of the entries of a cache which is bounded by weight, e.g. the number of bytes
+         * of serialized entries. Always zero for caches which are bounded by size.
+         */
+        ESTIMATED_WEIGHT(CACHE_PREFIX + "_estimated-weight"),
+        /**
+         * The maximum size of the cache, respectively its maximum total weight if the cache is bounded by weight.
          */
         MAX_SIZE(CACHE_PREFIX + "_max-size"),
         /**
@@ -123,14 +128,16 @@ public final class MetricsStatsCounter implements StatsCounter {
     private final Counter evictionCount;
     private final Counter evictionWeight;
     private final Gauge estimatedSize;
+    private final Gauge estimatedWeight;
     private final Gauge maxSize;
     private final Counter estimatedInvalidations;
     private final Counter estimatedInvalidationsWithoutItem;
     private final Supplier<Long> maxSizeSupplier;
     private final Supplier<Long> estimatedSizeSupplier;
+    private final Supplier<Long> estimatedWeightSupplier;
 
     private MetricsStatsCounter(final String cacheName, final Supplier<Long> maxSizeSupplier,
-            final Supplier<Long> estimatedSizeSupplier) {
+            final Supplier<Long> estimatedSizeSupplier, final Supplier<Long> estimatedWeightSupplier) {
         hitCount = DittoMetrics.counter(MetricName.HITS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         missCount = DittoMetrics.counter(MetricName.MISSES.getValue()).tag(CACHE_NAME_TAG, cacheName);
         totalLoadTime = DittoMetrics.timer(MetricName.TOTAL_LOAD_TIME.getValue()).tag(CACHE_NAME_TAG, cacheName);
@@ -139,6 +146,7 @@ public final class MetricsStatsCounter implements StatsCounter {
         evictionCount = DittoMetrics.counter(MetricName.EVICTIONS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         evictionWeight = DittoMetrics.counter(MetricName.EVICTIONS_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedSize = DittoMetrics.gauge(MetricName.ESTIMATED_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        estimatedWeight = DittoMetrics.gauge(MetricName.ESTIMATED_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
         maxSize = DittoMetrics.gauge(MetricName.MAX_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidations =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS.getValue()).tag(CACHE_NAME_TAG, cacheName);
@@ -147,6 +155,7 @@ public final class MetricsStatsCounter implements StatsCounter {
                         .tag(CACHE_NAME_TAG, cacheName);
         this.maxSizeSupplier = maxSizeSupplier;
         this.estimatedSizeSupplier = estimatedSizeSupplier;
+        this.estimatedWeightSupplier = estimatedWeightSupplier;
     }
 
     /**
@@ -155,11 +164,12 @@ public final class MetricsStatsCounter implements StatsCounter {
      * @param cacheName The name of the cache.
      * @param maxSizeSupplier supplier for the maximum size of the cache
      * @param estimatedSizeSupplier supplier for the estimated size of the cache.
+     * @param estimatedWeightSupplier supplier for the estimated total weight of the cache entries.
      * @return the instance.
      */
     static MetricsStatsCounter of(final String cacheName, final Supplier<Long> maxSizeSupplier,
-            final Supplier<Long> estimatedSizeSupplier) {
-        return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier);
+            final Supplier<Long> estimatedSizeSupplier, final Supplier<Long> estimatedWeightSupplier) {
+        return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier, estimatedWeightSupplier);
     }
 
     @Override
@@ -226,6 +236,7 @@ public final class MetricsStatsCounter implements StatsCounter {
     private void updateCacheSizeMetrics() {
         maxSize.set(maxSizeSupplier.get());
         estimatedSize.set(estimatedSizeSupplier.get());
+        estimatedWeight.set(estimatedWeightSupplier.get());
     }
 
 }
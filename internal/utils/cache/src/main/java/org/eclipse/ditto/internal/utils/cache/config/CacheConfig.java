@@ -33,6 +33,16 @@ public interface CacheConfig {
      */
     long getMaximumSize();
 
+    /**
+     * Returns the maximum total weight of the entries of a cache which is created with a weigher, e.g. the maximum
+     * number of bytes of serialized entries. Such a cache is bounded by weight instead of by
+     * {@link #getMaximumSize()}. Deactivated when {@code 0} is configured.
+     *
+     * @return the maximum total weight.
+     * @since 3.6.0
+     */
+    long getMaximumWeight();
+
     /**
      * Returns duration after which a written cache entry expires.
      *
@@ -72,6 +82,11 @@ public interface CacheConfig {
          */
         MAXIMUM_SIZE("maximum-size", 50_000L),
 
+        /**
+         * The maximum total weight of the cache entries, e.g. in bytes.
+         */
+        MAXIMUM_WEIGHT("maximum-weight", 0L),
+
         /**
          * Duration after which a written cache entry expires.
          */
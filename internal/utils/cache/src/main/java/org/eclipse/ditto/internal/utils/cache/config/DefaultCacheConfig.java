@@ -30,12 +30,14 @@ import com.typesafe.config.ConfigValueFactory;
 public final class DefaultCacheConfig implements CacheConfig {
 
     private final long maximumSize;
+    private final long maximumWeight;
     private final Duration expireAfterWrite;
     private final Duration expireAfterAccess;
     private final Duration expireAfterCreate;
 
     private DefaultCacheConfig(final ConfigWithFallback configWithFallback) {
         maximumSize = configWithFallback.getPositiveLongOrThrow(CacheConfigValue.MAXIMUM_SIZE);
+        maximumWeight = configWithFallback.getNonNegativeBytesOrThrow(CacheConfigValue.MAXIMUM_WEIGHT);
         expireAfterWrite = configWithFallback.getNonNegativeDurationOrThrow(CacheConfigValue.EXPIRE_AFTER_WRITE);
         expireAfterAccess = configWithFallback.getNonNegativeDurationOrThrow(CacheConfigValue.EXPIRE_AFTER_ACCESS);
         expireAfterCreate = configWithFallback.getNonNegativeDurationOrThrow(CacheConfigValue.EXPIRE_AFTER_CREATE);
@@ -58,6 +60,11 @@ public final class DefaultCacheConfig implements CacheConfig {
         return maximumSize;
     }
 
+    @Override
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
     @Override
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -77,6 +84,7 @@ public final class DefaultCacheConfig implements CacheConfig {
     public Config render() {
         return ConfigFactory.empty()
                 .withValue(CacheConfigValue.MAXIMUM_SIZE.getConfigPath(), ConfigValueFactory.fromAnyRef(maximumSize))
+                .withValue(CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath(), ConfigValueFactory.fromAnyRef(maximumWeight))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_CREATE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterCreate))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterAccess))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterWrite));
@@ -92,6 +100,7 @@ public final class DefaultCacheConfig implements CacheConfig {
         }
         final DefaultCacheConfig that = (DefaultCacheConfig) o;
         return maximumSize == that.maximumSize &&
+                maximumWeight == that.maximumWeight &&
                 Objects.equals(expireAfterWrite, that.expireAfterWrite) &&
                 Objects.equals(expireAfterAccess, that.expireAfterAccess)&&
                 Objects.equals(expireAfterCreate, that.expireAfterCreate);
@@ -99,13 +108,14 @@ public final class DefaultCacheConfig implements CacheConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(maximumSize, expireAfterWrite, expireAfterAccess, expireAfterCreate);
+        return Objects.hash(maximumSize, maximumWeight, expireAfterWrite, expireAfterAccess, expireAfterCreate);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maximumSize=" + maximumSize +
+                ", maximumWeight=" + maximumWeight +
                 ", expireAfterWrite=" + expireAfterWrite +
                 ", expireAfterAccess=" + expireAfterAccess +
                 ", expireAfterCreate=" + expireAfterCreate +
@@ -61,6 +61,9 @@ public final class MetricsStatsCounterTest {
     private final Gauge estimatedSize = DittoMetrics
             .gauge(MetricsStatsCounter.MetricName.ESTIMATED_SIZE.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge estimatedWeight = DittoMetrics
+            .gauge(MetricsStatsCounter.MetricName.ESTIMATED_WEIGHT.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
     private final Gauge maxSize = DittoMetrics
             .gauge(MetricsStatsCounter.MetricName.MAX_SIZE.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
@@ -78,6 +81,7 @@ public final class MetricsStatsCounterTest {
         evictionCount.reset();
         evictionWeight.reset();
         estimatedSize.reset();
+        estimatedWeight.reset();
         maxSize.reset();
         estimatedInvalidations.reset();
     }
@@ -141,6 +145,30 @@ public final class MetricsStatsCounterTest {
         });
     }
 
+    @Test
+    public void estimatedWeightOfWeightedCache() {
+        // GIVEN
+        final long maximumWeight = 1000;
+        final Caffeine<Integer, Integer> caffeine = Caffeine.newBuilder()
+                .executor(Runnable::run) // run the maintenance which updates the weighted size synchronously
+                .maximumWeight(maximumWeight)
+                .weigher((Integer key, Integer value) -> value);
+        final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
+        final CaffeineCache<Integer, Integer> cache = CaffeineCache.of(caffeine, loader, TEST_CACHE_NAME);
+
+        // WHEN
+        cache.get(1);
+        cache.get(2);
+        cache.get(3);
+
+        // THEN
+        waitUntilAsserted(() -> {
+            assertThat(maxSize.get()).isEqualTo(maximumWeight);
+            assertThat(estimatedSize.get()).isEqualTo(3L);
+            assertThat(estimatedWeight.get()).isEqualTo(6L);
+        });
+    }
+
     private static void waitUntilAsserted(final ThrowingRunnable throwingRunnable) {
         Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(throwingRunnable);
     }
@@ -74,10 +74,10 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     protected static final Charset CHARSET = StandardCharsets.UTF_8;
 
-    private static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
+    protected static final JsonFieldDefinition<JsonObject> JSON_DITTO_HEADERS =
             JsonFactory.newJsonObjectFieldDefinition("dittoHeaders");
 
-    private static final JsonFieldDefinition<JsonValue> JSON_PAYLOAD =
+    protected static final JsonFieldDefinition<JsonValue> JSON_PAYLOAD =
             JsonFactory.newJsonValueFieldDefinition("payload");
 
     private static final String CONFIG_DIRECT_BUFFER_SIZE = "pekko.actor.serializers-json.direct-buffer-size";
@@ -154,21 +154,21 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                     .build();
             try {
                 serializeIntoByteBuffer(jsonObject, buf);
-                LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+                LOG.trace("toBinary object about to send 'out': {}", object);
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
                 final var errorMessage = MessageFormat.format(
-                        "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow",
-                        jsonObject
+                        "Could not put bytes of <{0}> into ByteBuffer due to BufferOverflow",
+                        object
                 );
                 LOG.error(errorMessage, e);
                 startedSpan.tagAsFailed(e);
                 throw new IllegalArgumentException(errorMessage, e);
             } catch (final IOException e) {
                 final var errorMessage = MessageFormat.format(
-                        "Serialization failed with {} on Jsonifiable with string representation <{}>",
+                        "Serialization failed with {0} on Jsonifiable <{1}>",
                         e.getClass().getName(),
-                        jsonObject
+                        object
                 );
                 LOG.warn(errorMessage, e);
                 startedSpan.tagAsFailed(e);
@@ -225,6 +225,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
+     * The envelope {@code jsonObject} is created without any cached serialized representation, so implementations
+     * should write it directly into {@code byteBuffer} without creating an intermediate copy.
      *
      * @param jsonObject the JsonObject to serialize.
      * @param byteBuffer the ByteBuffer to serialize into.
@@ -312,7 +314,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             final ByteBuffer byteBuffer
     ) throws NotSerializableException {
         final var beforeDeserializeInstant = StartInstant.now();
-        final var jsonObject = deserializeByteBufferAsJsonObjectOrThrow(byteBuffer, manifest);
+        final var jsonObject = deserializeEnvelopeFromByteBuffer(byteBuffer, manifest);
         final var dittoHeaders = deserializeDittoHeaders(jsonObject);
         final var payload = deserializePayloadAsJsonObject(jsonObject, dittoHeaders);
         final var signalTypeOrErrorCodeOptional = getSignalTypeOrErrorCodeIfPresent(payload);
@@ -333,7 +335,18 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
     
-    private JsonObject deserializeByteBufferAsJsonObjectOrThrow(final ByteBuffer byteBuffer, final String manifest) {
+    /**
+     * Deserializes the envelope object containing the {@link #JSON_DITTO_HEADERS} and the {@link #JSON_PAYLOAD} from
+     * the passed {@code byteBuffer}.
+     * Only those two fields are evaluated, so implementations may skip deserializing any other field of the envelope.
+     * The default implementation deserializes the complete envelope via {@link #deserializeFromByteBuffer(ByteBuffer)}.
+     *
+     * @param byteBuffer the ByteBuffer to deserialize.
+     * @param manifest the manifest of the serialized object.
+     * @return the deserialized envelope.
+     * @throws JsonParseException if {@code byteBuffer} does not contain an object.
+     */
+    protected JsonObject deserializeEnvelopeFromByteBuffer(final ByteBuffer byteBuffer, final String manifest) {
         final JsonObject result;
         final var jsonValue = deserializeFromByteBuffer(byteBuffer);
         if (jsonValue.isObject()) {
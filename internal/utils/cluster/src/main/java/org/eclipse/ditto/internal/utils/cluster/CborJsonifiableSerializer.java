@@ -14,6 +14,9 @@ package org.eclipse.ditto.internal.utils.cluster;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.ditto.json.CborFactory;
 import org.eclipse.ditto.json.JsonObject;
@@ -28,6 +31,9 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     private static final int UNIQUE_IDENTIFIER = 656329405;
 
+    private static final Set<String> ENVELOPE_KEYS = Stream.of(JSON_DITTO_HEADERS, JSON_PAYLOAD)
+            .map(fieldDefinition -> fieldDefinition.getPointer().getRoot().orElseThrow().toString())
+            .collect(Collectors.toUnmodifiableSet());
 
     private final CborFactory cborFactory;
 
@@ -52,4 +58,20 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
         return cborFactory.readFrom(byteBuffer);
     }
 
+    /**
+     * Only deserializes the values of the envelope's {@code dittoHeaders} and {@code payload} fields from their CBOR
+     * encoded slices of {@code byteBuffer}. In contrast to {@link #deserializeFromByteBuffer(ByteBuffer)} no JsonObject
+     * holding a copy of the whole serialized envelope is created.
+     */
+    @Override
+    protected JsonObject deserializeEnvelopeFromByteBuffer(final ByteBuffer byteBuffer, final String manifest) {
+        final var envelopeBuilder = JsonObject.newBuilder();
+        cborFactory.readFieldSlicesFrom(byteBuffer).forEach((key, valueSlice) -> {
+            if (ENVELOPE_KEYS.contains(key)) {
+                envelopeBuilder.set(key, cborFactory.readFrom(valueSlice));
+            }
+        });
+        return envelopeBuilder.build();
+    }
+
 }
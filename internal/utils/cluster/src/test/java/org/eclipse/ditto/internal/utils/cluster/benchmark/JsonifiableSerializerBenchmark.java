@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.cluster.benchmark;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandRegistry;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
+import org.eclipse.ditto.internal.utils.cluster.AbstractJsonifiableWithDittoHeadersSerializer;
+import org.eclipse.ditto.internal.utils.cluster.CborJsonifiableSerializer;
+import org.eclipse.ditto.internal.utils.cluster.JsonJsonifiableSerializer;
+import org.eclipse.ditto.internal.utils.cluster.MappingStrategies;
+import org.eclipse.ditto.internal.utils.cluster.MappingStrategiesBuilder;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
+import org.eclipse.ditto.internal.utils.tracing.config.DefaultTracingConfig;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.ExtendedActorSystem;
+
+/**
+ * JMH Benchmark for the cluster serialization of typical Thing signals via {@link CborJsonifiableSerializer} and
+ * {@link JsonJsonifiableSerializer}.
+ * <p>
+ * Run with {@code java -jar target/ditto-internal-utils-cluster-*-benchmark.jar JsonifiableSerializerBenchmark -prof gc}
+ * after building the module with the {@code build-benchmark-assembly} profile in order to see the allocation rates
+ * as well.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class JsonifiableSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int FEATURES = 10;
+    private static final int PROPERTIES_PER_FEATURE = 20;
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    static {
+        // tracing is disabled by default
+        DittoTracing.init(DefaultTracingConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * The signal to serialize, all of them contain the same Thing.
+     */
+    @Param({"ModifyThing", "ThingModified", "RetrieveThingResponse"})
+    public String signalType;
+
+    /**
+     * The serializer to use.
+     */
+    @Param({"CBOR", "JSON"})
+    public String serializerType;
+
+    private ExtendedActorSystem actorSystem;
+    private AbstractJsonifiableWithDittoHeadersSerializer serializer;
+    private Signal<?> signal;
+    private String manifest;
+    private byte[] serializedSignal;
+    private ByteBuffer directByteBuffer;
+
+    @Setup
+    public void setup() {
+        actorSystem = (ExtendedActorSystem) ExtendedActorSystem.create("benchmark",
+                ConfigFactory.parseMap(Map.of("ditto.mapping-strategy.implementation",
+                        ThingSignalMappingStrategies.class.getName())));
+        serializer = "CBOR".equals(serializerType)
+                ? new CborJsonifiableSerializer(actorSystem)
+                : new JsonJsonifiableSerializer(actorSystem);
+        signal = createSignal(signalType, createThing());
+        manifest = serializer.manifest(signal);
+        serializedSignal = serializer.toBinary(signal);
+        directByteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public ByteBuffer toBinaryIntoDirectByteBuffer() {
+        directByteBuffer.clear();
+        serializer.toBinary(signal, directByteBuffer);
+        return directByteBuffer;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] toBinary() {
+        return serializer.toBinary(signal);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object fromBinary() {
+        return serializer.fromBinary(ByteBuffer.wrap(serializedSignal), manifest);
+    }
+
+    private static Thing createThing() {
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < FEATURES; i++) {
+            final JsonObjectBuilder propertiesBuilder = JsonFactory.newObjectBuilder();
+            for (int j = 0; j < PROPERTIES_PER_FEATURE; j++) {
+                propertiesBuilder.set("sensor-" + j, JsonFactory.newObjectBuilder()
+                        .set("value", i * 1000.0 / (j + 1))
+                        .set("unit", "celsius")
+                        .set("timestamp", 1698146553000L + j)
+                        .build());
+            }
+            featuresBuilder.set("feature-" + i, JsonFactory.newObjectBuilder()
+                    .set("properties", propertiesBuilder.build())
+                    .build());
+        }
+        final JsonObject thingJson = JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("model", "Speedster 3000")
+                        .set("location", JsonFactory.newObjectBuilder()
+                                .set("latitude", 47.682170)
+                                .set("longitude", 9.386372)
+                                .build())
+                        .build())
+                .set("features", featuresBuilder.build())
+                .build();
+        return ThingsModelFactory.newThing(thingJson);
+    }
+
+    private static Signal<?> createSignal(final String signalType, final Thing thing) {
+        final ThingId thingId = thing.getEntityId().orElseThrow();
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("integration:benchmark")))
+                .correlationId("benchmark-correlation-id")
+                .schemaVersion(JsonSchemaVersion.LATEST)
+                .build();
+        return switch (signalType) {
+            case "ModifyThing" -> ModifyThing.of(thingId, thing, null, dittoHeaders);
+            case "ThingModified" -> ThingModified.of(thing, 42L, Instant.now(), dittoHeaders, null);
+            case "RetrieveThingResponse" -> RetrieveThingResponse.of(thingId, thing, null, null, dittoHeaders);
+            default -> throw new IllegalArgumentException("Unknown signal type <" + signalType + ">");
+        };
+    }
+
+    /**
+     * MappingStrategies for the benchmarked signals, loaded via {@code ditto.mapping-strategy.implementation}.
+     */
+    public static final class ThingSignalMappingStrategies extends MappingStrategies {
+
+        public ThingSignalMappingStrategies() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalCommandRegistry.getInstance())
+                    .add(GlobalCommandResponseRegistry.getInstance())
+                    .add(GlobalEventRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
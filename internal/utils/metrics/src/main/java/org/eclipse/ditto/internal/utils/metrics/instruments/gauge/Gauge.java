@@ -59,4 +59,12 @@ public interface Gauge extends ResettableMetricInstrument, TaggedMetricInstrumen
      * @return The current value of the gauge.
      */
     Long get();
+
+    /**
+     * Removes the gauge with its tags, so that it is no longer reported. Setting its value again reports it again.
+     *
+     * @return True if the gauge was removed. False if it was not reported.
+     * @since 3.6.0
+     */
+    boolean remove();
 }
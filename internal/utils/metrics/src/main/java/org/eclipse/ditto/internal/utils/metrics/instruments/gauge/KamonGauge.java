@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import kamon.Kamon;
+import kamon.metric.Metric;
 
 /**
  * Kamon based implementation of {@link Gauge}.
@@ -106,6 +107,18 @@ public final class KamonGauge implements Gauge {
         return true;
     }
 
+    @Override
+    public boolean remove() {
+        final Metric.Gauge kamonGauge = Kamon.gauge(name);
+        final boolean removed = kamonGauge.remove(KamonTagSetConverter.getKamonTagSet(tags));
+        if (removed && kamonGauge instanceof Metric.BaseMetric<?, ?, ?> baseMetric) {
+            // Kamon only drops removed instruments with the next resetting snapshot; gauges keep their values anyway
+            baseMetric.snapshot(true);
+        }
+        LOGGER.trace("Removed gauge with name <{}> and tags <{}>: <{}>.", name, tags, removed);
+        return removed;
+    }
+
     private kamon.metric.Gauge getKamonInternalGauge() {
         return Kamon.gauge(name).withTags(KamonTagSetConverter.getKamonTagSet(tags));
     }
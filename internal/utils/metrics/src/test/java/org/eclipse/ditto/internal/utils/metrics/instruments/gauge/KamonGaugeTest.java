@@ -14,6 +14,7 @@ package org.eclipse.ditto.internal.utils.metrics.instruments.gauge;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import org.eclipse.ditto.internal.utils.metrics.instruments.tag.Tag;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -41,6 +42,16 @@ public class KamonGaugeTest {
         assertThat(sut.get()).isZero();
     }
 
+    @Test
+    public void remove() {
+        final Gauge tagged = sut.tag(Tag.of("shape", "removed"));
+        tagged.set(5L);
+
+        assertThat(tagged.remove()).isTrue();
+        assertThat(tagged.remove()).isFalse();
+        assertThat(tagged.get()).isZero();
+    }
+
     @Test
     public void increment() {
         sut.set(5L);
@@ -14,6 +14,8 @@ package org.eclipse.ditto.internal.utils.persistence;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.Optional;
+
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.internal.utils.extension.DittoExtensionIds;
@@ -44,6 +46,23 @@ public interface SnapshotAdapter<T> extends DittoExtensionPoint {
      */
     Object toSnapshotStore(T snapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to a delta snapshot which only contains its changes relative to an
+     * earlier snapshot, its base snapshot. Adapters which do not support delta snapshots return an empty optional.
+     *
+     * @param baseSnapshot the domain model type of the base snapshot.
+     * @param baseSequenceNumber the sequence number of the base snapshot.
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @param maxSizeRatio the maximum size of the delta snapshot relative to the full snapshot.
+     * @return the Database type of the delta snapshot or an empty optional if no delta snapshot should be persisted.
+     * @since 3.6.0
+     */
+    default Optional<Object> toDeltaSnapshotStore(final T baseSnapshot, final long baseSequenceNumber,
+            final T snapshot, final double maxSizeRatio) {
+
+        return Optional.empty();
+    }
+
     /**
      * Converts a "database snapshot" (directly loaded from the database) type to a domain model snapshot type.
      *
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.journal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.persistence.JournalProtocol;
+import org.apache.pekko.persistence.Persistence;
+import org.apache.pekko.persistence.PersistentEnvelope;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Journal plugin which coalesces the event writes of all persistent actors of a node using it into bulk writes of
+ * another journal plugin, its delegate.
+ * <p>
+ * As long as no write of the delegate is in flight, a write is passed on immediately. Writes arriving while one is in
+ * flight are collected and written together once it completed, so that many entities which are modified at the same
+ * time cause one journal write per round trip instead of one each. The replies of the delegate are passed back to the
+ * writing actors in the order of their events; all other journal messages, e.g. for recovery or deletion, are
+ * forwarded to the delegate unchanged.
+ * </p>
+ * <p>
+ * Plugin configuration:
+ * <pre>
+ * coalescing-journal {
+ *   class = "org.eclipse.ditto.internal.utils.persistence.journal.CoalescingJournal"
+ *   delegate = "the-id-of-the-journal-plugin-to-write-to"
+ *   max-batch-size = 1000
+ * }
+ * </pre>
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public final class CoalescingJournal extends AbstractActor {
+
+    /**
+     * Config path of the ID of the journal plugin to write to.
+     */
+    static final String DELEGATE = "delegate";
+
+    /**
+     * Config path of the maximum number of events to write together.
+     */
+    static final String MAX_BATCH_SIZE = "max-batch-size";
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ActorRef delegate;
+    private final int maxBatchSize;
+    private final Deque<JournalProtocol.WriteMessages> queuedWrites;
+    private final List<JournalProtocol.WriteMessages> inFlightWrites;
+    private final Deque<ReplyTarget> inFlightReplyTargets;
+    private boolean writeInFlight;
+
+    @SuppressWarnings("unused")
+    private CoalescingJournal(final Config config) {
+        final String delegatePluginId = config.getString(DELEGATE);
+        delegate = Persistence.get(getContext().getSystem()).journalFor(delegatePluginId, ConfigFactory.empty());
+        maxBatchSize = config.hasPath(MAX_BATCH_SIZE) ? config.getInt(MAX_BATCH_SIZE) : DEFAULT_MAX_BATCH_SIZE;
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("The max-batch-size of a coalescing journal must be positive!");
+        }
+        queuedWrites = new ArrayDeque<>();
+        inFlightWrites = new ArrayList<>();
+        inFlightReplyTargets = new ArrayDeque<>();
+        writeInFlight = false;
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(JournalProtocol.WriteMessages.class, this::enqueueWrite)
+                .matchEquals(JournalProtocol.WriteMessagesSuccessful$.MODULE$, this::writeMessagesSuccessful)
+                .match(JournalProtocol.WriteMessagesFailed.class, this::writeMessagesFailed)
+                .match(JournalProtocol.WriteMessageSuccess.class, success -> {
+                    final ReplyTarget target = nextReplyTarget();
+                    target.tell(new JournalProtocol.WriteMessageSuccess(success.persistent(), target.instanceId),
+                            getSender());
+                    writeNextBatchIfComplete();
+                })
+                .match(JournalProtocol.WriteMessageRejected.class, rejected -> {
+                    final ReplyTarget target = nextReplyTarget();
+                    target.tell(new JournalProtocol.WriteMessageRejected(rejected.message(), rejected.cause(),
+                            target.instanceId), getSender());
+                    writeNextBatchIfComplete();
+                })
+                .match(JournalProtocol.WriteMessageFailure.class, failure -> {
+                    final ReplyTarget target = nextReplyTarget();
+                    target.tell(new JournalProtocol.WriteMessageFailure(failure.message(), failure.cause(),
+                            target.instanceId), getSender());
+                    writeNextBatchIfComplete();
+                })
+                .match(JournalProtocol.LoopMessageSuccess.class, loop -> {
+                    final ReplyTarget target = nextReplyTarget();
+                    target.tell(new JournalProtocol.LoopMessageSuccess(loop.message(), target.instanceId),
+                            getSender());
+                    writeNextBatchIfComplete();
+                })
+                .matchAny(message -> delegate.forward(message, getContext()))
+                .build();
+    }
+
+    private void enqueueWrite(final JournalProtocol.WriteMessages writeMessages) {
+        queuedWrites.add(writeMessages);
+        if (!writeInFlight) {
+            writeNextBatch();
+        }
+    }
+
+    private void writeNextBatch() {
+        final List<PersistentEnvelope> envelopes = new ArrayList<>();
+        int batchSize = 0;
+        while (!queuedWrites.isEmpty() &&
+                (inFlightWrites.isEmpty() || batchSize + size(queuedWrites.getFirst()) <= maxBatchSize)) {
+            final JournalProtocol.WriteMessages writeMessages = queuedWrites.removeFirst();
+            inFlightWrites.add(writeMessages);
+            for (final PersistentEnvelope envelope : CollectionConverters.asJava(writeMessages.messages())) {
+                envelopes.add(envelope);
+                for (int i = 0; i < envelope.size(); i++) {
+                    inFlightReplyTargets.add(new ReplyTarget(writeMessages.persistentActor(),
+                            writeMessages.actorInstanceId()));
+                }
+                batchSize += envelope.size();
+            }
+        }
+        if (inFlightWrites.isEmpty()) {
+            writeInFlight = false;
+        } else {
+            writeInFlight = true;
+            log.debug("Writing <{}> events of <{}> writes.", batchSize, inFlightWrites.size());
+            delegate.tell(new JournalProtocol.WriteMessages(CollectionConverters.asScala(envelopes).toList(),
+                    getSelf(), 0), getSelf());
+        }
+    }
+
+    private void writeMessagesSuccessful(final Object writeMessagesSuccessful) {
+        for (final JournalProtocol.WriteMessages writeMessages : inFlightWrites) {
+            writeMessages.persistentActor().tell(writeMessagesSuccessful, getSender());
+        }
+        inFlightWrites.clear();
+        writeNextBatchIfComplete();
+    }
+
+    private void writeMessagesFailed(final JournalProtocol.WriteMessagesFailed writeMessagesFailed) {
+        log.warning("Failed to write <{}> events of <{}> writes: <{}>", inFlightReplyTargets.size(),
+                inFlightWrites.size(), writeMessagesFailed.cause());
+        for (final JournalProtocol.WriteMessages writeMessages : inFlightWrites) {
+            final int atomicWriteCount = (int) CollectionConverters.asJava(writeMessages.messages())
+                    .stream()
+                    .filter(AtomicWrite.class::isInstance)
+                    .count();
+            writeMessages.persistentActor()
+                    .tell(new JournalProtocol.WriteMessagesFailed(writeMessagesFailed.cause(), atomicWriteCount),
+                            getSender());
+        }
+        inFlightWrites.clear();
+        writeNextBatchIfComplete();
+    }
+
+    private ReplyTarget nextReplyTarget() {
+        final ReplyTarget target = inFlightReplyTargets.pollFirst();
+        if (target == null) {
+            throw new IllegalStateException("Received a reply of the delegate journal for an unknown write.");
+        }
+        return target;
+    }
+
+    /**
+     * The delegate replies to a write with one message for the whole write followed by one message per event, so a
+     * write is complete once its overall result was passed on and no event reply is outstanding.
+     */
+    private void writeNextBatchIfComplete() {
+        if (inFlightWrites.isEmpty() && inFlightReplyTargets.isEmpty()) {
+            writeNextBatch();
+        }
+    }
+
+    private static int size(final JournalProtocol.WriteMessages writeMessages) {
+        int size = 0;
+        for (final PersistentEnvelope envelope : CollectionConverters.asJava(writeMessages.messages())) {
+            size += envelope.size();
+        }
+        return size;
+    }
+
+    private record ReplyTarget(ActorRef persistentActor, int instanceId) {
+
+        private void tell(final Object reply, final ActorRef sender) {
+            persistentActor.tell(reply, sender);
+        }
+
+    }
+
+}
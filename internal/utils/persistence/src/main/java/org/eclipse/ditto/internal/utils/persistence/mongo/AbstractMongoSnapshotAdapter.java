@@ -26,6 +26,7 @@ import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.snapshot.DeltaSnapshots;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
@@ -81,6 +82,23 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return dittoBsonJson.parse(json);
     }
 
+    @Override
+    public Optional<Object> toDeltaSnapshotStore(final T baseSnapshot, final long baseSequenceNumber,
+            final T snapshot, final double maxSizeRatio) {
+
+        checkNotNull(baseSnapshot, "base snapshot");
+        checkNotNull(snapshot, "snapshot entity");
+        if (isDeleted(baseSnapshot) || isDeleted(snapshot)) {
+            return Optional.empty();
+        }
+        final JsonObject json = convertToJson(snapshot);
+        return DeltaSnapshots.computeDelta(convertToJson(baseSnapshot), baseSequenceNumber, json, maxSizeRatio)
+                .map(delta -> {
+                    onSnapshotStoreConversion(snapshot, json);
+                    return DittoBsonJson.getInstance().parse(delta);
+                });
+    }
+
     /**
      * This method is called exactly once when a snapshot is created.
      * It does nothing by default.
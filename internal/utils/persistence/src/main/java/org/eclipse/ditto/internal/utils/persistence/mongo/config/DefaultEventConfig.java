@@ -33,11 +33,19 @@ public final class DefaultEventConfig implements EventConfig {
     private static final String CONFIG_PATH = "event";
 
     private final List<String> historicalHeadersToPersist;
+    private final boolean groupCommitEnabled;
+    private final int groupCommitMaxUnconfirmedEvents;
+    private final boolean journalWriteCoalescingEnabled;
 
     private DefaultEventConfig(final ScopedConfig config) {
         historicalHeadersToPersist = Collections.unmodifiableList(new ArrayList<>(
                 config.getStringList(EventConfigValue.HISTORICAL_HEADERS_TO_PERSIST.getConfigPath())
         ));
+        groupCommitEnabled = config.getBoolean(EventConfigValue.GROUP_COMMIT_ENABLED.getConfigPath());
+        groupCommitMaxUnconfirmedEvents =
+                config.getPositiveIntOrThrow(EventConfigValue.GROUP_COMMIT_MAX_UNCONFIRMED_EVENTS);
+        journalWriteCoalescingEnabled =
+                config.getBoolean(EventConfigValue.GROUP_COMMIT_COALESCE_JOURNAL_WRITES.getConfigPath());
     }
 
     /**
@@ -57,6 +65,21 @@ public final class DefaultEventConfig implements EventConfig {
         return historicalHeadersToPersist;
     }
 
+    @Override
+    public boolean isGroupCommitEnabled() {
+        return groupCommitEnabled;
+    }
+
+    @Override
+    public int getGroupCommitMaxUnconfirmedEvents() {
+        return groupCommitMaxUnconfirmedEvents;
+    }
+
+    @Override
+    public boolean isJournalWriteCoalescingEnabled() {
+        return journalWriteCoalescingEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -66,18 +89,25 @@ public final class DefaultEventConfig implements EventConfig {
             return false;
         }
         final DefaultEventConfig that = (DefaultEventConfig) o;
-        return Objects.equals(historicalHeadersToPersist, that.historicalHeadersToPersist);
+        return groupCommitEnabled == that.groupCommitEnabled &&
+                groupCommitMaxUnconfirmedEvents == that.groupCommitMaxUnconfirmedEvents &&
+                journalWriteCoalescingEnabled == that.journalWriteCoalescingEnabled &&
+                Objects.equals(historicalHeadersToPersist, that.historicalHeadersToPersist);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(historicalHeadersToPersist);
+        return Objects.hash(historicalHeadersToPersist, groupCommitEnabled, groupCommitMaxUnconfirmedEvents,
+                journalWriteCoalescingEnabled);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "historicalHeadersToPersist=" + historicalHeadersToPersist +
+                ", groupCommitEnabled=" + groupCommitEnabled +
+                ", groupCommitMaxUnconfirmedEvents=" + groupCommitMaxUnconfirmedEvents +
+                ", journalWriteCoalescingEnabled=" + journalWriteCoalescingEnabled +
                 "]";
     }
 
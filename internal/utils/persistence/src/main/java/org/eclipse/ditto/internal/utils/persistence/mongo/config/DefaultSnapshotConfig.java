@@ -32,10 +32,16 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final boolean deltaEnabled;
+    private final int deltaMaxDeltasPerBase;
+    private final double deltaMaxSizeRatio;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getNonNegativeAndNonZeroDurationOrThrow(SnapshotConfigValue.INTERVAL);
         threshold = config.getPositiveLongOrThrow((SnapshotConfigValue.THRESHOLD));
+        deltaEnabled = config.getBoolean(SnapshotConfigValue.DELTA_ENABLED.getConfigPath());
+        deltaMaxDeltasPerBase = config.getPositiveIntOrThrow(SnapshotConfigValue.DELTA_MAX_DELTAS_PER_BASE);
+        deltaMaxSizeRatio = config.getPositiveDoubleOrThrow(SnapshotConfigValue.DELTA_MAX_SIZE_RATIO);
     }
 
     /**
@@ -60,6 +66,21 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public boolean isDeltaEnabled() {
+        return deltaEnabled;
+    }
+
+    @Override
+    public int getDeltaMaxDeltasPerBase() {
+        return deltaMaxDeltasPerBase;
+    }
+
+    @Override
+    public double getDeltaMaxSizeRatio() {
+        return deltaMaxSizeRatio;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -69,12 +90,16 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                deltaEnabled == that.deltaEnabled &&
+                deltaMaxDeltasPerBase == that.deltaMaxDeltasPerBase &&
+                Double.compare(deltaMaxSizeRatio, that.deltaMaxSizeRatio) == 0 &&
+                Objects.equals(interval, that.interval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, deltaEnabled, deltaMaxDeltasPerBase, deltaMaxSizeRatio);
     }
 
     @Override
@@ -82,6 +107,9 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", deltaEnabled=" + deltaEnabled +
+                ", deltaMaxDeltasPerBase=" + deltaMaxDeltasPerBase +
+                ", deltaMaxSizeRatio=" + deltaMaxSizeRatio +
                 "]";
     }
 
@@ -33,6 +33,33 @@ public interface EventConfig {
      */
     List<String> getHistoricalHeadersToPersist();
 
+    /**
+     * Indicates whether events of consecutive modifying commands of the same entity are persisted together: while
+     * events are being written to the journal, the entity applies further events in memory and they are written with
+     * the next journal write. Responses are still only sent once their event was persisted.
+     *
+     * @return whether group commit of events is enabled.
+     * @since 3.6.0
+     */
+    boolean isGroupCommitEnabled();
+
+    /**
+     * Returns the maximum number of events which an entity applies in memory before they are persisted when group
+     * commit is enabled. Once reached, the next event is persisted before further commands are processed.
+     *
+     * @return the maximum number of unconfirmed events.
+     * @since 3.6.0
+     */
+    int getGroupCommitMaxUnconfirmedEvents();
+
+    /**
+     * Indicates whether the event writes of all entities of a node are coalesced into bulk writes of the journal by
+     * using a {@link org.eclipse.ditto.internal.utils.persistence.journal.CoalescingJournal} in front of it.
+     *
+     * @return whether journal writes of different entities are coalesced.
+     * @since 3.6.0
+     */
+    boolean isJournalWriteCoalescingEnabled();
 
     /**
      * An enumeration of the known config path expressions and their associated default values for
@@ -46,7 +73,22 @@ public interface EventConfig {
         HISTORICAL_HEADERS_TO_PERSIST("historical-headers-to-persist", List.of(
                 DittoHeaderDefinition.ORIGINATOR.getKey(),
                 DittoHeaderDefinition.CORRELATION_ID.getKey()
-        ));
+        )),
+
+        /**
+         * Whether events of consecutive modifying commands are persisted together.
+         */
+        GROUP_COMMIT_ENABLED("group-commit.enabled", false),
+
+        /**
+         * The maximum number of events applied in memory before they are persisted.
+         */
+        GROUP_COMMIT_MAX_UNCONFIRMED_EVENTS("group-commit.max-unconfirmed-events", 100),
+
+        /**
+         * Whether journal writes of different entities are coalesced into bulk writes.
+         */
+        GROUP_COMMIT_COALESCE_JOURNAL_WRITES("group-commit.coalesce-journal-writes", false);
 
         private final String path;
         private final Object defaultValue;
@@ -38,6 +38,33 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Indicates whether snapshots are taken as deltas to the latest full snapshot, the base snapshot, as long as the
+     * delta is small compared to the entity.
+     *
+     * @return whether delta snapshots are enabled.
+     * @since 3.6.0
+     */
+    boolean isDeltaEnabled();
+
+    /**
+     * Returns the number of delta snapshots after which a full snapshot is taken again, compacting the base snapshot
+     * and its deltas.
+     *
+     * @return the maximum number of delta snapshots per base snapshot.
+     * @since 3.6.0
+     */
+    int getDeltaMaxDeltasPerBase();
+
+    /**
+     * Returns the maximum size of a delta snapshot relative to the size of a full snapshot; if a delta is larger, a
+     * full snapshot is taken instead.
+     *
+     * @return the maximum size ratio of delta snapshots.
+     * @since 3.6.0
+     */
+    double getDeltaMaxSizeRatio();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +79,22 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * Whether snapshots are taken as deltas to the latest full snapshot.
+         */
+        DELTA_ENABLED("delta.enabled", false),
+
+        /**
+         * The number of delta snapshots after which a full snapshot is taken again.
+         */
+        DELTA_MAX_DELTAS_PER_BASE("delta.max-deltas-per-base", 10),
+
+        /**
+         * The maximum size of a delta snapshot relative to the size of a full snapshot.
+         */
+        DELTA_MAX_SIZE_RATIO("delta.max-size-ratio", 0.5);
 
         private final String path;
         private final Object defaultValue;
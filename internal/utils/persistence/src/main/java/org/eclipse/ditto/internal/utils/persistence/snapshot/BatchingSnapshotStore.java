@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.persistence.Persistence;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.internal.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoDbConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import pekko.contrib.persistence.mongodb.SnapshottingFieldNames$;
+import scala.Option;
+
+/**
+ * Snapshot store plugin which batches the loading of the latest snapshots of many entities from the MongoDB
+ * snapshot store plugin it wraps, its delegate.
+ * <p>
+ * When many persistent actors of a node recover at the same time, e.g. after a restart or a shard rebalance, each of
+ * them loads its latest snapshot. While fewer than {@code max-concurrent-queries} queries are running, a load is
+ * passed on to the database immediately; loads arriving while all queries are running are collected and loaded
+ * together with one aggregation per {@code max-batch-size} entities. All other snapshot store messages, e.g. for
+ * saving snapshots or loading older snapshots, and all messages in case the plugin is not {@code enabled}, are
+ * forwarded to the delegate unchanged. Loads of a failed query are retried with the delegate.
+ * </p>
+ * <p>
+ * Plugin configuration:
+ * <pre>
+ * batching-snapshot-store {
+ *   class = "org.eclipse.ditto.internal.utils.persistence.snapshot.BatchingSnapshotStore"
+ *   delegate = "the-id-of-the-mongodb-snapshot-store-plugin"
+ *   enabled = true
+ *   max-batch-size = 100
+ *   max-concurrent-queries = 4
+ * }
+ * </pre>
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public final class BatchingSnapshotStore extends AbstractActor {
+
+    /**
+     * Config path of the ID of the snapshot store plugin to load snapshots from.
+     */
+    static final String DELEGATE = "delegate";
+
+    /**
+     * Config path of whether loads of latest snapshots are batched.
+     */
+    static final String ENABLED = "enabled";
+
+    /**
+     * Config path of the maximum number of snapshots to load with one query.
+     */
+    static final String MAX_BATCH_SIZE = "max-batch-size";
+
+    /**
+     * Config path of the maximum number of queries running at the same time.
+     */
+    static final String MAX_CONCURRENT_QUERIES = "max-concurrent-queries";
+
+    private static final String SNAPS_COLLECTION_NAME_KEY = "overrides.snaps-collection";
+    private static final String S_PROCESSOR_ID = SnapshottingFieldNames$.MODULE$.PROCESSOR_ID();
+    private static final String S_SERIALIZED_SNAPSHOT = "s2";
+    private static final String NEWEST_SNAPSHOT = "newest";
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_CONCURRENT_QUERIES = 4;
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ActorRef delegate;
+    @Nullable private final DittoMongoClient mongoClient;
+    @Nullable private final LatestSnapshotsLoader latestSnapshotsLoader;
+    private final int maxBatchSize;
+    private final int maxConcurrentQueries;
+    private final Deque<LoadRequest> queuedLoads;
+    private int runningQueries;
+
+    @SuppressWarnings("unused")
+    private BatchingSnapshotStore(final Config config) {
+        final String delegatePluginId = config.getString(DELEGATE);
+        delegate = Persistence.get(getContext().getSystem()).snapshotStoreFor(delegatePluginId, ConfigFactory.empty());
+        maxBatchSize = config.hasPath(MAX_BATCH_SIZE) ? config.getInt(MAX_BATCH_SIZE) : DEFAULT_MAX_BATCH_SIZE;
+        maxConcurrentQueries = config.hasPath(MAX_CONCURRENT_QUERIES)
+                ? config.getInt(MAX_CONCURRENT_QUERIES)
+                : DEFAULT_MAX_CONCURRENT_QUERIES;
+        checkLimits(maxBatchSize, maxConcurrentQueries);
+        if (config.hasPath(ENABLED) && config.getBoolean(ENABLED)) {
+            final Config systemConfig = getContext().getSystem().settings().config();
+            final String snapsCollection =
+                    systemConfig.getConfig(delegatePluginId).getString(SNAPS_COLLECTION_NAME_KEY);
+            final DittoMongoClient client = MongoClientWrapper.newInstance(
+                    DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(systemConfig)));
+            final Materializer materializer = Materializer.createMaterializer(getContext());
+            mongoClient = client;
+            latestSnapshotsLoader = pids -> loadNewestSnapshots(client, snapsCollection, pids, materializer);
+        } else {
+            mongoClient = null;
+            latestSnapshotsLoader = null;
+        }
+        queuedLoads = new ArrayDeque<>();
+        runningQueries = 0;
+    }
+
+    @SuppressWarnings("unused")
+    private BatchingSnapshotStore(final ActorRef delegate, final LatestSnapshotsLoader latestSnapshotsLoader,
+            final int maxBatchSize, final int maxConcurrentQueries) {
+
+        checkLimits(maxBatchSize, maxConcurrentQueries);
+        this.delegate = delegate;
+        this.latestSnapshotsLoader = latestSnapshotsLoader;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentQueries = maxConcurrentQueries;
+        mongoClient = null;
+        queuedLoads = new ArrayDeque<>();
+        runningQueries = 0;
+    }
+
+    /**
+     * Creates Props of a batching snapshot store loading the latest snapshots with the passed loader instead of
+     * querying MongoDB.
+     *
+     * @param delegate the snapshot store to forward all other messages to.
+     * @param latestSnapshotsLoader loads the latest snapshots of a batch of persistence IDs.
+     * @param maxBatchSize the maximum number of snapshots to load with one query.
+     * @param maxConcurrentQueries the maximum number of queries running at the same time.
+     * @return the Props.
+     */
+    static Props props(final ActorRef delegate, final LatestSnapshotsLoader latestSnapshotsLoader,
+            final int maxBatchSize, final int maxConcurrentQueries) {
+
+        return Props.create(BatchingSnapshotStore.class, delegate, latestSnapshotsLoader, maxBatchSize,
+                maxConcurrentQueries);
+    }
+
+    private static void checkLimits(final int maxBatchSize, final int maxConcurrentQueries) {
+        if (maxBatchSize <= 0 || maxConcurrentQueries <= 0) {
+            throw new IllegalArgumentException(
+                    "The max-batch-size and max-concurrent-queries of a batching snapshot store must be positive!");
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (mongoClient != null) {
+            mongoClient.close();
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(SnapshotProtocol.LoadSnapshot.class, this::isBatchable, this::enqueueLoad)
+                .match(BatchLoaded.class, this::batchLoaded)
+                .matchAny(message -> delegate.forward(message, getContext()))
+                .build();
+    }
+
+    private boolean isBatchable(final SnapshotProtocol.LoadSnapshot loadSnapshot) {
+        final SnapshotSelectionCriteria criteria = loadSnapshot.criteria();
+        return latestSnapshotsLoader != null &&
+                loadSnapshot.toSequenceNr() == Long.MAX_VALUE &&
+                criteria.maxSequenceNr() == Long.MAX_VALUE &&
+                criteria.maxTimestamp() == Long.MAX_VALUE &&
+                criteria.minSequenceNr() == 0L &&
+                criteria.minTimestamp() == 0L;
+    }
+
+    private void enqueueLoad(final SnapshotProtocol.LoadSnapshot loadSnapshot) {
+        queuedLoads.add(new LoadRequest(loadSnapshot, getSender()));
+        loadNextBatches();
+    }
+
+    private void loadNextBatches() {
+        while (runningQueries < maxConcurrentQueries && !queuedLoads.isEmpty()) {
+            final List<LoadRequest> batch = new ArrayList<>(Math.min(maxBatchSize, queuedLoads.size()));
+            while (batch.size() < maxBatchSize && !queuedLoads.isEmpty()) {
+                batch.add(queuedLoads.removeFirst());
+            }
+            ++runningQueries;
+            log.debug("Loading <{}> latest snapshots with one query.", batch.size());
+            final List<String> pids = batch.stream().map(request -> request.loadSnapshot.persistenceId()).toList();
+            final CompletionStage<BatchLoaded> result = latestSnapshotsLoader.loadLatestSnapshots(pids)
+                    .handle((snapshots, error) -> new BatchLoaded(batch, snapshots, error));
+            Patterns.pipe(result, getContext().getDispatcher()).to(getSelf());
+        }
+    }
+
+    private static CompletionStage<List<BsonDocument>> loadNewestSnapshots(final DittoMongoClient mongoClient,
+            final String snapsCollection, final List<String> pids, final Materializer materializer) {
+
+        final var snaps = mongoClient.getDefaultDatabase().getCollection(snapsCollection, BsonDocument.class);
+        final var pipeline = List.of(
+                Aggregates.match(Filters.in(S_PROCESSOR_ID, pids)),
+                Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID),
+                        Sorts.descending(MongoReadJournal.S_SN))),
+                Aggregates.group("$" + S_PROCESSOR_ID, Accumulators.first(NEWEST_SNAPSHOT, "$$ROOT"))
+        );
+        return Source.fromPublisher(snaps.aggregate(pipeline))
+                .map(group -> group.getDocument(NEWEST_SNAPSHOT))
+                .runWith(Sink.seq(), materializer);
+    }
+
+    private void batchLoaded(final BatchLoaded batchLoaded) {
+        --runningQueries;
+        if (batchLoaded.error != null) {
+            log.warning("Failed to load <{}> latest snapshots with one query, loading them one by one: <{}>",
+                    batchLoaded.batch.size(), batchLoaded.error);
+            batchLoaded.batch.forEach(request -> delegate.tell(request.loadSnapshot, request.sender));
+        } else {
+            final Map<String, BsonDocument> snapshotsByPid = new HashMap<>();
+            batchLoaded.snapshots.forEach(snapshot ->
+                    snapshotsByPid.put(snapshot.getString(S_PROCESSOR_ID).getValue(), snapshot));
+            batchLoaded.batch.forEach(request ->
+                    reply(request, snapshotsByPid.get(request.loadSnapshot.persistenceId())));
+        }
+        loadNextBatches();
+    }
+
+    private void reply(final LoadRequest request, @Nullable final BsonDocument snapshot) {
+        if (snapshot == null) {
+            request.sender.tell(new SnapshotProtocol.LoadSnapshotResult(Option.empty(),
+                    request.loadSnapshot.toSequenceNr()), getSelf());
+        } else if (snapshot.get(S_SERIALIZED_SNAPSHOT) instanceof BsonDocument content) {
+            final SnapshotMetadata metadata = new SnapshotMetadata(request.loadSnapshot.persistenceId(),
+                    getLong(snapshot, MongoReadJournal.S_SN), getLong(snapshot, MongoReadJournal.S_TS));
+            request.sender.tell(new SnapshotProtocol.LoadSnapshotResult(
+                    Option.apply(SelectedSnapshot.create(metadata, content)),
+                    request.loadSnapshot.toSequenceNr()), getSelf());
+        } else {
+            // snapshots which are not stored as BSON documents are deserialized by the delegate
+            delegate.tell(request.loadSnapshot, request.sender);
+        }
+    }
+
+    private static long getLong(final BsonDocument document, final String key) {
+        final BsonValue value = document.get(key);
+        return value != null && value.isNumber() ? value.asNumber().longValue() : 0L;
+    }
+
+    /**
+     * Loads the latest snapshots of a batch of persistence IDs as stored in the snapshot collection.
+     */
+    @FunctionalInterface
+    interface LatestSnapshotsLoader {
+
+        /**
+         * Loads the latest snapshots of the passed persistence IDs.
+         *
+         * @param persistenceIds the persistence IDs.
+         * @return the latest snapshot document of each persistence ID with a snapshot.
+         */
+        CompletionStage<List<BsonDocument>> loadLatestSnapshots(List<String> persistenceIds);
+
+    }
+
+    private record LoadRequest(SnapshotProtocol.LoadSnapshot loadSnapshot, ActorRef sender) {}
+
+    private record BatchLoaded(List<LoadRequest> batch, @Nullable List<BsonDocument> snapshots,
+            @Nullable Throwable error) {}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.persistence.DeleteSnapshotsFailure;
+import org.apache.pekko.persistence.Persistence;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonObject;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import scala.Option;
+
+/**
+ * Snapshot store plugin which resolves the delta snapshots computed by {@link DeltaSnapshots} when loading snapshots
+ * from another snapshot store plugin, its delegate.
+ * <p>
+ * When the delegate loads a delta snapshot, its base snapshot is loaded as well and the changes of the delta are
+ * applied to it, so that persistent actors always recover from full snapshots. Deleting snapshots never deletes the
+ * base snapshot of the latest snapshot of an entity. All other snapshot store messages, e.g. for saving snapshots,
+ * are forwarded to the delegate unchanged.
+ * </p>
+ * <p>
+ * Plugin configuration:
+ * <pre>
+ * delta-snapshot-store {
+ *   class = "org.eclipse.ditto.internal.utils.persistence.snapshot.DeltaSnapshotStore"
+ *   delegate = "the-id-of-the-snapshot-store-plugin-to-store-snapshots-in"
+ *   ask-timeout = 30s
+ * }
+ * </pre>
+ * </p>
+ *
+ * @since 3.6.0
+ */
+public final class DeltaSnapshotStore extends AbstractActor {
+
+    /**
+     * Config path of the ID of the snapshot store plugin to store snapshots in.
+     */
+    static final String DELEGATE = "delegate";
+
+    /**
+     * Config path of the timeout of loading snapshots from the delegate.
+     */
+    static final String ASK_TIMEOUT = "ask-timeout";
+
+    private static final Duration DEFAULT_ASK_TIMEOUT = Duration.ofSeconds(30L);
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final ActorRef delegate;
+    private final Duration askTimeout;
+
+    @SuppressWarnings("unused")
+    private DeltaSnapshotStore(final Config config) {
+        final String delegatePluginId = config.getString(DELEGATE);
+        delegate = Persistence.get(getContext().getSystem())
+                .snapshotStoreFor(delegatePluginId, ConfigFactory.empty());
+        askTimeout = config.hasPath(ASK_TIMEOUT) ? config.getDuration(ASK_TIMEOUT) : DEFAULT_ASK_TIMEOUT;
+    }
+
+    @SuppressWarnings("unused")
+    private DeltaSnapshotStore(final ActorRef delegate, final Duration askTimeout) {
+        this.delegate = delegate;
+        this.askTimeout = askTimeout;
+    }
+
+    /**
+     * Creates Props of a delta snapshot store with the passed delegate instead of a configured snapshot store plugin.
+     *
+     * @param delegate the snapshot store to store snapshots in.
+     * @param askTimeout the timeout of loading snapshots from the delegate.
+     * @return the Props.
+     */
+    static Props props(final ActorRef delegate, final Duration askTimeout) {
+        return Props.create(DeltaSnapshotStore.class, delegate, askTimeout);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(SnapshotProtocol.LoadSnapshot.class, this::loadSnapshot)
+                .match(SnapshotProtocol.DeleteSnapshots.class, this::deleteSnapshots)
+                .matchAny(message -> delegate.forward(message, getContext()))
+                .build();
+    }
+
+    private void loadSnapshot(final SnapshotProtocol.LoadSnapshot loadSnapshot) {
+        final ActorRef sender = getSender();
+        askDelegate(loadSnapshot)
+                .thenCompose(result -> resolveDelta(loadSnapshot.persistenceId(), result))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.warning("Failed to load snapshot of <{}>: <{}>", loadSnapshot.persistenceId(), error);
+                        sender.tell(new SnapshotProtocol.LoadSnapshotFailed(unwrap(error)), ActorRef.noSender());
+                    } else {
+                        sender.tell(result, ActorRef.noSender());
+                    }
+                });
+    }
+
+    private void deleteSnapshots(final SnapshotProtocol.DeleteSnapshots deleteSnapshots) {
+        final ActorRef sender = getSender();
+        final SnapshotSelectionCriteria criteria = deleteSnapshots.criteria();
+        askDelegate(new SnapshotProtocol.LoadSnapshot(deleteSnapshots.persistenceId(),
+                SnapshotSelectionCriteria.latest(), Long.MAX_VALUE))
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        // deleting without knowing the base of the latest snapshot could delete that base
+                        log.warning("Failed to load latest snapshot of <{}> before deleting snapshots: <{}>",
+                                deleteSnapshots.persistenceId(), error);
+                        sender.tell(new DeleteSnapshotsFailure(criteria, unwrap(error)), ActorRef.noSender());
+                    } else {
+                        delegate.tell(keepBaseOfLatestSnapshot(deleteSnapshots, result.snapshot()), sender);
+                    }
+                });
+    }
+
+    private static SnapshotProtocol.DeleteSnapshots keepBaseOfLatestSnapshot(
+            final SnapshotProtocol.DeleteSnapshots deleteSnapshots, final Option<SelectedSnapshot> latestSnapshot) {
+
+        final SnapshotSelectionCriteria criteria = deleteSnapshots.criteria();
+        final OptionalLong baseSequenceNumber = getBaseSequenceNumber(latestSnapshot);
+        if (baseSequenceNumber.isPresent() && baseSequenceNumber.getAsLong() <= criteria.maxSequenceNr()) {
+            final SnapshotSelectionCriteria keepingBase = SnapshotSelectionCriteria.create(
+                    baseSequenceNumber.getAsLong() - 1, criteria.maxTimestamp(), criteria.minSequenceNr(),
+                    criteria.minTimestamp());
+            return new SnapshotProtocol.DeleteSnapshots(deleteSnapshots.persistenceId(), keepingBase);
+        } else {
+            return deleteSnapshots;
+        }
+    }
+
+    private CompletionStage<SnapshotProtocol.LoadSnapshotResult> askDelegate(
+            final SnapshotProtocol.LoadSnapshot loadSnapshot) {
+
+        return Patterns.ask(delegate, loadSnapshot, askTimeout).thenCompose(reply -> {
+            if (reply instanceof SnapshotProtocol.LoadSnapshotResult loadSnapshotResult) {
+                return CompletableFuture.completedStage(loadSnapshotResult);
+            } else if (reply instanceof SnapshotProtocol.LoadSnapshotFailed loadSnapshotFailed) {
+                return CompletableFuture.failedStage(loadSnapshotFailed.cause());
+            } else {
+                return CompletableFuture.failedStage(new IllegalStateException(
+                        "Unexpected reply of snapshot store <" + delegate + ">: " + reply));
+            }
+        });
+    }
+
+    private CompletionStage<SnapshotProtocol.LoadSnapshotResult> resolveDelta(final String persistenceId,
+            final SnapshotProtocol.LoadSnapshotResult result) {
+
+        final OptionalLong baseSequenceNumber = getBaseSequenceNumber(result.snapshot());
+        if (baseSequenceNumber.isEmpty()) {
+            return CompletableFuture.completedStage(result);
+        }
+        final long baseSeqNr = baseSequenceNumber.getAsLong();
+        final SelectedSnapshot delta = result.snapshot().get();
+        return askDelegate(new SnapshotProtocol.LoadSnapshot(persistenceId,
+                SnapshotSelectionCriteria.create(baseSeqNr, Long.MAX_VALUE, baseSeqNr, 0L), baseSeqNr))
+                .thenApply(baseResult -> {
+                    if (baseResult.snapshot().isEmpty() || !(baseResult.snapshot().get().snapshot()
+                            instanceof BsonDocument baseDocument)) {
+                        throw new IllegalStateException("The base snapshot <" + baseSeqNr +
+                                "> of the delta snapshot <" + delta.metadata() + "> is missing.");
+                    }
+                    final JsonObject fullSnapshot = DeltaSnapshots.applyDelta(toJson(baseDocument),
+                            toJson((BsonDocument) delta.snapshot()));
+                    final SelectedSnapshot resolved = SelectedSnapshot.create(delta.metadata(),
+                            DittoBsonJson.getInstance().parse(fullSnapshot));
+                    return new SnapshotProtocol.LoadSnapshotResult(Option.apply(resolved), result.toSequenceNr());
+                });
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static OptionalLong getBaseSequenceNumber(final Option<SelectedSnapshot> selectedSnapshot) {
+        if (selectedSnapshot.isDefined() &&
+                selectedSnapshot.get().snapshot() instanceof BsonDocument document &&
+                document.containsKey(DeltaSnapshots.BASE_SEQUENCE_NUMBER)) {
+            return DeltaSnapshots.getBaseSequenceNumber(toJson(document));
+        }
+        return OptionalLong.empty();
+    }
+
+    private static JsonObject toJson(final BsonDocument document) {
+        return DittoBsonJson.getInstance().serialize(document);
+    }
+
+}
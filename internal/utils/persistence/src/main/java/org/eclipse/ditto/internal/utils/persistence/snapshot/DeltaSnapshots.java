@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Computes and applies delta snapshots: the JSON of a snapshot expressed as changes to the JSON of an earlier full
+ * snapshot, its base snapshot.
+ * <p>
+ * A delta snapshot contains the sequence number of its base snapshot in {@value #BASE_SEQUENCE_NUMBER} and the changes
+ * in {@value #CHANGES}. Each change is an object with the path of the changed value as array of keys in {@code "p"}
+ * and the new value in {@code "v"}; a change without {@code "v"} removes the value. Other than a JSON merge patch
+ * this can express {@code null} values and keys containing slashes. The top-level fields of the snapshot which are no
+ * objects, e.g. the revision or the policy ID, are additionally copied to the delta snapshot so that queries
+ * projecting them from the newest snapshot of an entity need not resolve deltas.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class DeltaSnapshots {
+
+    /**
+     * Top-level field of a delta snapshot containing the sequence number of its base snapshot.
+     */
+    public static final String BASE_SEQUENCE_NUMBER = "__deltaBase";
+
+    /**
+     * Top-level field of a delta snapshot containing the changes to its base snapshot.
+     */
+    public static final String CHANGES = "__deltaChanges";
+
+    private static final String PATH = "p";
+    private static final String VALUE = "v";
+
+    private DeltaSnapshots() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Computes the delta snapshot of a snapshot relative to a base snapshot.
+     *
+     * @param base the JSON of the base snapshot.
+     * @param baseSequenceNumber the sequence number of the base snapshot.
+     * @param snapshot the JSON of the snapshot.
+     * @param maxSizeRatio the maximum size of the delta snapshot relative to {@code snapshot}.
+     * @return the delta snapshot or an empty optional if it would exceed the maximum size.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static Optional<JsonObject> computeDelta(final JsonObject base, final long baseSequenceNumber,
+            final JsonObject snapshot, final double maxSizeRatio) {
+
+        checkNotNull(base, "base");
+        checkNotNull(snapshot, "snapshot");
+        final long maxSize = (long) (snapshot.getUpperBoundForStringSize() * maxSizeRatio);
+        final JsonArray changes = collectChanges(JsonPointer.empty(), base, snapshot, JsonFactory.newArrayBuilder())
+                .build();
+        if (changes.getUpperBoundForStringSize() > maxSize) {
+            return Optional.empty();
+        }
+        final JsonObjectBuilder deltaBuilder = JsonObject.newBuilder();
+        for (final JsonField field : snapshot) {
+            if (!field.getValue().isObject()) {
+                deltaBuilder.set(field);
+            }
+        }
+        return Optional.of(deltaBuilder.set(BASE_SEQUENCE_NUMBER, baseSequenceNumber)
+                .set(CHANGES, changes)
+                .build());
+    }
+
+    /**
+     * Returns the sequence number of the base snapshot of a delta snapshot.
+     *
+     * @param snapshot the JSON of a snapshot.
+     * @return the sequence number of the base snapshot or an empty optional if {@code snapshot} is no delta snapshot.
+     */
+    public static OptionalLong getBaseSequenceNumber(final JsonObject snapshot) {
+        return snapshot.getValue(JsonKey.of(BASE_SEQUENCE_NUMBER))
+                .filter(JsonValue::isNumber)
+                .map(value -> OptionalLong.of(value.asLong()))
+                .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * Applies the changes of a delta snapshot to its base snapshot.
+     *
+     * @param base the JSON of the base snapshot.
+     * @param delta the JSON of the delta snapshot.
+     * @return the JSON of the full snapshot.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code delta} is no delta snapshot.
+     */
+    public static JsonObject applyDelta(final JsonObject base, final JsonObject delta) {
+        checkNotNull(base, "base");
+        final JsonArray changes = checkNotNull(delta, "delta").getValue(JsonKey.of(CHANGES))
+                .filter(JsonValue::isArray)
+                .map(JsonValue::asArray)
+                .orElseThrow(() -> new IllegalArgumentException("The snapshot is no delta snapshot."));
+        JsonObject result = base;
+        for (final JsonValue change : changes) {
+            final JsonObject changeObject = change.asObject();
+            final JsonPointer path = toPointer(changeObject.getValue(JsonKey.of(PATH)).orElseThrow().asArray());
+            final Optional<JsonValue> value = changeObject.getValue(JsonKey.of(VALUE));
+            if (value.isPresent()) {
+                result = result.setValue(path, value.get());
+            } else {
+                result = result.remove(path);
+            }
+        }
+        return result;
+    }
+
+    private static JsonArrayBuilder collectChanges(final JsonPointer path, final JsonObject base,
+            final JsonObject snapshot, final JsonArrayBuilder changes) {
+
+        final Map<String, JsonValue> baseValues = new HashMap<>();
+        for (final JsonField field : base) {
+            baseValues.put(field.getKeyName(), field.getValue());
+        }
+        for (final JsonField field : snapshot) {
+            final JsonValue value = field.getValue();
+            final JsonValue baseValue = baseValues.remove(field.getKeyName());
+            final JsonPointer fieldPath = path.addLeaf(field.getKey());
+            if (baseValue == null) {
+                changes.add(setValue(fieldPath, value));
+            } else if (!baseValue.equals(value)) {
+                if (isNonNullObject(baseValue) && isNonNullObject(value)) {
+                    collectChanges(fieldPath, baseValue.asObject(), value.asObject(), changes);
+                } else {
+                    changes.add(setValue(fieldPath, value));
+                }
+            }
+        }
+        for (final String removedKey : baseValues.keySet()) {
+            changes.add(JsonObject.newBuilder()
+                    .set(PATH, toKeyArray(path.addLeaf(JsonKey.of(removedKey))))
+                    .build());
+        }
+        return changes;
+    }
+
+    private static boolean isNonNullObject(final JsonValue value) {
+        return value.isObject() && !value.isNull();
+    }
+
+    private static JsonObject setValue(final JsonPointer path, final JsonValue value) {
+        return JsonObject.newBuilder()
+                .set(PATH, toKeyArray(path))
+                .set(VALUE, value)
+                .build();
+    }
+
+    private static JsonArray toKeyArray(final JsonPointer path) {
+        final JsonArrayBuilder keys = JsonFactory.newArrayBuilder();
+        for (final JsonKey key : path) {
+            keys.add(key.toString());
+        }
+        return keys.build();
+    }
+
+    private static JsonPointer toPointer(final JsonArray keyArray) {
+        final List<JsonKey> keys = new ArrayList<>(keyArray.getSize());
+        for (final JsonValue key : keyArray) {
+            keys.add(JsonKey.of(key.asString()));
+        }
+        return JsonFactory.newPointer(keys.get(0), keys.subList(1, keys.size()).toArray(JsonKey[]::new));
+    }
+
+}
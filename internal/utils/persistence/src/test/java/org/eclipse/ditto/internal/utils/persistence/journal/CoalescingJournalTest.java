@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.persistence.AbstractPersistentActor;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link CoalescingJournal}.
+ */
+public final class CoalescingJournalTest {
+
+    private static final String JOURNAL_PLUGIN_ID = "coalescing-test-journal";
+    private static final String DELEGATE_PLUGIN_ID = "gated-test-journal";
+    private static final String PING = "ping";
+    private static final String PONG = "pong";
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        GatedTestJournal.reset();
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.parseMap(Map.of(
+                JOURNAL_PLUGIN_ID + ".class", CoalescingJournal.class.getName(),
+                JOURNAL_PLUGIN_ID + "." + CoalescingJournal.DELEGATE, DELEGATE_PLUGIN_ID,
+                JOURNAL_PLUGIN_ID + "." + CoalescingJournal.MAX_BATCH_SIZE, 10,
+                DELEGATE_PLUGIN_ID + ".class", GatedTestJournal.class.getName()
+        )).withFallback(ConfigFactory.load("test")));
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = null;
+    }
+
+    @Test
+    public void writesOfDifferentActorsArrivingDuringAWriteAreWrittenTogether() {
+        new TestKit(actorSystem) {{
+            final ActorRef first = actorSystem.actorOf(TestPersistentActor.props("test:first"));
+            final ActorRef second = actorSystem.actorOf(TestPersistentActor.props("test:second"));
+            final ActorRef third = actorSystem.actorOf(TestPersistentActor.props("test:third"));
+
+            first.tell("event-1", getRef());
+            Awaitility.await().until(() -> GatedTestJournal.getWrittenBatchSizes().size() == 1);
+
+            // the actors send their writes to the journal before they answer the ping
+            second.tell("event-2", getRef());
+            second.tell(PING, getRef());
+            expectMsg(PONG);
+            third.tell("event-3", getRef());
+            third.tell(PING, getRef());
+            expectMsg(PONG);
+
+            GatedTestJournal.openGate();
+
+            expectMsg("persisted:event-1");
+            expectMsgAllOf("persisted:event-2", "persisted:event-3");
+            assertThat(GatedTestJournal.getWrittenBatchSizes()).containsExactly(1, 2);
+
+            // the actors go on writing after their writes were coalesced
+            second.tell("event-4", getRef());
+            expectMsg("persisted:event-4");
+            assertThat(GatedTestJournal.getWrittenBatchSizes()).containsExactly(1, 2, 1);
+        }};
+    }
+
+    private static final class TestPersistentActor extends AbstractPersistentActor {
+
+        private final String persistenceId;
+
+        @SuppressWarnings("unused")
+        private TestPersistentActor(final String persistenceId) {
+            this.persistenceId = persistenceId;
+        }
+
+        private static Props props(final String persistenceId) {
+            return Props.create(TestPersistentActor.class, persistenceId);
+        }
+
+        @Override
+        public String persistenceId() {
+            return persistenceId;
+        }
+
+        @Override
+        public String journalPluginId() {
+            return JOURNAL_PLUGIN_ID;
+        }
+
+        @Override
+        public Receive createReceiveRecover() {
+            return receiveBuilder().build();
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchEquals(PING, ping -> getSender().tell(PONG, getSelf()))
+                    .match(String.class, event -> persistAsync(event,
+                            persisted -> getSender().tell("persisted:" + persisted, getSelf())))
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.persistence.PersistentRepr;
+import org.apache.pekko.persistence.journal.japi.AsyncWriteJournal;
+
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+
+/**
+ * Journal plugin which records the number of events of each write and completes the writes only once its gate was
+ * opened. Nothing is replayed.
+ */
+final class GatedTestJournal extends AsyncWriteJournal {
+
+    private static final List<Integer> WRITTEN_BATCH_SIZES = new CopyOnWriteArrayList<>();
+    private static volatile CompletableFuture<Void> gate = new CompletableFuture<>();
+
+    static void reset() {
+        WRITTEN_BATCH_SIZES.clear();
+        gate = new CompletableFuture<>();
+    }
+
+    static void openGate() {
+        gate.complete(null);
+    }
+
+    static List<Integer> getWrittenBatchSizes() {
+        return WRITTEN_BATCH_SIZES;
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        return Future.successful(0L);
+    }
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        final List<Optional<Exception>> results = new ArrayList<>();
+        messages.forEach(message -> results.add(Optional.empty()));
+        WRITTEN_BATCH_SIZES.add(results.size());
+        return FutureConverters.toScala(gate.thenApply(done -> results));
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        return Future.successful(null);
+    }
+
+}
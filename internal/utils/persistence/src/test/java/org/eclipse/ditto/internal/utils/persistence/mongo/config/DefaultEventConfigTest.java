@@ -62,6 +62,15 @@ public final class DefaultEventConfigTest {
         softly.assertThat(underTest.getHistoricalHeadersToPersist())
                 .as(EventConfig.EventConfigValue.HISTORICAL_HEADERS_TO_PERSIST.getConfigPath())
                 .isEqualTo(EventConfig.EventConfigValue.HISTORICAL_HEADERS_TO_PERSIST.getDefaultValue());
+        softly.assertThat(underTest.isGroupCommitEnabled())
+                .as(EventConfig.EventConfigValue.GROUP_COMMIT_ENABLED.getConfigPath())
+                .isEqualTo(EventConfig.EventConfigValue.GROUP_COMMIT_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getGroupCommitMaxUnconfirmedEvents())
+                .as(EventConfig.EventConfigValue.GROUP_COMMIT_MAX_UNCONFIRMED_EVENTS.getConfigPath())
+                .isEqualTo(EventConfig.EventConfigValue.GROUP_COMMIT_MAX_UNCONFIRMED_EVENTS.getDefaultValue());
+        softly.assertThat(underTest.isJournalWriteCoalescingEnabled())
+                .as(EventConfig.EventConfigValue.GROUP_COMMIT_COALESCE_JOURNAL_WRITES.getConfigPath())
+                .isEqualTo(EventConfig.EventConfigValue.GROUP_COMMIT_COALESCE_JOURNAL_WRITES.getDefaultValue());
     }
 
     @Test
@@ -71,5 +80,14 @@ public final class DefaultEventConfigTest {
         softly.assertThat(underTest.getHistoricalHeadersToPersist())
                 .as(EventConfig.EventConfigValue.HISTORICAL_HEADERS_TO_PERSIST.getConfigPath())
                 .isEqualTo(List.of(DittoHeaderDefinition.ORIGINATOR.getKey(), "foo"));
+        softly.assertThat(underTest.isGroupCommitEnabled())
+                .as(EventConfig.EventConfigValue.GROUP_COMMIT_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getGroupCommitMaxUnconfirmedEvents())
+                .as(EventConfig.EventConfigValue.GROUP_COMMIT_MAX_UNCONFIRMED_EVENTS.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.isJournalWriteCoalescingEnabled())
+                .as(EventConfig.EventConfigValue.GROUP_COMMIT_COALESCE_JOURNAL_WRITES.getConfigPath())
+                .isTrue();
     }
 }
@@ -65,6 +65,15 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.isDeltaEnabled())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_ENABLED.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.DELTA_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getDeltaMaxDeltasPerBase())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_MAX_DELTAS_PER_BASE.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.DELTA_MAX_DELTAS_PER_BASE.getDefaultValue());
+        softly.assertThat(underTest.getDeltaMaxSizeRatio())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_MAX_SIZE_RATIO.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.DELTA_MAX_SIZE_RATIO.getDefaultValue());
     }
 
     @Test
@@ -77,5 +86,14 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.isDeltaEnabled())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getDeltaMaxDeltasPerBase())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_MAX_DELTAS_PER_BASE.getConfigPath())
+                .isEqualTo(3);
+        softly.assertThat(underTest.getDeltaMaxSizeRatio())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_MAX_SIZE_RATIO.getConfigPath())
+                .isEqualTo(0.25);
     }
 }
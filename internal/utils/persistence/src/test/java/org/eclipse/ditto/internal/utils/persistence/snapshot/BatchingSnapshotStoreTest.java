@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.awaitility.Awaitility;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import pekko.contrib.persistence.mongodb.SnapshottingFieldNames$;
+import scala.Option;
+
+/**
+ * Tests {@link BatchingSnapshotStore}.
+ */
+public final class BatchingSnapshotStoreTest {
+
+    private static final String PROCESSOR_ID = SnapshottingFieldNames$.MODULE$.PROCESSOR_ID();
+
+    private ActorSystem actorSystem;
+    private TestKit delegate;
+    private List<List<String>> loadedBatches;
+    private List<CompletableFuture<List<BsonDocument>>> pendingLoads;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+        delegate = new TestKit(actorSystem);
+        loadedBatches = new CopyOnWriteArrayList<>();
+        pendingLoads = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = null;
+    }
+
+    @Test
+    public void loadsArrivingWhileAllQueriesRunAreLoadedTogether() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(BatchingSnapshotStore.props(delegate.getRef(),
+                    BatchingSnapshotStoreTest.this::load, 10, 1));
+
+            underTest.tell(loadLatest("thing:a"), getRef());
+            Awaitility.await().until(() -> pendingLoads.size() == 1);
+            underTest.tell(loadLatest("thing:b"), getRef());
+            underTest.tell(loadLatest("thing:c"), getRef());
+
+            pendingLoads.get(0).complete(List.of(snapshot("thing:a", 3L)));
+            expectMsg(loadResult("thing:a", 3L));
+
+            Awaitility.await().until(() -> pendingLoads.size() == 2);
+            assertThat(loadedBatches).containsExactly(List.of("thing:a"), List.of("thing:b", "thing:c"));
+
+            // each load is answered with the latest snapshot of its own persistence ID
+            pendingLoads.get(1).complete(List.of(snapshot("thing:c", 7L), snapshot("thing:b", 5L)));
+            expectMsgAllOf(loadResult("thing:b", 5L), loadResult("thing:c", 7L));
+        }};
+    }
+
+    @Test
+    public void batchesAreLimitedToMaxBatchSize() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(BatchingSnapshotStore.props(delegate.getRef(),
+                    BatchingSnapshotStoreTest.this::load, 2, 1));
+
+            underTest.tell(loadLatest("thing:a"), getRef());
+            Awaitility.await().until(() -> pendingLoads.size() == 1);
+            underTest.tell(loadLatest("thing:b"), getRef());
+            underTest.tell(loadLatest("thing:c"), getRef());
+            underTest.tell(loadLatest("thing:d"), getRef());
+
+            pendingLoads.get(0).complete(List.of());
+            expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+            Awaitility.await().until(() -> pendingLoads.size() == 2);
+            pendingLoads.get(1).complete(List.of());
+            expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+            expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class);
+            Awaitility.await().until(() -> pendingLoads.size() == 3);
+
+            assertThat(loadedBatches).containsExactly(List.of("thing:a"), List.of("thing:b", "thing:c"),
+                    List.of("thing:d"));
+        }};
+    }
+
+    @Test
+    public void loadsWithoutSnapshotAreAnsweredWithoutSnapshot() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(BatchingSnapshotStore.props(delegate.getRef(),
+                    BatchingSnapshotStoreTest.this::load, 10, 1));
+
+            underTest.tell(loadLatest("thing:a"), getRef());
+            Awaitility.await().until(() -> pendingLoads.size() == 1);
+            pendingLoads.get(0).complete(List.of());
+
+            expectMsg(new SnapshotProtocol.LoadSnapshotResult(Option.empty(), Long.MAX_VALUE));
+            delegate.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void loadsOfFailedQueryAreRetriedWithDelegate() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(BatchingSnapshotStore.props(delegate.getRef(),
+                    BatchingSnapshotStoreTest.this::load, 10, 1));
+
+            underTest.tell(loadLatest("thing:a"), getRef());
+            Awaitility.await().until(() -> pendingLoads.size() == 1);
+            underTest.tell(loadLatest("thing:b"), getRef());
+            underTest.tell(loadLatest("thing:c"), getRef());
+            pendingLoads.get(0).completeExceptionally(new IllegalStateException("expected"));
+
+            delegate.expectMsg(loadLatest("thing:a"));
+            assertThat(delegate.getLastSender()).isEqualTo(getRef());
+
+            // the next batch is loaded after the failure
+            Awaitility.await().until(() -> pendingLoads.size() == 2);
+            pendingLoads.get(1).completeExceptionally(new IllegalStateException("expected"));
+            assertThat(delegate.receiveN(2)).containsExactlyInAnyOrder(loadLatest("thing:b"), loadLatest("thing:c"));
+        }};
+    }
+
+    @Test
+    public void snapshotsWhichAreNoBsonDocumentsAreLoadedByDelegate() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(BatchingSnapshotStore.props(delegate.getRef(),
+                    BatchingSnapshotStoreTest.this::load, 10, 1));
+
+            underTest.tell(loadLatest("thing:a"), getRef());
+            Awaitility.await().until(() -> pendingLoads.size() == 1);
+            pendingLoads.get(0).complete(List.of(new BsonDocument()
+                    .append(PROCESSOR_ID, new BsonString("thing:a"))
+                    .append(MongoReadJournal.S_SN, new BsonInt64(3L))
+                    .append("s2", new BsonString("binary"))));
+
+            delegate.expectMsg(loadLatest("thing:a"));
+            expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void otherMessagesAreForwardedToDelegate() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(BatchingSnapshotStore.props(delegate.getRef(),
+                    BatchingSnapshotStoreTest.this::load, 10, 1));
+            final SnapshotProtocol.LoadSnapshot olderSnapshot = new SnapshotProtocol.LoadSnapshot("thing:a",
+                    SnapshotSelectionCriteria.create(5L, Long.MAX_VALUE), Long.MAX_VALUE);
+            final SnapshotProtocol.SaveSnapshot saveSnapshot =
+                    new SnapshotProtocol.SaveSnapshot(new SnapshotMetadata("thing:a", 3L, 0L), new BsonDocument());
+
+            underTest.tell(olderSnapshot, getRef());
+            underTest.tell(saveSnapshot, getRef());
+
+            delegate.expectMsg(olderSnapshot);
+            assertThat(delegate.getLastSender()).isEqualTo(getRef());
+            delegate.expectMsg(saveSnapshot);
+            assertThat(delegate.getLastSender()).isEqualTo(getRef());
+            assertThat(pendingLoads).isEmpty();
+        }};
+    }
+
+    private CompletableFuture<List<BsonDocument>> load(final List<String> persistenceIds) {
+        final CompletableFuture<List<BsonDocument>> result = new CompletableFuture<>();
+        loadedBatches.add(persistenceIds);
+        pendingLoads.add(result);
+        return result;
+    }
+
+    private static SnapshotProtocol.LoadSnapshot loadLatest(final String persistenceId) {
+        return new SnapshotProtocol.LoadSnapshot(persistenceId, SnapshotSelectionCriteria.latest(), Long.MAX_VALUE);
+    }
+
+    private static BsonDocument snapshot(final String persistenceId, final long sequenceNumber) {
+        return new BsonDocument()
+                .append(PROCESSOR_ID, new BsonString(persistenceId))
+                .append(MongoReadJournal.S_SN, new BsonInt64(sequenceNumber))
+                .append(MongoReadJournal.S_TS, new BsonInt64(0L))
+                .append("s2", content(persistenceId));
+    }
+
+    private static BsonDocument content(final String persistenceId) {
+        return new BsonDocument("id", new BsonString(persistenceId));
+    }
+
+    private static SnapshotProtocol.LoadSnapshotResult loadResult(final String persistenceId,
+            final long sequenceNumber) {
+
+        final SnapshotMetadata metadata = new SnapshotMetadata(persistenceId, sequenceNumber, 0L);
+        return new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(SelectedSnapshot.create(metadata, content(persistenceId))), Long.MAX_VALUE);
+    }
+
+}
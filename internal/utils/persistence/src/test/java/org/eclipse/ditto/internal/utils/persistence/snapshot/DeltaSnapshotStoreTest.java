@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.pekko.actor.AbstractActor;
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.apache.pekko.persistence.DeleteSnapshotsFailure;
+import org.apache.pekko.persistence.DeleteSnapshotsSuccess;
+import org.apache.pekko.persistence.SaveSnapshotSuccess;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import scala.Option;
+
+/**
+ * Tests {@link DeltaSnapshotStore} against an in-memory delegate.
+ */
+public final class DeltaSnapshotStoreTest {
+
+    private static final String PERSISTENCE_ID = "thing:org.eclipse.ditto:thing";
+
+    private static final JsonObject BASE = JsonObject.of("""
+            {
+              "thingId": "org.eclipse.ditto:thing",
+              "_revision": 1,
+              "attributes": {"location": "kitchen", "removed": true},
+              "features": {"lamp": {"properties": {"on": false, "brightness": 10}}}
+            }
+            """);
+
+    private static final JsonObject SNAPSHOT_2 = BASE.setValue("_revision", 2)
+            .setValue("/attributes/location", "garden");
+
+    private static final JsonObject SNAPSHOT_3 = SNAPSHOT_2.setValue("_revision", 3)
+            .remove("/attributes/removed")
+            .setValue("/features/lamp/properties/on", true);
+
+    private ActorSystem actorSystem;
+    private ActorRef delegate;
+    private ActorRef underTest;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+        delegate = actorSystem.actorOf(Props.create(InMemorySnapshotStore.class));
+        underTest = actorSystem.actorOf(DeltaSnapshotStore.props(delegate, Duration.ofSeconds(3L)));
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = null;
+    }
+
+    @Test
+    public void fullSnapshotsAreLoadedUnchanged() {
+        new TestKit(actorSystem) {{
+            save(this, 1L, BASE);
+
+            underTest.tell(loadSnapshot(SnapshotSelectionCriteria.latest()), getRef());
+
+            expectMsg(loadResult(1L, BASE));
+        }};
+    }
+
+    @Test
+    public void deltaSnapshotsAreSavedInDelegateUnchanged() {
+        new TestKit(actorSystem) {{
+            save(this, 1L, BASE);
+            final BsonDocument delta = toBson(delta(SNAPSHOT_2));
+            underTest.tell(new SnapshotProtocol.SaveSnapshot(metadata(2L), delta), getRef());
+            expectMsgClass(SaveSnapshotSuccess.class);
+
+            delegate.tell(loadSnapshot(SnapshotSelectionCriteria.latest()), getRef());
+
+            expectMsg(new SnapshotProtocol.LoadSnapshotResult(
+                    Option.apply(SelectedSnapshot.create(metadata(2L), delta)), Long.MAX_VALUE));
+        }};
+    }
+
+    @Test
+    public void deltaSnapshotIsLoadedAsItsBaseWithItsChangesApplied() {
+        new TestKit(actorSystem) {{
+            save(this, 1L, BASE);
+            save(this, 2L, delta(SNAPSHOT_2));
+            save(this, 3L, delta(SNAPSHOT_3));
+
+            underTest.tell(loadSnapshot(SnapshotSelectionCriteria.latest()), getRef());
+            expectMsg(loadResult(3L, SNAPSHOT_3));
+
+            // an older delta snapshot is resolved against the same base
+            underTest.tell(loadSnapshot(SnapshotSelectionCriteria.create(2L, Long.MAX_VALUE)), getRef());
+            expectMsg(loadResult(2L, SNAPSHOT_2));
+        }};
+    }
+
+    @Test
+    public void loadingDeltaSnapshotWithMissingBaseFails() {
+        new TestKit(actorSystem) {{
+            save(this, 3L, delta(SNAPSHOT_3));
+
+            underTest.tell(loadSnapshot(SnapshotSelectionCriteria.latest()), getRef());
+
+            final SnapshotProtocol.LoadSnapshotFailed failed =
+                    expectMsgClass(SnapshotProtocol.LoadSnapshotFailed.class);
+            assertThat(failed.cause()).hasMessageContaining("base snapshot <1>").hasMessageContaining("is missing");
+        }};
+    }
+
+    @Test
+    public void loadingWithoutSnapshotReturnsNoSnapshot() {
+        new TestKit(actorSystem) {{
+            underTest.tell(loadSnapshot(SnapshotSelectionCriteria.latest()), getRef());
+
+            expectMsg(new SnapshotProtocol.LoadSnapshotResult(Option.empty(), Long.MAX_VALUE));
+        }};
+    }
+
+    @Test
+    public void deletingSnapshotsKeepsBaseOfLatestSnapshot() {
+        new TestKit(actorSystem) {{
+            save(this, 1L, BASE);
+            save(this, 2L, delta(SNAPSHOT_2));
+            save(this, 3L, delta(SNAPSHOT_3));
+
+            underTest.tell(new SnapshotProtocol.DeleteSnapshots(PERSISTENCE_ID,
+                    SnapshotSelectionCriteria.create(2L, Long.MAX_VALUE)), getRef());
+            expectMsgClass(DeleteSnapshotsSuccess.class);
+
+            underTest.tell(loadSnapshot(SnapshotSelectionCriteria.latest()), getRef());
+            expectMsg(loadResult(3L, SNAPSHOT_3));
+        }};
+    }
+
+    @Test
+    public void deletingSnapshotsBelowBaseOfLatestSnapshotIsUnchanged() {
+        new TestKit(actorSystem) {{
+            save(this, 1L, BASE);
+            save(this, 2L, SNAPSHOT_2);
+            save(this, 3L, DeltaSnapshots.computeDelta(SNAPSHOT_2, 2L, SNAPSHOT_3, 1.0).orElseThrow());
+
+            underTest.tell(new SnapshotProtocol.DeleteSnapshots(PERSISTENCE_ID,
+                    SnapshotSelectionCriteria.create(1L, Long.MAX_VALUE)), getRef());
+            expectMsgClass(DeleteSnapshotsSuccess.class);
+
+            delegate.tell(loadSnapshot(SnapshotSelectionCriteria.create(1L, Long.MAX_VALUE)), getRef());
+            expectMsg(new SnapshotProtocol.LoadSnapshotResult(Option.empty(), Long.MAX_VALUE));
+            underTest.tell(loadSnapshot(SnapshotSelectionCriteria.latest()), getRef());
+            expectMsg(loadResult(3L, SNAPSHOT_3));
+        }};
+    }
+
+    @Test
+    public void deletingSnapshotsFailsIfLatestSnapshotCannotBeLoaded() {
+        new TestKit(actorSystem) {{
+            final TestKit failingDelegate = new TestKit(actorSystem);
+            final ActorRef underTest =
+                    actorSystem.actorOf(DeltaSnapshotStore.props(failingDelegate.getRef(), Duration.ofSeconds(3L)));
+            final SnapshotSelectionCriteria criteria = SnapshotSelectionCriteria.create(2L, Long.MAX_VALUE);
+
+            underTest.tell(new SnapshotProtocol.DeleteSnapshots(PERSISTENCE_ID, criteria), getRef());
+            failingDelegate.expectMsgClass(SnapshotProtocol.LoadSnapshot.class);
+            final IllegalStateException cause = new IllegalStateException("unavailable");
+            failingDelegate.reply(new SnapshotProtocol.LoadSnapshotFailed(cause));
+
+            expectMsg(new DeleteSnapshotsFailure(criteria, cause));
+            failingDelegate.expectNoMessage(Duration.ofMillis(200L));
+        }};
+    }
+
+    private void save(final TestKit testKit, final long sequenceNumber, final JsonObject snapshot) {
+        underTest.tell(new SnapshotProtocol.SaveSnapshot(metadata(sequenceNumber), toBson(snapshot)),
+                testKit.getRef());
+        testKit.expectMsgClass(SaveSnapshotSuccess.class);
+    }
+
+    private static JsonObject delta(final JsonObject snapshot) {
+        return DeltaSnapshots.computeDelta(BASE, 1L, snapshot, 1.0).orElseThrow();
+    }
+
+    private static SnapshotProtocol.LoadSnapshot loadSnapshot(final SnapshotSelectionCriteria criteria) {
+        return new SnapshotProtocol.LoadSnapshot(PERSISTENCE_ID, criteria, Long.MAX_VALUE);
+    }
+
+    private static SnapshotProtocol.LoadSnapshotResult loadResult(final long sequenceNumber,
+            final JsonObject snapshot) {
+
+        return new SnapshotProtocol.LoadSnapshotResult(
+                Option.apply(SelectedSnapshot.create(metadata(sequenceNumber), toBson(snapshot))), Long.MAX_VALUE);
+    }
+
+    private static SnapshotMetadata metadata(final long sequenceNumber) {
+        return new SnapshotMetadata(PERSISTENCE_ID, sequenceNumber, 0L);
+    }
+
+    private static BsonDocument toBson(final JsonObject json) {
+        return DittoBsonJson.getInstance().parse(json);
+    }
+
+    /**
+     * Snapshot store keeping the snapshots of one persistence ID in memory.
+     */
+    private static final class InMemorySnapshotStore extends AbstractActor {
+
+        private final List<SelectedSnapshot> snapshots = new ArrayList<>();
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(SnapshotProtocol.SaveSnapshot.class, saveSnapshot -> {
+                        snapshots.add(SelectedSnapshot.create(saveSnapshot.metadata(), saveSnapshot.snapshot()));
+                        getSender().tell(new SaveSnapshotSuccess(saveSnapshot.metadata()),
+                                getSelf());
+                    })
+                    .match(SnapshotProtocol.LoadSnapshot.class, loadSnapshot -> {
+                        final Option<SelectedSnapshot> latest = snapshots.stream()
+                                .filter(s -> s.metadata().sequenceNr() <= loadSnapshot.toSequenceNr())
+                                .filter(s -> matches(loadSnapshot.criteria(), s.metadata()))
+                                .max(Comparator.comparingLong(s -> s.metadata().sequenceNr()))
+                                .map(Option::apply)
+                                .orElseGet(Option::empty);
+                        getSender().tell(new SnapshotProtocol.LoadSnapshotResult(latest,
+                                loadSnapshot.toSequenceNr()), getSelf());
+                    })
+                    .match(SnapshotProtocol.DeleteSnapshots.class, deleteSnapshots -> {
+                        snapshots.removeIf(s -> matches(deleteSnapshots.criteria(), s.metadata()));
+                        getSender().tell(new DeleteSnapshotsSuccess(deleteSnapshots.criteria()),
+                                getSelf());
+                    })
+                    .build();
+        }
+
+        private static boolean matches(final SnapshotSelectionCriteria criteria, final SnapshotMetadata metadata) {
+            return metadata.sequenceNr() >= criteria.minSequenceNr() &&
+                    metadata.sequenceNr() <= criteria.maxSequenceNr() &&
+                    metadata.timestamp() >= criteria.minTimestamp() &&
+                    metadata.timestamp() <= criteria.maxTimestamp();
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Tests {@link DeltaSnapshots}.
+ */
+public final class DeltaSnapshotsTest {
+
+    private static final JsonObject BASE = JsonObject.of("""
+            {
+              "thingId": "org.eclipse.ditto:thing",
+              "policyId": "org.eclipse.ditto:policy",
+              "_revision": 10,
+              "_modified": "2026-01-01T00:00:00Z",
+              "attributes": {"location": "kitchen", "a/b": 1, "removed": true, "nested": {"x": 1, "y": 2}},
+              "features": {
+                "lamp": {"properties": {"on": false, "brightness": 10}},
+                "obsolete": {"properties": {}}
+              }
+            }
+            """);
+
+    @Test
+    public void applyingDeltaRestoresSnapshot() {
+        final JsonObject snapshot = JsonObject.of("""
+                {
+                  "thingId": "org.eclipse.ditto:thing",
+                  "policyId": "org.eclipse.ditto:policy2",
+                  "_revision": 17,
+                  "_modified": "2026-01-02T00:00:00Z",
+                  "attributes": {"location": null, "a/b": 2, "nested": {"x": 1, "y": {"z": 3}}, "new.key": []},
+                  "features": {
+                    "lamp": {"properties": {"on": true, "brightness": 10}}
+                  }
+                }
+                """);
+
+        // the snapshot changes almost all of the base, so its delta is larger than the snapshot itself
+        final JsonObject delta = DeltaSnapshots.computeDelta(BASE, 10L, snapshot, 10.0).orElseThrow();
+
+        assertThat(DeltaSnapshots.getBaseSequenceNumber(delta)).hasValue(10L);
+        assertThat(DeltaSnapshots.applyDelta(BASE, delta)).isEqualTo(snapshot);
+    }
+
+    @Test
+    public void deltaContainsTopLevelFieldsOfSnapshot() {
+        final JsonObject snapshot = BASE.setValue("_revision", 11).setValue("_modified", "2026-01-03T00:00:00Z");
+
+        final JsonObject delta = DeltaSnapshots.computeDelta(BASE, 10L, snapshot, 1.0).orElseThrow();
+
+        assertThat(delta.getValue("_revision")).contains(snapshot.getValue("_revision").orElseThrow());
+        assertThat(delta.getValue("policyId")).contains(snapshot.getValue("policyId").orElseThrow());
+        assertThat(delta.getValue("_modified")).contains(snapshot.getValue("_modified").orElseThrow());
+        assertThat(delta.getValue("attributes")).isEmpty();
+    }
+
+    @Test
+    public void deltaSurvivesBsonRoundTrip() {
+        final JsonObject snapshot = BASE.setValue("/attributes/location", "garden");
+        final JsonObject delta = DeltaSnapshots.computeDelta(BASE, 10L, snapshot, 1.0).orElseThrow();
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+
+        final JsonObject deltaFromBson = dittoBsonJson.serialize(dittoBsonJson.parse(delta));
+
+        assertThat(DeltaSnapshots.applyDelta(BASE, deltaFromBson)).isEqualTo(snapshot);
+    }
+
+    @Test
+    public void noDeltaIfItExceedsMaxSizeRatio() {
+        final JsonObject snapshot = JsonObject.newBuilder()
+                .set("_revision", 11)
+                .set("attributes", JsonObject.of("{\"completely\":\"different\"}"))
+                .build();
+
+        assertThat(DeltaSnapshots.computeDelta(BASE, 10L, snapshot, 0.5)).isEmpty();
+    }
+
+    @Test
+    public void fullSnapshotHasNoBaseSequenceNumber() {
+        assertThat(DeltaSnapshots.getBaseSequenceNumber(BASE)).isEmpty();
+    }
+
+}
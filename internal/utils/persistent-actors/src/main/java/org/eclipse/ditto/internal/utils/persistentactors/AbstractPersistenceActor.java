@@ -54,6 +54,8 @@ import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
 import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.PingCommand;
 import org.eclipse.ditto.internal.utils.pekko.PingCommandResponse;
@@ -62,6 +64,8 @@ import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoEventAdapter;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultEventConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.EventConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
@@ -77,6 +81,8 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
+import com.typesafe.config.ConfigFactory;
+
 import scala.Option;
 
 /**
@@ -103,13 +109,30 @@ public abstract class AbstractPersistenceActor<
      */
     public static final String JOURNAL_TAG_ALWAYS_ALIVE = "always-alive";
 
+    private static final EventConfig DEFAULT_EVENT_CONFIG = DefaultEventConfig.of(ConfigFactory.empty());
+
+    private static final String RECOVERY_TIMER = "persistence_recovery";
+    private static final String RECOVERY_TIMER_TAG_ENTITY_TYPE = "entity_type";
+    private static final String RECOVERY_TIMER_TAG_FROM_SNAPSHOT = "from_snapshot";
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private final MongoReadJournal mongoReadJournal;
+    private final StartedTimer recoveryTimer;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
 
+    /**
+     * The entity of the latest confirmed full snapshot which delta snapshots are computed against, or null if there
+     * is none since the actor started.
+     */
+    @Nullable private S deltaSnapshotBase = null;
+    private long deltaSnapshotBaseRevision = 0L;
+    @Nullable private S pendingDeltaSnapshotBase = null;
+    private long pendingDeltaSnapshotBaseRevision = 0L;
+    private int deltaSnapshotsSinceBase = 0;
+
     /**
      * The current entity, or null if it was never created.
      */
@@ -124,6 +147,16 @@ public abstract class AbstractPersistenceActor<
     private long accessCounter = 0L;
     private final BlockedNamespaces blockedNamespaces;
 
+    /**
+     * The number of events which were applied to the entity but are not yet persisted (group commit).
+     */
+    private int unconfirmedEvents = 0;
+
+    /**
+     * Whether the command currently handled is applied on top of unconfirmed events; its replies wait for the journal.
+     */
+    private boolean repliesDeferred = false;
+
     /**
      * Instantiate the actor.
      *
@@ -138,6 +171,9 @@ public abstract class AbstractPersistenceActor<
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(actorSystem.settings().config());
         this.snapshotAdapter = SnapshotAdapter.get(actorSystem, dittoExtensionsConfig);
         entity = null;
+        recoveryTimer = DittoMetrics.timer(RECOVERY_TIMER)
+                .tag(RECOVERY_TIMER_TAG_ENTITY_TYPE, entityId.getEntityType().toString())
+                .start();
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
@@ -160,6 +196,17 @@ public abstract class AbstractPersistenceActor<
         // default: no-op
     }
 
+    /**
+     * Invoked whenever an event was persisted by this PersistenceActor.
+     *
+     * @param event the persisted event.
+     * @param persistLatency the time between requesting to persist the event and its successful persistence.
+     * @since 3.6.0
+     */
+    protected void onEventPersisted(final E event, final Duration persistLatency) {
+        // default: no-op
+    }
+
     @Override
     public abstract String persistenceId();
 
@@ -204,6 +251,13 @@ public abstract class AbstractPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * @return configuration for the persistence of events, by default group commit is disabled.
+     */
+    protected EventConfig getEventConfig() {
+        return DEFAULT_EVENT_CONFIG;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -284,7 +338,8 @@ public abstract class AbstractPersistenceActor<
     }
 
     /**
-     * @return the current revision number for event handling.
+     * @return the current revision number for event handling, including events which are not yet persisted as
+     * {@code persistAsync} already assigns the sequence number when it is called.
      */
     protected long getRevisionNumber() {
         return lastSequenceNr();
@@ -320,7 +375,10 @@ public abstract class AbstractPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, event -> {
+                    stopRecoveryTimer();
+                    recoveryCompleted(event);
+                })
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
@@ -361,6 +419,11 @@ public abstract class AbstractPersistenceActor<
     }
 
     private void handleHistoricalRetrieveCommand(final C command) {
+        if (unconfirmedEvents > 0) {
+            // the journal has to contain all events before the history can be loaded from it
+            defer(command, this::handleHistoricalRetrieveCommand);
+            return;
+        }
 
         try {
             FeatureToggle.checkHistoricalApiAccessFeatureEnabled(command.getType(), command.getDittoHeaders());
@@ -554,10 +617,47 @@ public abstract class AbstractPersistenceActor<
                 // after the event was persisted, apply the event on the current actor state
                 applyEvent(persistedEvent);
                 handler.accept(persistedEvent, entity);
-            });
+            }, false);
         }
     }
 
+    /**
+     * Modify actor state by the event strategy and persist the event together with the events of the commands
+     * processed while the previous journal write is ongoing, then publish the event and invoke the handler.
+     *
+     * @param event the event to apply and persist.
+     * @param handler what happens after the event was persisted.
+     */
+    private void applyAndPersistEventInGroup(final E event, final BiConsumer<E, S> handler) {
+        final E modifiedEvent = modifyEventBeforePersist(event);
+        if (modifiedEvent.getDittoHeaders().isDryRun()) {
+            handler.accept(modifiedEvent, entity);
+        } else {
+            final S previousEntity = entity;
+            // the event is applied before persistAsync assigns its sequence number, which is the next revision
+            entity = getEventStrategy().handle(modifiedEvent, entity, getNextRevisionNumber());
+            final S resultingEntity = entity;
+            unconfirmedEvents++;
+            persistEvent(modifiedEvent, persistedEvent -> {
+                unconfirmedEvents--;
+                publishEvent(previousEntity, persistedEvent);
+                handler.accept(persistedEvent, resultingEntity);
+            }, true);
+        }
+    }
+
+    private boolean isGroupCommitPossible() {
+        final EventConfig eventConfig = getEventConfig();
+        return eventConfig.isGroupCommitEnabled() &&
+                unconfirmedEvents < eventConfig.getGroupCommitMaxUnconfirmedEvents();
+    }
+
+    private static boolean isGroupCommittable(final Command<?> command) {
+        final Command.Category category = command.getCategory();
+        return category == Command.Category.MODIFY || category == Command.Category.MERGE ||
+                category == Command.Category.DELETE;
+    }
+
     private record PersistEventAsync<
             E extends EventsourcedEvent<? extends E>,
             S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(E event, BiConsumer<E, S> handler) {};
@@ -582,7 +682,8 @@ public abstract class AbstractPersistenceActor<
     }
 
     /**
-     * Allows to modify the passed in {@code event} before {@link #persistEvent(EventsourcedEvent, Consumer)} is invoked.
+     * Allows to modify the passed in {@code event} before {@link #persistEvent(EventsourcedEvent, Consumer, boolean)} is
+     * invoked.
      * Overwrite this method and call the super method in order to additionally modify the event before persisting it.
      *
      * @param event the event to potentially modify.
@@ -616,6 +717,8 @@ public abstract class AbstractPersistenceActor<
             takeSnapshot("the entity is deleted and has no up-to-date snapshot");
         } else if (accessCounter > message.accessCounter) {
             log.debug("Entity <{}> was accessed since last activity check, preventing Actor shutdown.", entityId);
+        } else if (unconfirmedEvents > 0) {
+            log.debug("Entity <{}> has events which are not yet persisted, preventing Actor shutdown.", entityId);
         } else if (isEntityActive() && isEntityAlwaysAlive()) {
             log.debug("Entity <{}> is active and marked as 'always-alive', preventing Actor shutdown.", entityId);
         } else {
@@ -678,7 +781,12 @@ public abstract class AbstractPersistenceActor<
     }
 
     protected void handleByCommandStrategy(final C command) {
-        handleByStrategy(command, entity, getCreatedStrategy());
+        if (unconfirmedEvents > 0 && !isGroupCommittable(command)) {
+            // only modifications are grouped; other commands are handled once all events are persisted
+            defer(command, this::handleByCommandStrategy);
+        } else {
+            handleByStrategy(command, entity, getCreatedStrategy());
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -706,6 +814,7 @@ public abstract class AbstractPersistenceActor<
                 command.setDittoHeaders(DittoHeaders.of(startedSpan.propagateContext(command.getDittoHeaders())));
 
         accessCounter++;
+        repliesDeferred = unconfirmedEvents > 0;
         Result<E> result;
         try {
             result = strategy.apply(getStrategyContext(), workEntity, getNextRevisionNumber(), (T) tracedCommand);
@@ -720,6 +829,7 @@ public abstract class AbstractPersistenceActor<
             result = ResultFactory.newErrorResult(dittoRuntimeException, tracedCommand);
             result.accept(this);
         } finally {
+            repliesDeferred = false;
             startedSpan.finish();
         }
         reportSudoCommandDone(command);
@@ -730,7 +840,7 @@ public abstract class AbstractPersistenceActor<
             final boolean becomeCreated, final boolean becomeDeleted) {
 
         final ActorRef sender = getSender();
-        persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
+        final BiConsumer<E, S> handler = (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
                 notifySender(sender, response);
             }
@@ -740,7 +850,12 @@ public abstract class AbstractPersistenceActor<
             if (becomeCreated) {
                 becomeCreatedHandler();
             }
-        });
+        };
+        if (!becomeCreated && !becomeDeleted && isGroupCommitPossible()) {
+            applyAndPersistEventInGroup(event, handler);
+        } else {
+            persistAndApplyEvent(event, handler);
+        }
     }
 
     @Override
@@ -810,8 +925,16 @@ public abstract class AbstractPersistenceActor<
      * @param message the message.
      */
     protected void notifySender(final ActorRef sender, final WithDittoHeaders message) {
-        accessCounter++;
-        sender.tell(message, getSelf());
+        if (repliesDeferred) {
+            // the reply may reflect events which are not yet persisted
+            deferAsync(message, deferredMessage -> {
+                accessCounter++;
+                sender.tell(deferredMessage, getSelf());
+            });
+        } else {
+            accessCounter++;
+            sender.tell(message, getSelf());
+        }
     }
 
     private long getNextRevisionNumber() {
@@ -819,7 +942,7 @@ public abstract class AbstractPersistenceActor<
     }
 
     @SuppressWarnings("unchecked")
-    private void persistEvent(final E event, final Consumer<E> handler) {
+    private void persistEvent(final E event, final Consumer<E> handler, final boolean async) {
         final var l = log.withCorrelationId(event);
         l.debug("Persisting Event <{}>.", event.getType());
 
@@ -830,18 +953,25 @@ public abstract class AbstractPersistenceActor<
                 .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(event.getType()))
                 .start();
 
-        persist(
-                event.setDittoHeaders(DittoHeaders.of(persistOperationSpan.propagateContext(event.getDittoHeaders()))),
-                persistedEvent -> handlePersistedEvent(handler, l, persistOperationSpan, persistedEvent)
-        );
+        final E tracedEvent =
+                event.setDittoHeaders(DittoHeaders.of(persistOperationSpan.propagateContext(event.getDittoHeaders())));
+        final long persistStartNanos = System.nanoTime();
+        if (async) {
+            persistAsync(tracedEvent, persistedEvent ->
+                    handlePersistedEvent(handler, l, persistOperationSpan, persistStartNanos, persistedEvent));
+        } else {
+            persist(tracedEvent, persistedEvent ->
+                    handlePersistedEvent(handler, l, persistOperationSpan, persistStartNanos, persistedEvent));
+        }
     }
 
     private void handlePersistedEvent(final Consumer<E> handler, final DittoDiagnosticLoggingAdapter l,
-            final StartedSpan persistOperationSpan, final E persistedEvent) {
+            final StartedSpan persistOperationSpan, final long persistStartNanos, final E persistedEvent) {
         l.info("Successfully persisted Event <{}> w/ rev: <{}>.",
                 persistedEvent.getType(),
                 getRevisionNumber());
         persistOperationSpan.finish();
+        onEventPersisted(persistedEvent, Duration.ofNanos(System.nanoTime() - persistStartNanos));
 
         /*
          * The event has to be applied before creating the snapshot, otherwise a snapshot with new
@@ -852,7 +982,7 @@ public abstract class AbstractPersistenceActor<
         onEntityModified();
 
         // save a snapshot if there were too many changes since the last snapshot
-        if (snapshotThresholdPassed()) {
+        if (unconfirmedEvents == 0 && snapshotThresholdPassed()) {
             takeSnapshot("snapshot threshold is reached");
         }
     }
@@ -877,12 +1007,15 @@ public abstract class AbstractPersistenceActor<
 
     private void doTakeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (unconfirmedEvents > 0) {
+            log.debug("Not taking snapshot for entity <{}> with <{}> events not yet persisted even if {}.", entityId,
+                    unconfirmedEvents, reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Object snapshotSubject = toSnapshotStore(entity, revision);
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
@@ -894,6 +1027,29 @@ public abstract class AbstractPersistenceActor<
         }
     }
 
+    /**
+     * Converts the entity to a delta snapshot against the latest full snapshot if delta snapshots are enabled and
+     * to a full snapshot otherwise, or if too many delta snapshots share the same base, or if the delta snapshot would
+     * be too large compared to the full one.
+     */
+    private Object toSnapshotStore(final S snapshotEntity, final long revision) {
+        final SnapshotConfig snapshotConfig = getSnapshotConfig();
+        if (!snapshotConfig.isDeltaEnabled()) {
+            return snapshotAdapter.toSnapshotStore(snapshotEntity);
+        }
+        if (deltaSnapshotBase != null && deltaSnapshotsSinceBase < snapshotConfig.getDeltaMaxDeltasPerBase()) {
+            final Optional<Object> deltaSnapshot = snapshotAdapter.toDeltaSnapshotStore(deltaSnapshotBase,
+                    deltaSnapshotBaseRevision, snapshotEntity, snapshotConfig.getDeltaMaxSizeRatio());
+            if (deltaSnapshot.isPresent()) {
+                ++deltaSnapshotsSinceBase;
+                return deltaSnapshot.get();
+            }
+        }
+        pendingDeltaSnapshotBase = snapshotEntity;
+        pendingDeltaSnapshotBaseRevision = revision;
+        return snapshotAdapter.toSnapshotStore(snapshotEntity);
+    }
+
     private boolean snapshotThresholdPassed() {
         return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
     }
@@ -925,12 +1081,24 @@ public abstract class AbstractPersistenceActor<
     private void saveSnapshotSuccess(final SaveSnapshotSuccess s) {
         log.debug("Got {}", s);
         confirmedSnapshotRevision = s.metadata().sequenceNr();
+        if (pendingDeltaSnapshotBase != null && pendingDeltaSnapshotBaseRevision == confirmedSnapshotRevision) {
+            deltaSnapshotBase = pendingDeltaSnapshotBase;
+            deltaSnapshotBaseRevision = pendingDeltaSnapshotBaseRevision;
+            deltaSnapshotsSinceBase = 0;
+            pendingDeltaSnapshotBase = null;
+        }
     }
 
     private void saveSnapshotFailure(final SaveSnapshotFailure s) {
         log.error(s.cause(), "Got {}", s);
     }
 
+    private void stopRecoveryTimer() {
+        if (recoveryTimer.isRunning()) {
+            recoveryTimer.tag(RECOVERY_TIMER_TAG_FROM_SNAPSHOT, confirmedSnapshotRevision > 0L).stop();
+        }
+    }
+
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
         entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
         lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
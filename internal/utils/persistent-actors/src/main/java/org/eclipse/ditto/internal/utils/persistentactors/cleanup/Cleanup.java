@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.LongStream;
 
+import org.bson.Document;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistence.snapshot.DeltaSnapshots;
 
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.japi.Pair;
@@ -76,13 +78,28 @@ final class Cleanup {
     }
 
     private Source<SnapshotRevision, NotUsed> getSnapshotRevisions(final String lowerBound) {
-        return readJournal.getNewestSnapshotsAbove(lowerBound, readBatchSize, true, historyRetentionDuration, materializer)
-                .map(document -> new SnapshotRevision(document.getString(S_ID),
-                        document.getLong(S_SN),
-                        "DELETED".equals(document.getString(LIFECYCLE))))
+        return readJournal.getNewestSnapshotsAbove(lowerBound, readBatchSize, true, historyRetentionDuration,
+                        materializer, DeltaSnapshots.BASE_SEQUENCE_NUMBER)
+                .map(document -> {
+                    final long sn = document.getLong(S_SN);
+                    return new SnapshotRevision(document.getString(S_ID),
+                            sn,
+                            "DELETED".equals(document.getString(LIFECYCLE)),
+                            getBaseSn(document, sn));
+                })
                 .filter(this::isMyResponsibility);
     }
 
+    /**
+     * Delta snapshots are stored as changes to a full base snapshot, which must survive the cleanup.
+     */
+    private static long getBaseSn(final Document document, final long sn) {
+        if (document.get(DeltaSnapshots.BASE_SEQUENCE_NUMBER) instanceof Number baseSn) {
+            return Math.min(baseSn.longValue(), sn);
+        }
+        return sn;
+    }
+
     private boolean isMyResponsibility(final SnapshotRevision sr) {
         final var responsibility = responsibilitySupplier.get();
         final int denominator = responsibility.second();
@@ -110,10 +127,10 @@ final class Cleanup {
 
     private Source<Source<CleanupResult, NotUsed>, NotUsed> cleanUpSnapshots(final SnapshotRevision sr) {
         return readJournal.getSmallestSnapshotSeqNo(sr.pid).flatMapConcat(minSnOpt -> {
-            if (minSnOpt.isEmpty() || (minSnOpt.orElseThrow() >= sr.sn && !deleteFinalDeletedSnapshot)) {
+            if (minSnOpt.isEmpty() || (minSnOpt.orElseThrow() >= sr.baseSn && !deleteFinalDeletedSnapshot)) {
                 return Source.empty();
             } else {
-                final long maxSnToDelete = deleteFinalDeletedSnapshot && sr.isDeleted ? sr.sn + 1 : sr.sn;
+                final long maxSnToDelete = deleteFinalDeletedSnapshot && sr.isDeleted ? sr.sn + 1 : sr.baseSn;
                 final List<Long> upperBounds = getSnUpperBoundsPerBatch(minSnOpt.orElseThrow(), maxSnToDelete);
                 return Source.from(upperBounds).map(upperBound -> Source.lazySource(() ->
                         readJournal.deleteSnapshots(sr.pid, upperBound - deleteBatchSize + 1, upperBound)
@@ -23,27 +23,39 @@ final class SnapshotRevision {
     final long sn;
     final boolean isDeleted;
 
+    /**
+     * Sequence number of the oldest snapshot to keep: the base snapshot if the newest snapshot is a delta snapshot,
+     * otherwise the newest snapshot itself.
+     */
+    final long baseSn;
+
     SnapshotRevision(final String pid, final long sn, final boolean isDeleted) {
+        this(pid, sn, isDeleted, sn);
+    }
+
+    SnapshotRevision(final String pid, final long sn, final boolean isDeleted, final long baseSn) {
         this.pid = pid;
         this.sn = sn;
         this.isDeleted = isDeleted;
+        this.baseSn = baseSn;
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "[pid=" + pid + ",sn=" + sn + "]";
+        return getClass().getSimpleName() + "[pid=" + pid + ",sn=" + sn + ",baseSn=" + baseSn + "]";
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(pid, sn, isDeleted);
+        return Objects.hash(pid, sn, isDeleted, baseSn);
     }
 
     @Override
     public boolean equals(final Object other) {
         if (other instanceof SnapshotRevision) {
             final var that = (SnapshotRevision) other;
-            return Objects.equals(pid, that.pid) && sn == that.sn && isDeleted == that.isDeleted;
+            return Objects.equals(pid, that.pid) && sn == that.sn && isDeleted == that.isDeleted &&
+                    baseSn == that.baseSn;
         } else {
             return false;
         }
@@ -65,7 +65,7 @@ public final class CleanupTest {
 
     @Test
     public void emptyStream() {
-        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any(), any()))
                 .thenReturn(Source.empty());
 
         final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1),
@@ -80,7 +80,7 @@ public final class CleanupTest {
 
     @Test
     public void deleteFinalDeletedSnapshot() {
-        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any(), any()))
                 .thenReturn(Source.single(new Document().append("_id", "thing:p:id")
                         .append("__lifecycle", "DELETED")
                         .append("sn", 50L)));
@@ -114,7 +114,7 @@ public final class CleanupTest {
 
     @Test
     public void excludeFinalDeletedSnapshot() {
-        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any(), any()))
                 .thenReturn(Source.single(new Document().append("_id", "thing:p:id")
                         .append("__lifecycle", "DELETED")
                         .append("sn", 50L)));
@@ -146,9 +146,41 @@ public final class CleanupTest {
                 "SNAPSHOTS");
     }
 
+    @Test
+    public void keepBaseOfDeltaSnapshot() {
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any(), any()))
+                .thenReturn(Source.single(new Document().append("_id", "thing:p:id")
+                        .append("__lifecycle", "ACTIVE")
+                        .append("__deltaBase", 46L)
+                        .append("sn", 50L)));
+
+        when(mongoReadJournal.getSmallestEventSeqNo(any())).thenReturn(Source.single(Optional.of(30L)));
+        when(mongoReadJournal.getSmallestSnapshotSeqNo(any())).thenReturn(Source.single(Optional.of(40L)));
+
+        doAnswer(invocation -> Source.single(DeleteResult.acknowledged(
+                invocation.<Long>getArgument(1) * 100L + invocation.<Long>getArgument(2))))
+                .when(mongoReadJournal).deleteEvents(any(), anyLong(), anyLong());
+        doAnswer(invocation -> Source.single(DeleteResult.acknowledged(
+                invocation.<Long>getArgument(1) * 1000L + invocation.<Long>getArgument(2) * 10L)))
+                .when(mongoReadJournal).deleteSnapshots(any(), anyLong(), anyLong());
+
+        final var underTest = new Cleanup(mongoReadJournal, materializer, () -> Pair.create(0, 1),
+                Duration.ZERO, 1, 4, false);
+
+        final var result = underTest.getCleanupStream("")
+                .flatMapConcat(x -> x)
+                .runWith(Sink.seq(), materializer).toCompletableFuture().join();
+        final var seqNrs = result.stream()
+                .map(cleanupResult -> cleanupResult.result.getDeletedCount())
+                .toList();
+
+        // THEN: events are deleted up to the delta snapshot, snapshots only up to its base snapshot
+        assertThat(seqNrs).containsExactly(3033L, 3437L, 3841L, 4245L, 4649L, 38410L, 42450L);
+    }
+
     @Test
     public void ignorePidsNotResponsibleFor() {
-        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any(), any()))
                 .thenReturn(Source.from(List.of(
                         new Document().append("_id", "thing:p:id1")
                                 .append("__lifecycle", "DELETED")
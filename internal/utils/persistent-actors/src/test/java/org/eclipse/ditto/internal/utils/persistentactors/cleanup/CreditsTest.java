@@ -112,7 +112,7 @@ public final class CreditsTest {
         final var mongoReadJournal = mock(MongoReadJournal.class);
         final var opsCounter = new AtomicInteger(0);
 
-        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any()))
+        when(mongoReadJournal.getNewestSnapshotsAbove(any(), anyInt(), eq(true), any(), any(), any()))
                 .thenReturn(Source.single(new Document().append("_id", "thing:p:id")
                         .append("__lifecycle", "DELETED")
                         .append("sn", 50L)));
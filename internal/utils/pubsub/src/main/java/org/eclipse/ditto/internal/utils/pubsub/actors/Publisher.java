@@ -69,6 +69,7 @@ public final class Publisher extends AbstractActor {
     private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
     private final Counter sentMessagesCounter = DittoMetrics.counter("pubsub-sent-messages");
     private final Map<Key<?>, PublisherIndex<Long>> publisherIndexes = new HashMap<>();
+    private final Map<Key<?>, Map<String, Grouped<Long>>> deserializedGroupedHashes = new HashMap<>();
     private final int subscriberPoolSize;
 
     private PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
@@ -210,10 +211,16 @@ public final class Publisher extends AbstractActor {
         log.debug("Topics changed <{}>", event.key());
         final Map<ActorRef, scala.collection.immutable.Set<String>> mmap =
                 CollectionConverters.asJava(((ORMultiMap<ActorRef, String>) event.dataValue()).entries());
+        // only deserialize the chunks of topic hashes which changed since the last change of the same key
+        final Map<String, Grouped<Long>> previouslyDeserialized =
+                deserializedGroupedHashes.getOrDefault(event.key(), Map.of());
+        final Map<String, Grouped<Long>> deserialized = new HashMap<>();
         final Map<ActorRef, List<Grouped<Long>>> deserializedMMap = mmap.entrySet()
                 .stream()
-                .map(entry -> Pair.create(entry.getKey(), deserializeGroupedHashes(entry.getValue())))
+                .map(entry -> Pair.create(entry.getKey(),
+                        deserializeGroupedHashes(entry.getValue(), previouslyDeserialized, deserialized)))
                 .collect(Collectors.toMap(Pair::first, Pair::second));
+        deserializedGroupedHashes.put(event.key(), deserialized);
         final PublisherIndex<Long> thePublisherIndex = PublisherIndex.fromDeserializedMMap(deserializedMMap);
         publisherIndexes.put(event.key(), thePublisherIndex);
         publisherIndex = PublisherIndex.fromMultipleIndexes(publisherIndexes.values());
@@ -223,9 +230,14 @@ public final class Publisher extends AbstractActor {
         log.warning("Unhandled: <{}>", message);
     }
 
-    private static List<Grouped<Long>> deserializeGroupedHashes(final scala.collection.immutable.Set<String> strings) {
+    private static List<Grouped<Long>> deserializeGroupedHashes(final scala.collection.immutable.Set<String> strings,
+            final Map<String, Grouped<Long>> previouslyDeserialized,
+            final Map<String, Grouped<Long>> deserialized) {
         return CollectionConverters.asJava(strings).stream()
-                .map(string -> Grouped.fromJson(JsonObject.of(string), JsonValue::asLong))
+                .map(string -> deserialized.computeIfAbsent(string, s -> {
+                    final Grouped<Long> previous = previouslyDeserialized.get(s);
+                    return null != previous ? previous : Grouped.fromJson(JsonObject.of(s), JsonValue::asLong);
+                }))
                 .toList();
     }
 
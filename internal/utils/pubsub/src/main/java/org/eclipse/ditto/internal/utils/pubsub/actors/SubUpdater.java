@@ -130,8 +130,8 @@ public final class SubUpdater extends AbstractActorWithTimers
      * @return the Props object.
      */
     public static Props props(final PubSubConfig config, final ActorRef subscriber, final CompressedDData topicsDData) {
-        return Props.create(SubUpdater.class, config, subscriber, CompressedSubscriptions.of(topicsDData.getSeeds()),
-                topicsDData);
+        return Props.create(SubUpdater.class, config, subscriber,
+                CompressedSubscriptions.of(topicsDData.getSeeds(), config.getTopicChunkSize()), topicsDData);
     }
 
     @Override
@@ -51,6 +51,13 @@ public interface PubSubConfig {
      */
     double getResetProbability();
 
+    /**
+     * @return Maximum number of topic hashes of a local subscriber to serialize into one entry of the distributed
+     * data.
+     * @since 3.6.0
+     */
+    int getTopicChunkSize();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -106,7 +113,13 @@ public interface PubSubConfig {
         /**
          * Probability to reset the distributed data of a subscriber.
          */
-        RESET_PROBABILITY("reset-probability", 0.01);
+        RESET_PROBABILITY("reset-probability", 0.01),
+
+        /**
+         * Maximum number of topic hashes of a local subscriber to serialize into one entry of the distributed data.
+         * A subscription change replaces only the entry containing the changed topic.
+         */
+        TOPIC_CHUNK_SIZE("topic-chunk-size", 128);
 
         private final String path;
         private final Object defaultValue;
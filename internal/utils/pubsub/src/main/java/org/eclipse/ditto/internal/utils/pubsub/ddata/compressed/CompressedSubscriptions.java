@@ -12,13 +12,15 @@
  */
 package org.eclipse.ditto.internal.utils.pubsub.ddata.compressed;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -33,6 +35,12 @@ import org.apache.pekko.actor.ActorRef;
 
 /**
  * Local subscriptions for distribution of subscribed topics as hash code sequences.
+ * <p>
+ * The topic hashes of each local subscriber are split into chunks by hash so that a subscription change replaces only
+ * the chunk containing the changed topic in the distributed data. The number of chunks of a subscriber is the smallest
+ * power of 2 which keeps the expected chunk size within the configured topic chunk size, so that chunks only get
+ * rearranged when the number of topics of a subscriber crosses a power of 2.
+ * </p>
  */
 @NotThreadSafe
 public final class CompressedSubscriptions extends AbstractSubscriptions<String, LiteralUpdate>
@@ -42,23 +50,28 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
      * Seeds of hash functions. They should be identical cluster-wide.
      */
     private final Collection<Integer> seeds;
+    private final int topicChunkSize;
 
     private CompressedSubscriptions(
             final Collection<Integer> seeds,
+            final int topicChunkSize,
             final Map<ActorRef, SubscriberData> subscriberDataMap,
             final Map<String, TopicData> topicToData) {
         super(subscriberDataMap, topicToData);
         this.seeds = seeds;
+        this.topicChunkSize = topicChunkSize;
     }
 
     /**
      * Create a new compressed subscriptions object.
      *
      * @param seeds seeds of the family of hash functions..
+     * @param topicChunkSize maximum expected number of topic hashes per chunk.
      * @return the compressed subscriptions object.
+     * @since 3.6.0
      */
-    public static CompressedSubscriptions of(final Collection<Integer> seeds) {
-        return new CompressedSubscriptions(seeds, new HashMap<>(), new HashMap<>());
+    public static CompressedSubscriptions of(final Collection<Integer> seeds, final int topicChunkSize) {
+        return new CompressedSubscriptions(seeds, topicChunkSize, new HashMap<>(), new HashMap<>());
     }
 
     @Override
@@ -84,21 +97,46 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
     public LiteralUpdate export() {
         final Set<String> serializedGroupedTopics = new HashSet<>();
         subscriberDataMap.forEach((subscriber, data) -> {
-            final Set<Long> topicHashes = data.getTopics()
-                    .stream()
-                    .map(this::hashAsLong)
-                    .collect(Collectors.toSet());
-            final Grouped<Long> groupedHashes = Grouped.of(data.getGroup().orElse(null), topicHashes);
-            serializedGroupedTopics.add(groupedHashes.toJsonString());
+            final String group = data.getGroup().orElse(null);
+            for (final Set<Long> chunk : chunkTopicHashes(data.getTopics())) {
+                serializedGroupedTopics.add(Grouped.of(group, chunk).toJsonString());
+            }
         });
         return LiteralUpdate.withInserts(serializedGroupedTopics);
     }
 
+    private List<Set<Long>> chunkTopicHashes(final Set<String> topics) {
+        final int chunkCount = getChunkCount(topics.size(), topicChunkSize);
+        final List<Set<Long>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            // sorted so that unchanged chunks serialize into identical strings
+            chunks.add(new TreeSet<>());
+        }
+        for (final String topic : topics) {
+            final long hash = hashAsLong(topic);
+            chunks.get((int) hash & (chunkCount - 1)).add(hash);
+        }
+        chunks.removeIf(Set::isEmpty);
+        return chunks;
+    }
+
+    /**
+     * Compute the number of chunks for a number of topics.
+     *
+     * @param topicCount the number of topics.
+     * @param topicChunkSize the maximum expected number of topics per chunk.
+     * @return the smallest power of 2 not smaller than the number of topics divided by the chunk size.
+     */
+    static int getChunkCount(final int topicCount, final int topicChunkSize) {
+        final int minChunkCount = (topicCount + topicChunkSize - 1) / topicChunkSize;
+        return minChunkCount <= 1 ? 1 : Integer.highestOneBit(minChunkCount - 1) << 1;
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (other instanceof CompressedSubscriptions) {
             final CompressedSubscriptions that = (CompressedSubscriptions) other;
-            return seeds.equals(that.seeds) && super.equals(other);
+            return seeds.equals(that.seeds) && topicChunkSize == that.topicChunkSize && super.equals(other);
         } else {
             return false;
         }
@@ -106,7 +144,7 @@ public final class CompressedSubscriptions extends AbstractSubscriptions<String,
 
     @Override
     public int hashCode() {
-        return Objects.hash(seeds, super.hashCode());
+        return Objects.hash(seeds, topicChunkSize, super.hashCode());
     }
 
 }
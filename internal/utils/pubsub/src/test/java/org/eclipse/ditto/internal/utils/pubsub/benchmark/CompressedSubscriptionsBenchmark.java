@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Props;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompressedSubscriptions;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.literal.LiteralUpdate;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for the distribution of a single subscription change of a cluster of 20 nodes with 5 subscribers
+ * per node and 1000 topics per subscriber, i.e. 100k topics in total.
+ * <p>
+ * Each operation subscribes or unsubscribes one topic on one node and measures the work until the change is routable
+ * on the other nodes: exporting and diffing the subscriptions on the changed node and deserializing the changed
+ * strings on the receiving node. The auxiliary counter {@code deltaBytes} reports the number of bytes sent via
+ * distributed data for the change, {@code topicChunkSize=2147483647} corresponds to a single chunk per subscriber.
+ * </p>
+ * <p>
+ * Run with {@code java -jar target/ditto-internal-utils-pubsub-*-benchmark.jar CompressedSubscriptionsBenchmark}
+ * after building the module with the {@code build-benchmark-assembly} profile.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class CompressedSubscriptionsBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int NODES = 20;
+    private static final int SUBSCRIBERS_PER_NODE = 5;
+    private static final int TOPICS_PER_SUBSCRIBER = 1000;
+    private static final List<Integer> SEEDS = List.of(-1, 0, 1, 2);
+
+    /**
+     * The maximum expected number of topic hashes per chunk.
+     */
+    @Param({"128", "2147483647"})
+    public int topicChunkSize;
+
+    private ActorSystem actorSystem;
+    private List<CompressedSubscriptions> nodes;
+    private List<LiteralUpdate> previousUpdates;
+    private List<ActorRef> subscribers;
+    private long changes;
+
+    @Setup
+    public void setup() {
+        actorSystem = ActorSystem.create("benchmark");
+        nodes = new ArrayList<>(NODES);
+        previousUpdates = new ArrayList<>(NODES);
+        subscribers = new ArrayList<>(NODES * SUBSCRIBERS_PER_NODE);
+        for (int node = 0; node < NODES; node++) {
+            final var subscriptions = CompressedSubscriptions.of(SEEDS, topicChunkSize);
+            for (int i = 0; i < SUBSCRIBERS_PER_NODE; i++) {
+                final ActorRef subscriber = actorSystem.actorOf(Props.empty());
+                final int firstTopic = (node * SUBSCRIBERS_PER_NODE + i) * TOPICS_PER_SUBSCRIBER;
+                subscriptions.subscribe(subscriber, topics(firstTopic, firstTopic + TOPICS_PER_SUBSCRIBER), null,
+                        null);
+                subscribers.add(subscriber);
+            }
+            nodes.add(subscriptions);
+            previousUpdates.add(subscriptions.export());
+        }
+        changes = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Grouped<Long>> subscriptionChangeUntilRoutable(final DeltaCounters counters) {
+        final int node = (int) (changes % NODES);
+        final int subscriberIndex = node * SUBSCRIBERS_PER_NODE + (int) (changes / NODES % SUBSCRIBERS_PER_NODE);
+        final ActorRef subscriber = subscribers.get(subscriberIndex);
+        final Set<String> extraTopic = Set.of("extra-topic-" + subscriberIndex);
+        final var subscriptions = nodes.get(node);
+        // alternate between adding and removing the extra topic of the subscriber to keep the topic count stable
+        if ((changes / (NODES * SUBSCRIBERS_PER_NODE) & 1) == 0) {
+            subscriptions.subscribe(subscriber, extraTopic, null, null);
+        } else {
+            subscriptions.unsubscribe(subscriber, extraTopic);
+        }
+        changes++;
+
+        final LiteralUpdate update = subscriptions.export();
+        final LiteralUpdate delta = update.diff(previousUpdates.get(node));
+        previousUpdates.set(node, update);
+
+        long deltaBytes = 0;
+        for (final String string : delta.getInserts()) {
+            deltaBytes += string.getBytes(StandardCharsets.UTF_8).length;
+        }
+        for (final String string : delta.getDeletes()) {
+            deltaBytes += string.getBytes(StandardCharsets.UTF_8).length;
+        }
+        counters.deltaBytes += deltaBytes;
+
+        // receiving nodes only deserialize the inserted strings
+        return delta.getInserts()
+                .stream()
+                .map(string -> Grouped.fromJson(JsonObject.of(string), JsonValue::asLong))
+                .toList();
+    }
+
+    private static Set<String> topics(final int from, final int to) {
+        return IntStream.range(from, to).mapToObj(i -> "topic-" + i).collect(Collectors.toSet());
+    }
+
+    /**
+     * Counts the bytes of the distributed data deltas.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DeltaCounters {
+
+        public long deltaBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            deltaBytes = 0;
+        }
+
+    }
+
+}
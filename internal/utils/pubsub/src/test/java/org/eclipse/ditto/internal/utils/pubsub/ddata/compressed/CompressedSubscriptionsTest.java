@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.ddata.compressed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.literal.LiteralUpdate;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link CompressedSubscriptions}.
+ */
+public final class CompressedSubscriptionsTest {
+
+    private static final List<Integer> SEEDS = List.of(1, 2, 3);
+    private static final int TOPIC_CHUNK_SIZE = 16;
+
+    private ActorSystem system;
+    private ActorRef subscriber;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create(getClass().getSimpleName());
+        subscriber = TestProbe.apply(system).ref();
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void getChunkCount() {
+        assertThat(CompressedSubscriptions.getChunkCount(0, 16)).isEqualTo(1);
+        assertThat(CompressedSubscriptions.getChunkCount(16, 16)).isEqualTo(1);
+        assertThat(CompressedSubscriptions.getChunkCount(17, 16)).isEqualTo(2);
+        assertThat(CompressedSubscriptions.getChunkCount(48, 16)).isEqualTo(4);
+        assertThat(CompressedSubscriptions.getChunkCount(64, 16)).isEqualTo(4);
+        assertThat(CompressedSubscriptions.getChunkCount(65, 16)).isEqualTo(8);
+        assertThat(CompressedSubscriptions.getChunkCount(100_000, Integer.MAX_VALUE)).isEqualTo(1);
+    }
+
+    @Test
+    public void exportSplitsTopicHashesIntoChunks() {
+        final var underTest = CompressedSubscriptions.of(SEEDS, TOPIC_CHUNK_SIZE);
+        underTest.subscribe(subscriber, topics(0, 1000), null, "group");
+
+        final LiteralUpdate update = underTest.export();
+
+        final List<Grouped<Long>> chunks = deserialize(update.getInserts());
+        assertThat(chunks).hasSize(CompressedSubscriptions.getChunkCount(1000, TOPIC_CHUNK_SIZE));
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getGroup()).contains("group"));
+        final Set<Long> allHashes = chunks.stream()
+                .flatMap(Grouped::streamValues)
+                .collect(Collectors.toSet());
+        assertThat(allHashes).isEqualTo(topics(0, 1000).stream()
+                .map(underTest::hashAsLong)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void subscriptionChangeReplacesOneChunk() {
+        final var underTest = CompressedSubscriptions.of(SEEDS, TOPIC_CHUNK_SIZE);
+        underTest.subscribe(subscriber, topics(0, 1000), null, null);
+        final LiteralUpdate previousUpdate = underTest.export();
+
+        underTest.unsubscribe(subscriber, Set.of("topic-42"));
+        final LiteralUpdate diff = underTest.export().diff(previousUpdate);
+
+        assertThat(diff.getInserts()).hasSize(1);
+        assertThat(diff.getDeletes()).hasSize(1);
+    }
+
+    private static Set<String> topics(final int from, final int to) {
+        return IntStream.range(from, to).mapToObj(i -> "topic-" + i).collect(Collectors.toSet());
+    }
+
+    private static List<Grouped<Long>> deserialize(final Set<String> strings) {
+        return strings.stream()
+                .map(string -> Grouped.fromJson(JsonObject.of(string), JsonValue::asLong))
+                .toList();
+    }
+
+}
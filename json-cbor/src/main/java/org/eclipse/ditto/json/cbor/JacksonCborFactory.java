@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -33,10 +34,8 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonValue;
 
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
-import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
 import com.fasterxml.jackson.dataformat.cbor.CBORParser;
 
 /**
@@ -116,17 +115,30 @@ public final class JacksonCborFactory implements CborFactory {
         writeToOutputStream(jsonValue, byteBufferOutputStream);
     }
 
+    @Override
+    public Map<String, ByteBuffer> readFieldSlicesFrom(final ByteBuffer byteBuffer) {
+        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
+        // this buffer.
+        final ByteBuffer slicedByteBuffer = byteBuffer.slice();
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
+            return parseFieldSlices(parser, slicedByteBuffer);
+        } catch (final IOException | IllegalArgumentException e) {
+            throw createJsonParseException(slicedByteBuffer, e);
+        }
+    }
+
     @Override
     public byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap, final int guessedSerializedSize)
             throws IOException {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream(guessedSerializedSize);
 
         try (final JacksonSerializationContext serializationContext = new JacksonSerializationContext(baos)) {
-            writeStartObjectWithLength(serializationContext, jsonFieldMap.size());
+            serializationContext.writeStartObject(jsonFieldMap.size());
             for (final JsonField jsonField : jsonFieldMap.values()) {
                 jsonField.writeKeyAndValue(serializationContext);
             }
-            serializationContext.getJacksonGenerator().writeEndObject();
+            serializationContext.writeEndObject();
         }
         return baos.toByteArray();
     }
@@ -146,22 +158,6 @@ public final class JacksonCborFactory implements CborFactory {
         return baos.toByteArray();
     }
 
-    private static void writeStartObjectWithLength(final JacksonSerializationContext serializationContext, int length)
-            throws IOException {
-            /*
-            This is a workaround to ensure that length is encoded in CBOR-Objects.
-            A proper API should be available in version 2.11. (2020-02)
-            see: https://github.com/FasterXML/jackson-dataformats-binary/issues/3
-             */
-        final JsonGenerator jacksonGenerator = serializationContext.getJacksonGenerator();
-        if (jacksonGenerator instanceof CBORGenerator) {
-            CBORGenerator cborGenerator = (CBORGenerator) jacksonGenerator;
-            cborGenerator.writeStartObject(length);
-        } else {
-            jacksonGenerator.writeStartObject();
-        }
-    }
-
     private static JsonParseException createJsonParseException(final ByteBuffer byteBuffer, final Exception e) {
         return JsonParseException.newBuilder()
                 .message(MessageFormat.format(
@@ -179,6 +175,47 @@ public final class JacksonCborFactory implements CborFactory {
         serializationContext.close();
     }
 
+    private static Map<String, ByteBuffer> parseFieldSlices(final CBORParser parser, final ByteBuffer byteBuffer)
+            throws IOException {
+        final JsonToken firstToken = parser.nextToken();
+        if (JsonToken.VALUE_NULL == firstToken) {
+            return Collections.emptyMap();
+        }
+        if (JsonToken.START_OBJECT != firstToken) {
+            throw new IOException("Expected CBOR object but encountered token " + firstToken + ".");
+        }
+        final Map<String, ByteBuffer> result = new LinkedHashMap<>();
+        JsonToken token = parser.nextToken();
+        while (JsonToken.FIELD_NAME == token) {
+            final String key = parser.currentName();
+            if (null == parser.nextToken()) {
+                throw new IOException("Unexpected end of input while expecting value of field <" + key + ">.");
+            }
+            final long startOffset = parser.getTokenLocation().getByteOffset();
+            parser.skipChildren();
+
+            // the value ends where the next token (field name or end of object) starts
+            token = parser.nextToken();
+            final long endOffset = parser.getTokenLocation().getByteOffset();
+            result.put(key, getSliceOfInputSource(startOffset, endOffset, byteBuffer));
+        }
+        if (JsonToken.END_OBJECT != token) {
+            throw new IOException("Unexpected end of input while parsing CBOR object.");
+        }
+        return result;
+    }
+
+    private static ByteBuffer getSliceOfInputSource(final long startOffset, final long endOffset,
+            final ByteBuffer byteBuffer) {
+        assert endOffset > startOffset;
+        assert endOffset < Integer.MAX_VALUE;
+
+        final ByteBuffer duplicate = byteBuffer.duplicate();
+        duplicate.limit((int) endOffset);
+        duplicate.position((int) startOffset);
+        return duplicate.slice();
+    }
+
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
         return parseValue(parser, byteBuffer, parser.nextToken());
     }
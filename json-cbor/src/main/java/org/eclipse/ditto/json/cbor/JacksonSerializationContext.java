@@ -20,6 +20,7 @@ import org.eclipse.ditto.json.SerializationContext;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
 
 /**
  * Implementation of {@link SerializationContext} backed by Jackson's {@link JsonGenerator}.
@@ -127,6 +128,22 @@ final class JacksonSerializationContext implements SerializationContext {
         jacksonGenerator.writeFieldName(name);
     }
 
+    @Override
+    public void writeStartObject(final int size) throws IOException {
+        if (jacksonGenerator instanceof CBORGenerator) {
+            // ensures that the length is encoded in the CBOR object instead of using an indefinite length object
+            final CBORGenerator cborGenerator = (CBORGenerator) jacksonGenerator;
+            cborGenerator.writeStartObject(size);
+        } else {
+            jacksonGenerator.writeStartObject();
+        }
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        jacksonGenerator.writeEndObject();
+    }
+
     private void informJacksonThatOneElementWasWritten() throws IOException {
         // Deactivating the output stream to write a pseudo element and ensure that the internal counter keeping track
         // of array and object lengths is accurate.
@@ -203,13 +203,14 @@ public final class CborJsonTest {
     @Test
     public void validateImmutableJsonObjectInternalCachingBehaviour() throws IOException {
         final JsonObject objectWithSelfGeneratedCache = JsonFactory.newObjectBuilder(KNOWN_FIELDS.values()).build();
-        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, true, false);
+        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, false, false);
 
+        // objects without a CBOR representation stream their fields when being serialized and do not cache it
         final ByteBuffer byteBuffer = cborFactory.toByteBuffer(objectWithSelfGeneratedCache);
         final JsonObject objectWithCborCache = cborFactory.readFrom(byteBuffer).asObject();
-        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, true, false);
+        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, false, false);
         final JsonObject objectWithJsonCache = JsonFactory.newObject(objectWithSelfGeneratedCache.toString());
-        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, true, true);
+        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, false, true);
 
         assertInternalCachesAreAsExpected(objectWithCborCache, true, false);
         assertInternalCachesAreAsExpected(objectWithJsonCache, false, true);
@@ -18,9 +18,12 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonValue;
 import org.junit.Before;
 import org.junit.Test;
@@ -100,6 +103,19 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readFieldSlicesFromByteBuffer() {
+        if (testValue.isObject()) {
+            final Map<String, ByteBuffer> result = cborFactory.readFieldSlicesFrom(ByteBuffer.wrap(testBytes));
+            final JsonObjectBuilder fromSlices = JsonFactory.newObjectBuilder();
+            result.forEach((key, slice) -> fromSlices.set(key, cborFactory.readFrom(slice)));
+            assertThat(fromSlices.build()).isEqualTo(testValue);
+        } else {
+            Assertions.assertThatExceptionOfType(JsonParseException.class)
+                    .isThrownBy(() -> cborFactory.readFieldSlicesFrom(ByteBuffer.wrap(testBytes)));
+        }
+    }
+
     @Test
     public void toBytebufferWorks() throws IOException {
         Assertions.assertThat(BinaryToHexConverter.toHexString(cborFactory.toByteBuffer(testValue)))
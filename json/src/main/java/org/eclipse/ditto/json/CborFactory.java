@@ -70,6 +70,18 @@ public interface CborFactory {
      */
     JsonValue readFrom(ByteBuffer byteBuffer);
 
+    /**
+     * Reads the top level fields of the CBOR object contained in the passed {@code byteBuffer} without deserializing
+     * their values. Each value is returned as slice of {@code byteBuffer} which can be deserialized on demand via
+     * {@link #readFrom(ByteBuffer)}. A CBOR {@code null} is treated as object without fields.
+     *
+     * @param byteBuffer the ByteBuffer containing the CBOR object.
+     * @return the CBOR encoded values of the top level fields by their keys in the order of the object.
+     * @throws JsonParseException if the content of {@code byteBuffer} is no CBOR object.
+     * @since 3.6.0
+     */
+    Map<String, ByteBuffer> readFieldSlicesFrom(ByteBuffer byteBuffer);
+
     /**
      * Serializes a CBOR byte array from the passed {@code jsonValue}.
      *
@@ -17,9 +17,12 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
@@ -28,12 +31,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -53,9 +55,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Nullable private static ImmutableJsonObject emptyInstance = null;
 
-    private final SoftReferencedFieldMap fieldMap;
+    private final CompactFieldMap fieldMap;
 
-    ImmutableJsonObject(final SoftReferencedFieldMap theFieldMap) {
+    ImmutableJsonObject(final CompactFieldMap theFieldMap) {
         fieldMap = theFieldMap;
     }
 
@@ -67,7 +69,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject empty() {
         ImmutableJsonObject result = emptyInstance;
         if (null == result) {
-            result = new ImmutableJsonObject(SoftReferencedFieldMap.empty());
+            result = new ImmutableJsonObject(CompactFieldMap.empty());
             emptyInstance = result;
         }
         return result;
@@ -81,7 +83,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
      * @throws NullPointerException if {@code fields} is {@code null}.
      */
     public static ImmutableJsonObject of(final Map<String, JsonField> fields) {
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields));
+        return new ImmutableJsonObject(CompactFieldMap.of(fields));
     }
 
     /**
@@ -95,7 +97,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject of(final Map<String, JsonField> fields,
             @Nullable final String stringRepresentation) {
 
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, stringRepresentation));
+        return new ImmutableJsonObject(CompactFieldMap.of(fields, stringRepresentation));
     }
 
     /**
@@ -110,7 +112,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject of(final Map<String, JsonField> fields,
             @Nullable final byte[] cborRepresentation) {
 
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(
+        return new ImmutableJsonObject(CompactFieldMap.of(
                 fields,
                 cborRepresentation != null ? cborRepresentation.clone() : null
         ));
@@ -594,76 +596,143 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.upperBoundForStringSize();
     }
 
+    /**
+     * Internal storage of the fields of an {@code ImmutableJsonObject}.
+     * <p>
+     * The fields are held in a flat array in insertion order. Objects with more than
+     * {@value #MAX_LINEAR_SCAN_SIZE} fields additionally get an open addressing hash index of field positions, smaller
+     * objects are scanned linearly. The fields are always strongly referenced as they are the source of truth; the
+     * string representation is a cache which is created lazily, the CBOR representation is only known for objects
+     * parsed from CBOR, otherwise the fields are streamed directly when serializing. Both are only kept strongly
+     * referenced up to {@link #MAX_STRONGLY_CACHED_REPRESENTATION_SIZE} chars resp. bytes. Larger representations are
+     * only softly referenced so that they can be reclaimed under memory pressure.
+     * </p>
+     */
     @Immutable
-    static final class SoftReferencedFieldMap {
+    static final class CompactFieldMap {
 
-        private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
-        private static final CborFactory CBOR_FACTORY;
-
-        static {
-            final ServiceLoader<CborFactory> sl = ServiceLoader.load(CborFactory.class);
-            CBOR_FACTORY = StreamSupport.stream(sl.spliterator(), false)
-                    .findFirst()
-                    .orElseGet(NoopCborFactory::new); // when no Service could be found -> CBOR not available
-        }
+        /**
+         * The maximum size of a cached string or CBOR representation which is strongly referenced.
+         * Can be configured with the system property {@code ditto.json.object.max-strongly-cached-representation-size}.
+         */
+        static final int MAX_STRONGLY_CACHED_REPRESENTATION_SIZE =
+                Integer.getInteger("ditto.json.object.max-strongly-cached-representation-size", 16 * 1024);
 
-        private String jsonObjectStringRepresentation;
-        private byte[] cborObjectRepresentation;
+        private static final int MAX_LINEAR_SCAN_SIZE = 8;
+        private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+        private static final JsonField[] NO_FIELDS = new JsonField[0];
+
+        private final JsonField[] fields;
+        @Nullable private final int[] hashIndex;
+        @Nullable private String jsonObjectStringRepresentation;
+        @Nullable private byte[] cborObjectRepresentation;
+        @Nullable private SoftReference<String> largeJsonObjectStringRepresentation;
+        @Nullable private SoftReference<byte[]> largeCborObjectRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
 
-        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
-                @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
+        private CompactFieldMap(final JsonField[] fields, @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation) {
 
-            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
-            jsonObjectStringRepresentation = stringRepresentation;
-            this.cborObjectRepresentation = cborObjectRepresentation;
-            if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
-                if (CBOR_FACTORY.isCborAvailable()) {
-                    try {
-                        this.cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(jsonFieldMap,
-                                guessSerializedSize());
-                    } catch (final IOException e) {
-                        assert false; // this should not happen, so assertions will throw during testing
-                        jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
-                    }
-                } else {
-                    jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
-                }
-            }
+            this.fields = fields;
+            hashIndex = fields.length > MAX_LINEAR_SCAN_SIZE ? createHashIndex(fields) : null;
+            cacheStringRepresentation(stringRepresentation);
+            cacheCborRepresentation(cborObjectRepresentation);
             hashCode = 0;
         }
 
-        static SoftReferencedFieldMap empty() {
-            return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
+        static CompactFieldMap empty() {
+            return new CompactFieldMap(NO_FIELDS, "{}", new byte[]{(byte) 0xA0});
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap) {
-            return new SoftReferencedFieldMap(fieldMap, null, null);
+        static CompactFieldMap of(final Map<String, JsonField> fieldMap) {
+            return of(fieldMap, null, null);
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static CompactFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null);
+            return of(jsonFieldMap, stringRepresentation, null);
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static CompactFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, null, cborObjectRepresentation);
+            return of(jsonFieldMap, null, cborObjectRepresentation);
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static CompactFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
+
+            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
+            final JsonField[] fields = jsonFieldMap.isEmpty()
+                    ? NO_FIELDS
+                    : jsonFieldMap.values().toArray(new JsonField[0]);
+            return new CompactFieldMap(fields, stringRepresentation, cborObjectRepresentation);
         }
 
-        private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
+        private static int[] createHashIndex(final JsonField[] fields) {
+            final int[] result = new int[Integer.highestOneBit(fields.length * 2 - 1) << 1];
+            final int mask = result.length - 1;
+            for (int i = 0; i < fields.length; i++) {
+                int slot = spread(fields[i].getKeyName().hashCode()) & mask;
+                while (0 != result[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                result[slot] = i + 1; // 0 marks an empty slot
+            }
+            return result;
+        }
+
+        private static int spread(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        private void cacheStringRepresentation(@Nullable final String stringRepresentation) {
+            if (null == stringRepresentation) {
+                return;
+            }
+            if (stringRepresentation.length() <= MAX_STRONGLY_CACHED_REPRESENTATION_SIZE) {
+                jsonObjectStringRepresentation = stringRepresentation;
+            } else {
+                largeJsonObjectStringRepresentation = new SoftReference<>(stringRepresentation);
+            }
+        }
+
+        private void cacheCborRepresentation(@Nullable final byte[] cborRepresentation) {
+            if (null == cborRepresentation) {
+                return;
+            }
+            if (cborRepresentation.length <= MAX_STRONGLY_CACHED_REPRESENTATION_SIZE) {
+                cborObjectRepresentation = cborRepresentation;
+            } else {
+                largeCborObjectRepresentation = new SoftReference<>(cborRepresentation);
+            }
+        }
+
+        @Nullable
+        private String getCachedStringRepresentation() {
+            String result = jsonObjectStringRepresentation;
+            if (null == result) {
+                final SoftReference<String> reference = largeJsonObjectStringRepresentation;
+                result = null != reference ? reference.get() : null;
+            }
+            return result;
+        }
+
+        @Nullable
+        private byte[] getCachedCborRepresentation() {
+            byte[] result = cborObjectRepresentation;
+            if (null == result) {
+                final SoftReference<byte[]> reference = largeCborObjectRepresentation;
+                result = null != reference ? reference.get() : null;
+            }
+            return result;
+        }
+
+        private String createStringRepresentation() {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
             String delimiter = "";
-            for (final JsonField jsonField : jsonFieldMap.values()) {
+            for (final JsonField jsonField : fields) {
                 stringBuilder.append(delimiter);
                 stringBuilder.append(jsonField);
                 delimiter = ",";
@@ -674,161 +743,311 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         int getSize() {
-            return fields().size();
+            return fields.length;
         }
 
         boolean isEmpty() {
-            return fields().isEmpty();
+            return 0 == fields.length;
         }
 
         boolean containsKey(final String key) {
-            return fields().containsKey(key);
+            return 0 <= indexOf(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
-            return fields().get(key);
+            final int index = indexOf(key);
+            return 0 <= index ? fields[index] : null;
         }
 
-        SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
+        private int indexOf(final String key) {
+            final int[] index = hashIndex;
+            if (null == index) {
+                for (int i = 0; i < fields.length; i++) {
+                    if (key.equals(fields[i].getKeyName())) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            final int mask = index.length - 1;
+            int slot = spread(key.hashCode()) & mask;
+            int position = index[slot];
+            while (0 != position) {
+                if (key.equals(fields[position - 1].getKeyName())) {
+                    return position - 1;
+                }
+                slot = (slot + 1) & mask;
+                position = index[slot];
+            }
+            return -1;
         }
 
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+        CompactFieldMap put(final String key, final JsonField value) {
+            final int index = indexOf(key);
+            final JsonField[] fieldsCopy;
+            if (0 <= index) {
+                fieldsCopy = fields.clone();
+                fieldsCopy[index] = value;
+            } else {
+                fieldsCopy = Arrays.copyOf(fields, fields.length + 1);
+                fieldsCopy[fields.length] = value;
+            }
+            return new CompactFieldMap(fieldsCopy, null, null);
         }
 
-        SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
+        CompactFieldMap putAll(final Iterable<JsonField> jsonFields) {
+            final Map<String, JsonField> fieldsCopy = new LinkedHashMap<>(asMap());
             jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
             return of(fieldsCopy);
         }
 
-        SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+        CompactFieldMap remove(final String key) {
+            final int index = indexOf(key);
+            if (0 > index) {
+                return this;
+            }
+            final JsonField[] fieldsCopy = new JsonField[fields.length - 1];
+            System.arraycopy(fields, 0, fieldsCopy, 0, index);
+            System.arraycopy(fields, index + 1, fieldsCopy, index, fields.length - index - 1);
+            return new CompactFieldMap(fieldsCopy, null, null);
         }
 
         Stream<JsonField> getStream() {
-            return fields().values().stream();
+            return Arrays.stream(fields);
         }
 
         Iterator<JsonField> getIterator() {
-            return fields().values().iterator();
+            return Collections.unmodifiableList(Arrays.asList(fields)).iterator();
         }
 
-        private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
-            if (null == result) {
-                result = recoverFields();
-                fieldsReference = new SoftReference<>(result);
-            }
-            return result;
+        /**
+         * Returns an unmodifiable Map view on the fields which does not copy the fields.
+         *
+         * @return the view.
+         */
+        Map<String, JsonField> asMap() {
+            return new FieldArrayMapView(this);
         }
 
-        private Map<String, JsonField> recoverFields() {
-            if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
-                return parseToMap(cborObjectRepresentation);
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
             }
-            if (jsonObjectStringRepresentation != null) {
-                return parseToMap(jsonObjectStringRepresentation);
+            if (o == null || getClass() != o.getClass()) {
+                return false;
             }
-            throw new IllegalStateException("Fatal cache miss on JsonObject");
-        }
+            final CompactFieldMap that = (CompactFieldMap) o;
 
-        private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
-            final FieldMapJsonHandler jsonHandler = new FieldMapJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
-            return jsonHandler.getValue();
+            // equal representations are a shortcut only; different ones may still stem from equal fields, e.g. with
+            // numbers like 1 and 1.0 or differently escaped strings
+            final String stringRepresentation = getCachedStringRepresentation();
+            final String thatStringRepresentation = that.getCachedStringRepresentation();
+            if (stringRepresentation != null && stringRepresentation.equals(thatStringRepresentation)) {
+                return true;
+            }
+            final byte[] cborRepresentation = getCachedCborRepresentation();
+            final byte[] thatCborRepresentation = that.getCachedCborRepresentation();
+            if (cborRepresentation != null && thatCborRepresentation != null &&
+                    Arrays.equals(cborRepresentation, thatCborRepresentation)) {
+                return true;
+            }
+            return fieldsEqual(that);
         }
 
-        private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborObjectRepresentation);
-            final Map<String, JsonField> map = new LinkedHashMap<>();
-            for (final JsonField jsonValue : jsonObject.asObject()) {
-                map.put(jsonValue.getKey().toString(), jsonValue);
+        private boolean fieldsEqual(final CompactFieldMap that) {
+            if (fields.length != that.fields.length) {
+                return false;
+            }
+            for (final JsonField field : fields) {
+                final JsonField thatField = that.getOrNull(field.getKeyName());
+                if (null == thatField || !valuesEqual(field.getValue(), thatField.getValue())) {
+                    return false;
+                }
             }
-            return map;
+            return true;
         }
 
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
+        /*
+         * Objects are compared by their fields regardless of their class. Otherwise an object containing e.g. the
+         * Attributes of a Thing would only be equal to the same object parsed from JSON if both happened to have
+         * their string representation cached.
+         */
+        private static boolean valuesEqual(final JsonValue value, final JsonValue otherValue) {
+            if (value.equals(otherValue)) {
                 return true;
+            } else if (value.isNull() || otherValue.isNull()) {
+                return value.isNull() && otherValue.isNull();
+            } else if (value.isObject() && otherValue.isObject()) {
+                return objectFieldsEqual(value.asObject(), otherValue.asObject());
             }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            final SoftReferencedFieldMap that = (SoftReferencedFieldMap) o;
+            return false;
+        }
 
-            if (jsonObjectStringRepresentation != null && that.jsonObjectStringRepresentation != null) {
-                if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
-                    return true;
-                } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
-                    return Objects.equals(fields(), that.fields());
-                }
+        private static boolean objectFieldsEqual(final JsonObject object, final JsonObject otherObject) {
+            if (object.getSize() != otherObject.getSize()) {
                 return false;
             }
-            if (cborObjectRepresentation != null && that.cborObjectRepresentation != null &&
-                    Arrays.equals(cborObjectRepresentation, that.cborObjectRepresentation)) {
-                return true;
+            for (final JsonField field : object) {
+                final Optional<JsonField> otherField = otherObject.getField(field.getKeyName());
+                if (!otherField.isPresent() || !valuesEqual(field.getValue(), otherField.get().getValue())) {
+                    return false;
+                }
             }
-            return Objects.equals(fields(), that.fields());
+            return true;
         }
 
         @Override
         public int hashCode() {
             int result = hashCode;
             if (0 == result) {
-                result = fields().hashCode();
+                result = fieldsHashCode(Arrays.asList(fields));
                 hashCode = result;
             }
             return result;
         }
 
+        // consistent with valuesEqual: objects of any class with the same fields have the same hash code
+        private static int fieldsHashCode(final Iterable<JsonField> fields) {
+            int result = 0;
+            for (final JsonField field : fields) {
+                result += field.getKeyName().hashCode() ^ valueHashCode(field.getValue());
+            }
+            return result;
+        }
+
+        private static int valueHashCode(final JsonValue value) {
+            if (value.isNull()) {
+                return JsonNull.class.hashCode();
+            } else if (value instanceof ImmutableJsonObject) {
+                return value.hashCode();
+            } else if (value.isObject()) {
+                return fieldsHashCode(value.asObject());
+            }
+            return value.hashCode();
+        }
+
         String asJsonObjectString() {
-            if (jsonObjectStringRepresentation == null) {
-                jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+            String result = getCachedStringRepresentation();
+            if (result == null) {
+                result = createStringRepresentation();
+                cacheStringRepresentation(result);
             }
-            return jsonObjectStringRepresentation;
+            return result;
         }
 
         void writeValue(final SerializationContext serializationContext) throws IOException {
-            if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
-                cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+            final byte[] cborRepresentation = getCachedCborRepresentation();
+            if (null != cborRepresentation) {
+                serializationContext.writeCachedElement(cborRepresentation);
+            } else {
+                // stream the fields directly into the target instead of creating an intermediate byte array for each
+                // nested object which would be copied into its parent again
+                serializationContext.writeStartObject(fields.length);
+                for (final JsonField field : fields) {
+                    field.writeKeyAndValue(serializationContext);
+                }
+                serializationContext.writeEndObject();
             }
-            serializationContext.writeCachedElement(cborObjectRepresentation);
         }
 
         private int guessSerializedSize() {
             // This function currently overestimates for CBOR and underestimates for JSON, but it should be better than a static guess.
-            if (jsonObjectStringRepresentation != null) {
-                return jsonObjectStringRepresentation.length();
+            final String stringRepresentation = getCachedStringRepresentation();
+            if (stringRepresentation != null) {
+                return stringRepresentation.length();
             }
-            if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length;
+            final byte[] cborRepresentation = getCachedCborRepresentation();
+            if (cborRepresentation != null) {
+                return cborRepresentation.length;
             }
             return 512;
         }
 
         public long upperBoundForStringSize() {
-            if (jsonObjectStringRepresentation != null) {
-                return jsonObjectStringRepresentation.length();
+            final String stringRepresentation = getCachedStringRepresentation();
+            if (stringRepresentation != null) {
+                return stringRepresentation.length();
             }
-            if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
+            final byte[] cborRepresentation = getCachedCborRepresentation();
+            if (cborRepresentation != null) {
+                return cborRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            long result = 2; // enclosing braces
+            for (final JsonField field : fields) {
+                // escaped and quoted key, colon, value and comma
+                result += field.getKeyName().length() * 6L + 4 + field.getValue().getUpperBoundForStringSize();
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Unmodifiable Map view on the fields of a {@link CompactFieldMap}.
+     */
+    @Immutable
+    private static final class FieldArrayMapView extends AbstractMap<String, JsonField> {
+
+        private final CompactFieldMap fieldMap;
+
+        private FieldArrayMapView(final CompactFieldMap fieldMap) {
+            this.fieldMap = fieldMap;
+        }
+
+        @Override
+        public int size() {
+            return fieldMap.getSize();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof String && fieldMap.containsKey((String) key);
+        }
+
+        @Override
+        @Nullable
+        public JsonField get(final Object key) {
+            return key instanceof String ? fieldMap.getOrNull((String) key) : null;
+        }
+
+        @Override
+        public Collection<JsonField> values() {
+            return Collections.unmodifiableList(Arrays.asList(fieldMap.fields));
+        }
+
+        @Override
+        public Set<Entry<String, JsonField>> entrySet() {
+            return new AbstractSet<Entry<String, JsonField>>() {
+                @Override
+                public Iterator<Entry<String, JsonField>> iterator() {
+                    final Iterator<JsonField> fieldIterator = fieldMap.getIterator();
+                    return new Iterator<Entry<String, JsonField>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return fieldIterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, JsonField> next() {
+                            final JsonField field = fieldIterator.next();
+                            return new SimpleImmutableEntry<>(field.getKeyName(), field);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return fieldMap.getSize();
+                }
+            };
         }
 
     }
 
     /**
-     * This JsonHandler creates a Map instead of a JsonObject as Map is the internal structure of ImmutableJsonObject.
+     * This JsonHandler creates a Map instead of a JsonObject as Map is the structure ImmutableJsonObject is created from.
      * All method calls which do not affect JSON object creation are delegated to {@link DefaultDittoJsonHandler}.
      * JSON object creation has to be split because only the base level should be represented as a Map, all nested
      * JSON objects should be of type {@link JsonObject}.
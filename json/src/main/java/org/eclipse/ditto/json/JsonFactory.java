@@ -14,9 +14,8 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -203,6 +202,40 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data.
+     * The bytes are parsed directly, i. e. without decoding them to a String first.
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 3.6.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        return readFrom(ByteBuffer.wrap(jsonData));
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given buffer and creates a JSON value based on the read data.
+     * The position of the buffer is not changed.
+     *
+     * @param jsonData the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} has no remaining bytes or if it is no valid JSON.
+     * @since 3.6.0
+     */
+    public static JsonValue readFrom(final ByteBuffer jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (!jsonData.hasRemaining()) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromUtf8Bytes().apply(jsonData);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -289,8 +322,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromUtf8Bytes().apply(ByteBuffer.wrap(jsonData));
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -939,7 +971,7 @@ public final class JsonFactory {
     public static JsonObject createJsonObject(final Map<String, JsonField> jsonFieldMap,
             @Nullable final byte[] cborObjectRepresentation) {
         return new ImmutableJsonObject(
-                ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
+                ImmutableJsonObject.CompactFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
     }
 
     /**
@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -78,6 +79,17 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue}.
+     * The bytes are parsed directly without decoding them to a String first.
+     *
+     * @return the function.
+     * @since 3.6.0
+     */
+    public static Function<ByteBuffer, JsonValue> fromUtf8Bytes() {
+        return Utf8JsonValueParser::parse;
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
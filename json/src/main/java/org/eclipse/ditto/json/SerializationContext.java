@@ -75,4 +75,21 @@ public interface SerializationContext extends Closeable, Flushable {
      * Writes the passed string {@code name} (as field name) to the serialization context.
      */
     void writeFieldName(String name) throws IOException;
+
+    /**
+     * Writes the start of an object with the passed number of fields to the serialization context.
+     * The fields must be written with {@link #writeFieldName(String)} followed by their value, the object must be
+     * closed with {@link #writeEndObject()}.
+     *
+     * @param size the number of fields the object will contain.
+     * @since 3.6.0
+     */
+    void writeStartObject(int size) throws IOException;
+
+    /**
+     * Writes the end of an object started with {@link #writeStartObject(int)} to the serialization context.
+     *
+     * @since 3.6.0
+     */
+    void writeEndObject() throws IOException;
 }
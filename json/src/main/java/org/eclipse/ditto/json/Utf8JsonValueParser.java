@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Streaming parser which creates a {@link JsonValue} directly from UTF-8 encoded bytes.
+ * <p>
+ * In contrast to {@link JsonValueParser} this parser does neither decode the input to a String first nor does it
+ * re-build the string representation of each nested JSON object or array with a StringBuilder.
+ * If the input does not contain insignificant whitespace or escape sequences, the string representation of each
+ * object and array is taken from the input bytes as is.
+ * Well-known keys like {@code thingId} or {@code attributes} are mapped to shared {@link JsonKey} instances and keys
+ * which occur repeatedly in the same input are only decoded once.
+ * </p>
+ * <p>
+ * <em>An instance of this class is only usable for parsing one input.</em>
+ * </p>
+ */
+@NotThreadSafe
+final class Utf8JsonValueParser {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+
+    private static final String[] WELL_KNOWN_KEYS = {
+            "thingId", "policyId", "definition", "attributes", "features", "properties", "desiredProperties",
+            "_revision", "_modified", "_created", "_metadata", "_namespace", "_policy", "_context",
+            "topic", "path", "value", "headers", "status", "extra", "fields",
+            "correlation-id", "content-type", "response-required", "requested-acks", "version"
+    };
+
+    private static final KeyTable WELL_KNOWN_KEY_TABLE = KeyTable.of(WELL_KNOWN_KEYS);
+
+    private static final int KEY_CACHE_SIZE = 64;
+
+    private final byte[] data;
+    private final int end;
+    private final JsonKey[] keyCache;
+    private int index;
+    private int nonCanonicalTokens;
+
+    private Utf8JsonValueParser(final byte[] data, final int offset, final int length) {
+        this.data = data;
+        end = offset + length;
+        keyCache = new JsonKey[KEY_CACHE_SIZE];
+        index = offset;
+        nonCanonicalTokens = 0;
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON data to a {@link JsonValue}.
+     *
+     * @param jsonData the JSON data to be parsed.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} does not contain valid JSON.
+     */
+    static JsonValue parse(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to be parsed must not be null!");
+        return parse(jsonData, 0, jsonData.length);
+    }
+
+    /**
+     * Parses the remaining bytes of the given buffer to a {@link JsonValue}.
+     * The position of the buffer is not changed.
+     *
+     * @param jsonData the UTF-8 encoded JSON data to be parsed.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} does not contain valid JSON.
+     */
+    static JsonValue parse(final ByteBuffer jsonData) {
+        requireNonNull(jsonData, "The JSON data to be parsed must not be null!");
+        if (jsonData.hasArray()) {
+            return parse(jsonData.array(), jsonData.arrayOffset() + jsonData.position(), jsonData.remaining());
+        }
+        final byte[] bytes = new byte[jsonData.remaining()];
+        jsonData.duplicate().get(bytes);
+        return parse(bytes, 0, bytes.length);
+    }
+
+    private static JsonValue parse(final byte[] data, final int offset, final int length) {
+        try {
+            return new Utf8JsonValueParser(data, offset, length).parseDocument();
+        } catch (final IllegalArgumentException | NullPointerException e) {
+            // "ditto-json" library throws IllegalArgumentException when for example keys are empty;
+            // NumberFormatException is an IllegalArgumentException as well
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON data!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private JsonValue parseDocument() {
+        skipWhitespace();
+        final JsonValue result = readValue(0);
+        skipWhitespace();
+        if (index < end) {
+            throw unexpectedCharacter("end of input");
+        }
+        return result;
+    }
+
+    private JsonValue readValue(final int nestingLevel) {
+        if (index >= end) {
+            throw unexpectedEndOfInput("value");
+        }
+        switch (data[index]) {
+            case '{':
+                return readObject(nestingLevel + 1);
+            case '[':
+                return readArray(nestingLevel + 1);
+            case '"':
+                return ImmutableJsonString.of(readString());
+            case 't':
+                readLiteral("true");
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return ImmutableJsonNull.getInstance();
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                return readNumber();
+            default:
+                throw unexpectedCharacter("value");
+        }
+    }
+
+    private JsonValue readObject(final int nestingLevel) {
+        checkNestingLevel(nestingLevel);
+        final int start = index;
+        final int nonCanonicalTokensBefore = nonCanonicalTokens;
+        index++;
+        skipWhitespace();
+        if (readChar('}')) {
+            return ImmutableJsonObject.empty();
+        }
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        do {
+            skipWhitespace();
+            final JsonKey key = readKey();
+            skipWhitespace();
+            if (!readChar(':')) {
+                throw unexpectedCharacter("':'");
+            }
+            skipWhitespace();
+            final JsonValue value = readValue(nestingLevel);
+            fields.put(key.toString(), JsonField.newInstance(key, value));
+            skipWhitespace();
+        } while (readChar(','));
+        if (!readChar('}')) {
+            throw unexpectedCharacter("',' or '}'");
+        }
+        return ImmutableJsonObject.of(fields, getCanonicalStringOrNull(start, nonCanonicalTokensBefore));
+    }
+
+    private JsonValue readArray(final int nestingLevel) {
+        checkNestingLevel(nestingLevel);
+        final int start = index;
+        final int nonCanonicalTokensBefore = nonCanonicalTokens;
+        index++;
+        skipWhitespace();
+        if (readChar(']')) {
+            return ImmutableJsonArray.empty();
+        }
+        final List<JsonValue> values = new ArrayList<>();
+        do {
+            skipWhitespace();
+            values.add(readValue(nestingLevel));
+            skipWhitespace();
+        } while (readChar(','));
+        if (!readChar(']')) {
+            throw unexpectedCharacter("',' or ']'");
+        }
+        return ImmutableJsonArray.of(values, getCanonicalStringOrNull(start, nonCanonicalTokensBefore));
+    }
+
+    private void checkNestingLevel(final int nestingLevel) {
+        if (nestingLevel > MAX_NESTING_LEVEL) {
+            throw new JsonParseException(MessageFormat.format("Failed to parse JSON data: nesting level exceeds " +
+                    "<{0}> at position <{1}>!", String.valueOf(MAX_NESTING_LEVEL), String.valueOf(index)));
+        }
+    }
+
+    /**
+     * Returns the string representation of the value which started at {@code start} and ended right before the
+     * current index if the input of this value is exactly what ditto-json would produce as string representation.
+     * Otherwise {@code null} is returned and the JSON value creates its string representation on its own.
+     */
+    @Nullable
+    private String getCanonicalStringOrNull(final int start, final int nonCanonicalTokensBefore) {
+        if (nonCanonicalTokens != nonCanonicalTokensBefore) {
+            return null;
+        }
+        return new String(data, start, index - start, StandardCharsets.UTF_8);
+    }
+
+    private JsonKey readKey() {
+        if (index >= end || data[index] != '"') {
+            throw unexpectedCharacter("name");
+        }
+        final int start = index + 1;
+        int i = start;
+        int hash = 0;
+        while (i < end) {
+            final byte b = data[i];
+            if (b == '"') {
+                final int length = i - start;
+                final JsonKey cachedKey = lookUpKey(start, length, hash);
+                if (null != cachedKey) {
+                    index = i + 1;
+                    return cachedKey;
+                }
+                break;
+            } else if (b == '\\' || b < 0x20) {
+                // escape sequences, non-ASCII and invalid characters are handled by readString
+                break;
+            }
+            hash = 31 * hash + b;
+            i++;
+        }
+        final String keyString = readString();
+        final JsonKey result = JsonKey.of(keyString);
+        if (i < end && data[i] == '"' && i + 1 == index) {
+            keyCache[hash & (KEY_CACHE_SIZE - 1)] = result;
+        }
+        return result;
+    }
+
+    @Nullable
+    private JsonKey lookUpKey(final int start, final int length, final int hash) {
+        final JsonKey wellKnownKey = WELL_KNOWN_KEY_TABLE.get(data, start, length, hash);
+        if (null != wellKnownKey) {
+            return wellKnownKey;
+        }
+        final JsonKey cachedKey = keyCache[hash & (KEY_CACHE_SIZE - 1)];
+        if (null != cachedKey && KeyTable.isEqual(cachedKey, data, start, length)) {
+            return cachedKey;
+        }
+        return null;
+    }
+
+    private String readString() {
+        final int start = index + 1;
+        int i = start;
+        boolean isAscii = true;
+        while (i < end) {
+            final byte b = data[i];
+            if (b == '"') {
+                index = i + 1;
+                return new String(data, start, i - start,
+                        isAscii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            } else if (b == '\\') {
+                return readEscapedString(start, i);
+            } else if (b < 0) {
+                isAscii = false;
+            } else if (b < 0x20) {
+                index = i;
+                throw unexpectedCharacter("valid string character");
+            }
+            i++;
+        }
+        index = i;
+        throw unexpectedEndOfInput("'\"'");
+    }
+
+    private String readEscapedString(final int start, final int firstEscape) {
+        // the escaped form of the string may differ from the one ditto-json would produce
+        nonCanonicalTokens++;
+        final StringBuilder stringBuilder = new StringBuilder(firstEscape - start + 16);
+        stringBuilder.append(new String(data, start, firstEscape - start, StandardCharsets.UTF_8));
+        int segmentStart = firstEscape;
+        int i = firstEscape;
+        while (i < end) {
+            final byte b = data[i];
+            if (b == '"') {
+                stringBuilder.append(new String(data, segmentStart, i - segmentStart, StandardCharsets.UTF_8));
+                index = i + 1;
+                return stringBuilder.toString();
+            } else if (b == '\\') {
+                stringBuilder.append(new String(data, segmentStart, i - segmentStart, StandardCharsets.UTF_8));
+                index = i + 1;
+                readEscapeSequence(stringBuilder);
+                i = index;
+                segmentStart = i;
+            } else if (b >= 0 && b < 0x20) {
+                index = i;
+                throw unexpectedCharacter("valid string character");
+            } else {
+                i++;
+            }
+        }
+        index = i;
+        throw unexpectedEndOfInput("'\"'");
+    }
+
+    private void readEscapeSequence(final StringBuilder stringBuilder) {
+        if (index >= end) {
+            throw unexpectedEndOfInput("escape sequence");
+        }
+        final byte b = data[index++];
+        switch (b) {
+            case '"':
+            case '/':
+            case '\\':
+                stringBuilder.append((char) b);
+                break;
+            case 'b':
+                stringBuilder.append('\b');
+                break;
+            case 'f':
+                stringBuilder.append('\f');
+                break;
+            case 'n':
+                stringBuilder.append('\n');
+                break;
+            case 'r':
+                stringBuilder.append('\r');
+                break;
+            case 't':
+                stringBuilder.append('\t');
+                break;
+            case 'u':
+                stringBuilder.append(readHexChar());
+                break;
+            default:
+                index--;
+                throw unexpectedCharacter("valid escape sequence");
+        }
+    }
+
+    private char readHexChar() {
+        if (index + 4 > end) {
+            index = end;
+            throw unexpectedEndOfInput("hexadecimal digit");
+        }
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(data[index], 16);
+            if (digit < 0) {
+                throw unexpectedCharacter("hexadecimal digit");
+            }
+            result = (result << 4) | digit;
+            index++;
+        }
+        return (char) result;
+    }
+
+    private JsonNumber readNumber() {
+        final int start = index;
+        final boolean negative = readChar('-');
+        final int firstDigit = index;
+        if (!readDigit()) {
+            throw unexpectedCharacter("digit");
+        }
+        if (data[firstDigit] != '0') {
+            while (readDigit()) {
+                // consume all digits
+            }
+        }
+        final int integerEnd = index;
+        boolean isDecimal = false;
+        if (readChar('.')) {
+            isDecimal = true;
+            readDigits();
+        }
+        if (readChar('e') || readChar('E')) {
+            isDecimal = true;
+            if (!readChar('+')) {
+                readChar('-');
+            }
+            readDigits();
+        }
+        if (isDecimal) {
+            return ImmutableJsonDouble.of(
+                    Double.parseDouble(new String(data, start, index - start, StandardCharsets.ISO_8859_1)));
+        }
+        return toIntegerOrLong(start, firstDigit, integerEnd, negative);
+    }
+
+    private JsonNumber toIntegerOrLong(final int start, final int firstDigit, final int integerEnd,
+            final boolean negative) {
+
+        // accumulate negatively in order to be able to represent Long.MIN_VALUE
+        long result = 0;
+        for (int i = firstDigit; i < integerEnd; i++) {
+            final int digit = data[i] - '0';
+            if (result < (Long.MIN_VALUE + digit) / 10) {
+                throw new NumberFormatException(MessageFormat.format("<{0}> is out of range for a long!",
+                        new String(data, start, integerEnd - start, StandardCharsets.ISO_8859_1)));
+            }
+            result = result * 10 - digit;
+        }
+        if (!negative) {
+            if (result == Long.MIN_VALUE) {
+                throw new NumberFormatException(MessageFormat.format("<{0}> is out of range for a long!",
+                        new String(data, start, integerEnd - start, StandardCharsets.ISO_8859_1)));
+            }
+            result = -result;
+        }
+        if (Integer.MIN_VALUE <= result && result <= Integer.MAX_VALUE) {
+            return ImmutableJsonInt.of((int) result);
+        }
+        return ImmutableJsonLong.of(result);
+    }
+
+    private void readDigits() {
+        if (!readDigit()) {
+            throw unexpectedCharacter("digit");
+        }
+        while (readDigit()) {
+            // consume all digits
+        }
+    }
+
+    private boolean readDigit() {
+        if (index < end && data[index] >= '0' && data[index] <= '9') {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void readLiteral(final String literal) {
+        final int length = literal.length();
+        if (index + length > end) {
+            throw unexpectedEndOfInput("'" + literal + "'");
+        }
+        for (int i = 0; i < length; i++) {
+            if (data[index] != literal.charAt(i)) {
+                throw unexpectedCharacter("'" + literal + "'");
+            }
+            index++;
+        }
+    }
+
+    private boolean readChar(final char c) {
+        if (index < end && data[index] == c) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        final int start = index;
+        while (index < end && isWhitespace(data[index])) {
+            index++;
+        }
+        if (index != start) {
+            nonCanonicalTokens++;
+        }
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private JsonParseException unexpectedCharacter(final String expected) {
+        if (index >= end) {
+            return unexpectedEndOfInput(expected);
+        }
+        return new JsonParseException(MessageFormat.format("Failed to parse JSON data: expected {0} but got " +
+                "<{1}> at position <{2}>!", expected, (char) (data[index] & 0xFF), String.valueOf(index)));
+    }
+
+    private JsonParseException unexpectedEndOfInput(final String expected) {
+        return new JsonParseException(MessageFormat.format("Failed to parse JSON data: expected {0} but reached " +
+                "the end of input!", expected));
+    }
+
+    /**
+     * Immutable open addressing hash table which maps the ASCII bytes of a key to a shared {@link JsonKey}.
+     */
+    private static final class KeyTable {
+
+        private final JsonKey[] keys;
+        private final int mask;
+
+        private KeyTable(final JsonKey[] keys) {
+            this.keys = keys;
+            mask = keys.length - 1;
+        }
+
+        static KeyTable of(final String[] keyStrings) {
+            final JsonKey[] keys = new JsonKey[Integer.highestOneBit(keyStrings.length) << 2];
+            for (final String keyString : keyStrings) {
+                int slot = keyString.hashCode() & (keys.length - 1);
+                while (null != keys[slot]) {
+                    slot = (slot + 1) & (keys.length - 1);
+                }
+                keys[slot] = JsonKey.of(keyString);
+            }
+            return new KeyTable(keys);
+        }
+
+        /**
+         * Looks up the key which is equal to the given ASCII bytes. The given hash has to be computed the same
+         * way as {@link String#hashCode()}.
+         */
+        @Nullable
+        JsonKey get(final byte[] data, final int start, final int length, final int hash) {
+            int slot = hash & mask;
+            JsonKey candidate = keys[slot];
+            while (null != candidate) {
+                if (isEqual(candidate, data, start, length)) {
+                    return candidate;
+                }
+                slot = (slot + 1) & mask;
+                candidate = keys[slot];
+            }
+            return null;
+        }
+
+        static boolean isEqual(final JsonKey key, final byte[] data, final int start, final int length) {
+            if (key.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key.charAt(i) != data[start + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
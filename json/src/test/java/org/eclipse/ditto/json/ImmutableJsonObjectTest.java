@@ -85,23 +85,23 @@ public final class ImmutableJsonObjectTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonObject.class,
                 areImmutable(),
-                provided(ImmutableJsonObject.SoftReferencedFieldMap.class).isAlsoImmutable());
+                provided(ImmutableJsonObject.CompactFieldMap.class).isAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         final Map<String, JsonField> jsonFieldsRed = toMap("foo", JsonValue.of(1));
         final Map<String, JsonField> jsonFieldsBlack = toMap("foo", JsonValue.of(2));
-        final ImmutableJsonObject.SoftReferencedFieldMap
-                redFieldMap = ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldsRed);
-        final ImmutableJsonObject.SoftReferencedFieldMap
-                blackFieldMap = ImmutableJsonObject.SoftReferencedFieldMap
+        final ImmutableJsonObject.CompactFieldMap
+                redFieldMap = ImmutableJsonObject.CompactFieldMap.of(jsonFieldsRed);
+        final ImmutableJsonObject.CompactFieldMap
+                blackFieldMap = ImmutableJsonObject.CompactFieldMap
                 .of(jsonFieldsBlack);
         final ImmutableJsonObject redObject = ImmutableJsonObject.of(jsonFieldsRed);
         final ImmutableJsonObject blackObject = ImmutableJsonObject.of(jsonFieldsBlack);
 
         EqualsVerifier.forClass(ImmutableJsonObject.class)
-                .withPrefabValues(ImmutableJsonObject.SoftReferencedFieldMap.class, redFieldMap, blackFieldMap)
+                .withPrefabValues(ImmutableJsonObject.CompactFieldMap.class, redFieldMap, blackFieldMap)
                 .withPrefabValues(ImmutableJsonObject.class, redObject, blackObject)
                 .withNonnullFields("fieldMap")
                 .verify();
@@ -1526,30 +1526,72 @@ public final class ImmutableJsonObjectTest {
     }
 
     @Test
-    public void validateSoftReferenceStrategy() throws IllegalAccessException, NoSuchFieldException {
+    public void stringRepresentationIsCreatedLazily() {
         final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS);
+        assertInternalCachesAreAsExpected(jsonObject, false);
+
+        jsonObject.toString();
+
         assertInternalCachesAreAsExpected(jsonObject, true);
+    }
 
-        final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
-        valueListField.setAccessible(true);
-        final ImmutableJsonObject.SoftReferencedFieldMap
-                valueList = (ImmutableJsonObject.SoftReferencedFieldMap) valueListField.get(jsonObject);
+    @Test
+    public void largeStringRepresentationIsOnlySoftlyReferenced() throws IllegalAccessException,
+            NoSuchFieldException {
 
-        final Field softReferenceField = valueList.getClass().getDeclaredField("fieldsReference");
+        final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
+        for (int i = 0; i <= ImmutableJsonObject.CompactFieldMap.MAX_STRONGLY_CACHED_REPRESENTATION_SIZE / 10; i++) {
+            jsonObjectBuilder.set("property-" + i, i);
+        }
+        final JsonObject jsonObject = jsonObjectBuilder.build();
+        final String stringRepresentation = jsonObject.toString();
+        assertInternalCachesAreAsExpected(jsonObject, false);
+
+        final Field fieldMapField = jsonObject.getClass().getDeclaredField("fieldMap");
+        fieldMapField.setAccessible(true);
+        final ImmutableJsonObject.CompactFieldMap fieldMap =
+                (ImmutableJsonObject.CompactFieldMap) fieldMapField.get(jsonObject);
+        final Field softReferenceField = fieldMap.getClass().getDeclaredField("largeJsonObjectStringRepresentation");
         softReferenceField.setAccessible(true);
-        SoftReference softReference = (SoftReference) softReferenceField.get(valueList);
+        final SoftReference<?> softReference = (SoftReference<?>) softReferenceField.get(fieldMap);
+
+        assertThat(softReference.get()).isSameAs(stringRepresentation);
 
         softReference.clear();
 
-        assertThat(jsonObject.getValue(KNOWN_KEY_FOO)).isPresent();
+        assertThat(jsonObject.toString()).isEqualTo(stringRepresentation);
+        assertThat(jsonObject.getValue("property-42")).contains(JsonValue.of(42));
+    }
+
+    @Test
+    public void lookupInLargeObjectUsesAllFields() {
+        final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < 100; i++) {
+            jsonObjectBuilder.set("property-" + i, i);
+        }
+        final JsonObject jsonObject = jsonObjectBuilder.build()
+                .remove("property-50")
+                .setValue("property-10", "ten")
+                .setValue("property-100", 100);
+
+        assertThat(jsonObject.getSize()).isEqualTo(100);
+        assertThat(jsonObject.getValue("property-50")).isEmpty();
+        assertThat(jsonObject.getValue("property-10")).contains(JsonValue.of("ten"));
+        assertThat(jsonObject.getValue("property-100")).contains(JsonValue.of(100));
+        assertThat(jsonObject.getKeys().get(10)).isEqualTo(JsonKey.of("property-10"));
+        for (int i = 0; i < 100; i++) {
+            if (i != 10 && i != 50) {
+                assertThat(jsonObject.getValue("property-" + i)).contains(JsonValue.of(i));
+            }
+        }
     }
 
     private void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean jsonExpected) {
         try {
             final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
             valueListField.setAccessible(true);
-            final ImmutableJsonObject.SoftReferencedFieldMap
-                    fieldMap = (ImmutableJsonObject.SoftReferencedFieldMap) valueListField.get(jsonObject);
+            final ImmutableJsonObject.CompactFieldMap
+                    fieldMap = (ImmutableJsonObject.CompactFieldMap) valueListField.get(jsonObject);
 
             final Field jsonStringField = fieldMap.getClass().getDeclaredField("jsonObjectStringRepresentation");
             jsonStringField.setAccessible(true);
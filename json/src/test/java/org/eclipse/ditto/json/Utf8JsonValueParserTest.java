@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.json.Utf8JsonValueParser}.
+ */
+public final class Utf8JsonValueParserTest {
+
+    private static JsonObject knownJsonObject;
+
+    @BeforeClass
+    public static void initTestConstants() {
+        knownJsonObject = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:my-thing")
+                .set("policyId", "org.eclipse.ditto:my-policy")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serial", Integer.MAX_VALUE + 1L)
+                        .set("tags", JsonArray.newBuilder().add("a", "b").add(false).add(3).build())
+                        .set("location", JsonObject.newBuilder()
+                                .set("latitude", 47.682170)
+                                .set("longitude", 9.386372)
+                                .build())
+                        .build())
+                .set("features", JsonObject.newBuilder()
+                        .set("lamp", JsonObject.newBuilder()
+                                .set("properties", JsonObject.newBuilder()
+                                        .set("on", true)
+                                        .set("color", JsonFactory.nullLiteral())
+                                        .build())
+                                .build())
+                        .build())
+                .set("_revision", 42)
+                .build();
+    }
+
+    @Test
+    public void parseObject() {
+        final JsonValue actual = parse(knownJsonObject.toString());
+
+        assertThat(actual).isEqualTo(knownJsonObject);
+        assertThat(actual.toString()).isEqualTo(knownJsonObject.toString());
+    }
+
+    @Test
+    public void parseObjectWithInsignificantWhitespace() {
+        final JsonValue actual = parse(" {\n\t\"a\" : [ 1 , 2 ] ,\r\n \"b\" : { \"c\" : null } } ");
+
+        assertThat(actual).isEqualTo(JsonObject.newBuilder()
+                .set("a", JsonArray.of(1, 2))
+                .set("b", JsonObject.newBuilder().set("c", JsonFactory.nullLiteral()).build())
+                .build());
+        assertThat(actual.toString()).isEqualTo("{\"a\":[1,2],\"b\":{\"c\":null}}");
+    }
+
+    @Test
+    public void parseEscapedAndNonAsciiStrings() {
+        final JsonValue actual = parse("{\"k\\u00e4y\":\"\\\"line\\/1\\\"\\nzw\u00f6lf \u20ac\"}");
+
+        assertThat(actual).isEqualTo(JsonObject.newBuilder().set("k\u00e4y", "\"line/1\"\nzw\u00f6lf \u20ac").build());
+        assertThat(actual.toString()).isEqualTo("{\"k\u00e4y\":\"\\\"line/1\\\"\\nzw\u00f6lf \u20ac\"}");
+    }
+
+    @Test
+    public void parseNumbers() {
+        assertThat(parse("0")).isEqualTo(JsonValue.of(0));
+        assertThat(parse("-0")).isEqualTo(JsonValue.of(0));
+        assertThat(parse(String.valueOf(Integer.MIN_VALUE))).isEqualTo(JsonValue.of(Integer.MIN_VALUE));
+        assertThat(parse(String.valueOf(Integer.MAX_VALUE + 1L))).isEqualTo(JsonValue.of(Integer.MAX_VALUE + 1L));
+        assertThat(parse(String.valueOf(Long.MIN_VALUE))).isEqualTo(JsonValue.of(Long.MIN_VALUE));
+        assertThat(parse(String.valueOf(Long.MAX_VALUE))).isEqualTo(JsonValue.of(Long.MAX_VALUE));
+        assertThat(parse("23.42")).isEqualTo(JsonValue.of(23.42));
+        assertThat(parse("-1.5E3")).isEqualTo(JsonValue.of(-1500.0));
+    }
+
+    @Test
+    public void parseLiterals() {
+        assertThat(parse("true")).isEqualTo(JsonValue.of(true));
+        assertThat(parse("false")).isEqualTo(JsonValue.of(false));
+        assertThat(parse("null")).isEqualTo(JsonFactory.nullLiteral());
+    }
+
+    @Test
+    public void wellKnownKeysAreShared() {
+        final JsonObject first = parse("{\"thingId\":\"a:b\"}").asObject();
+        final JsonObject second = parse("{\"thingId\":\"c:d\"}").asObject();
+
+        assertThat(first.getKeys().get(0)).isSameAs(second.getKeys().get(0));
+    }
+
+    @Test
+    public void repeatedKeysAreDecodedOnce() {
+        final JsonArray actual = parse("[{\"temperature\":1},{\"temperature\":2}]").asArray();
+
+        assertThat(actual.get(0).map(JsonValue::asObject).map(o -> o.getKeys().get(0)))
+                .containsSame(actual.get(1).map(JsonValue::asObject).map(o -> o.getKeys().get(0)).orElse(null));
+    }
+
+    @Test
+    public void parseRemainingBytesOfByteBuffer() {
+        final byte[] bytes = "xx{\"foo\":\"bar\"}yy".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+
+        final JsonValue actual = Utf8JsonValueParser.parse(byteBuffer);
+
+        assertThat(actual).isEqualTo(JsonObject.newBuilder().set("foo", "bar").build());
+        assertThat(byteBuffer.position()).isZero();
+    }
+
+    @Test
+    public void parseDirectByteBuffer() {
+        final byte[] bytes = knownJsonObject.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+        byteBuffer.put(bytes).flip();
+
+        assertThat(Utf8JsonValueParser.parse(byteBuffer)).isEqualTo(knownJsonObject);
+    }
+
+    @Test
+    public void wrapsNumberFormatException() {
+        final String jsonLong = BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.TEN).toPlainString();
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse(jsonLong))
+                .withCauseExactlyInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void wrapsIllegalArgumentExceptionForEmptyKey() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"\":1}"))
+                .withCauseExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void invalidJsonThrowsJsonParseException() {
+        final String[] invalidInputs = {
+                "", " ", "{", "}", "[1,]", "{\"a\":1,}", "{\"a\" 1}", "{a:1}", "01", "1.", "-", "1e", "tru", "nul",
+                "\"unterminated", "\"\\x\"", "\"\\u12\"", "[1] 2", "\"\t\""
+        };
+        for (final String invalidInput : invalidInputs) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidInput)
+                    .isThrownBy(() -> parse(invalidInput));
+        }
+    }
+
+    @Test
+    public void tooDeeplyNestedInputThrowsJsonParseException() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 1001; i++) {
+            stringBuilder.append('[');
+        }
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse(stringBuilder.toString()));
+    }
+
+    private static JsonValue parse(final String jsonString) {
+        return Utf8JsonValueParser.parse(jsonString.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for building, querying and modifying {@link JsonObject}s of a Thing with many feature properties.
+ * <p>
+ * As nearly everything allocated while building a JsonObject is retained by it, the {@code gc.alloc.rate.norm}
+ * of the {@code build*} benchmarks reported by {@code -prof gc} is a good approximation of the heap footprint of the
+ * built object.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class JsonObjectBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * The number of properties of each of the 5 features of the Thing.
+     */
+    @Param({"5", "50", "500"})
+    public int propertiesPerFeature;
+
+    private String thingJsonString;
+    private JsonObject thing;
+    private JsonPointer existingPropertyPointer;
+
+    @Setup
+    public void setup() {
+        thing = buildThing(propertiesPerFeature);
+        thingJsonString = thing.toString();
+        existingPropertyPointer =
+                JsonPointer.of("features/feature-2/properties/property-" + (propertiesPerFeature - 1) + "/value");
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject buildWithBuilder() {
+        return buildThing(propertiesPerFeature);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject buildByParsing() {
+        return JsonFactory.newObject(thingJsonString);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue getNestedValue() {
+        return thing.getValue(existingPropertyPointer).orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject setNestedValue() {
+        return thing.setValue(existingPropertyPointer, JsonValue.of(42));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String buildAndSerialize() {
+        return buildThing(propertiesPerFeature).toString();
+    }
+
+    private static JsonObject buildThing(final int propertiesPerFeature) {
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < 5; i++) {
+            final JsonObjectBuilder propertiesBuilder = JsonFactory.newObjectBuilder();
+            for (int j = 0; j < propertiesPerFeature; j++) {
+                propertiesBuilder.set("property-" + j, JsonFactory.newObjectBuilder()
+                        .set("value", i * 1000.0 / (j + 1))
+                        .set("unit", "celsius")
+                        .build());
+            }
+            featuresBuilder.set("feature-" + i,
+                    JsonFactory.newObjectBuilder().set("properties", propertiesBuilder.build()).build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-thing")
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME demo corp.")
+                        .set("serial", 4711)
+                        .build())
+                .set("features", featuresBuilder.build())
+                .set("_revision", 1)
+                .build();
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the String based {@link JsonFactory#readFrom(String)} with the UTF-8 based
+ * {@link JsonFactory#readFrom(byte[])} on Thing payloads.
+ * <p>
+ * Run with {@code java -jar target/ditto-json-*-benchmark.jar JsonParseBenchmark -prof gc} after building the
+ * module with the {@code build-benchmark-assembly} profile in order to see the allocation rates as well.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class JsonParseBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String THING_RESOURCE = "/benchmark/thing.json";
+    private static final int LARGE_THING_FEATURES = 20;
+    private static final int LARGE_THING_PROPERTIES_PER_FEATURE = 50;
+
+    /**
+     * The Thing payload to parse: "thing" is a typical vehicle Thing, "largeThing" is the same Thing with additional
+     * features containing many properties each.
+     */
+    @Param({"thing", "largeThing"})
+    public String payload;
+
+    private String jsonString;
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setup() {
+        final JsonObject thing = JsonFactory.newObject(readResource(THING_RESOURCE));
+        final JsonObject payloadObject = "largeThing".equals(payload) ? enlarge(thing) : thing;
+        jsonString = payloadObject.toString();
+        jsonBytes = jsonString.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFromString() {
+        return JsonFactory.readFrom(jsonString);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFromBytesViaReader() {
+        return JsonFactory.readFrom(
+                new InputStreamReader(new ByteArrayInputStream(jsonBytes), StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFromUtf8Bytes() {
+        return JsonFactory.readFrom(jsonBytes);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFromStringAndGetNestedValue() {
+        return JsonFactory.readFrom(jsonString).asObject().getValue("features/engine/properties/status/rpm")
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readFromUtf8BytesAndGetNestedValue() {
+        return JsonFactory.readFrom(jsonBytes).asObject().getValue("features/engine/properties/status/rpm")
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private static JsonObject enlarge(final JsonObject thing) {
+        final JsonObjectBuilder featuresBuilder = thing.getValue("features")
+                .map(JsonValue::asObject)
+                .map(JsonObject::toBuilder)
+                .orElseGet(JsonFactory::newObjectBuilder);
+        for (int i = 0; i < LARGE_THING_FEATURES; i++) {
+            final JsonObjectBuilder propertiesBuilder = JsonFactory.newObjectBuilder();
+            for (int j = 0; j < LARGE_THING_PROPERTIES_PER_FEATURE; j++) {
+                propertiesBuilder.set("sensor-" + j, JsonFactory.newObjectBuilder()
+                        .set("value", i * 1000.0 / (j + 1))
+                        .set("unit", "celsius")
+                        .set("timestamp", 1698146553000L + j)
+                        .build());
+            }
+            featuresBuilder.set("feature-" + i,
+                    JsonFactory.newObjectBuilder().set("properties", propertiesBuilder.build()).build());
+        }
+        return thing.setValue("features", featuresBuilder.build());
+    }
+
+    private static String readResource(final String resourceName) {
+        try (final InputStream inputStream = JsonParseBenchmark.class.getResourceAsStream(resourceName)) {
+            if (null == inputStream) {
+                throw new IllegalStateException("Resource <" + resourceName + "> not found!");
+            }
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
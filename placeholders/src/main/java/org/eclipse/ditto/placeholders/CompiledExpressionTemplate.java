@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.Placeholders;
+
+/**
+ * An expression template like {@code devices/{{ thing:namespace }}/{{ thing:name | fn:lower() }}} which was split
+ * once into its literal segments and the expressions between them.
+ */
+@Immutable
+final class CompiledExpressionTemplate {
+
+    /**
+     * The maximum number of compiled templates which are kept; the least recently used ones are evicted.
+     */
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+
+    private static final LruCache<CompiledExpressionTemplate> CACHE = new LruCache<>(MAX_CACHED_TEMPLATES);
+
+    private final List<Segment> segments;
+
+    private CompiledExpressionTemplate(final List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(new ArrayList<>(segments));
+    }
+
+    /**
+     * Returns the compiled form of the passed template. Templates containing placeholders are cached by their string.
+     *
+     * @param template the template.
+     * @return the compiled template.
+     */
+    static CompiledExpressionTemplate of(final String template) {
+        if (!mayContainPlaceholder(template)) {
+            return compile(template);
+        }
+        return CACHE.computeIfAbsent(template, CompiledExpressionTemplate::compile);
+    }
+
+    /**
+     * Substitutes the expressions of the template and concatenates the results with the literal segments.
+     *
+     * @param substitutionFunction the substitution function turning each expression into a result.
+     * @return the resolved combinations of literals and substituted values, or a deleted element if all expressions
+     * were substituted by deleted elements.
+     */
+    PipelineElement substitute(final Function<String, PipelineElement> substitutionFunction) {
+        if (segments.isEmpty()) {
+            return PipelineElement.resolved("");
+        }
+        final List<PipelineElement> elements = new ArrayList<>(segments.size());
+        boolean allDeleted = true;
+        for (final Segment segment : segments) {
+            final PipelineElement element = segment.substitute(substitutionFunction);
+            allDeleted &= element instanceof PipelineElementDeleted;
+            elements.add(element);
+        }
+        if (allDeleted) {
+            return PipelineElement.deleted();
+        }
+
+        List<String> results = Collections.singletonList("");
+        for (final PipelineElement element : elements) {
+            if (!(element instanceof PipelineElementDeleted)) {
+                final List<String> nextResults = new ArrayList<>(results.size());
+                for (final String result : results) {
+                    for (final String next : element) {
+                        nextResults.add(result + next);
+                    }
+                }
+                results = nextResults;
+            }
+        }
+        return PipelineElement.resolved(results);
+    }
+
+    private static CompiledExpressionTemplate compile(final String template) {
+        final List<Segment> segments = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            final String content = Placeholders.groupNames()
+                    .stream()
+                    .map(matcher::group)
+                    .filter(Objects::nonNull)
+                    .findAny()
+                    .orElse("");
+            // the possessive content group of "{{ ... }}" also swallows the spaces before the closing braces
+            final String expression = matcher.group().startsWith("{{") ? stripTrailingWhitespace(content) : content;
+            if (matcher.start() > literalStart) {
+                segments.add(Segment.literal(template.substring(literalStart, matcher.start())));
+            }
+            segments.add(Segment.expression(expression));
+            literalStart = matcher.end();
+        }
+        if (literalStart < template.length()) {
+            segments.add(Segment.literal(template.substring(literalStart)));
+        }
+        return new CompiledExpressionTemplate(segments);
+    }
+
+    private static String stripTrailingWhitespace(final String content) {
+        int end = content.length();
+        while (end > 0 && Character.isWhitespace(content.charAt(end - 1))) {
+            end--;
+        }
+        return content.substring(0, end);
+    }
+
+    private static boolean mayContainPlaceholder(final String template) {
+        return template.contains("{{") || template.contains("${");
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "segments=" + segments +
+                "]";
+    }
+
+    /**
+     * Either a literal part of the template or an expression to substitute.
+     */
+    @Immutable
+    private static final class Segment {
+
+        @Nullable private final PipelineElement literal;
+        @Nullable private final String expression;
+
+        private Segment(@Nullable final PipelineElement literal, @Nullable final String expression) {
+            this.literal = literal;
+            this.expression = expression;
+        }
+
+        private static Segment literal(final String literal) {
+            return new Segment(PipelineElement.resolved(literal), null);
+        }
+
+        private static Segment expression(final String expression) {
+            return new Segment(null, expression);
+        }
+
+        private PipelineElement substitute(final Function<String, PipelineElement> substitutionFunction) {
+            if (literal != null) {
+                return literal;
+            }
+            return substitutionFunction.apply(expression);
+        }
+
+        @Override
+        public String toString() {
+            return literal != null ? "literal=" + literal : "expression=" + expression;
+        }
+
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.eclipse.ditto.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A pipeline expression like {@code thing:name | fn:substring-before(':') | fn:default(thing:id)} which was split
+ * into its stages once. The placeholder of the first stage is split into prefix and name and the pipeline function of
+ * each further stage is looked up, so that executing the expression needs no regular expressions besides the ones the
+ * pipeline functions use for their parameters.
+ */
+@Immutable
+final class CompiledPipelineExpression {
+
+    private static final int MAX_COUNT_PIPELINE_FUNCTIONS = 10;
+
+    /**
+     * The maximum number of compiled expressions which are kept; the least recently used ones are evicted.
+     */
+    private static final int MAX_CACHED_EXPRESSIONS = 4096;
+
+    private static final String OR = "|";
+
+    private static final String NO_QUOTE = "[^|'\"]++";
+
+    private static final String SINGLE_QUOTED_STRING =
+            String.format("'%s'", PipelineFunction.SINGLE_QUOTED_STRING_CONTENT);
+
+    private static final String DOUBLE_QUOTED_STRING =
+            String.format("\"%s\"", PipelineFunction.DOUBLE_QUOTED_STRING_CONTENT);
+
+    private static final String PIPE_STAGE =
+            "(?:" + NO_QUOTE + OR + SINGLE_QUOTED_STRING + OR + DOUBLE_QUOTED_STRING + ")++";
+
+    private static final Pattern PIPE_STAGE_PATTERN = Pattern.compile(PIPE_STAGE);
+
+    private static final String PIPE_PATTERN_STR = PIPE_STAGE + "(?:\\|" + PIPE_STAGE + ")*+";
+
+    private static final Pattern PIPE_PATTERN = Pattern.compile(PIPE_PATTERN_STR);
+
+    private static final LruCache<CompiledPipelineExpression> CACHE = new LruCache<>(MAX_CACHED_EXPRESSIONS);
+
+    @Nullable private final String placeholder;
+    @Nullable private final String placeholderPrefix;
+    @Nullable private final String placeholderName;
+    private final List<Stage> stages;
+
+    private CompiledPipelineExpression(@Nullable final String placeholder, final List<Stage> stages) {
+        this.placeholder = placeholder;
+        placeholderPrefix = placeholder == null ? null : getPlaceholderPrefix(placeholder);
+        placeholderName = placeholderPrefix == null ? null : placeholder.substring(placeholderPrefix.length() + 1);
+        this.stages = Collections.unmodifiableList(new ArrayList<>(stages));
+    }
+
+    /**
+     * Returns the compiled form of the passed pipeline expression. Compiled expressions are cached by their string.
+     *
+     * @param pipelineExpression the pipeline expression.
+     * @return the compiled pipeline expression.
+     * @throws UnresolvedPlaceholderException if the expression is no valid pipeline.
+     * @throws PlaceholderFunctionTooComplexException if the expression has more than
+     * {@value #MAX_COUNT_PIPELINE_FUNCTIONS} function stages.
+     */
+    static CompiledPipelineExpression of(final String pipelineExpression) {
+        return CACHE.computeIfAbsent(pipelineExpression, CompiledPipelineExpression::compile);
+    }
+
+    /**
+     * @return the placeholder of the first stage or an empty optional if the pipeline starts with a function.
+     */
+    Optional<String> getPlaceholder() {
+        return Optional.ofNullable(placeholder);
+    }
+
+    /**
+     * @return the prefix of the placeholder of the first stage or an empty optional if the pipeline starts with a
+     * function or the placeholder has no prefix.
+     */
+    Optional<String> getPlaceholderPrefix() {
+        return Optional.ofNullable(placeholderPrefix);
+    }
+
+    /**
+     * @return the name of the placeholder of the first stage or an empty optional if the pipeline starts with a
+     * function or the placeholder has no prefix.
+     */
+    Optional<String> getPlaceholderName() {
+        return Optional.ofNullable(placeholderName);
+    }
+
+    /**
+     * Executes the function stages of the pipeline one after another.
+     *
+     * @param pipelineInput the resolved placeholder of the first stage or an unresolved element if the pipeline
+     * starts with a function.
+     * @param expressionResolver the resolver for placeholders occurring in function parameters.
+     * @return the pipeline element after the last stage.
+     * @throws PlaceholderFunctionUnknownException if a stage is no known function.
+     */
+    PipelineElement executeStages(final PipelineElement pipelineInput, final ExpressionResolver expressionResolver) {
+        PipelineElement element = pipelineInput;
+        for (final Stage stage : stages) {
+            element = stage.apply(element, expressionResolver);
+        }
+        return element;
+    }
+
+    private static CompiledPipelineExpression compile(final String pipelineExpression) {
+        final List<String> stageExpressions = getPipelineStagesExpressions(pipelineExpression);
+        final String firstExpression = stageExpressions.isEmpty() ? "" : stageExpressions.get(0);
+        final boolean startsWithFunction = firstExpression.startsWith(FunctionExpression.PREFIX + SEPARATOR);
+        final List<Stage> stages = new ArrayList<>(stageExpressions.size());
+        for (int i = startsWithFunction ? 0 : 1; i < stageExpressions.size(); i++) {
+            stages.add(Stage.compile(stageExpressions.get(i)));
+        }
+        return new CompiledPipelineExpression(startsWithFunction ? null : firstExpression, stages);
+    }
+
+    private static List<String> getPipelineStagesExpressions(final String template) {
+        if (!PIPE_PATTERN.matcher(template).matches()) {
+            throw UnresolvedPlaceholderException.newBuilder(template).build();
+        }
+
+        final List<String> pipelineStagesExpressions = new ArrayList<>();
+        final Matcher matcher = PIPE_STAGE_PATTERN.matcher(template);
+
+        while (matcher.find()) {
+            pipelineStagesExpressions.add(matcher.group().trim());
+
+            // +1 for the starting placeholder
+            if (pipelineStagesExpressions.size() > MAX_COUNT_PIPELINE_FUNCTIONS + 1) {
+                throw PlaceholderFunctionTooComplexException.newBuilder(MAX_COUNT_PIPELINE_FUNCTIONS).build();
+            }
+        }
+        return pipelineStagesExpressions;
+    }
+
+    @Nullable
+    private static String getPlaceholderPrefix(final String placeholder) {
+        final int separatorIndex = placeholder.indexOf(SEPARATOR);
+        if (separatorIndex == -1) {
+            return null;
+        }
+        return placeholder.substring(0, separatorIndex).trim();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "placeholder=" + placeholder +
+                ", stages=" + stages +
+                "]";
+    }
+
+    /**
+     * A function stage of the pipeline with its function looked up in {@link ImmutableFunctionExpression}.
+     * Unknown functions are only reported when the stage is executed, so that an unresolvable placeholder before
+     * them is reported first.
+     */
+    @Immutable
+    private static final class Stage {
+
+        private final String expression;
+        private final boolean supported;
+        @Nullable private final PipelineFunction function;
+        @Nullable private final String paramsIncludingParentheses;
+
+        private Stage(final String expression, final boolean supported, @Nullable final PipelineFunction function,
+                @Nullable final String paramsIncludingParentheses) {
+
+            this.expression = expression;
+            this.supported = supported;
+            this.function = function;
+            this.paramsIncludingParentheses = paramsIncludingParentheses;
+        }
+
+        private static Stage compile(final String expression) {
+            final ImmutableFunctionExpression functionExpression = ImmutableFunctionExpression.INSTANCE;
+            final boolean supported =
+                    functionExpression.supports(expression.replaceFirst(functionExpression.getPrefix() + ":", ""));
+            final PipelineFunction function = functionExpression.findFunction(expression).orElse(null);
+            final String params = function == null
+                    ? null
+                    : ImmutableFunctionExpression.getParamsIncludingParentheses(expression, function);
+            return new Stage(expression, supported, function, params);
+        }
+
+        private PipelineElement apply(final PipelineElement element, final ExpressionResolver expressionResolver) {
+            if (!supported) {
+                throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
+            }
+            if (function == null) {
+                return PipelineElement.unresolved();
+            }
+            return function.apply(element, paramsIncludingParentheses, expressionResolver);
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.placeholders;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.Immutable;
@@ -79,14 +80,34 @@ final class ImmutableFunctionExpression implements FunctionExpression {
             throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
         }
 
-        return SUPPORTED.stream()
-                .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
-                .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
+        return findFunction(expression)
+                .map(pf -> pf.apply(resolvedInputValue, getParamsIncludingParentheses(expression, pf),
                         expressionResolver)
                 )
-                .findFirst()
                 .orElse(PipelineElement.unresolved());
     }
 
+    /**
+     * Finds the pipeline function which the passed function expression calls.
+     *
+     * @param expression the function expression including the prefix, e.g. {@code fn:default('foo')}.
+     * @return the function or an empty optional if the expression calls no supported function.
+     */
+    Optional<PipelineFunction> findFunction(final String expression) {
+        return SUPPORTED.stream()
+                .filter(pf -> expression.startsWith(PREFIX + ":" + pf.getName() + "("))
+                .findFirst();
+    }
+
+    /**
+     * Extracts the parameters of a function expression.
+     *
+     * @param expression the function expression including the prefix, e.g. {@code fn:default('foo')}.
+     * @param function the function which the expression calls.
+     * @return the parameters including parentheses, e.g. {@code ('foo')}.
+     */
+    static String getParamsIncludingParentheses(final String expression, final PipelineFunction function) {
+        return expression.replaceFirst(PREFIX + ":" + function.getName(), "").trim();
+    }
+
 }
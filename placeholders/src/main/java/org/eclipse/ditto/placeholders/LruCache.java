@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Bounded cache of compiled forms keyed by their string which evicts the least recently used entry once it is full.
+ * Lookups of cached entries do not lock; only the eviction of entries after a miss is serialized.
+ *
+ * @param <V> the type of the compiled forms.
+ */
+@ThreadSafe
+final class LruCache<V> {
+
+    private final ConcurrentMap<String, Entry<V>> map;
+    private final AtomicLong clock;
+    private final Lock evictionLock;
+    private final int maxSize;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize the maximum number of cached entries.
+     */
+    LruCache(final int maxSize) {
+        map = new ConcurrentHashMap<>();
+        clock = new AtomicLong();
+        evictionLock = new ReentrantLock();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached value of the key, computing and caching it if it is not cached yet. The value is computed
+     * without holding any lock, so concurrent computations for the same key may happen and must yield equivalent
+     * values.
+     *
+     * @param key the key.
+     * @param computation computes the value of the key.
+     * @return the value.
+     */
+    V computeIfAbsent(final String key, final Function<String, V> computation) {
+        final Entry<V> cached = map.get(key);
+        if (cached != null) {
+            cached.lastAccess = clock.incrementAndGet();
+            return cached.value;
+        }
+        final Entry<V> computed = new Entry<>(computation.apply(key), clock.incrementAndGet());
+        final Entry<V> previous = map.putIfAbsent(key, computed);
+        if (previous != null) {
+            return previous.value;
+        }
+        evictLeastRecentlyUsed();
+        return computed.value;
+    }
+
+    /**
+     * @return the number of cached entries.
+     */
+    int size() {
+        return map.size();
+    }
+
+    private void evictLeastRecentlyUsed() {
+        // if another thread is already evicting, it also takes care of the entry just added
+        if (map.size() > maxSize && evictionLock.tryLock()) {
+            try {
+                while (map.size() > maxSize) {
+                    map.entrySet()
+                            .stream()
+                            .min((a, b) -> Long.compare(a.getValue().lastAccess, b.getValue().lastAccess))
+                            .map(Map.Entry::getKey)
+                            .ifPresent(map::remove);
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile long lastAccess;
+
+        private Entry(final V value, final long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+    }
+
+}
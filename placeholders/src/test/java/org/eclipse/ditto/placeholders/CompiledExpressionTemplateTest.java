@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CompiledExpressionTemplate} and {@link CompiledPipelineExpression}.
+ */
+public final class CompiledExpressionTemplateTest {
+
+    @Test
+    public void templatesWithPlaceholdersAreCompiledOnce() {
+        final String template = "devices/{{ thing:namespace }}/{{ thing:name | fn:lower() }}";
+
+        assertThat(CompiledExpressionTemplate.of(template)).isSameAs(CompiledExpressionTemplate.of(template));
+        assertThat(CompiledPipelineExpression.of("thing:name | fn:lower()"))
+                .isSameAs(CompiledPipelineExpression.of("thing:name | fn:lower()"));
+    }
+
+    @Test
+    public void substituteExpressionsBetweenLiterals() {
+        final List<String> expressions = new ArrayList<>();
+        final PipelineElement result = CompiledExpressionTemplate.of("a{{ x:1 }}b${ y.2 }c{{x:3}}")
+                .substitute(expression -> {
+                    expressions.add(expression);
+                    return PipelineElement.resolved(Arrays.asList("1", "2"));
+                });
+
+        assertThat(expressions).containsExactly("x:1", " y.2 ", "x:3");
+        assertThat(result.toStream())
+                .containsExactly("a1b1c1", "a1b1c2", "a1b2c1", "a1b2c2", "a2b1c1", "a2b1c2", "a2b2c1", "a2b2c2");
+    }
+
+    @Test
+    public void substituteTemplateWithoutPlaceholders() {
+        assertThat(CompiledExpressionTemplate.of("plain").substitute(expression -> PipelineElement.deleted()))
+                .containsExactly("plain");
+        assertThat(CompiledExpressionTemplate.of("").substitute(expression -> PipelineElement.deleted()))
+                .containsExactly("");
+    }
+
+    @Test
+    public void substituteDeletedAndUnresolvedExpressions() {
+        assertThat(CompiledExpressionTemplate.of("{{ x:1 }}{{ x:2 }}")
+                .substitute(expression -> PipelineElement.deleted()))
+                .isEqualTo(PipelineElement.deleted());
+        assertThat(CompiledExpressionTemplate.of("a{{ x:1 }}{{ x:2 }}")
+                .substitute(expression -> expression.equals("x:1")
+                        ? PipelineElement.deleted()
+                        : PipelineElement.resolved("b")))
+                .containsExactly("ab");
+        assertThat(CompiledExpressionTemplate.of("a{{ x:1 }}")
+                .substitute(expression -> PipelineElement.unresolved()))
+                .isEqualTo(PipelineElement.unresolved());
+    }
+
+    @Test
+    public void pipelineWithTooManyFunctionsIsRejected() {
+        final StringBuilder pipelineExpression = new StringBuilder("thing:name");
+        for (int i = 0; i < 11; i++) {
+            pipelineExpression.append(" | fn:lower()");
+        }
+
+        assertThatExceptionOfType(PlaceholderFunctionTooComplexException.class)
+                .isThrownBy(() -> CompiledPipelineExpression.of(pipelineExpression.toString()));
+    }
+
+    @Test
+    public void unknownFunctionIsReportedWhenItIsExecuted() {
+        final CompiledPipelineExpression underTest = CompiledPipelineExpression.of("thing:name | fn:unknown()");
+
+        assertThat(underTest.getPlaceholderPrefix()).contains("thing");
+        assertThat(underTest.getPlaceholderName()).contains("name");
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> underTest.executeStages(PipelineElement.resolved("x"),
+                        PlaceholderFactory.newExpressionResolver()));
+    }
+
+}
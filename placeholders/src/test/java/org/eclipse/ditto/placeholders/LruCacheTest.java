@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link LruCache}.
+ */
+public final class LruCacheTest {
+
+    @Test
+    public void computesValuesOnlyOnce() {
+        final LruCache<String> underTest = new LruCache<>(2);
+        final List<String> computed = new ArrayList<>();
+
+        underTest.computeIfAbsent("a", key -> compute(key, computed));
+        underTest.computeIfAbsent("a", key -> compute(key, computed));
+
+        assertThat(computed).containsExactly("a");
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntries() {
+        final LruCache<String> underTest = new LruCache<>(2);
+        final List<String> computed = new ArrayList<>();
+
+        underTest.computeIfAbsent("a", key -> compute(key, computed));
+        underTest.computeIfAbsent("b", key -> compute(key, computed));
+        underTest.computeIfAbsent("a", key -> compute(key, computed));
+        underTest.computeIfAbsent("c", key -> compute(key, computed));
+        underTest.computeIfAbsent("a", key -> compute(key, computed));
+        underTest.computeIfAbsent("b", key -> compute(key, computed));
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(computed).containsExactly("a", "b", "c", "b");
+    }
+
+    private static String compute(final String key, final List<String> computed) {
+        computed.add(key);
+        return key.toUpperCase();
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders.benchmark;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.placeholders.ExpressionResolver;
+import org.eclipse.ditto.placeholders.PipelineElement;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.TimePlaceholder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark for resolving the header mapping of a connection target for one message, i.e. creating an expression
+ * resolver for the headers of the message and resolving each template of the mapping.
+ * <p>
+ * Compare the results with the ones of a revision which parses each template on every resolution by running the
+ * benchmark on both revisions.
+ * </p>
+ * <p>
+ * Run with {@code java -jar target/ditto-placeholders-*-benchmark.jar ExpressionResolverBenchmark}
+ * after building the module with the {@code build-benchmark-assembly} profile.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class ExpressionResolverBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final List<String> HEADER_MAPPING = Arrays.asList(
+            "{{ header:correlation-id }}",
+            "{{ header:content-type | fn:default('application/json') }}",
+            "{{ header:device-id | fn:substring-after(':') | fn:upper() }}",
+            "devices/{{ header:device-id | fn:substring-before(':') }}/" +
+                    "{{ header:device-id | fn:substring-after(':') }}",
+            "{{ header:reply-to | fn:default(header:device-id) | fn:url-encode() }}",
+            "{{ header:missing | fn:delete() }}",
+            "{{ time:now_epoch_millis }}",
+            "application/vnd.eclipse.ditto+json"
+    );
+
+    private final Map<String, String> headers = createHeaders();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void resolveHeaderMapping(final Blackhole blackhole) {
+        final ExpressionResolver expressionResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), headers),
+                PlaceholderFactory.newPlaceholderResolver(TimePlaceholder.getInstance(), new Object())
+        );
+        for (final String template : HEADER_MAPPING) {
+            final PipelineElement resolved = expressionResolver.resolve(template);
+            blackhole.consume(resolved);
+        }
+    }
+
+    private static Map<String, String> createHeaders() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("correlation-id", UUID.randomUUID().toString());
+        headers.put("content-type", "application/json");
+        headers.put("device-id", "org.eclipse.ditto:sensor-4711");
+        return headers;
+    }
+
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * {@link GrantRevokeIndex} compiled into arrays indexed by the IDs of {@link SubjectPermissionIds}: for each
+ * permission the related subjects are a bit set and their weights an array indexed by subject ID. It answers the
+ * same questions as the {@code GrantRevokeIndex} it was compiled from.
+ */
+@Immutable
+final class BitSetGrantRevokeIndex {
+
+    private static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    /**
+     * Weighted subjects granted each permission; {@code null} if the permission is absent from the grant map.
+     */
+    private final WeightedSubjects[] granted;
+
+    /**
+     * Weighted subjects revoked each permission; {@code null} if the permission is absent from the revoke map.
+     */
+    private final WeightedSubjects[] revoked;
+
+    private BitSetGrantRevokeIndex(final WeightedSubjects[] granted, final WeightedSubjects[] revoked) {
+        this.granted = granted;
+        this.revoked = revoked;
+    }
+
+    /**
+     * Compiles a {@code GrantRevokeIndex}.
+     *
+     * @param grantRevokeIndex the index to compile.
+     * @param ids IDs of all subjects and permissions of the policy.
+     * @return the compiled index.
+     */
+    static BitSetGrantRevokeIndex compile(final GrantRevokeIndex grantRevokeIndex, final SubjectPermissionIds ids) {
+        return new BitSetGrantRevokeIndex(compile(grantRevokeIndex.getGranted(), ids),
+                compile(grantRevokeIndex.getRevoked(), ids));
+    }
+
+    private static WeightedSubjects[] compile(final PermissionSubjectsMap permissionSubjectsMap,
+            final SubjectPermissionIds ids) {
+
+        final WeightedSubjects[] result = new WeightedSubjects[ids.getPermissionCount()];
+        permissionSubjectsMap.forEach((permission, subjectWeights) -> {
+            final int permissionId = ids.getPermissionId(permission);
+            if (permissionId != SubjectPermissionIds.UNKNOWN_PERMISSION) {
+                result[permissionId] = WeightedSubjects.compile(subjectWeights, ids);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     *
+     * @param subjects bit set of the subjects to check.
+     * @param permissionIds IDs of the permissions to check.
+     * @return the result of the check.
+     * @see GrantRevokeIndex#hasPermissions(java.util.Collection, java.util.Collection)
+     */
+    boolean hasPermissions(final long[] subjects, final int[] permissionIds) {
+        int grantWeight = NO_WEIGHT;
+        for (final int permissionId : permissionIds) {
+            final int weight = getMaxWeight(granted, permissionId, subjects);
+            if (weight == NO_WEIGHT) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, weight);
+        }
+        if (grantWeight == NO_WEIGHT) {
+            // no permission to check
+            return false;
+        }
+        int revokeWeight = NO_WEIGHT;
+        for (final int permissionId : permissionIds) {
+            revokeWeight = Math.max(revokeWeight, getMaxWeight(revoked, permissionId, subjects));
+        }
+        return revokeWeight == NO_WEIGHT || revokeWeight < grantWeight;
+    }
+
+    /**
+     * Returns the subjects granted <em>all</em> of the given permissions which occur in the grant map.
+     *
+     * @param permissionIds IDs of the permissions.
+     * @param words number of words of the returned bit set.
+     * @return bit set of the granted subjects.
+     * @see GrantRevokeIndex#getGrantedSubjects(java.util.Set)
+     */
+    long[] getGrantedSubjects(final int[] permissionIds, final int words) {
+        @Nullable long[] result = null;
+        for (final int permissionId : permissionIds) {
+            final WeightedSubjects weightedSubjects = get(granted, permissionId);
+            if (null != weightedSubjects) {
+                if (null == result) {
+                    result = Arrays.copyOf(weightedSubjects.subjects, words);
+                } else {
+                    for (int i = 0; i < words; i++) {
+                        result[i] &= weightedSubjects.subjects[i];
+                    }
+                }
+            }
+        }
+        return null == result ? new long[words] : result;
+    }
+
+    /**
+     * Returns the subjects revoked <em>some</em> of the given permissions.
+     *
+     * @param permissionIds IDs of the permissions.
+     * @param words number of words of the returned bit set.
+     * @return bit set of the revoked subjects.
+     * @see GrantRevokeIndex#getRevokedSubjects(java.util.Set)
+     */
+    long[] getRevokedSubjects(final int[] permissionIds, final int words) {
+        final long[] result = new long[words];
+        for (final int permissionId : permissionIds) {
+            final WeightedSubjects weightedSubjects = get(revoked, permissionId);
+            if (null != weightedSubjects) {
+                for (int i = 0; i < words; i++) {
+                    result[i] |= weightedSubjects.subjects[i];
+                }
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static WeightedSubjects get(final WeightedSubjects[] permissionSubjects, final int permissionId) {
+        return permissionId == SubjectPermissionIds.UNKNOWN_PERMISSION ? null : permissionSubjects[permissionId];
+    }
+
+    private static int getMaxWeight(final WeightedSubjects[] permissionSubjects, final int permissionId,
+            final long[] subjects) {
+
+        final WeightedSubjects weightedSubjects = get(permissionSubjects, permissionId);
+        return null == weightedSubjects ? NO_WEIGHT : weightedSubjects.getMaxWeight(subjects);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BitSetGrantRevokeIndex that = (BitSetGrantRevokeIndex) o;
+        return Arrays.equals(granted, that.granted) && Arrays.equals(revoked, that.revoked);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(granted) + Arrays.hashCode(revoked);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "granted=" + Arrays.toString(granted) +
+                ", revoked=" + Arrays.toString(revoked) +
+                "]";
+    }
+
+    /**
+     * Subjects related to one permission together with their weights.
+     */
+    private static final class WeightedSubjects {
+
+        private final long[] subjects;
+        private final int[] weights;
+        private final boolean uniformWeight;
+
+        private WeightedSubjects(final long[] subjects, final int[] weights, final boolean uniformWeight) {
+            this.subjects = subjects;
+            this.weights = weights;
+            this.uniformWeight = uniformWeight;
+        }
+
+        private static WeightedSubjects compile(final Map<String, Integer> subjectWeights,
+                final SubjectPermissionIds ids) {
+
+            final long[] subjects = ids.toBitSet(subjectWeights.keySet());
+            final int[] weights = new int[subjects.length * Long.SIZE];
+            final int firstWeight = subjectWeights.values().stream().findAny().orElse(0);
+            boolean uniformWeight = true;
+            for (final Map.Entry<String, Integer> entry : subjectWeights.entrySet()) {
+                final int subjectId = ids.getSubjectId(entry.getKey());
+                if (subjectId != SubjectPermissionIds.UNKNOWN_SUBJECT) {
+                    weights[subjectId] = entry.getValue();
+                    uniformWeight &= entry.getValue() == firstWeight;
+                }
+            }
+            return new WeightedSubjects(subjects, weights, uniformWeight);
+        }
+
+        private int getMaxWeight(final long[] querySubjects) {
+            int maxWeight = NO_WEIGHT;
+            for (int i = 0; i < subjects.length; i++) {
+                long word = subjects[i] & querySubjects[i];
+                if (uniformWeight && word != 0L) {
+                    // all related subjects have the same weight: any match decides
+                    return weights[i * Long.SIZE + Long.numberOfTrailingZeros(word)];
+                }
+                while (word != 0L) {
+                    maxWeight = Math.max(maxWeight, weights[i * Long.SIZE + Long.numberOfTrailingZeros(word)]);
+                    word &= word - 1;
+                }
+            }
+            return maxWeight;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final WeightedSubjects that = (WeightedSubjects) o;
+            return uniformWeight == that.uniformWeight && Arrays.equals(subjects, that.subjects) &&
+                    Arrays.equals(weights, that.weights);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(subjects) + Arrays.hashCode(weights);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "subjects=" + Arrays.toString(subjects) +
+                    ", weights=" + Arrays.toString(weights) +
+                    "]";
+        }
+
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+import org.eclipse.ditto.policies.model.ResourceKey;
+
+/**
+ * Node of the compiled policy trie of {@link BitSetBasedPolicyEnforcer}. As the inherited trie, the bottom-up grant
+ * trie and the bottom-up revoke trie of {@link TrieBasedPolicyEnforcer} have the same shape, each node holds the
+ * compiled grant-revoke-indices of all 3 of them so that a single walk along a resource path finds all of them.
+ */
+@Immutable
+final class BitSetPolicyNode {
+
+    private final int depth;
+    private final BitSetGrantRevokeIndex inherited;
+    private final BitSetGrantRevokeIndex bottomUpGrant;
+    private final BitSetGrantRevokeIndex bottomUpRevoke;
+    private final Map<JsonKey, BitSetPolicyNode> children;
+
+    /**
+     * This node without children, the fallback for JSON fields without a node of their own in JSON views.
+     */
+    private final BitSetPolicyNode leaf;
+
+    private BitSetPolicyNode(final int depth,
+            final BitSetGrantRevokeIndex inherited,
+            final BitSetGrantRevokeIndex bottomUpGrant,
+            final BitSetGrantRevokeIndex bottomUpRevoke,
+            final Map<JsonKey, BitSetPolicyNode> children) {
+
+        this.depth = depth;
+        this.inherited = inherited;
+        this.bottomUpGrant = bottomUpGrant;
+        this.bottomUpRevoke = bottomUpRevoke;
+        this.children = children;
+        leaf = children.isEmpty() ? this : new BitSetPolicyNode(depth, inherited, bottomUpGrant, bottomUpRevoke,
+                Collections.emptyMap());
+    }
+
+    /**
+     * Compiles the tries of a {@code TrieBasedPolicyEnforcer}.
+     *
+     * @param inheritedTrie the trie with grants and revokes pushed down from ancestors to descendants.
+     * @param bottomUpGrantTrie the inherited trie with grants pushed up from descendants to ancestors.
+     * @param bottomUpRevokeTrie the inherited trie with revokes pushed up from descendants to ancestors.
+     * @param ids IDs of all subjects and permissions of the policy.
+     * @return the root of the compiled trie.
+     */
+    static BitSetPolicyNode compile(final PolicyTrie inheritedTrie,
+            final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie,
+            final SubjectPermissionIds ids) {
+
+        return compile(0, inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie, ids, new HashMap<>());
+    }
+
+    private static BitSetPolicyNode compile(final int depth,
+            final PolicyTrie inheritedTrie,
+            final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie,
+            final SubjectPermissionIds ids,
+            final Map<GrantRevokeIndex, BitSetGrantRevokeIndex> compiledIndices) {
+
+        final Map<JsonKey, PolicyTrie> grantChildren = bottomUpGrantTrie.getChildren();
+        final Map<JsonKey, PolicyTrie> revokeChildren = bottomUpRevokeTrie.getChildren();
+        final Map<JsonKey, BitSetPolicyNode> children = new HashMap<>();
+        inheritedTrie.getChildren().forEach((key, inheritedChild) -> children.put(key,
+                compile(depth + 1, inheritedChild, grantChildren.get(key), revokeChildren.get(key), ids,
+                        compiledIndices)));
+
+        return new BitSetPolicyNode(depth,
+                compile(inheritedTrie.getGrantRevokeIndex(), ids, compiledIndices),
+                compile(bottomUpGrantTrie.getGrantRevokeIndex(), ids, compiledIndices),
+                compile(bottomUpRevokeTrie.getGrantRevokeIndex(), ids, compiledIndices),
+                children);
+    }
+
+    // most nodes of a policy share the same grants and revokes: compile each distinct index only once
+    private static BitSetGrantRevokeIndex compile(final GrantRevokeIndex grantRevokeIndex,
+            final SubjectPermissionIds ids,
+            final Map<GrantRevokeIndex, BitSetGrantRevokeIndex> compiledIndices) {
+
+        return compiledIndices.computeIfAbsent(grantRevokeIndex,
+                index -> BitSetGrantRevokeIndex.compile(index, ids));
+    }
+
+    /**
+     * Seek to the node whose path from root matches the resource key as much as possible.
+     *
+     * @param resourceKey the resource key.
+     * @return the best matched node.
+     */
+    BitSetPolicyNode seekToLeastAncestor(final ResourceKey resourceKey) {
+        BitSetPolicyNode node = children.get(JsonKey.of(resourceKey.getResourceType()));
+        if (null == node) {
+            return this;
+        }
+        for (final JsonKey key : resourceKey.getResourcePath()) {
+            final BitSetPolicyNode child = node.children.get(key);
+            if (null == child) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Test whether this node is at the exact location of a resource key, assuming that this node was found by
+     * {@link #seekToLeastAncestor(ResourceKey)}.
+     *
+     * @param resourceKey the resource key.
+     * @return whether the path of this node from root matches the resource key exactly.
+     */
+    boolean isExactNodeOf(final ResourceKey resourceKey) {
+        return depth == 1 + resourceKey.getResourcePath().getLevelCount();
+    }
+
+    /**
+     * @return whether this node has a child for the given key.
+     */
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    BitSetGrantRevokeIndex getInherited() {
+        return inherited;
+    }
+
+    BitSetGrantRevokeIndex getBottomUpGrant() {
+        return bottomUpGrant;
+    }
+
+    BitSetGrantRevokeIndex getBottomUpRevoke() {
+        return bottomUpRevoke;
+    }
+
+    /**
+     * Builds the JSON view of JSON fields based on the inherited grants and revokes.
+     *
+     * @see PolicyTrie#buildJsonView(Iterable, java.util.Collection, org.eclipse.ditto.policies.model.Permissions)
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final long[] subjects, final int[] permissionIds) {
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final BitSetPolicyNode relevantNode = children.getOrDefault(field.getKey(), leaf);
+            final JsonValue jsonView =
+                    relevantNode.getViewForJsonValueOrNull(field.getValue(), subjects, permissionIds);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final long[] subjects,
+            final int[] permissionIds) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(buildJsonView(jsonValue.asObject(), subjects, permissionIds), subjects,
+                    permissionIds);
+        } else if (jsonValue.isArray()) {
+            final JsonArray candidate = jsonValue.asArray()
+                    .stream()
+                    .map(value -> getViewForJsonValueOrNull(value, subjects, permissionIds))
+                    .filter(Objects::nonNull)
+                    .collect(JsonCollectors.valuesToArray());
+            result = filterCandidate(candidate, subjects, permissionIds);
+        } else if (inherited.hasPermissions(subjects, permissionIds)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer> T filterCandidate(final T candidate, final long[] subjects,
+            final int[] permissionIds) {
+
+        if (!candidate.isEmpty() || inherited.hasPermissions(subjects, permissionIds)) {
+            return candidate;
+        }
+        return null;
+    }
+
+}
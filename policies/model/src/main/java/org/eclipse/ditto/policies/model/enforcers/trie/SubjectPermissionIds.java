@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.policies.model.EffectedPermissions;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.Resource;
+import org.eclipse.ditto.policies.model.Subject;
+
+/**
+ * Assigns consecutive int IDs to the subject IDs and permissions of a policy so that sets of subjects can be
+ * represented as bit sets of {@code long} words.
+ */
+@Immutable
+final class SubjectPermissionIds {
+
+    /**
+     * ID of permissions which do not occur in the policy.
+     */
+    static final int UNKNOWN_PERMISSION = -1;
+
+    /**
+     * ID of subjects which do not occur in the policy.
+     */
+    static final int UNKNOWN_SUBJECT = -1;
+
+    private final Map<String, Integer> subjectIds;
+    private final AuthorizationSubject[] subjects;
+    private final Map<String, Integer> permissionIds;
+
+    private SubjectPermissionIds(final Map<String, Integer> subjectIds, final AuthorizationSubject[] subjects,
+            final Map<String, Integer> permissionIds) {
+        this.subjectIds = subjectIds;
+        this.subjects = subjects;
+        this.permissionIds = permissionIds;
+    }
+
+    /**
+     * Assigns IDs to all subject IDs and permissions occurring in the given policy entries.
+     *
+     * @param policyEntries the policy entries.
+     * @return the IDs.
+     */
+    static SubjectPermissionIds fromPolicy(final Iterable<PolicyEntry> policyEntries) {
+        final Map<String, Integer> subjectIds = new HashMap<>();
+        final List<AuthorizationSubject> subjects = new ArrayList<>();
+        final Map<String, Integer> permissionIds = new HashMap<>();
+        for (final PolicyEntry policyEntry : policyEntries) {
+            for (final Subject subject : policyEntry.getSubjects()) {
+                final String subjectId = subject.getId().toString();
+                if (!subjectIds.containsKey(subjectId)) {
+                    subjectIds.put(subjectId, subjects.size());
+                    subjects.add(AuthorizationSubject.newInstance(subjectId));
+                }
+            }
+            for (final Resource resource : policyEntry.getResources()) {
+                final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+                effectedPermissions.getGrantedPermissions()
+                        .forEach(permission -> permissionIds.putIfAbsent(permission, permissionIds.size()));
+                effectedPermissions.getRevokedPermissions()
+                        .forEach(permission -> permissionIds.putIfAbsent(permission, permissionIds.size()));
+            }
+        }
+        return new SubjectPermissionIds(subjectIds, subjects.toArray(new AuthorizationSubject[0]), permissionIds);
+    }
+
+    /**
+     * @return the number of permissions occurring in the policy.
+     */
+    int getPermissionCount() {
+        return permissionIds.size();
+    }
+
+    /**
+     * @return the number of {@code long} words of a bit set of subjects.
+     */
+    int getSubjectWords() {
+        return (subjects.length + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Returns the ID of a permission.
+     *
+     * @param permission the permission.
+     * @return the ID of the permission or {@link #UNKNOWN_PERMISSION} if the permission does not occur in the policy.
+     */
+    int getPermissionId(final String permission) {
+        return permissionIds.getOrDefault(permission, UNKNOWN_PERMISSION);
+    }
+
+    /**
+     * Returns the ID of a subject.
+     *
+     * @param subjectId the subject ID.
+     * @return the int ID of the subject or {@link #UNKNOWN_SUBJECT} if the subject does not occur in the policy.
+     */
+    int getSubjectId(final String subjectId) {
+        return subjectIds.getOrDefault(subjectId, UNKNOWN_SUBJECT);
+    }
+
+    /**
+     * Returns the IDs of permissions.
+     *
+     * @param permissions the permissions.
+     * @return the IDs of the permissions, some of which may be {@link #UNKNOWN_PERMISSION}.
+     */
+    int[] getPermissionIds(final Collection<String> permissions) {
+        final int[] result = new int[permissions.size()];
+        int i = 0;
+        for (final String permission : permissions) {
+            result[i++] = getPermissionId(permission);
+        }
+        return result;
+    }
+
+    /**
+     * Converts subject IDs into a bit set. Subject IDs not occurring in the policy are ignored.
+     *
+     * @param subjectIds the subject IDs.
+     * @return the bit set.
+     */
+    long[] toBitSet(final Collection<String> subjectIds) {
+        final long[] bitSet = new long[getSubjectWords()];
+        for (final String subjectId : subjectIds) {
+            final int id = getSubjectId(subjectId);
+            if (id != UNKNOWN_SUBJECT) {
+                bitSet[id / Long.SIZE] |= 1L << id;
+            }
+        }
+        return bitSet;
+    }
+
+    /**
+     * Converts a bit set into authorization subjects.
+     *
+     * @param bitSet the bit set.
+     * @return a new mutable set of the authorization subjects in the bit set.
+     */
+    Set<AuthorizationSubject> toAuthorizationSubjects(final long[] bitSet) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        for (int i = 0; i < bitSet.length; i++) {
+            long word = bitSet[i];
+            while (word != 0L) {
+                result.add(subjects[i * Long.SIZE + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+}
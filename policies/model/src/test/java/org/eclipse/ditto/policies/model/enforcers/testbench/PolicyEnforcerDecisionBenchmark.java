@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.testbench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.BitSetBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for repeated permission checks against the same policy, as done by enforcement and event filtering,
+ * with the tree based, the trie based and the bit set based {@link Enforcer}.
+ * <p>
+ * Run with {@code java -jar target/ditto-policies-model-*-benchmark.jar PolicyEnforcerDecisionBenchmark}
+ * after building the module with the {@code build-benchmark-assembly} profile.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class PolicyEnforcerDecisionBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int FEATURES = 10;
+    private static final int DEVICE_SUBJECTS = 10;
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final Permissions WRITE = Permissions.newInstance("WRITE");
+
+    /**
+     * The enforcer algorithm.
+     */
+    @Param({"tree", "trie", "bitset"})
+    public String algorithm;
+
+    private Policy policy;
+    private Enforcer enforcer;
+    private ResourceKey[] resourceKeys;
+    private AuthorizationContext[] authorizationContexts;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        policy = createPolicy();
+        enforcer = createEnforcer(algorithm, policy);
+        resourceKeys = new ResourceKey[FEATURES + 3];
+        resourceKeys[0] = PoliciesResourceType.thingResource("/");
+        resourceKeys[1] = PoliciesResourceType.thingResource("/attributes/location");
+        resourceKeys[2] = PoliciesResourceType.thingResource("/features");
+        for (int i = 0; i < FEATURES; i++) {
+            resourceKeys[i + 3] = PoliciesResourceType.thingResource("/features/feature-" + i + "/properties/value");
+        }
+        authorizationContexts = new AuthorizationContext[DEVICE_SUBJECTS];
+        for (int i = 0; i < DEVICE_SUBJECTS; i++) {
+            authorizationContexts[i] = AuthorizationContext.newInstance(DittoAuthorizationContextType.JWT,
+                    AuthorizationSubject.newInstance("integration:device-" + i),
+                    AuthorizationSubject.newInstance("integration:group-" + i % 3));
+        }
+        counter = 0;
+    }
+
+    /**
+     * Checks all resources of the thing for the same authorization context, as done when filtering an event.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int hasPartialPermissions() {
+        final AuthorizationContext authorizationContext = nextAuthorizationContext();
+        int granted = 0;
+        for (final ResourceKey resourceKey : resourceKeys) {
+            if (enforcer.hasPartialPermissions(resourceKey, authorizationContext, READ)) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int hasUnrestrictedPermissions() {
+        final AuthorizationContext authorizationContext = nextAuthorizationContext();
+        int granted = 0;
+        for (final ResourceKey resourceKey : resourceKeys) {
+            if (enforcer.hasUnrestrictedPermissions(resourceKey, authorizationContext, WRITE)) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public EffectedSubjects getSubjectsWithPermission() {
+        return enforcer.getSubjectsWithPermission(resourceKeys[counter++ % resourceKeys.length], READ);
+    }
+
+    /**
+     * Creates the enforcer, which is done once per policy revision.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Enforcer create() {
+        return createEnforcer(algorithm, policy);
+    }
+
+    private AuthorizationContext nextAuthorizationContext() {
+        return authorizationContexts[counter++ % authorizationContexts.length];
+    }
+
+    private static Enforcer createEnforcer(final String algorithm, final Policy policy) {
+        switch (algorithm) {
+            case "tree":
+                return TreeBasedPolicyEnforcer.createInstance(policy);
+            case "trie":
+                return TrieBasedPolicyEnforcer.newInstance(policy);
+            case "bitset":
+                return BitSetBasedPolicyEnforcer.newInstance(policy);
+            default:
+                throw new IllegalArgumentException("Unknown algorithm <" + algorithm + ">");
+        }
+    }
+
+    private static Policy createPolicy() {
+        final Permissions readWrite = Permissions.newInstance("READ", "WRITE");
+        final PolicyBuilder builder = Policy.newBuilder(PolicyId.of("org.eclipse.ditto", "benchmark"));
+        builder.forLabel("owner")
+                .setSubject("integration:owner", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), readWrite)
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), readWrite)
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/"), readWrite);
+        for (int i = 0; i < 3; i++) {
+            builder.forLabel("group-" + i)
+                    .setSubject("integration:group-" + i, SubjectType.GENERATED)
+                    .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), readWrite)
+                    .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/location"),
+                            Permissions.newInstance("WRITE"));
+        }
+        for (int i = 0; i < DEVICE_SUBJECTS; i++) {
+            builder.forLabel("device-" + i)
+                    .setSubject("integration:device-" + i, SubjectType.GENERATED)
+                    .setGrantedPermissions(PoliciesResourceType.thingResource("/features/feature-" + i % FEATURES),
+                            readWrite)
+                    .setRevokedPermissions(
+                            PoliciesResourceType.thingResource("/features/feature-" + i % FEATURES + "/properties"),
+                            Permissions.newInstance("WRITE"));
+        }
+        return builder.build();
+    }
+
+}
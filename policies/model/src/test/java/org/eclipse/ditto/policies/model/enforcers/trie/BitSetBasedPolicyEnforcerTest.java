@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Test;
+
+/**
+ * Tests {@link BitSetBasedPolicyEnforcer} against {@link TrieBasedPolicyEnforcer}.
+ */
+public final class BitSetBasedPolicyEnforcerTest {
+
+    // more than 64 subjects so that bit sets span several words
+    private static final int SUBJECTS = 100;
+
+    private static final List<Permissions> PERMISSIONS = Arrays.asList(
+            Permissions.newInstance("READ"),
+            Permissions.newInstance("WRITE"),
+            Permissions.newInstance("READ", "WRITE"),
+            Permissions.newInstance("EXECUTE"),
+            Permissions.none());
+
+    private static final List<ResourceKey> RESOURCE_KEYS = Arrays.asList(
+            PoliciesResourceType.thingResource("/"),
+            PoliciesResourceType.thingResource("/attributes"),
+            PoliciesResourceType.thingResource("/attributes/location/latitude"),
+            PoliciesResourceType.thingResource("/features"),
+            PoliciesResourceType.thingResource("/features/feature-3"),
+            PoliciesResourceType.thingResource("/features/feature-3/properties"),
+            PoliciesResourceType.thingResource("/features/feature-3/properties/value"),
+            PoliciesResourceType.thingResource("/features/unknown"),
+            PoliciesResourceType.policyResource("/"),
+            PoliciesResourceType.messageResource("/inbox"),
+            ResourceKey.newInstance("unknown", "/"));
+
+    @Test
+    public void returnsSameDecisionsAsTrieBasedPolicyEnforcer() {
+        final Policy policy = createPolicy();
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policy);
+
+        for (final AuthorizationContext authorizationContext : createAuthorizationContexts()) {
+            for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+                for (final Permissions permissions : PERMISSIONS) {
+                    final String description = authorizationContext.getAuthorizationSubjectIds() + " " +
+                            resourceKey + " " + permissions;
+                    assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs(description)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs(description)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void returnsSameSubjectsAsTrieBasedPolicyEnforcer() {
+        final Policy policy = createPolicy();
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policy);
+
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            for (final Permissions permissions : PERMISSIONS) {
+                final String description = resourceKey + " " + permissions;
+                assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithUnrestrictedPermission(resourceKey, permissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.getSubjectsWithUnrestrictedPermission(resourceKey, permissions));
+            }
+        }
+    }
+
+    @Test
+    public void buildsSameJsonViewAsTrieBasedPolicyEnforcer() {
+        final Policy policy = createPolicy();
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+        final BitSetBasedPolicyEnforcer underTest = BitSetBasedPolicyEnforcer.newInstance(policy);
+        final JsonObject thing = JsonFactory.newObjectBuilder()
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("location", JsonFactory.newObjectBuilder()
+                                .set("latitude", 47.68)
+                                .set("longitude", 9.38)
+                                .build())
+                        .set("tags", JsonFactory.newArrayBuilder().add("a", "b").build())
+                        .build())
+                .set("features", JsonFactory.newObjectBuilder()
+                        .set("feature-3", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.newObjectBuilder().set("value", 42).build())
+                                .build())
+                        .set("feature-4", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.newObjectBuilder().set("value", 43).build())
+                                .build())
+                        .build())
+                .build();
+
+        for (final AuthorizationContext authorizationContext : createAuthorizationContexts()) {
+            for (final Permissions permissions : PERMISSIONS) {
+                final ResourceKey resourceKey = PoliciesResourceType.thingResource("/");
+                assertThat(underTest.buildJsonView(resourceKey, thing, authorizationContext, permissions))
+                        .describedAs(authorizationContext.getAuthorizationSubjectIds() + " " + permissions)
+                        .isEqualTo(expected.buildJsonView(resourceKey, thing, authorizationContext, permissions));
+            }
+        }
+    }
+
+    private static List<AuthorizationContext> createAuthorizationContexts() {
+        final List<AuthorizationContext> authorizationContexts = new ArrayList<>();
+        authorizationContexts.add(createAuthorizationContext("integration:owner"));
+        authorizationContexts.add(createAuthorizationContext("integration:nobody"));
+        for (int i = 0; i < SUBJECTS; i += 7) {
+            authorizationContexts.add(createAuthorizationContext("integration:device-" + i));
+            authorizationContexts.add(createAuthorizationContext("integration:device-" + i,
+                    "integration:group-" + i % 3));
+        }
+        return authorizationContexts;
+    }
+
+    private static AuthorizationContext createAuthorizationContext(final String subjectId,
+            final String... furtherSubjectIds) {
+
+        final List<AuthorizationSubject> subjects = new ArrayList<>();
+        subjects.add(AuthorizationSubject.newInstance(subjectId));
+        for (final String furtherSubjectId : furtherSubjectIds) {
+            subjects.add(AuthorizationSubject.newInstance(furtherSubjectId));
+        }
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subjects);
+    }
+
+    private static Policy createPolicy() {
+        final Permissions readWrite = Permissions.newInstance("READ", "WRITE");
+        final Permissions write = Permissions.newInstance("WRITE");
+        final PolicyBuilder builder = Policy.newBuilder(PolicyId.of("namespace", "id"));
+        builder.forLabel("owner")
+                .setSubject("integration:owner", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), readWrite)
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), readWrite)
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/"), readWrite)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/features/feature-3/properties"), write);
+        for (int i = 0; i < 3; i++) {
+            builder.forLabel("group-" + i)
+                    .setSubject("integration:group-" + i, SubjectType.GENERATED)
+                    .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), readWrite)
+                    .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/location"), write)
+                    .setGrantedPermissions(PoliciesResourceType.thingResource("/features/feature-" + i), write);
+        }
+        for (int i = 0; i < SUBJECTS; i++) {
+            builder.forLabel("device-" + i)
+                    .setSubject("integration:device-" + i, SubjectType.GENERATED)
+                    .setGrantedPermissions(PoliciesResourceType.thingResource("/features/feature-" + i % 10),
+                            readWrite)
+                    .setRevokedPermissions(
+                            PoliciesResourceType.thingResource("/features/feature-" + i % 10 + "/properties"),
+                            write);
+        }
+        return builder.build();
+    }
+
+}
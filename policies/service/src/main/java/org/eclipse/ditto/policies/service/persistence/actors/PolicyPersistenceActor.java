@@ -70,10 +70,16 @@ public final class PolicyPersistenceActor
     static final String JOURNAL_PLUGIN_ID = "pekko-contrib-mongodb-persistence-policies-journal";
 
     /**
-     * The ID of the snapshot plugin this persistence actor uses.
+     * The ID of the snapshot plugin which stores the snapshots of Policies.
      */
     static final String SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-policies-snapshots";
 
+    /**
+     * The ID of the snapshot plugin this persistence actor uses; it batches loads of the latest snapshots from the
+     * {@link #SNAPSHOT_PLUGIN_ID snapshot plugin}.
+     */
+    static final String BATCHING_SNAPSHOT_PLUGIN_ID = "ditto-batching-policies-snapshots";
+
     private final ActorRef pubSubMediator;
     private final PolicyConfig policyConfig;
     private final ActorRef announcementManager;
@@ -153,7 +159,7 @@ public final class PolicyPersistenceActor
 
     @Override
     public String snapshotPluginId() {
-        return SNAPSHOT_PLUGIN_ID;
+        return BATCHING_SNAPSHOT_PLUGIN_ID;
     }
 
     @Override
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.LogicalNode;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.Node;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SuperNode;
+
+/**
+ * {@link PredicateParser} which keeps the ASTs of the most recently parsed predicates in a least recently used cache
+ * keyed by the predicate string and parses other predicates with the parser it wraps.
+ * <p>
+ * The same filters are parsed over and over again, e.g. for each page of a search or for each event a subscriber
+ * filters. Only successfully parsed predicates of at most {@code maxInputLength} characters are cached. The cached
+ * ASTs are never returned: each call gets its own copy, which callers may modify without affecting other callers.
+ * Copying an AST is much cheaper than parsing its predicate.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@ThreadSafe
+public final class CachingPredicateParser implements PredicateParser {
+
+    private final PredicateParser delegate;
+    private final int maxInputLength;
+    private final Map<String, RootNode> cache;
+
+    private CachingPredicateParser(final PredicateParser delegate, final int maxSize, final int maxInputLength) {
+        this.delegate = delegate;
+        this.maxInputLength = maxInputLength;
+        cache = new LruMap(maxSize);
+    }
+
+    /**
+     * Returns a new {@code CachingPredicateParser}.
+     *
+     * @param delegate the parser of predicates which are not cached.
+     * @param maxSize the maximum number of cached ASTs.
+     * @param maxInputLength the maximum length of predicates to cache.
+     * @return the parser.
+     * @throws NullPointerException if {@code delegate} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxInputLength} is negative.
+     */
+    public static CachingPredicateParser of(final PredicateParser delegate, final int maxSize,
+            final int maxInputLength) {
+
+        requireNonNull(delegate, "The delegate must not be null!");
+        if (maxSize < 0 || maxInputLength < 0) {
+            throw new IllegalArgumentException("The maxSize and maxInputLength must not be negative!");
+        }
+        return new CachingPredicateParser(delegate, maxSize, maxInputLength);
+    }
+
+    @Override
+    public RootNode parse(final String input) {
+        if (input == null || input.length() > maxInputLength) {
+            return delegate.parse(input);
+        }
+        RootNode rootNode;
+        synchronized (cache) {
+            rootNode = cache.get(input);
+        }
+        if (rootNode == null) {
+            // parsing happens outside of the lock; concurrent parses of the same predicate yield equal ASTs
+            rootNode = delegate.parse(input);
+            synchronized (cache) {
+                cache.put(input, rootNode);
+            }
+        }
+        return copy(rootNode);
+    }
+
+    private static RootNode copy(final RootNode rootNode) {
+        final RootNode copy = new RootNode();
+        copyChildren(rootNode, copy);
+        return copy;
+    }
+
+    private static void copyChildren(final SuperNode source, final SuperNode target) {
+        final List<Node> targetChildren = target.getChildren();
+        for (final Node child : source.getChildren()) {
+            targetChildren.add(copy(child));
+        }
+    }
+
+    private static Node copy(final Node node) {
+        if (node instanceof LogicalNode) {
+            final LogicalNode logicalNode = (LogicalNode) node;
+            final LogicalNode copy = new LogicalNode(logicalNode.getType());
+            copyChildren(logicalNode, copy);
+            return copy;
+        } else if (node instanceof MultiComparisonNode) {
+            final MultiComparisonNode multiComparisonNode = (MultiComparisonNode) node;
+            return new MultiComparisonNode(multiComparisonNode.getComparisonType(),
+                    multiComparisonNode.getComparisonProperty(),
+                    new ArrayList<>(multiComparisonNode.getComparisonValue()));
+        } else {
+            // single comparison and exists nodes are immutable, their values are strings, numbers, booleans or null
+            return node;
+        }
+    }
+
+    /**
+     * Returns the number of cached ASTs.
+     *
+     * @return the number of cached ASTs.
+     */
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static final class LruMap extends LinkedHashMap<String, RootNode> {
+
+        private static final long serialVersionUID = -2236437813425120613L;
+
+        private final int maxSize;
+
+        private LruMap(final int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, RootNode> eldest) {
+            return size() > maxSize;
+        }
+
+    }
+
+}
@@ -14,15 +14,22 @@ package org.eclipse.ditto.rql.parser;
 
 import org.eclipse.ditto.rql.model.predicates.PredicateParser;
 import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
-import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$;
+import org.eclipse.ditto.rql.parser.internal.FastRqlPredicateParser;
 
 /**
  * RQL Parser parsing predicates in the RQL "standard" according to https://github.com/persvr/rql.
+ * <p>
+ * Predicates are parsed by the {@link FastRqlPredicateParser}, the ASTs of recently parsed predicates are cached.
+ * Each call returns its own copy of the cached AST.
+ * </p>
  */
 public class RqlPredicateParser implements PredicateParser {
 
     private static final RqlPredicateParser INSTANCE = new RqlPredicateParser();
-    private static final PredicateParser PARSER = RqlPredicateParser$.MODULE$;
+    private static final int MAX_CACHED_PREDICATES = 1024;
+    private static final int MAX_CACHED_PREDICATE_LENGTH = 4096;
+    private static final PredicateParser PARSER = CachingPredicateParser.of(FastRqlPredicateParser.getInstance(),
+            MAX_CACHED_PREDICATES, MAX_CACHED_PREDICATE_LENGTH);
 
     private RqlPredicateParser() {
         // private
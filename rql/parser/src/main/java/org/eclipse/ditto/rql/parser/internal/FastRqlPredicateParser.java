@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.ExistsNode;
+import org.eclipse.ditto.rql.model.predicates.ast.LogicalNode;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.Node;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SingleComparisonNode;
+
+/**
+ * Hand-written recursive descent RQL parser which accepts exactly the language of the parboiled based
+ * {@code RqlPredicateParser} and produces the same AST:
+ * <pre>
+ * Query                      = SingleComparisonOp | MultiComparisonOp | MultiLogicalOp | SingleLogicalOp | ExistsOp
+ * SingleComparisonOp         = SingleComparisonName, '(', ComparisonProperty, ',', ComparisonValue, ')'
+ * SingleComparisonName       = "eq" | "ne" | "gt" | "ge" | "lt" | "le" | "like" | "ilike"
+ * MultiComparisonOp          = MultiComparisonName, '(', ComparisonProperty, ',', ComparisonValue, { ',', ComparisonValue }, ')'
+ * MultiComparisonName        = "in"
+ * MultiLogicalOp             = MultiLogicalName, '(', Query, { ',', Query }, ')'
+ * MultiLogicalName           = "and" | "or"
+ * SingleLogicalOp            = SingleLogicalName, '(', Query, ')'
+ * SingleLogicalName          = "not"
+ * ExistsOp                   = "exists" '(', ComparisonProperty, ')'
+ *
+ * ComparisonProperty         = PropertyLiteral
+ * ComparisonValue            = Literal
+ * </pre>
+ * The parser scans the input once without backtracking. Properties and string literals without escape sequences are
+ * taken from the input as substrings without copying them character by character.
+ */
+@Immutable
+public final class FastRqlPredicateParser implements PredicateParser {
+
+    private static final FastRqlPredicateParser INSTANCE = new FastRqlPredicateParser();
+
+    private static final String PLACEHOLDER_PREFIX = "time:";
+
+    private FastRqlPredicateParser() {
+        // private
+    }
+
+    /**
+     * Returns the FastRqlPredicateParser instance.
+     *
+     * @return the instance.
+     */
+    public static FastRqlPredicateParser getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public RootNode parse(final String input) {
+        if (null == input) {
+            throw new NullPointerException("The input must not be null!");
+        }
+        final Node predicate = new Cursor(input).parsePredicate();
+        final RootNode rootNode = new RootNode();
+        rootNode.getChildren().add(predicate);
+        return rootNode;
+    }
+
+    /**
+     * The parsing state of one input.
+     */
+    private static final class Cursor {
+
+        private final String input;
+        private final int length;
+        private int pos;
+
+        private Cursor(final String input) {
+            this.input = input;
+            length = input.length();
+            pos = 0;
+        }
+
+        private Node parsePredicate() {
+            skipWhiteSpace();
+            final Node query = parseQuery();
+            if (pos < length) {
+                throw error("end of input");
+            }
+            return query;
+        }
+
+        private Node parseQuery() {
+            final int nameStart = pos;
+            while (pos < length && isLowerCaseLetter(input.charAt(pos))) {
+                pos++;
+            }
+            final int nameLength = pos - nameStart;
+            if (nameLength == 2) {
+                if (isName(nameStart, "eq")) {
+                    return parseSingleComparison(SingleComparisonNode.Type.EQ);
+                } else if (isName(nameStart, "ne")) {
+                    return parseSingleComparison(SingleComparisonNode.Type.NE);
+                } else if (isName(nameStart, "gt")) {
+                    return parseSingleComparison(SingleComparisonNode.Type.GT);
+                } else if (isName(nameStart, "ge")) {
+                    return parseSingleComparison(SingleComparisonNode.Type.GE);
+                } else if (isName(nameStart, "lt")) {
+                    return parseSingleComparison(SingleComparisonNode.Type.LT);
+                } else if (isName(nameStart, "le")) {
+                    return parseSingleComparison(SingleComparisonNode.Type.LE);
+                } else if (isName(nameStart, "in")) {
+                    return parseMultiComparison(MultiComparisonNode.Type.IN);
+                } else if (isName(nameStart, "or")) {
+                    return parseMultiLogical(LogicalNode.Type.OR);
+                }
+            } else if (nameLength == 3) {
+                if (isName(nameStart, "and")) {
+                    return parseMultiLogical(LogicalNode.Type.AND);
+                } else if (isName(nameStart, "not")) {
+                    return parseSingleLogical(LogicalNode.Type.NOT);
+                }
+            } else if (nameLength == 4 && isName(nameStart, "like")) {
+                return parseSingleComparison(SingleComparisonNode.Type.LIKE);
+            } else if (nameLength == 5 && isName(nameStart, "ilike")) {
+                return parseSingleComparison(SingleComparisonNode.Type.ILIKE);
+            } else if (nameLength == 6 && isName(nameStart, "exists")) {
+                return parseExists();
+            }
+            pos = nameStart;
+            throw error("'eq', 'ne', 'gt', 'ge', 'lt', 'le', 'like', 'ilike', 'in', 'and', 'or', 'not' or 'exists'");
+        }
+
+        private boolean isName(final int nameStart, final String name) {
+            return input.regionMatches(nameStart, name, 0, name.length());
+        }
+
+        private Node parseSingleComparison(final SingleComparisonNode.Type type) {
+            expect('(');
+            final String property = parseCharacters(true);
+            expect(',');
+            final Object value = parseLiteral();
+            expect(')');
+            return new SingleComparisonNode(type, property, value);
+        }
+
+        private Node parseMultiComparison(final MultiComparisonNode.Type type) {
+            expect('(');
+            final String property = parseCharacters(true);
+            final List<Object> values = new ArrayList<>();
+            do {
+                expect(',');
+                values.add(parseLiteral());
+            } while (pos < length && input.charAt(pos) == ',');
+            expect(')');
+            return new MultiComparisonNode(type, property, values);
+        }
+
+        private Node parseMultiLogical(final LogicalNode.Type type) {
+            expect('(');
+            final List<Node> subQueries = new ArrayList<>();
+            subQueries.add(parseQuery());
+            while (pos < length && input.charAt(pos) == ',') {
+                pos++;
+                skipWhiteSpace();
+                subQueries.add(parseQuery());
+            }
+            expect(')');
+            return new LogicalNode(type, subQueries);
+        }
+
+        private Node parseSingleLogical(final LogicalNode.Type type) {
+            expect('(');
+            final Node subQuery = parseQuery();
+            expect(')');
+            return new LogicalNode(type, subQuery);
+        }
+
+        private Node parseExists() {
+            expect('(');
+            final String property = parseCharacters(true);
+            expect(')');
+            return new ExistsNode(property);
+        }
+
+        /*
+         * Literal = (DoubleLiteral | LongLiteral | StringLiteral | StringSingleQuoteLiteral | PlaceholderLiteral |
+         *            "true" | "false" | "null"), WhiteSpace
+         * The alternatives are distinguished by their first character, the result of "null" is null.
+         */
+        @Nullable
+        private Object parseLiteral() {
+            if (pos >= length) {
+                throw error("literal");
+            }
+            final char c = input.charAt(pos);
+            final Object literal;
+            if (c == '"' || c == '\'') {
+                literal = parseQuoted(c);
+            } else if (c == '+' || c == '-' || isDigit(c)) {
+                literal = parseNumber();
+            } else if (input.startsWith(PLACEHOLDER_PREFIX, pos)) {
+                literal = parsePlaceholder();
+            } else if (input.startsWith("true", pos)) {
+                pos += 4;
+                literal = Boolean.TRUE;
+            } else if (input.startsWith("false", pos)) {
+                pos += 5;
+                literal = Boolean.FALSE;
+            } else if (input.startsWith("null", pos)) {
+                pos += 4;
+                literal = null;
+            } else {
+                throw error("literal");
+            }
+            skipWhiteSpace();
+            return literal;
+        }
+
+        /*
+         * DoubleLiteral = Integer, '.', Digit, { Digit }
+         * LongLiteral   = Integer but not starting with "-0"
+         * Integer       = [ '+' | '-' ], ( DigitWithoutZero, Digit, { Digit } | Digit )
+         */
+        private Object parseNumber() {
+            final int start = pos;
+            if (input.charAt(pos) == '+' || input.charAt(pos) == '-') {
+                pos++;
+            }
+            if (pos >= length || !isDigit(input.charAt(pos))) {
+                throw error("digit");
+            }
+            if (input.charAt(pos) == '0') {
+                pos++;
+            } else {
+                while (pos < length && isDigit(input.charAt(pos))) {
+                    pos++;
+                }
+            }
+            if (pos + 1 < length && input.charAt(pos) == '.' && isDigit(input.charAt(pos + 1))) {
+                pos++;
+                while (pos < length && isDigit(input.charAt(pos))) {
+                    pos++;
+                }
+                return Double.valueOf(input.substring(start, pos));
+            }
+            if (input.startsWith("-0", start)) {
+                pos = start;
+                throw error("literal");
+            }
+            try {
+                return Long.valueOf(input.substring(start, pos));
+            } catch (final NumberFormatException e) {
+                pos = start;
+                throw error("number in the range of a long", e);
+            }
+        }
+
+        private ParsedPlaceholder parsePlaceholder() {
+            final int start = pos;
+            pos += PLACEHOLDER_PREFIX.length();
+            parseCharacters(false);
+            try {
+                return ParsedPlaceholder.of(input.substring(start, pos));
+            } catch (final IllegalArgumentException e) {
+                pos = start;
+                throw error("placeholder in the format <prefix:name>", e);
+            }
+        }
+
+        /*
+         * Characters = { NormalChar | '\', EscapedChar }
+         * NormalChar = any character except ',' | ')' | '"' | '\'
+         */
+        @Nullable
+        private String parseCharacters(final boolean buildResult) {
+            final int start = pos;
+            while (pos < length) {
+                final char c = input.charAt(pos);
+                if (c == ',' || c == ')' || c == '"') {
+                    break;
+                } else if (c == '\\') {
+                    return parseEscapedCharacters(start, buildResult);
+                }
+                pos++;
+            }
+            return buildResult ? input.substring(start, pos) : null;
+        }
+
+        @Nullable
+        private String parseEscapedCharacters(final int start, final boolean buildResult) {
+            final StringBuilder sb = buildResult ? new StringBuilder(input.length() - start) : null;
+            if (sb != null) {
+                sb.append(input, start, pos);
+            }
+            while (pos < length) {
+                final char c = input.charAt(pos);
+                if (c == ',' || c == ')' || c == '"') {
+                    break;
+                } else if (c == '\\') {
+                    pos++;
+                    appendEscapedChar('"', sb);
+                } else {
+                    if (sb != null) {
+                        sb.append(c);
+                    }
+                    pos++;
+                }
+            }
+            return sb != null ? sb.toString() : null;
+        }
+
+        /*
+         * StringLiteral            = '"', { any character except '"' | '\' or '\', EscapedChar }, '"'
+         * StringSingleQuoteLiteral = "'", { any character except "'" | '\' or '\', EscapedChar }, "'"
+         */
+        private String parseQuoted(final char quote) {
+            pos++;
+            final int start = pos;
+            while (pos < length) {
+                final char c = input.charAt(pos);
+                if (c == quote) {
+                    pos++;
+                    return input.substring(start, pos - 1);
+                } else if (c == '\\') {
+                    return parseEscapedQuoted(quote, start);
+                }
+                pos++;
+            }
+            throw error("'" + quote + "'");
+        }
+
+        private String parseEscapedQuoted(final char quote, final int start) {
+            final StringBuilder sb = new StringBuilder(input.length() - start);
+            sb.append(input, start, pos);
+            while (pos < length) {
+                final char c = input.charAt(pos);
+                if (c == quote) {
+                    pos++;
+                    return sb.toString();
+                } else if (c == '\\') {
+                    pos++;
+                    appendEscapedChar(quote, sb);
+                } else {
+                    sb.append(c);
+                    pos++;
+                }
+            }
+            throw error("'" + quote + "'");
+        }
+
+        /*
+         * EscapedChar = quote | '\' | '/' | 'b' | 'f' | 'n' | 'r' | 't' | 'u', HexDigit, HexDigit, HexDigit, HexDigit
+         */
+        private void appendEscapedChar(final char quote, @Nullable final StringBuilder sb) {
+            if (pos >= length) {
+                throw error("escape sequence");
+            }
+            final char c = input.charAt(pos);
+            final char unescaped;
+            if (c == quote || c == '\\' || c == '/') {
+                unescaped = c;
+            } else if (c == 'b') {
+                unescaped = '\b';
+            } else if (c == 'f') {
+                unescaped = '\f';
+            } else if (c == 'n') {
+                unescaped = '\n';
+            } else if (c == 'r') {
+                unescaped = '\r';
+            } else if (c == 't') {
+                unescaped = '\t';
+            } else if (c == 'u' && pos + 4 < length && isHexDigit(input.charAt(pos + 1)) &&
+                    isHexDigit(input.charAt(pos + 2)) && isHexDigit(input.charAt(pos + 3)) &&
+                    isHexDigit(input.charAt(pos + 4))) {
+                unescaped = (char) Integer.parseInt(input.substring(pos + 1, pos + 5), 16);
+                pos += 4;
+            } else {
+                throw error("escape sequence");
+            }
+            pos++;
+            if (sb != null) {
+                sb.append(unescaped);
+            }
+        }
+
+        private void expect(final char c) {
+            if (pos >= length || input.charAt(pos) != c) {
+                throw error("'" + c + "'");
+            }
+            pos++;
+        }
+
+        private void skipWhiteSpace() {
+            while (pos < length && isWhiteSpace(input.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private ParserException error(final String expected) {
+            return error(expected, null);
+        }
+
+        private ParserException error(final String expected, @Nullable final Throwable cause) {
+            int line = 1;
+            int lineStart = 0;
+            for (int i = 0; i < pos; i++) {
+                if (input.charAt(i) == '\n') {
+                    line++;
+                    lineStart = i + 1;
+                }
+            }
+            final int lineEnd = input.indexOf('\n', lineStart);
+            final String currentLine = input.substring(lineStart, lineEnd < 0 ? length : lineEnd);
+            final String invalidInput = pos >= length ? "Unexpected end of input" :
+                    "Invalid input '" + input.charAt(pos) + "'";
+            final StringBuilder sb = new StringBuilder(invalidInput)
+                    .append(", expected ").append(expected)
+                    .append(" (line ").append(line).append(", column ").append(pos - lineStart + 1).append("):\n")
+                    .append(currentLine).append('\n');
+            for (int i = lineStart; i < pos; i++) {
+                sb.append(' ');
+            }
+            final String message = sb.append('^').toString();
+            return cause == null ? new ParserException(message) : new ParserException(message, cause);
+        }
+
+        private static boolean isLowerCaseLetter(final char c) {
+            return c >= 'a' && c <= 'z';
+        }
+
+        private static boolean isDigit(final char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private static boolean isHexDigit(final char c) {
+            return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+        }
+
+        private static boolean isWhiteSpace(final char c) {
+            return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f';
+        }
+
+    }
+
+}
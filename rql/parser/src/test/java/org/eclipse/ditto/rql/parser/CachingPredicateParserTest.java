@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.ExistsNode;
+import org.eclipse.ditto.rql.model.predicates.ast.LogicalNode;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.parser.internal.FastRqlPredicateParser;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CachingPredicateParser}.
+ */
+public final class CachingPredicateParserTest {
+
+    private final AtomicInteger parses = new AtomicInteger();
+    private final PredicateParser countingParser = input -> {
+        parses.incrementAndGet();
+        return FastRqlPredicateParser.getInstance().parse(input);
+    };
+
+    @Test
+    public void returnsCopyOfCachedAstForSamePredicate() {
+        final CachingPredicateParser underTest = CachingPredicateParser.of(countingParser, 10, 100);
+
+        final RootNode first = underTest.parse("eq(thingId,\"org.eclipse.ditto:thing\")");
+        final RootNode second = underTest.parse("eq(thingId,\"org.eclipse.ditto:thing\")");
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(parses.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void modifyingReturnedAstDoesNotModifyCachedAst() {
+        final String predicate = "and(in(a,1,2),or(eq(b,3),exists(c)))";
+        final RootNode expected = FastRqlPredicateParser.getInstance().parse(predicate);
+        final CachingPredicateParser underTest = CachingPredicateParser.of(countingParser, 10, 100);
+
+        final RootNode first = underTest.parse(predicate);
+        final LogicalNode and = (LogicalNode) first.getChildren().get(0);
+        ((MultiComparisonNode) and.getChildren().get(0)).addValue(4L);
+        ((LogicalNode) and.getChildren().get(1)).getChildren().clear();
+        first.getChildren().add(new ExistsNode("d"));
+
+        assertThat(underTest.parse(predicate)).isEqualTo(expected);
+        assertThat(parses.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedPredicate() {
+        final CachingPredicateParser underTest = CachingPredicateParser.of(countingParser, 2, 100);
+
+        underTest.parse("eq(a,1)");
+        underTest.parse("eq(b,2)");
+        underTest.parse("eq(a,1)");
+        underTest.parse("eq(c,3)");
+        underTest.parse("eq(a,1)");
+        underTest.parse("eq(b,2)");
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(parses.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void doesNotCacheLongPredicates() {
+        final CachingPredicateParser underTest = CachingPredicateParser.of(countingParser, 10, 5);
+
+        underTest.parse("eq(a,1)");
+        underTest.parse("eq(a,1)");
+
+        assertThat(underTest.size()).isZero();
+        assertThat(parses.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void doesNotCacheInvalidPredicates() {
+        final CachingPredicateParser underTest = CachingPredicateParser.of(countingParser, 10, 100);
+
+        assertThatExceptionOfType(ParserException.class).isThrownBy(() -> underTest.parse("eq(a,test)"));
+        assertThatExceptionOfType(ParserException.class).isThrownBy(() -> underTest.parse("eq(a,test)"));
+
+        assertThat(underTest.size()).isZero();
+        assertThat(parses.get()).isEqualTo(2);
+    }
+
+}
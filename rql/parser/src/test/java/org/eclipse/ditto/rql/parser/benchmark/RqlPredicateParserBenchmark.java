@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.parser.internal.FastRqlPredicateParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark for parsing typical RQL filters of searches and subscriptions with the parboiled based Scala parser,
+ * the {@link FastRqlPredicateParser} and the caching {@link RqlPredicateParser}.
+ * <p>
+ * Run with {@code java -jar target/ditto-rql-parser-*-benchmark.jar RqlPredicateParserBenchmark}
+ * after building the module with the {@code build-benchmark-assembly} profile.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class RqlPredicateParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final List<String> FILTERS = Arrays.asList(
+            "eq(thingId,\"org.eclipse.ditto:sensor-4711\")",
+            "and(eq(attributes/manufacturer,\"ACME\"),gt(features/temperature/properties/value,23.5))",
+            "or(like(attributes/location,\"kitchen*\"),in(attributes/room,\"1\",\"2\",\"3\",4,null))",
+            "and(exists(features/lamp),not(eq(features/lamp/properties/on,false)),lt(_modified,time:now))",
+            "ilike(attributes/description,'it\\'s a \\\"quoted\\\" value*')"
+    );
+
+    private final PredicateParser parboiledParser =
+            org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$.MODULE$;
+    private final PredicateParser fastParser = FastRqlPredicateParser.getInstance();
+    private final PredicateParser cachingParser = RqlPredicateParser.getInstance();
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parboiledParser(final Blackhole blackhole) {
+        parseFilters(parboiledParser, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void fastParser(final Blackhole blackhole) {
+        parseFilters(fastParser, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void cachingParser(final Blackhole blackhole) {
+        parseFilters(cachingParser, blackhole);
+    }
+
+    private static void parseFilters(final PredicateParser parser, final Blackhole blackhole) {
+        for (final String filter : FILTERS) {
+            blackhole.consume(parser.parse(filter));
+        }
+    }
+
+}
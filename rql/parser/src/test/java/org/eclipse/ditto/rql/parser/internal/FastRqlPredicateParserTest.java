@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.junit.Test;
+
+/**
+ * Differential test of {@link FastRqlPredicateParser} against the parboiled based Scala {@code RqlPredicateParser}.
+ */
+public final class FastRqlPredicateParserTest {
+
+    private static final PredicateParser REFERENCE = RqlPredicateParser$.MODULE$;
+    private static final PredicateParser UNDER_TEST = FastRqlPredicateParser.getInstance();
+
+    private static final List<String> CORPUS = Arrays.asList(
+            "eq(thingId,\"org.eclipse.ditto:thing\")",
+            "eq(username,123)",
+            "eq(username,\"te\\\"st\")",
+            "eq(username,'te\\'st')",
+            "eq(username,\"abc\\nyz\")",
+            "eq(username,'abc\\nyz\\u00e4\\/\\\\\\b\\f\\r\\t')",
+            "eq(username,\"multi\nline\")",
+            "ne(username,123)",
+            "gt(width,123)",
+            "ge(width,-123)",
+            "lt(width,+123)",
+            "le(width,123.7)",
+            "like(width,\"test*\")",
+            "ilike(width,'TeSt*')",
+            "in(attributes,\"test\",1,true,false,null,1.5)",
+            "in(attributes,null,\"test\",null)",
+            "in(attributes/a,1)",
+            "and(eq(username,123),eq(coolness,\"super\"),or(eq(username,854)))",
+            "and(eq(a,1),  \n\teq(b,2))",
+            "or(eq(username,123),eq(coolness,\"super\"),eq(username,854))",
+            "not(eq(username,123))",
+            "not(and(exists(features/scanner),not(exists(attributes/x))))",
+            "exists(features/scanner)",
+            "exists(topic:action)",
+            "exists()",
+            "eq(,1)",
+            "lt(_modified,time:now)",
+            "lt(_modified,time:now )",
+            "eq(attributes/complex,\"!#$%&'()*+,/:;=?@[\\\\]{|} äaZ0\")",
+            "eq(attributes/with space,1)",
+            "eq(attributes/with(paren,1)",
+            "eq(attributes/esc\\u0041aped\\/\\\\,1)",
+            "eq(username,0)",
+            "eq(username,-0.7)",
+            "eq(username,0.7)",
+            "eq(username,1 )",
+            "eq(username,\"x\" )",
+            "eq(username,true )",
+            "eq(username,null )",
+            "eq(username,9223372036854775807)",
+            "eq(username,-9223372036854775808)",
+            "   eq(a,1)",
+            "\n\t\feq(a,1)",
+            // invalid
+            "",
+            " ",
+            "eq(a,1) ",
+            "eq/(username,\"te\\\"st\")",
+            "eq(username;\"te\\\"st\")",
+            "like(width,123*)",
+            "not(eq(username,123),eq(coolness,\"super\"),eq(username,854))",
+            "or(ASDF(username,123))",
+            "eq(username, 123())",
+            "eq(username, 123.0())",
+            "eq(coolness,\"super\"))",
+            "and(eq(username, 123), )",
+            "and(   ,eq(username, 123))",
+            "and(eq(username,123) ,eq(a,1))",
+            "and( eq(username,123))",
+            "and()",
+            "in(a)",
+            "in(a,)",
+            "and(eq(username, 123)xx,eq(coolness,\"super\"))",
+            "eq(username, 123",
+            "(username, 123)",
+            "eaq(username, 123)",
+            "eqx(username,1)",
+            "EQ(username,1)",
+            "eq(username,test)",
+            "eq(username,-0)",
+            "eq(username, 0123)",
+            "eq(username,0123)",
+            "eq(username,-0123)",
+            "eq(username,12356143287134097863590813406135981332472031847)",
+            "eq(username,9223372036854775808)",
+            "eq(username,012.7)",
+            "eq(username,-012.7)",
+            "eq(username,-.7)",
+            "eq(username,\"abc\"\")",
+            "eq(username,.7)",
+            "eq(username,.)",
+            "eq(username,12.7.8)",
+            "eq(username,127.)",
+            "eq(username,1e10)",
+            "eq(username,+)",
+            "eq(username,-)",
+            "eq(username,truex)",
+            "eq(username,nul)",
+            "eq(username,\"unterminated)",
+            "eq(username,'unterminated)",
+            "eq(username,\"\\x\")",
+            "eq(username,'\\\"')",
+            "eq(username,\"\\u12\")",
+            "eq(username,\"\\",
+            "eq(attr\\x,1)",
+            "eq(attr\\",
+            "eq(\"attr\",1)",
+            "exists(\"features/scanner\")",
+            "exists(features/scanner,\"test\")",
+            "eq(thingId,foo:bar)",
+            "eq(thingId,time:)",
+            "eq(thingId,time:now\\,x)",
+            "eq(a,1)eq(b,2)"
+    );
+
+    private static final String[] NAMES = {"eq", "ne", "gt", "ge", "lt", "le", "like", "ilike", "in", "and", "or",
+            "not", "exists", "eqq", "n"};
+    private static final String[] FRAGMENTS = {"(", ")", ",", "\"", "'", "\\", "\\u00e4", "\\n", "\\\"", "\\'", " ",
+            "\n", "a", "b/c", "0", "-0", "1", "-1", "+7", "1.5", "-0.5", ".", "true", "false", "null", "time:", "now",
+            "foo:bar", "é", "9223372036854775808"};
+
+    @Test
+    public void parsesCorpusLikeReferenceParser() {
+        for (final String input : CORPUS) {
+            assertParsesLikeReference(input);
+        }
+    }
+
+    @Test
+    public void parsesGeneratedPredicatesLikeReferenceParser() {
+        final Random random = new Random(4711L);
+        for (int i = 0; i < 5000; i++) {
+            assertParsesLikeReference(generateQuery(random, 0));
+        }
+    }
+
+    @Test
+    public void parsesMutatedPredicatesLikeReferenceParser() {
+        final Random random = new Random(815L);
+        final List<String> inputs = new ArrayList<>(CORPUS);
+        for (int i = 0; i < 1000; i++) {
+            inputs.add(generateQuery(random, 0));
+        }
+        for (int i = 0; i < 20000; i++) {
+            assertParsesLikeReference(mutate(inputs.get(random.nextInt(inputs.size())), random));
+        }
+    }
+
+    @Test
+    public void errorMessageContainsPosition() {
+        assertThatExceptionOfType(ParserException.class)
+                .isThrownBy(() -> UNDER_TEST.parse("eq(username,test)"))
+                .withMessageContaining("Invalid input 't'")
+                .withMessageContaining("column 13");
+    }
+
+    private static void assertParsesLikeReference(final String input) {
+        final RootNode expected;
+        try {
+            expected = REFERENCE.parse(input);
+        } catch (final ParserException e) {
+            assertThatExceptionOfType(ParserException.class)
+                    .describedAs("Parsing <%s>", input)
+                    .isThrownBy(() -> UNDER_TEST.parse(input));
+            return;
+        }
+        assertThat(UNDER_TEST.parse(input)).describedAs("Parsing <%s>", input).isEqualTo(expected);
+    }
+
+    private static String generateQuery(final Random random, final int depth) {
+        final int choice = depth > 3 ? random.nextInt(3) : random.nextInt(6);
+        switch (choice) {
+            case 0:
+                return pick(random, "eq", "ne", "gt", "ge", "lt", "le", "like", "ilike") + "(" +
+                        generateProperty(random) + "," + generateLiteral(random) + ")";
+            case 1:
+                final StringBuilder in = new StringBuilder("in(").append(generateProperty(random));
+                final int values = 1 + random.nextInt(4);
+                for (int i = 0; i < values; i++) {
+                    in.append(',').append(generateLiteral(random));
+                }
+                return in.append(')').toString();
+            case 2:
+                return "exists(" + generateProperty(random) + ")";
+            case 3:
+                return "not(" + generateQuery(random, depth + 1) + ")";
+            default:
+                final StringBuilder logical = new StringBuilder(pick(random, "and", "or")).append('(');
+                final int subQueries = 1 + random.nextInt(3);
+                for (int i = 0; i < subQueries; i++) {
+                    if (i > 0) {
+                        logical.append(',').append(pick(random, "", "", " ", "\n "));
+                    }
+                    logical.append(generateQuery(random, depth + 1));
+                }
+                return logical.append(')').toString();
+        }
+    }
+
+    private static String generateProperty(final Random random) {
+        return pick(random, "thingId", "attributes/location", "features/lamp/properties/on", "_modified",
+                "attributes/a b", "attributes/esc\\/aped", "attributes/\\u00e4", "topic:action", "");
+    }
+
+    private static String generateLiteral(final Random random) {
+        return pick(random, "1", "-1", "0", "+42", "1.25", "-0.5", "9223372036854775807", "\"text\"",
+                "\"te\\\"xt\"", "'single'", "'it\\'s'", "\"\"", "true", "false", "null", "time:now", "1 ",
+                "\"spaced\" ");
+    }
+
+    private static String mutate(final String input, final Random random) {
+        final StringBuilder sb = new StringBuilder(input);
+        final int mutations = 1 + random.nextInt(3);
+        for (int i = 0; i < mutations; i++) {
+            final int position = sb.length() == 0 ? 0 : random.nextInt(sb.length() + 1);
+            switch (random.nextInt(3)) {
+                case 0:
+                    if (position < sb.length()) {
+                        sb.deleteCharAt(position);
+                    }
+                    break;
+                case 1:
+                    sb.insert(position, FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                    break;
+                default:
+                    sb.insert(position, NAMES[random.nextInt(NAMES.length)] + "(");
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String pick(final Random random, final String... choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+
+/**
+ * Node-wide exponentially weighted moving average of the latency of persisting the events of Things.
+ * <p>
+ * The {@link ThingPersistenceActor}s of a node record the latency of each persisted event, the
+ * {@link ThingPersistenceActorMailbox} derives the number of modify commands it accepts from the average.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@ThreadSafe
+public final class ThingPersistLatency implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    /**
+     * Weight of a new measurement in the moving average.
+     */
+    static final double ALPHA = 0.2;
+
+    private static final long NO_MEASUREMENT = -1L;
+
+    private final AtomicLong averageNanosBits;
+
+    private ThingPersistLatency() {
+        averageNanosBits = new AtomicLong(NO_MEASUREMENT);
+    }
+
+    /**
+     * Returns the {@code ThingPersistLatency} of an actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the instance.
+     */
+    public static ThingPersistLatency lookup(final ActorSystem actorSystem) {
+        return EXTENSION_ID.get(actorSystem);
+    }
+
+    /**
+     * Returns a new instance without measurements.
+     *
+     * @return the instance.
+     */
+    static ThingPersistLatency newInstance() {
+        return new ThingPersistLatency();
+    }
+
+    /**
+     * Records the latency of persisting one event.
+     *
+     * @param latency the latency.
+     */
+    public void record(final Duration latency) {
+        final double nanos = Math.max(0L, latency.toNanos());
+        averageNanosBits.getAndUpdate(bits -> {
+            if (bits == NO_MEASUREMENT) {
+                return Double.doubleToLongBits(nanos);
+            }
+            final double average = Double.longBitsToDouble(bits);
+            return Double.doubleToLongBits(average + ALPHA * (nanos - average));
+        });
+    }
+
+    /**
+     * Returns the moving average of the recorded latencies.
+     *
+     * @return the average or an empty optional if no latency was recorded yet.
+     */
+    public Optional<Duration> getAverage() {
+        final long bits = averageNanosBits.get();
+        if (bits == NO_MEASUREMENT) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos((long) Double.longBitsToDouble(bits)));
+    }
+
+    static final class ExtensionId extends AbstractExtensionId<ThingPersistLatency> {
+
+        @Override
+        public ThingPersistLatency createExtension(final ExtendedActorSystem system) {
+            return newInstance();
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.CompletionStage;
 
@@ -26,6 +27,7 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.EventConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistentactors.AbstractPersistenceActor;
@@ -75,16 +77,29 @@ public final class ThingPersistenceActor
     static final String JOURNAL_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-journal";
 
     /**
-     * The ID of the snapshot plugin this persistence actor uses.
+     * The ID of the journal plugin which coalesces the event writes of all Things of a node into bulk writes of the
+     * {@link #JOURNAL_PLUGIN_ID journal}.
+     */
+    static final String COALESCING_JOURNAL_PLUGIN_ID = "ditto-coalescing-things-journal";
+
+    /**
+     * The ID of the snapshot plugin which stores the snapshots of Things.
      */
     static final String SNAPSHOT_PLUGIN_ID = "pekko-contrib-mongodb-persistence-things-snapshots";
 
+    /**
+     * The ID of the snapshot plugin this persistence actor uses; it resolves delta snapshots stored in the
+     * {@link #SNAPSHOT_PLUGIN_ID snapshot plugin}.
+     */
+    static final String DELTA_SNAPSHOT_PLUGIN_ID = "ditto-delta-things-snapshots";
+
     private static final AckExtractor<ThingEvent<?>> ACK_EXTRACTOR =
             AckExtractor.of(ThingEvent::getEntityId, ThingEvent::getDittoHeaders);
 
     private final ThingConfig thingConfig;
     private final DistributedPub<ThingEvent<?>> distributedPub;
     @Nullable private final ActorRef searchShardRegionProxy;
+    private final ThingPersistLatency thingPersistLatency;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId,
@@ -99,6 +114,7 @@ public final class ThingPersistenceActor
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
         this.searchShardRegionProxy = searchShardRegionProxy;
+        thingPersistLatency = ThingPersistLatency.lookup(getContext().getSystem());
     }
 
     /**
@@ -155,12 +171,15 @@ public final class ThingPersistenceActor
 
     @Override
     public String journalPluginId() {
+        if (thingConfig.getEventConfig().isJournalWriteCoalescingEnabled()) {
+            return COALESCING_JOURNAL_PLUGIN_ID;
+        }
         return JOURNAL_PLUGIN_ID;
     }
 
     @Override
     public String snapshotPluginId() {
-        return SNAPSHOT_PLUGIN_ID;
+        return DELTA_SNAPSHOT_PLUGIN_ID;
     }
 
     @Override
@@ -198,6 +217,11 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected EventConfig getEventConfig() {
+        return thingConfig.getEventConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -244,6 +268,11 @@ public final class ThingPersistenceActor
         }
     }
 
+    @Override
+    protected void onEventPersisted(final ThingEvent<?> event, final Duration persistLatency) {
+        thingPersistLatency.record(persistLatency);
+    }
+
     @Override
     protected boolean shouldSendResponse(final DittoHeaders dittoHeaders) {
         return dittoHeaders.isResponseRequired() ||
@@ -12,9 +12,17 @@
  */
 package org.eclipse.ditto.things.service.persistence.actors;
 
+import java.time.Duration;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.concurrent.LinkedBlockingDeque;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingTooManyModifyingRequestsException;
 import org.eclipse.ditto.things.model.signals.commands.modify.ThingModifyCommand;
@@ -38,11 +46,32 @@ import org.apache.pekko.event.LoggingAdapter;
  * #capacity}. <p> In that case the {@link ThingPersistenceActor} cannot write the modifications fast enough to the
  * persistence and it makes no sense to enqueue further modifications. </p> <p> {@link org.eclipse.ditto.things.model.signals.commands.query.ThingQueryCommand}s and other
  * messages (e.g. Recovery-Messages) are always enqueued and not treated in a special way. </p>
+ * <p>
+ * Optionally, the capacity adapts to the average latency of persisting thing events measured by
+ * {@link ThingPersistLatency}: only as many modify commands are accepted as can be persisted within the configured
+ * {@code target-persist-latency}, but at least {@code min-capacity} and at most {@code mailbox-capacity}.
+ * </p>
+ * <p>
+ * Optionally, modifications of attributes and features which are superseded by a newer modification still waiting
+ * in the mailbox are coalesced: the older modification is removed when the newer one is enqueued. Only modifications
+ * which neither require a response nor request acknowledgements and which have no conditional headers are coalesced,
+ * so no response or acknowledgement which somebody waits for is ever dropped.
+ * </p>
  */
 public class ThingPersistenceActorMailbox implements MailboxType,
         ProducesMessageQueue<ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue> {
 
+    private static final String MAILBOX_CAPACITY = "mailbox-capacity";
+    private static final String ADAPTIVE_CAPACITY_ENABLED = "adaptive-capacity.enabled";
+    private static final String ADAPTIVE_CAPACITY_MIN_CAPACITY = "adaptive-capacity.min-capacity";
+    private static final String ADAPTIVE_CAPACITY_TARGET_PERSIST_LATENCY = "adaptive-capacity.target-persist-latency";
+    private static final String COALESCING_ENABLED = "coalescing.enabled";
+    private static final String COALESCING_SCAN_DEPTH = "coalescing.scan-depth";
+
     private final int capacity;
+    private final int minCapacity;
+    private final Duration targetPersistLatency;
+    private final int coalescingScanDepth;
 
     /**
      * Creates a new {@code ThingBoundedMailbox}. This constructor signature must exist, it will be called by Pekko.
@@ -52,16 +81,41 @@ public class ThingPersistenceActorMailbox implements MailboxType,
      */
     public ThingPersistenceActorMailbox(final ActorSystem.Settings settings, final Config config) {
         // put your initialization code here
-        capacity = config.getInt("mailbox-capacity");
+        capacity = config.getInt(MAILBOX_CAPACITY);
         if (capacity < 1) {
             throw new IllegalArgumentException("Mailbox capacity must not be less than 1");
         }
+        if (config.hasPath(ADAPTIVE_CAPACITY_ENABLED) && config.getBoolean(ADAPTIVE_CAPACITY_ENABLED)) {
+            minCapacity = config.getInt(ADAPTIVE_CAPACITY_MIN_CAPACITY);
+            targetPersistLatency = config.getDuration(ADAPTIVE_CAPACITY_TARGET_PERSIST_LATENCY);
+            if (minCapacity < 1 || minCapacity > capacity) {
+                throw new IllegalArgumentException("Mailbox min-capacity must be between 1 and the mailbox capacity");
+            }
+            if (targetPersistLatency.isZero() || targetPersistLatency.isNegative()) {
+                throw new IllegalArgumentException("Mailbox target-persist-latency must be positive");
+            }
+        } else {
+            minCapacity = capacity;
+            targetPersistLatency = Duration.ZERO;
+        }
+        if (config.hasPath(COALESCING_ENABLED) && config.getBoolean(COALESCING_ENABLED)) {
+            coalescingScanDepth = config.getInt(COALESCING_SCAN_DEPTH);
+            if (coalescingScanDepth < 1) {
+                throw new IllegalArgumentException("Mailbox coalescing scan-depth must not be less than 1");
+            }
+        } else {
+            coalescingScanDepth = 0;
+        }
     }
 
     @Override
     public MessageQueue create(final scala.Option<ActorRef> owner, final scala.Option<ActorSystem> system) {
         // The create method is called to create the MessageQueue
-        return new ThingPersistenceActorMessageQueue(capacity, system.get());
+        final ActorSystem actorSystem = system.get();
+        final ThingPersistLatency persistLatency =
+                targetPersistLatency.isZero() ? null : ThingPersistLatency.lookup(actorSystem);
+        return new ThingPersistenceActorMessageQueue(capacity, minCapacity, targetPersistLatency, persistLatency,
+                coalescingScanDepth, actorSystem);
     }
 
     /**
@@ -75,10 +129,24 @@ public class ThingPersistenceActorMailbox implements MailboxType,
         private final transient LoggingAdapter log;
 
         private final int capacity;
+        private final int minCapacity;
+        private final long targetPersistLatencyNanos;
+        @Nullable private final transient ThingPersistLatency persistLatency;
+        private final int coalescingScanDepth;
 
         public ThingPersistenceActorMessageQueue(final int capacity, final ActorSystem actorSystem) {
+            this(capacity, capacity, Duration.ZERO, null, 0, actorSystem);
+        }
+
+        ThingPersistenceActorMessageQueue(final int capacity, final int minCapacity,
+                final Duration targetPersistLatency, @Nullable final ThingPersistLatency persistLatency,
+                final int coalescingScanDepth, final ActorSystem actorSystem) {
             log = Logging.getLogger(actorSystem, ThingPersistenceActorMessageQueue.class);
             this.capacity = capacity;
+            this.minCapacity = minCapacity;
+            targetPersistLatencyNanos = targetPersistLatency.toNanos();
+            this.persistLatency = persistLatency;
+            this.coalescingScanDepth = coalescingScanDepth;
         }
 
         @Override
@@ -89,8 +157,12 @@ public class ThingPersistenceActorMailbox implements MailboxType,
         @Override
         public void enqueue(final ActorRef receiver, final Envelope handle) {
             final Object message = handle.message();
-            if (message instanceof ThingModifyCommand) {
-                queueSizeBasedAction(handle.sender(), (ThingModifyCommand<?>) message, () -> queue().add(handle));
+            if (message instanceof ThingModifyCommand<?> command) {
+                if (coalescingScanDepth > 0 && isCoalescable(command)) {
+                    coalesceAndAdd(handle.sender(), command, handle);
+                } else {
+                    queueSizeBasedAction(handle.sender(), command, () -> queue().add(handle));
+                }
             } else {
                 // all other messages are enqueued right away and with no "limit":
                 queue().add(handle);
@@ -108,12 +180,103 @@ public class ThingPersistenceActorMailbox implements MailboxType,
             }
         }
 
+        /**
+         * Returns the number of messages above which modify commands are rejected.
+         *
+         * @return the configured capacity or, if the capacity is adaptive, the number of modify commands which can be
+         * persisted within the target persist latency.
+         */
+        int getCapacity() {
+            if (persistLatency == null) {
+                return capacity;
+            }
+            return persistLatency.getAverage()
+                    .map(average -> {
+                        final long affordable = targetPersistLatencyNanos / Math.max(1L, average.toNanos());
+                        return (int) Math.max(minCapacity, Math.min(capacity, affordable));
+                    })
+                    .orElse(capacity);
+        }
+
+        private synchronized void coalesceAndAdd(final ActorRef sender, final ThingModifyCommand<?> command,
+                final Envelope handle) {
+
+            final int superseded = removeSupersededCommands(command.getResourcePath());
+            if (superseded > 0) {
+                // the mailbox does not grow, so the command is never rejected
+                log.debug("Coalesced <{}> queued modifications of thing with ID '{}' superseded by ThingModifyCommand "
+                        + "'{}' on path <{}>", superseded, command.getEntityId(), command.getType(),
+                        command.getResourcePath());
+                queue().add(handle);
+            } else {
+                queueSizeBasedAction(sender, command, () -> queue().add(handle));
+            }
+        }
+
+        /*
+         * Scans the newest queued messages from the tail of the mailbox and removes the coalescable modifications
+         * of the path or of any of its sub-paths. The scan stops at the first message which is not a coalescable
+         * modification as it might observe the state written by the modifications queued before it.
+         */
+        private int removeSupersededCommands(final JsonPointer path) {
+            int superseded = 0;
+            int scanned = 0;
+            final Iterator<Envelope> newestFirst = descendingIterator();
+            while (scanned < coalescingScanDepth && newestFirst.hasNext()) {
+                ++scanned;
+                if (!(newestFirst.next().message() instanceof ThingModifyCommand<?> queuedCommand) ||
+                        !isCoalescable(queuedCommand)) {
+                    break;
+                }
+                if (isPrefixOf(path, queuedCommand.getResourcePath())) {
+                    newestFirst.remove();
+                    ++superseded;
+                }
+            }
+            return superseded;
+        }
+
+        private static boolean isCoalescable(final ThingModifyCommand<?> command) {
+            final DittoHeaders headers = command.getDittoHeaders();
+            return command.getCategory() == Command.Category.MODIFY &&
+                    isAttributesOrFeaturesPath(command.getResourcePath()) &&
+                    !headers.isResponseRequired() &&
+                    headers.getAcknowledgementRequests().isEmpty() &&
+                    headers.getIfMatch().isEmpty() &&
+                    headers.getIfNoneMatch().isEmpty() &&
+                    headers.getIfEqual().isEmpty() &&
+                    headers.getCondition().isEmpty() &&
+                    headers.getLiveChannelCondition().isEmpty() &&
+                    headers.getMetadataHeadersToPut().isEmpty() &&
+                    headers.getMetadataFieldsToDelete().isEmpty() &&
+                    !Signal.isChannelLive(command);
+        }
+
+        private static boolean isAttributesOrFeaturesPath(final JsonPointer path) {
+            return path.getRoot()
+                    .filter(root -> "attributes".equals(root.toString()) || "features".equals(root.toString()))
+                    .isPresent();
+        }
+
+        private static boolean isPrefixOf(final JsonPointer prefix, final JsonPointer path) {
+            if (prefix.getLevelCount() > path.getLevelCount()) {
+                return false;
+            }
+            for (int level = 0; level < prefix.getLevelCount(); level++) {
+                if (!prefix.get(level).equals(path.get(level))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         private void queueSizeBasedAction(final ActorRef sender, final ThingModifyCommand<?> command, final Runnable r) {
             // instead of blocking return "too many requests" response if numberOfMessages > capacity
-            if (numberOfMessages() > capacity) {
+            final int currentCapacity = getCapacity();
+            if (numberOfMessages() > currentCapacity) {
                 log.warning("Number of messages ({}) in the Mailbox of thing with ID '{}' exceeded the max capacity of "
-                                + "{} -> rejecting ThingModifyCommand '{}'", numberOfMessages(), command.getEntityId(), capacity,
-                        command.getType());
+                                + "{} -> rejecting ThingModifyCommand '{}'", numberOfMessages(), command.getEntityId(),
+                        currentCapacity, command.getType());
 
                 final ThingErrorResponse errorResponse = ThingErrorResponse.of(command.getEntityId(),
                         ThingTooManyModifyingRequestsException //
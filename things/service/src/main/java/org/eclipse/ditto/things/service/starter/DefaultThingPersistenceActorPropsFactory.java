@@ -34,10 +34,20 @@ import org.apache.pekko.actor.Props;
 @Immutable
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
+    /**
+     * Config path of the mailbox of the ThingPersistenceActors.
+     */
+    static final String MAILBOX = "thing-persistence-actor-mailbox";
+
+    private static final String MAILBOX_ENABLED = MAILBOX + ".enabled";
+
     private final ActorSystem actorSystem;
+    private final boolean mailboxEnabled;
 
     private DefaultThingPersistenceActorPropsFactory(final ActorSystem actorSystem) {
         this.actorSystem = actorSystem;
+        final var config = actorSystem.settings().config();
+        mailboxEnabled = config.hasPath(MAILBOX_ENABLED) && config.getBoolean(MAILBOX_ENABLED);
     }
 
     /**
@@ -56,6 +66,8 @@ final class DefaultThingPersistenceActorPropsFactory implements ThingPersistence
             final DistributedPub<ThingEvent<?>> distributedPub,
             @Nullable final ActorRef searchShardRegionProxy) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, mongoReadJournal, distributedPub, searchShardRegionProxy);
+        final Props props =
+                ThingPersistenceActor.props(thingId, mongoReadJournal, distributedPub, searchShardRegionProxy);
+        return mailboxEnabled ? props.withMailbox(MAILBOX) : props;
     }
 }
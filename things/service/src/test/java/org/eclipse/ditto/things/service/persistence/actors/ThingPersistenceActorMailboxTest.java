@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.ThingErrorResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.dispatch.Envelope;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue}.
+ */
+public final class ThingPersistenceActorMailboxTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "mailbox");
+    private static final DittoHeaders FIRE_AND_FORGET = DittoHeaders.newBuilder().responseRequired(false).build();
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setupTest() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void coalescesSupersededModificationsWithoutResponse() {
+        final var underTest = coalescingQueue();
+        final ModifyAttribute first = modifyAttribute("/location", "kitchen", FIRE_AND_FORGET);
+        final ModifyAttribute nested = modifyAttribute("/location/room", "1", FIRE_AND_FORGET);
+        final ModifyFeatureProperty disjoint = modifyProperty("on", FIRE_AND_FORGET);
+        final ModifyAttribute latest = modifyAttribute("/location", "garden", FIRE_AND_FORGET);
+
+        enqueueAll(underTest, first, nested, disjoint, latest);
+
+        assertThat(dequeueAll(underTest)).containsExactly(disjoint, latest);
+    }
+
+    @Test
+    public void keepsModificationsRequiringResponse() {
+        final var underTest = coalescingQueue();
+        final ModifyAttribute first = modifyAttribute("/location", "kitchen", DittoHeaders.empty());
+        final ModifyAttribute latest = modifyAttribute("/location", "garden", FIRE_AND_FORGET);
+
+        enqueueAll(underTest, first, latest);
+
+        assertThat(dequeueAll(underTest)).containsExactly(first, latest);
+    }
+
+    @Test
+    public void keepsModificationsObservedByQueuedQuery() {
+        final var underTest = coalescingQueue();
+        final ModifyAttribute first = modifyAttribute("/location", "kitchen", FIRE_AND_FORGET);
+        final RetrieveThing query = RetrieveThing.of(THING_ID, DittoHeaders.empty());
+        final ModifyAttribute latest = modifyAttribute("/location", "garden", FIRE_AND_FORGET);
+
+        enqueueAll(underTest, first, query, latest);
+
+        assertThat(dequeueAll(underTest)).containsExactly(first, query, latest);
+    }
+
+    @Test
+    public void keepsModificationsBeyondScanDepth() {
+        final var underTest = new ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue(100, 100,
+                Duration.ZERO, null, 1, actorSystem);
+        final ModifyAttribute first = modifyAttribute("/location", "kitchen", FIRE_AND_FORGET);
+        final ModifyFeatureProperty disjoint = modifyProperty("on", FIRE_AND_FORGET);
+        final ModifyAttribute latest = modifyAttribute("/location", "garden", FIRE_AND_FORGET);
+
+        enqueueAll(underTest, first, disjoint, latest);
+
+        assertThat(dequeueAll(underTest)).containsExactly(first, disjoint, latest);
+    }
+
+    @Test
+    public void capacityAdaptsToPersistLatency() {
+        final ThingPersistLatency persistLatency = ThingPersistLatency.newInstance();
+        final var underTest = new ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue(100, 10,
+                Duration.ofSeconds(1L), persistLatency, 0, actorSystem);
+
+        assertThat(underTest.getCapacity()).isEqualTo(100);
+
+        persistLatency.record(Duration.ofMillis(40L));
+        assertThat(underTest.getCapacity()).isEqualTo(25);
+
+        persistLatency.record(Duration.ofSeconds(10L));
+        assertThat(underTest.getCapacity()).isEqualTo(10);
+    }
+
+    @Test
+    public void rejectsModificationsAboveAdaptedCapacity() {
+        final ThingPersistLatency persistLatency = ThingPersistLatency.newInstance();
+        persistLatency.record(Duration.ofMillis(500L));
+        final var underTest = new ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue(100, 1,
+                Duration.ofSeconds(1L), persistLatency, 0, actorSystem);
+        final TestProbe sender = TestProbe.apply(actorSystem);
+
+        for (int i = 0; i < 4; i++) {
+            underTest.enqueue(ActorRef.noSender(),
+                    new Envelope(modifyAttribute("/a" + i, "x", FIRE_AND_FORGET), sender.ref()));
+        }
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(3);
+        sender.expectMsgClass(ThingErrorResponse.class);
+    }
+
+    private static ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue coalescingQueue() {
+        return new ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue(100, 100, Duration.ZERO, null, 16,
+                actorSystem);
+    }
+
+    private static ModifyAttribute modifyAttribute(final String path, final String value,
+            final DittoHeaders dittoHeaders) {
+
+        return ModifyAttribute.of(THING_ID, JsonPointer.of(path), JsonValue.of(value), dittoHeaders);
+    }
+
+    private static ModifyFeatureProperty modifyProperty(final String property, final DittoHeaders dittoHeaders) {
+        return ModifyFeatureProperty.of(THING_ID, "lamp", JsonPointer.of(property), JsonValue.of(true),
+                dittoHeaders);
+    }
+
+    private static void enqueueAll(final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue queue,
+            final Object... messages) {
+
+        for (final Object message : messages) {
+            queue.enqueue(ActorRef.noSender(), new Envelope(message, ActorRef.noSender()));
+        }
+    }
+
+    private static List<Object> dequeueAll(final ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue queue) {
+        final List<Object> messages = new ArrayList<>();
+        Envelope envelope = queue.dequeue();
+        while (envelope != null) {
+            messages.add(envelope.message());
+            envelope = queue.dequeue();
+        }
+        return messages;
+    }
+
+}
@@ -107,6 +107,7 @@ import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThingRespons
 import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.MergeThingResponse;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributes;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeature;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
@@ -768,6 +769,65 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void groupCommittedAttributeModificationsAreAnsweredInOrderAndRecovered() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.empty()
+                .withValue("pekko.actor.provider",
+                        ConfigValueFactory.fromAnyRef("org.apache.pekko.cluster.ClusterActorRefProvider"))
+                .withValue("ditto.things.thing.event.group-commit.enabled", ConfigValueFactory.fromAnyRef(true)));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer attributeKey = JsonFactory.newPointer("counter");
+        final int modifications = 20;
+
+        new TestKit(actorSystem) {
+            {
+                ActorRef underTest = createPersistenceActorFor(thing);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                for (int i = 0; i < modifications; i++) {
+                    final DittoHeaders headers = dittoHeadersV2.toBuilder().correlationId("modify-" + i).build();
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), headers), getRef());
+                }
+                underTest.tell(RetrieveAttribute.of(thingId, attributeKey, dittoHeadersV2), getRef());
+                final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(JsonFactory.newFieldSelector(Thing.JsonFields.ATTRIBUTES,
+                                Thing.JsonFields.REVISION))
+                        .build();
+                underTest.tell(retrieveThing, getRef());
+
+                for (int i = 0; i < modifications; i++) {
+                    final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                    assertThat(response.getDittoHeaders().getCorrelationId()).contains("modify-" + i);
+                }
+                final RetrieveAttributeResponse retrieveAttributeResponse =
+                        expectMsgClass(RetrieveAttributeResponse.class);
+                assertThat(retrieveAttributeResponse.getAttributeValue()).isEqualTo(JsonValue.of(modifications - 1));
+                // the revision of the group-committed events must match their sequence numbers in the journal
+                final RetrieveThingResponse inMemoryThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                assertThat(ThingsModelFactory.newThing(inMemoryThingResponse.getEntity().asObject()).getRevision())
+                        .contains(ThingRevision.newInstance(1L + modifications));
+
+                // restart actor to recover the thing from the group-committed events
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                underTest.tell(retrieveThing, getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing recoveredThing = ThingsModelFactory.newThing(retrieveThingResponse.getEntity().asObject());
+                assertThat(recoveredThing.getAttributes().flatMap(attributes -> attributes.getValue(attributeKey)))
+                        .contains(JsonValue.of(modifications - 1));
+                assertThat(recoveredThing.getRevision()).contains(ThingRevision.newInstance(1L + modifications));
+            }
+        };
+    }
+
     @Test
     public void retrieveAttribute() {
         final JsonPointer attributeKey = JsonFactory.newPointer("isValid");
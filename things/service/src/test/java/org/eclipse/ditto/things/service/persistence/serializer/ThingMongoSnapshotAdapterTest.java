@@ -16,15 +16,21 @@ import static org.assertj.core.api.Assertions.within;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Optional;
 
 import org.assertj.core.api.JUnitSoftAssertions;
 import org.bson.BsonDocument;
 import org.eclipse.ditto.base.api.persistence.PersistenceLifecycle;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.internal.utils.persistence.snapshot.DeltaSnapshots;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.things.api.ThingSnapshotTaken;
 import org.eclipse.ditto.things.model.TestConstants;
 import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingLifecycle;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -73,6 +79,46 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished(thingV2);
     }
 
+    @Test
+    public void deltaSnapshotAppliedToBaseSnapshotReturnsThing() {
+        final Thing base = TestConstants.Thing.THING_V2;
+        final Thing thing = base.setAttribute("location", JsonValue.of("garden"))
+                .toBuilder()
+                .setRevision(TestConstants.Thing.REVISION_NUMBER + 1)
+                .build();
+        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
+        final BsonDocument baseSnapshot = (BsonDocument) underTest.toSnapshotStore(base);
+
+        final Optional<Object> deltaSnapshot = underTest.toDeltaSnapshotStore(base, 7L, thing, 0.5);
+
+        softly.assertThat(deltaSnapshot).hasValueSatisfying(delta -> {
+            final JsonObject deltaJson = dittoBsonJson.serialize((BsonDocument) delta);
+            softly.assertThat(DeltaSnapshots.getBaseSequenceNumber(deltaJson)).hasValue(7L);
+            final JsonObject resolved = DeltaSnapshots.applyDelta(dittoBsonJson.serialize(baseSnapshot), deltaJson);
+            softly.assertThat(underTest.fromSnapshotStore(
+                    new SnapshotOffer(SNAPSHOT_METADATA, dittoBsonJson.parse(resolved))))
+                    .as("restored Thing")
+                    .isEqualTo(thing);
+        });
+    }
+
+    @Test
+    public void noDeltaSnapshotIfItExceedsMaxSizeRatio() {
+        final Thing base = TestConstants.Thing.THING_V2;
+        final Thing thing = base.setAttribute("location", JsonValue.of("garden"));
+
+        softly.assertThat(underTest.toDeltaSnapshotStore(base, 7L, thing, 0.0)).isEmpty();
+    }
+
+    @Test
+    public void noDeltaSnapshotOfDeletedThing() {
+        final Thing base = TestConstants.Thing.THING_V2;
+        final Thing thing = base.toBuilder().setLifecycle(ThingLifecycle.DELETED).build();
+
+        softly.assertThat(underTest.toDeltaSnapshotStore(base, 7L, thing, 1.0)).isEmpty();
+        softly.assertThat(underTest.toDeltaSnapshotStore(thing, 7L, base, 1.0)).isEmpty();
+    }
+
     private void toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(final Thing thing) {
         final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link QueryPlanCacheConfig}.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class DefaultQueryPlanCacheConfig implements QueryPlanCacheConfig {
+
+    /**
+     * Path where the query plan cache config values are expected.
+     */
+    static final String CONFIG_PATH = "plan-cache";
+
+    private final boolean enabled;
+    private final int maxShapes;
+    private final int minSamplesPerHint;
+    private final int reExplorationInterval;
+    private final Duration slowShapeThreshold;
+
+    private DefaultQueryPlanCacheConfig(final ConfigWithFallback config) {
+        enabled = config.getBoolean(QueryPlanCacheConfigValue.ENABLED.getConfigPath());
+        maxShapes = config.getPositiveIntOrThrow(QueryPlanCacheConfigValue.MAX_SHAPES);
+        minSamplesPerHint = config.getPositiveIntOrThrow(QueryPlanCacheConfigValue.MIN_SAMPLES_PER_HINT);
+        reExplorationInterval = config.getPositiveIntOrThrow(QueryPlanCacheConfigValue.RE_EXPLORATION_INTERVAL);
+        slowShapeThreshold =
+                config.getNonNegativeAndNonZeroDurationOrThrow(QueryPlanCacheConfigValue.SLOW_SHAPE_THRESHOLD);
+    }
+
+    /**
+     * Returns an instance of DefaultQueryPlanCacheConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the query plan cache config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultQueryPlanCacheConfig of(final Config config) {
+        return new DefaultQueryPlanCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, QueryPlanCacheConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    @Override
+    public int getMinSamplesPerHint() {
+        return minSamplesPerHint;
+    }
+
+    @Override
+    public int getReExplorationInterval() {
+        return reExplorationInterval;
+    }
+
+    @Override
+    public Duration getSlowShapeThreshold() {
+        return slowShapeThreshold;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultQueryPlanCacheConfig that = (DefaultQueryPlanCacheConfig) o;
+        return enabled == that.enabled &&
+                maxShapes == that.maxShapes &&
+                minSamplesPerHint == that.minSamplesPerHint &&
+                reExplorationInterval == that.reExplorationInterval &&
+                Objects.equals(slowShapeThreshold, that.slowShapeThreshold);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxShapes, minSamplesPerHint, reExplorationInterval, slowShapeThreshold);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxShapes=" + maxShapes +
+                ", minSamplesPerHint=" + minSamplesPerHint +
+                ", reExplorationInterval=" + reExplorationInterval +
+                ", slowShapeThreshold=" + slowShapeThreshold +
+                "]";
+    }
+
+}
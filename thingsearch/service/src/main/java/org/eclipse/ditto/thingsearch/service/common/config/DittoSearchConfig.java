@@ -72,6 +72,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final SearchPersistenceConfig queryPersistenceConfig;
+    private final QueryPlanCacheConfig queryPlanCacheConfig;
     private final Map<String, String> simpleFieldMappings;
     private final List<NamespaceSearchIndexConfig> namespaceIndexedFields;
     private final DefaultOperatorMetricsConfig operatorMetricsConfig;
@@ -92,6 +93,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ? configWithFallback.getConfig(QUERY_PATH)
                 : ConfigFactory.empty();
         queryPersistenceConfig = DefaultSearchPersistenceConfig.of(queryConfig);
+        queryPlanCacheConfig = DefaultQueryPlanCacheConfig.of(queryConfig);
         simpleFieldMappings =
                 convertToMap(configWithFallback.getConfig(SearchConfigValue.SIMPLE_FIELD_MAPPINGS.getConfigPath()));
         namespaceIndexedFields = loadNamespaceSearchIndexList(configWithFallback);
@@ -130,6 +132,11 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
         return queryPersistenceConfig;
     }
 
+    @Override
+    public QueryPlanCacheConfig getQueryPlanCacheConfig() {
+        return queryPlanCacheConfig;
+    }
+
     public Map<String, String> getSimpleFieldMappings() {
         return simpleFieldMappings;
     }
@@ -202,6 +209,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(queryPersistenceConfig, that.queryPersistenceConfig) &&
+                Objects.equals(queryPlanCacheConfig, that.queryPlanCacheConfig) &&
                 Objects.equals(simpleFieldMappings, that.simpleFieldMappings) &&
                 Objects.equals(operatorMetricsConfig, that.operatorMetricsConfig) &&
                 Objects.equals(namespaceIndexedFields, that.namespaceIndexedFields);
@@ -211,7 +219,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
     public int hashCode() {
         return Objects.hash(mongoHintsByNamespace, updaterConfig, dittoServiceConfig, healthCheckConfig,
                 indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, queryPersistenceConfig,
-                simpleFieldMappings, operatorMetricsConfig, namespaceIndexedFields);
+                queryPlanCacheConfig, simpleFieldMappings, operatorMetricsConfig, namespaceIndexedFields);
     }
 
     @Override
@@ -225,6 +233,7 @@ public final class DittoSearchConfig implements SearchConfig, WithConfigPath {
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", queryPersistenceConfig=" + queryPersistenceConfig +
+                ", queryPlanCacheConfig=" + queryPlanCacheConfig +
                 ", simpleFieldMappings=" + simpleFieldMappings +
                 ", namespaceIndexedFields=" + namespaceIndexedFields +
                 ", operatorMetricsConfig=" + operatorMetricsConfig +
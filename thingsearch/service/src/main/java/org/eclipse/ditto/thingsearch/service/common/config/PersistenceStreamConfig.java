@@ -41,6 +41,21 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns the maximum number of write models to write with one bulk write. The actual bulk size adapts between
+     * {@code 1} and this value depending on the observed bulk write latency.
+     *
+     * @return the maximum bulk size.
+     */
+    int getMaxBulkSize();
+
+    /**
+     * Returns the bulk write latency above which the bulk size and the number of parallel bulk writes are reduced.
+     *
+     * @return the target bulk write latency.
+     */
+    Duration getTargetBulkWriteLatency();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -57,7 +72,17 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
          * The write concern used for search index updates requiring acknowledgements.
          * See {@link com.mongodb.WriteConcern} for available options.
          */
-        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled");
+        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled"),
+
+        /**
+         * The maximum number of write models to write with one bulk write.
+         */
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * The bulk write latency above which the bulk size and the number of parallel bulk writes are reduced.
+         */
+        TARGET_BULK_WRITE_LATENCY("target-bulk-write-latency", Duration.ofMillis(200L));
 
         private final String configPath;
         private final Object defaultValue;
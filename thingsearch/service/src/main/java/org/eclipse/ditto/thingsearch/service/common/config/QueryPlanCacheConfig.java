@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings of the cache of query plans, which learns the MongoDB hint to use for each
+ * shape of search queries.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public interface QueryPlanCacheConfig {
+
+    /**
+     * Returns whether the hints of search queries are learned per query shape.
+     *
+     * @return true or false.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of query shapes to keep plans for.
+     *
+     * @return the maximum number of query shapes.
+     */
+    int getMaxShapes();
+
+    /**
+     * Returns how many executions of a query shape are measured with each candidate hint before the fastest one
+     * is chosen.
+     *
+     * @return the number of samples per candidate hint.
+     */
+    int getMinSamplesPerHint();
+
+    /**
+     * Returns after how many executions of a query shape one execution uses another candidate hint than the fastest
+     * one in order to notice when another hint becomes faster.
+     *
+     * @return the re-exploration interval.
+     */
+    int getReExplorationInterval();
+
+    /**
+     * Returns the average execution time from which on a query shape is reported as slow.
+     *
+     * @return the threshold.
+     */
+    Duration getSlowShapeThreshold();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * QueryPlanCacheConfig.
+     */
+    enum QueryPlanCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the hints of search queries are learned per query shape.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of query shapes to keep plans for.
+         */
+        MAX_SHAPES("max-shapes", 1000),
+
+        /**
+         * How many executions of a query shape are measured with each candidate hint.
+         */
+        MIN_SAMPLES_PER_HINT("min-samples-per-hint", 3),
+
+        /**
+         * After how many executions of a query shape another candidate hint is measured once more.
+         */
+        RE_EXPLORATION_INTERVAL("re-exploration-interval", 100),
+
+        /**
+         * The average execution time from which on a query shape is reported as slow.
+         */
+        SLOW_SHAPE_THRESHOLD("slow-shape-threshold", Duration.ofSeconds(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        QueryPlanCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -51,6 +51,14 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     SearchPersistenceConfig getQueryPersistenceConfig();
 
+    /**
+     * Returns the config of the cache of query plans, which learns the MongoDB hint to use for each query shape.
+     *
+     * @return the config.
+     * @since 3.6.0
+     */
+    QueryPlanCacheConfig getQueryPlanCacheConfig();
+
     /**
      * Returns how simple fields are mapped during query parsing.
      *
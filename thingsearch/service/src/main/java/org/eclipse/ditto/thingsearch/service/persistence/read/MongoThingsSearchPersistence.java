@@ -52,6 +52,7 @@ import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.QueryTimeExceededException;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceReportResult;
 import org.eclipse.ditto.thingsearch.api.SearchNamespaceResultEntry;
+import org.eclipse.ditto.thingsearch.service.common.config.QueryPlanCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchPersistenceConfig;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultList;
 import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
@@ -85,6 +86,9 @@ import scala.PartialFunction;
  */
 public final class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final String FIND_OPERATION = "find";
+    private static final String COUNT_OPERATION = "count";
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
@@ -92,6 +96,7 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     private final Duration maxQueryTime;
     private final boolean documentDbCompatibilityMode;
     private final MongoHints hints;
+    @Nullable private final QueryPlanCache queryPlanCache;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -112,6 +117,7 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         documentDbCompatibilityMode = mongoClient.getDittoSettings().isDocumentDbCompatibilityMode();
         hints = MongoHints.empty();
+        queryPlanCache = null;
         log.info("Query readConcern=<{}> readPreference=<{}>", readConcern, readPreference);
     }
 
@@ -121,7 +127,8 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
             final boolean documentDbCompatibilityMode,
-            final MongoHints hints) {
+            final MongoHints hints,
+            @Nullable final QueryPlanCache queryPlanCache) {
 
         this.collection = collection;
         this.log = log;
@@ -129,6 +136,7 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         this.maxQueryTime = maxQueryTime;
         this.documentDbCompatibilityMode = documentDbCompatibilityMode;
         this.hints = hints;
+        this.queryPlanCache = queryPlanCache;
     }
 
     /**
@@ -140,7 +148,22 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints theHints = MongoHints.byNamespace(jsonString);
         return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime,
-                documentDbCompatibilityMode, theHints);
+                documentDbCompatibilityMode, theHints, queryPlanCache);
+    }
+
+    /**
+     * Create a copy of this object which learns the hint to use for each shape of queries with a limited result
+     * size from their execution times. The hints configured for namespaces become candidates among others.
+     *
+     * @param queryPlanCacheConfig the config of the cache of query plans.
+     * @return copy of this object learning hints.
+     * @since 3.6.0
+     */
+    public MongoThingsSearchPersistence withQueryPlanCache(final QueryPlanCacheConfig queryPlanCacheConfig) {
+        final QueryPlanCache theQueryPlanCache =
+                QueryPlanCache.of(queryPlanCacheConfig, documentDbCompatibilityMode, log);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime,
+                documentDbCompatibilityMode, hints, theQueryPlanCache);
     }
 
     @Override
@@ -194,7 +217,18 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
                 .limit(query.getLimit())
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
-        return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
+        final Source<Long, NotUsed> countSource;
+        if (queryPlanCache != null) {
+            final QueryPlan plan = queryPlanCache.getPlan(COUNT_OPERATION, query, authorizationSubjectIds != null,
+                    false, null);
+            final QueryPlan.HintCandidate candidate = plan.chooseHint();
+            final Publisher<Long> countPublisher =
+                    collection.countDocuments(queryFilter, countOptions.hint(candidate.getHint()));
+            countSource = queryPlanCache.measure(Source.fromPublisher(countPublisher), plan, candidate);
+        } else {
+            countSource = Source.fromPublisher(collection.countDocuments(queryFilter, countOptions));
+        }
+        return countSource
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
@@ -261,13 +295,24 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
 
-        final Bson sortOptions = getMongoSort(query);
+        // only queries with a limited result size are planned; the execution time of unlimited queries is determined
+        // by the speed of their consumers
+        final Bson configuredHint = hints.getHint(namespaces).orElse(null);
+        final QueryPlan plan = queryPlanCache != null && maxQueryTime != null
+                ? queryPlanCache.getPlan(FIND_OPERATION, query, authorizationSubjectIds != null, namespaces != null,
+                configuredHint)
+                : null;
+        final QueryPlan.HintCandidate candidate = plan != null ? plan.chooseHint() : null;
+
+        final Bson sortOptions = plan != null ? plan.getSort() : getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        final Bson projection = plan != null
+                ? plan.getProjection()
+                : GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                        .hint(candidate != null ? candidate.getHint() : configuredHint)
                         .sort(sortOptions)
                         .skip(skip)
                         .projection(projection);
@@ -284,7 +329,8 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
                 ? findPublisherWithLimit.maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)
                 : findPublisherWithLimit;
 
-        return Source.fromPublisher(findPublisherWithMaxQueryTime);
+        final Source<Document, NotUsed> findSource = Source.fromPublisher(findPublisherWithMaxQueryTime);
+        return plan != null && candidate != null ? queryPlanCache.measure(findSource, plan, candidate) : findSource;
     }
 
     @Override
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.conversions.Bson;
+
+/**
+ * Plan of one query shape: the sort and projection documents, which depend only on the shape, and the statistics of
+ * the candidate hints from which the fastest one is learned.
+ * <p>
+ * Each candidate is first used for {@code minSamplesPerHint} executions. Afterwards the candidate with the lowest
+ * moving average of the execution time is used, except for every {@code reExplorationInterval}-th execution, which
+ * uses one of the other candidates so that their averages follow changes of the data. A candidate with hint whose
+ * execution failed is only used again by re-exploration, i.e. retried at most once per {@code reExplorationInterval}
+ * executions, until an execution with it succeeds again.
+ * </p>
+ */
+@ThreadSafe
+final class QueryPlan {
+
+    /**
+     * Weight of a new measurement in the moving average.
+     */
+    static final double ALPHA = 0.2;
+
+    private final String shape;
+    private final Bson sort;
+    private final Bson projection;
+    private final List<HintCandidate> candidates;
+    private final int minSamplesPerHint;
+    private final int reExplorationInterval;
+
+    private long executions;
+    private int reExplorationCursor;
+    private boolean slow;
+
+    QueryPlan(final String shape, final Bson sort, final Bson projection, final List<HintCandidate> candidates,
+            final int minSamplesPerHint, final int reExplorationInterval) {
+
+        this.shape = shape;
+        this.sort = sort;
+        this.projection = projection;
+        this.candidates = List.copyOf(candidates);
+        this.minSamplesPerHint = minSamplesPerHint;
+        this.reExplorationInterval = reExplorationInterval;
+        executions = 0L;
+        reExplorationCursor = 0;
+        slow = false;
+    }
+
+    /**
+     * @return the shape of the queries of this plan.
+     */
+    String getShape() {
+        return shape;
+    }
+
+    /**
+     * @return the sort document of the queries of this plan.
+     */
+    Bson getSort() {
+        return sort;
+    }
+
+    /**
+     * @return the projection document of the queries of this plan.
+     */
+    Bson getProjection() {
+        return projection;
+    }
+
+    /**
+     * Chooses the candidate hint for the next execution of the query shape.
+     *
+     * @return the candidate whose execution time must be recorded with
+     * {@link #record(HintCandidate, Duration, boolean, Duration)}.
+     */
+    synchronized HintCandidate chooseHint() {
+        ++executions;
+        final HintCandidate chosen = findUnexplored().orElseGet(() -> {
+            final HintCandidate best = getBest();
+            if (executions % reExplorationInterval == 0) {
+                return nextOtherThan(best);
+            }
+            return best;
+        });
+        ++chosen.pending;
+        return chosen;
+    }
+
+    /**
+     * Records the execution time of a query which used a candidate hint.
+     *
+     * @param candidate the candidate chosen by {@link #chooseHint()}.
+     * @param executionTime the execution time.
+     * @param success whether the query succeeded.
+     * @param slowThreshold the average execution time from which on the plan is slow.
+     * @return whether the plan became slow or stopped being slow.
+     */
+    synchronized boolean record(final HintCandidate candidate, final Duration executionTime, final boolean success,
+            final Duration slowThreshold) {
+
+        --candidate.pending;
+        final double nanos = Math.max(0L, executionTime.toNanos());
+        candidate.averageNanos = candidate.samples == 0 ? nanos :
+                candidate.averageNanos + ALPHA * (nanos - candidate.averageNanos);
+        ++candidate.samples;
+        if (success) {
+            candidate.failed = false;
+        } else if (candidate.hint != null) {
+            candidate.failed = true;
+        }
+        final boolean wasSlow = slow;
+        slow = getBestAverage().filter(average -> average.compareTo(slowThreshold) >= 0).isPresent();
+        return wasSlow != slow;
+    }
+
+    /**
+     * @return whether the average execution time of the fastest candidate reached the slow threshold.
+     */
+    synchronized boolean isSlow() {
+        return slow;
+    }
+
+    /**
+     * @return the moving average of the execution time of the fastest measured candidate if any was measured yet.
+     */
+    synchronized Optional<Duration> getBestAverage() {
+        final HintCandidate best = getBest();
+        return best.samples == 0 ? Optional.empty() : Optional.of(Duration.ofNanos((long) best.averageNanos));
+    }
+
+    /**
+     * @return the name of the fastest measured candidate.
+     */
+    synchronized String getBestHintName() {
+        return getBest().name;
+    }
+
+    private Optional<HintCandidate> findUnexplored() {
+        return candidates.stream()
+                .filter(candidate -> !candidate.failed)
+                .filter(candidate -> candidate.samples + candidate.pending < minSamplesPerHint)
+                .findFirst();
+    }
+
+    private HintCandidate getBest() {
+        HintCandidate best = null;
+        for (final HintCandidate candidate : candidates) {
+            if (!candidate.failed && candidate.samples > 0 &&
+                    (best == null || candidate.averageNanos < best.averageNanos)) {
+                best = candidate;
+            }
+        }
+        return best != null ? best : candidates.get(0);
+    }
+
+    private HintCandidate nextOtherThan(final HintCandidate best) {
+        for (int i = 0; i < candidates.size(); i++) {
+            reExplorationCursor = (reExplorationCursor + 1) % candidates.size();
+            final HintCandidate candidate = candidates.get(reExplorationCursor);
+            if (candidate != best) {
+                return candidate;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "shape=" + shape +
+                ", candidates=" + candidates +
+                ", executions=" + executions +
+                ", slow=" + slow +
+                "]";
+    }
+
+    /**
+     * A hint which may be used for the queries of a shape, together with its measured execution times.
+     * The fields are guarded by the lock of the {@link QueryPlan} of the candidate.
+     */
+    static final class HintCandidate {
+
+        private final String name;
+        @Nullable private final Bson hint;
+        private long samples;
+        private int pending;
+        private double averageNanos;
+        private boolean failed;
+
+        HintCandidate(final String name, @Nullable final Bson hint) {
+            this.name = name;
+            this.hint = hint;
+            samples = 0L;
+            pending = 0;
+            averageNanos = 0.0;
+            failed = false;
+        }
+
+        /**
+         * @return the name of the candidate.
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * @return the hint or null to let MongoDB choose the index.
+         */
+        @Nullable
+        Bson getHint() {
+            return hint;
+        }
+
+        @Override
+        public String toString() {
+            return name + "[samples=" + samples + ", averageNanos=" + (long) averageNanos + ", failed=" + failed + "]";
+        }
+
+    }
+
+}
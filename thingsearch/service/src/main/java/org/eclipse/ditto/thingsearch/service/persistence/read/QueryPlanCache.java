@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.event.LoggingAdapter;
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.criteria.Predicate;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.thingsearch.service.common.config.QueryPlanCacheConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.Indices;
+import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQuery;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of {@link QueryPlan}s keyed by query shape.
+ * <p>
+ * The shape of a query is its criteria without literal values, i.e. the logical operators, the fields, the
+ * predicates with the types of their values, together with the sort options, the operation and whether the query is
+ * restricted by authorization subjects. Dashboards issue the same shapes over and over again with different values.
+ * </p>
+ * <p>
+ * The candidate hints of a shape are: no hint, i.e. the index chosen by MongoDB, the hint configured for the
+ * namespaces of the query if any, the {@code global_read} index for queries restricted by authorization subjects and
+ * the {@code _namespace} index for queries restricted to namespaces. A query shape whose fastest candidate takes
+ * longer than the configured threshold on average is logged and reported by the gauge
+ * {@value #SLOW_SHAPE_GAUGE} tagged with the ID of the shape. The gauge of a shape is removed when the shape stops
+ * being slow or is evicted from the cache.
+ * </p>
+ */
+@ThreadSafe
+final class QueryPlanCache {
+
+    /**
+     * Name of the gauge of the number of cached query shapes.
+     */
+    static final String SHAPES_GAUGE = "things_search_query_plan_cache_shapes";
+
+    /**
+     * Name of the gauge of the number of slow query shapes.
+     */
+    static final String SLOW_SHAPES_GAUGE = "things_search_query_plan_cache_slow_shapes";
+
+    /**
+     * Name of the gauge of the average execution time in milliseconds of a slow query shape.
+     */
+    static final String SLOW_SHAPE_GAUGE = "things_search_slow_query_shape_millis";
+
+    private static final String SHAPE_TAG = "shape";
+    private static final String NO_HINT = "none";
+    private static final String CONFIGURED_HINT = "configured";
+    private static final String GLOBAL_READ_INDEX = "global_read";
+    private static final String NAMESPACE_INDEX = "_namespace";
+
+    private final QueryPlanCacheConfig config;
+    private final LoggingAdapter log;
+    private final Cache<String, QueryPlan> plans;
+    @Nullable private final Bson globalReadHint;
+    @Nullable private final Bson namespaceHint;
+    private final AtomicInteger slowShapes;
+    private final Gauge shapesGauge;
+    private final Gauge slowShapesGauge;
+
+    private QueryPlanCache(final QueryPlanCacheConfig config, final boolean documentDbCompatibilityMode,
+            final LoggingAdapter log) {
+
+        this.config = config;
+        this.log = log;
+        slowShapes = new AtomicInteger();
+        shapesGauge = DittoMetrics.gauge(SHAPES_GAUGE);
+        slowShapesGauge = DittoMetrics.gauge(SLOW_SHAPES_GAUGE);
+        plans = Caffeine.newBuilder()
+                .maximumSize(config.getMaxShapes())
+                .<String, QueryPlan>removalListener((shape, plan, cause) -> {
+                    if (plan != null && plan.isSlow()) {
+                        removeSlowShapeGauge(plan);
+                        slowShapesGauge.set((long) slowShapes.decrementAndGet());
+                    }
+                })
+                .build();
+        globalReadHint = getIndexKeys(GLOBAL_READ_INDEX, documentDbCompatibilityMode);
+        namespaceHint = getIndexKeys(NAMESPACE_INDEX, documentDbCompatibilityMode);
+    }
+
+    /**
+     * Creates a query plan cache.
+     *
+     * @param config the config of the cache.
+     * @param documentDbCompatibilityMode whether the search runs against DocumentDB.
+     * @param log the logger to report slow query shapes with.
+     * @return the cache.
+     */
+    static QueryPlanCache of(final QueryPlanCacheConfig config, final boolean documentDbCompatibilityMode,
+            final LoggingAdapter log) {
+
+        return new QueryPlanCache(config, documentDbCompatibilityMode, log);
+    }
+
+    /**
+     * Returns the plan for the shape of a query, creating it if the shape is new.
+     *
+     * @param operation the operation of the query, e.g. "find" or "count".
+     * @param query the query.
+     * @param restrictedBySubjects whether the query is restricted to things visible for authorization subjects.
+     * @param restrictedByNamespaces whether the query is restricted to namespaces.
+     * @param configuredHint the hint configured for the namespaces of the query or null.
+     * @return the plan.
+     */
+    QueryPlan getPlan(final String operation, final Query query, final boolean restrictedBySubjects,
+            final boolean restrictedByNamespaces, @Nullable final Bson configuredHint) {
+
+        final String shape = getShape(operation, query, restrictedBySubjects, restrictedByNamespaces,
+                configuredHint);
+        final QueryPlan plan = plans.get(shape, theShape ->
+                createPlan(theShape, query, restrictedBySubjects, restrictedByNamespaces, configuredHint));
+        shapesGauge.set(plans.estimatedSize());
+        return plan;
+    }
+
+    /**
+     * Measures the execution time of a query source which uses a candidate hint of a plan until the source
+     * terminates and records it in the plan.
+     *
+     * @param source the source of the query results.
+     * @param plan the plan of the query.
+     * @param candidate the candidate hint used by the query.
+     * @param <T> the type of the query results.
+     * @return the source which records its execution time.
+     */
+    <T> Source<T, NotUsed> measure(final Source<T, NotUsed> source, final QueryPlan plan,
+            final QueryPlan.HintCandidate candidate) {
+
+        return source.watchTermination((notUsed, done) -> {
+            final long startNanos = System.nanoTime();
+            done.whenComplete((result, error) ->
+                    record(plan, candidate, Duration.ofNanos(System.nanoTime() - startNanos), error == null));
+            return notUsed;
+        });
+    }
+
+    /**
+     * Records the execution time of a query in its plan and reports the plan if it became slow or stopped being slow.
+     *
+     * @param plan the plan of the query.
+     * @param candidate the candidate hint used by the query.
+     * @param executionTime the execution time of the query.
+     * @param success whether the query succeeded.
+     */
+    void record(final QueryPlan plan, final QueryPlan.HintCandidate candidate, final Duration executionTime,
+            final boolean success) {
+
+        if (plan.record(candidate, executionTime, success, config.getSlowShapeThreshold())) {
+            final Duration average = plan.getBestAverage().orElse(Duration.ZERO);
+            if (plan.isSlow()) {
+                slowShapesGauge.set((long) slowShapes.incrementAndGet());
+                reportSlowShapeGauge(plan, average.toMillis());
+                log.info("Query shape <{}> with ID <{}> is slow: fastest hint <{}> takes <{}> on average.",
+                        plan.getShape(), getShapeId(plan.getShape()), plan.getBestHintName(), average);
+            } else {
+                slowShapesGauge.set((long) slowShapes.decrementAndGet());
+                removeSlowShapeGauge(plan);
+                log.info("Query shape with ID <{}> is not slow anymore: fastest hint <{}> takes <{}> on average.",
+                        getShapeId(plan.getShape()), plan.getBestHintName(), average);
+            }
+        }
+    }
+
+    /**
+     * Computes the shape of a query.
+     *
+     * @param operation the operation of the query.
+     * @param query the query.
+     * @param restrictedBySubjects whether the query is restricted to things visible for authorization subjects.
+     * @param restrictedByNamespaces whether the query is restricted to namespaces.
+     * @param configuredHint the hint configured for the namespaces of the query or null.
+     * @return the shape.
+     */
+    static String getShape(final String operation, final Query query, final boolean restrictedBySubjects,
+            final boolean restrictedByNamespaces, @Nullable final Bson configuredHint) {
+
+        return operation + ":" + query.getCriteria().accept(ShapeVisitor.INSTANCE) +
+                ":sort" + query.getSortOptions() +
+                (restrictedBySubjects ? ":subjects" : ":sudo") +
+                (restrictedByNamespaces ? ":namespaces" : "") +
+                (configuredHint != null ? ":hint" + configuredHint.toBsonDocument().toJson() : "");
+    }
+
+    private QueryPlan createPlan(final String shape, final Query query, final boolean restrictedBySubjects,
+            final boolean restrictedByNamespaces, @Nullable final Bson configuredHint) {
+
+        final List<QueryPlan.HintCandidate> candidates = new ArrayList<>();
+        candidates.add(new QueryPlan.HintCandidate(NO_HINT, null));
+        if (configuredHint != null) {
+            candidates.add(new QueryPlan.HintCandidate(CONFIGURED_HINT, configuredHint));
+        }
+        if (restrictedBySubjects && globalReadHint != null && !globalReadHint.equals(configuredHint)) {
+            candidates.add(new QueryPlan.HintCandidate(GLOBAL_READ_INDEX, globalReadHint));
+        }
+        if (restrictedByNamespaces && namespaceHint != null && !namespaceHint.equals(configuredHint)) {
+            candidates.add(new QueryPlan.HintCandidate(NAMESPACE_INDEX, namespaceHint));
+        }
+        final Bson sort = ((MongoQuery) query).getSortOptionsAsBson();
+        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+        return new QueryPlan(shape, sort, projection, candidates, config.getMinSamplesPerHint(),
+                config.getReExplorationInterval());
+    }
+
+    private static void reportSlowShapeGauge(final QueryPlan plan, final long averageMillis) {
+        getSlowShapeGauge(plan).set(averageMillis);
+    }
+
+    private static void removeSlowShapeGauge(final QueryPlan plan) {
+        getSlowShapeGauge(plan).remove();
+    }
+
+    private static Gauge getSlowShapeGauge(final QueryPlan plan) {
+        return DittoMetrics.gauge(SLOW_SHAPE_GAUGE).tag(SHAPE_TAG, getShapeId(plan.getShape()));
+    }
+
+    private static String getShapeId(final String shape) {
+        return Integer.toHexString(shape.hashCode());
+    }
+
+    @Nullable
+    private static Bson getIndexKeys(final String name, final boolean documentDbCompatibilityMode) {
+        return Indices.all(documentDbCompatibilityMode).stream()
+                .filter(index -> Objects.equals(name, index.getName()))
+                .findAny()
+                .map(Index::getKeys)
+                .orElse(null);
+    }
+
+    /**
+     * Renders criteria without their literal values.
+     */
+    private static final class ShapeVisitor implements CriteriaVisitor<String> {
+
+        private static final ShapeVisitor INSTANCE = new ShapeVisitor();
+
+        @Override
+        public String visitAnd(final List<String> conjuncts) {
+            return "and" + conjuncts;
+        }
+
+        @Override
+        public String visitAny() {
+            return "any";
+        }
+
+        @Override
+        public String visitExists(final ExistsFieldExpression fieldExpression) {
+            return "exists(" + fieldExpression + ")";
+        }
+
+        @Override
+        public String visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
+            return predicate.accept(PredicateShapeVisitor.INSTANCE) + "(" + fieldExpression + ")";
+        }
+
+        @Override
+        public String visitNor(final List<String> negativeDisjoints) {
+            return "nor" + negativeDisjoints;
+        }
+
+        @Override
+        public String visitOr(final List<String> disjoints) {
+            return "or" + disjoints;
+        }
+
+    }
+
+    /**
+     * Renders predicates with the types of their values instead of the values.
+     */
+    private static final class PredicateShapeVisitor implements PredicateVisitor<String> {
+
+        private static final PredicateShapeVisitor INSTANCE = new PredicateShapeVisitor();
+
+        /**
+         * Prefix of the regular expressions of like predicates starting with a wildcard {@code *} or {@code ?}.
+         */
+        private static final String LEADING_WILDCARD = "^\\Q\\E";
+
+        @Override
+        public String visitEq(@Nullable final Object value) {
+            return "eq:" + getType(value);
+        }
+
+        @Override
+        public String visitGe(@Nullable final Object value) {
+            return "ge:" + getType(value);
+        }
+
+        @Override
+        public String visitGt(@Nullable final Object value) {
+            return "gt:" + getType(value);
+        }
+
+        @Override
+        public String visitLe(@Nullable final Object value) {
+            return "le:" + getType(value);
+        }
+
+        @Override
+        public String visitLt(@Nullable final Object value) {
+            return "lt:" + getType(value);
+        }
+
+        @Override
+        public String visitNe(@Nullable final Object value) {
+            return "ne:" + getType(value);
+        }
+
+        @Override
+        public String visitLike(@Nullable final String value) {
+            return "like:" + getRegexType(value);
+        }
+
+        @Override
+        public String visitILike(@Nullable final String value) {
+            return "ilike:" + getRegexType(value);
+        }
+
+        @Override
+        public String visitIn(final List<?> values) {
+            return "in:" + values.size();
+        }
+
+        private static String getType(@Nullable final Object value) {
+            if (value == null) {
+                return "null";
+            } else if (value instanceof ParsedPlaceholder placeholder) {
+                return placeholder.getPrefix();
+            } else if (value instanceof Number) {
+                return "number";
+            } else if (value instanceof Boolean) {
+                return "boolean";
+            } else {
+                return "string";
+            }
+        }
+
+        // prefix expressions can use an index, expressions starting with a wildcard cannot
+        private static String getRegexType(@Nullable final String value) {
+            return Optional.ofNullable(value)
+                    .filter(regex -> regex.startsWith("^") && !regex.startsWith(LEADING_WILDCARD))
+                    .map(regex -> "prefix")
+                    .orElse("scan");
+        }
+
+    }
+
+}
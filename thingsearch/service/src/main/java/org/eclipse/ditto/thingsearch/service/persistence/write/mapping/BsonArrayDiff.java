@@ -53,15 +53,18 @@ final class BsonArrayDiff {
     static BsonValue diff(final JsonPointer key,
             final BsonArray minuend,
             final BsonArray subtrahend,
-            final int maxWireVersion) {
+            final int maxWireVersion,
+            final BsonHashIndex minuendIndex,
+            final BsonHashIndex subtrahendIndex) {
 
-        return diff(key, minuend, subtrahend, maxWireVersion, (v, j) -> j);
+        return diff(key, minuend, subtrahend, maxWireVersion, minuendIndex, subtrahendIndex, (v, j) -> j);
     }
 
-    static BsonDiff diffFeaturesArray(final BsonArray minuend, final BsonArray subtrahend, final int maxWireVersion) {
+    static BsonDiff diffFeaturesArray(final BsonArray minuend, final BsonArray subtrahend, final int maxWireVersion,
+            final BsonHashIndex minuendIndex, final BsonHashIndex subtrahendIndex) {
         final BsonSizeVisitor bsonSizeVisitor = new BsonSizeVisitor();
-        final int replacementSize = bsonSizeVisitor.eval(subtrahend);
-        if (minuend.equals(subtrahend)) {
+        final int replacementSize = subtrahendIndex.size(subtrahend);
+        if (minuendIndex.isEqual(minuend, subtrahendIndex, subtrahend)) {
             return BsonDiff.empty(replacementSize);
         }
         final JsonPointer internalArrayKey = JsonPointer.of(FIELD_F_ARRAY);
@@ -75,7 +78,8 @@ final class BsonArrayDiff {
         final BiFunction<BsonDocument, Integer, Integer> kMapGet =
                 // use 0 as default value to re-use root grant/revoke
                 (doc, j) -> kMap.getOrDefault(doc.get(FIELD_FEATURE_ID), 0);
-        final BsonValue difference = diff(internalArrayKey, minuend, subtrahend, maxWireVersion, kMapGet);
+        final BsonValue difference =
+                diff(internalArrayKey, minuend, subtrahend, maxWireVersion, minuendIndex, subtrahendIndex, kMapGet);
         return new BsonDiff(
                 replacementSize,
                 bsonSizeVisitor.eval(difference),
@@ -88,8 +92,11 @@ final class BsonArrayDiff {
             final BsonArray minuend,
             final BsonArray subtrahend,
             final int maxWireVersion,
+            final BsonHashIndex minuendIndex,
+            final BsonHashIndex subtrahendIndex,
             final BiFunction<BsonDocument, Integer, Integer> mostSimilarIndex) {
-        final List<Element> elements = diffAsElementList(key, minuend, subtrahend, maxWireVersion, mostSimilarIndex);
+        final List<Element> elements = diffAsElementList(key, minuend, subtrahend, maxWireVersion, minuendIndex,
+                subtrahendIndex, mostSimilarIndex);
         final List<ElementGroup> aggregatedElements = aggregate(elements);
         if (elements.size() - aggregatedElements.size() > 1 && aggregatedElements.size() > 1) {
             // aggregated element groups are suitable for array concatenation syntax.
@@ -114,14 +121,17 @@ final class BsonArrayDiff {
             final BsonArray minuend,
             final BsonArray subtrahend,
             final int maxWireVersion,
+            final BsonHashIndex minuendIndex,
+            final BsonHashIndex subtrahendIndex,
             final BiFunction<BsonDocument, Integer, Integer> mostSimilarIndex) {
 
         final BsonString subtrahendExpr = getPathExpr(key);
-        final Map<BsonValue, Integer> subtrahendIndexMap = IntStream.range(0, subtrahend.size()).boxed()
-                .collect(Collectors.toMap(subtrahend::get, Function.identity(), (i, j) -> i));
+        final Map<HashedValue, Integer> subtrahendIndexMap = IntStream.range(0, subtrahend.size()).boxed()
+                .collect(Collectors.toMap(i -> HashedValue.of(subtrahend.get(i), subtrahendIndex),
+                        Function.identity(), (i, j) -> i));
         final List<Element> result = new ArrayList<>(minuend.size());
         for (final BsonValue element : minuend) {
-            final Integer i = subtrahendIndexMap.get(element);
+            final Integer i = subtrahendIndexMap.get(HashedValue.of(element, minuendIndex));
             if (i != null) {
                 result.add(new Pointer(subtrahendExpr, i));
             } else {
@@ -273,6 +283,28 @@ final class BsonArrayDiff {
         }
     }
 
+    /**
+     * Array element as hash map key with the hash taken from a {@link BsonHashIndex} so that the elements are not
+     * hashed again.
+     */
+    private record HashedValue(BsonValue value, long hash) {
+
+        private static HashedValue of(final BsonValue value, final BsonHashIndex index) {
+            return new HashedValue(value, index.hash(value));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof final HashedValue that && hash == that.hash &&
+                    (value == that.value || value.equals(that.value));
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash);
+        }
+    }
+
     private static final class ReplaceGroup implements ElementGroup {
 
         private final BsonArray bsonArray;
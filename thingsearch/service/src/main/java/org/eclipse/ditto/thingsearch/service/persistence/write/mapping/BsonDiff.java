@@ -95,16 +95,34 @@ public final class BsonDiff {
      */
     public static BsonDiff minusThingDocs(final BsonDocument minuend, final BsonDocument subtrahend,
             final int maxWireVersion) {
+        return minusThingDocs(minuend, BsonHashIndex.newInstance(), subtrahend, BsonHashIndex.newInstance(),
+                maxWireVersion);
+    }
+
+    /**
+     * Compute the difference between 2 Thing index documents using hash indexes of them, which may be kept to compute
+     * the next difference.
+     *
+     * @param minuend the minuend document.
+     * @param minuendIndex the hash index of the minuend document.
+     * @param subtrahend the subtrahend document.
+     * @param subtrahendIndex the hash index of the subtrahend document.
+     * @return the difference.
+     * @since 3.6.0
+     */
+    public static BsonDiff minusThingDocs(final BsonDocument minuend, final BsonHashIndex minuendIndex,
+            final BsonDocument subtrahend, final BsonHashIndex subtrahendIndex, final int maxWireVersion) {
         // compute the internal array diff especially to find similar elements by internal key
         final var minuendFeatures = minuend.getArray(FIELD_F_ARRAY);
         final var subtrahendFeatures = subtrahend.getArray(FIELD_F_ARRAY);
-        final var diffFeatures = BsonArrayDiff.diffFeaturesArray(minuendFeatures, subtrahendFeatures, maxWireVersion);
+        final var diffFeatures = BsonArrayDiff.diffFeaturesArray(minuendFeatures, subtrahendFeatures, maxWireVersion,
+                minuendIndex, subtrahendIndex);
         // compute the rest of the diff without the internal array
-        final var minuendWithoutInternal = minuend.clone();
-        final var subtrahendWithoutInternal = subtrahend.clone();
-        minuendWithoutInternal.remove(FIELD_F_ARRAY);
-        subtrahendWithoutInternal.remove(FIELD_F_ARRAY);
-        final var diffWithoutInternal = minus(minuendWithoutInternal, subtrahendWithoutInternal, true, maxWireVersion);
+        final var minuendWithoutInternal = withoutInternalArray(minuend);
+        final var subtrahendWithoutInternal = withoutInternalArray(subtrahend);
+        final var diffWithoutInternal = new BsonDiffVisitor(true, maxWireVersion, minuendIndex, subtrahendIndex)
+                .eval(minuendWithoutInternal)
+                .apply(subtrahendWithoutInternal);
         return diffWithoutInternal.concat(diffFeatures);
     }
 
@@ -162,6 +180,17 @@ public final class BsonDiff {
         return unsetArray;
     }
 
+    private static BsonDocument withoutInternalArray(final BsonDocument thingDocument) {
+        // shallow copy to keep the identity of the indexed values
+        final var result = new BsonDocument(thingDocument.size());
+        thingDocument.forEach((key, value) -> {
+            if (!FIELD_F_ARRAY.equals(key)) {
+                result.append(key, value);
+            }
+        });
+        return result;
+    }
+
     private static String getPathString(final Iterable<JsonKey> jsonPointer) {
         return StreamSupport.stream(jsonPointer.spliterator(), false).collect(Collectors.joining("."));
     }
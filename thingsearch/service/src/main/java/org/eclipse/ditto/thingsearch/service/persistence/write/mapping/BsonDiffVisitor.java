@@ -26,6 +26,8 @@ import org.apache.pekko.japi.Pair;
 
 /**
  * Compute the diff between 2 BSON documents.
+ * Unchanged subtrees are recognized by identity or by their hashes in {@link BsonHashIndex} before comparing them in
+ * full, and their sizes are looked up in the index instead of evaluating them at each level.
  */
 final class BsonDiffVisitor implements BsonValueVisitor<Function<BsonValue, BsonDiff>> {
 
@@ -35,17 +37,26 @@ final class BsonDiffVisitor implements BsonValueVisitor<Function<BsonValue, Bson
     private final BsonSizeVisitor bsonSizeVisitor = new BsonSizeVisitor();
     private final boolean recurseIntoArrays;
     private final int maxWireVersion;
+    private final BsonHashIndex minuendIndex;
+    private final BsonHashIndex subtrahendIndex;
 
     BsonDiffVisitor(final boolean recurseIntoArrays, final int maxWireVersion) {
+        this(recurseIntoArrays, maxWireVersion, BsonHashIndex.newInstance(), BsonHashIndex.newInstance());
+    }
+
+    BsonDiffVisitor(final boolean recurseIntoArrays, final int maxWireVersion, final BsonHashIndex minuendIndex,
+            final BsonHashIndex subtrahendIndex) {
         this.recurseIntoArrays = recurseIntoArrays;
         this.maxWireVersion = maxWireVersion;
+        this.minuendIndex = minuendIndex;
+        this.subtrahendIndex = subtrahendIndex;
     }
 
     @Override
     public Function<BsonValue, BsonDiff> primitive(final JsonPointer key, final BsonValue value) {
-        final int replacementSize = bsonSizeVisitor.eval(value);
+        final int replacementSize = minuendIndex.size(value);
         return oldValue -> {
-            if (value.equals(oldValue)) {
+            if (isUnchanged(value, oldValue)) {
                 return BsonDiff.empty(replacementSize);
             } else if (value.isString() && value.asString().getValue().startsWith(DOLLAR)) {
                 final var literalValue = new BsonDocument().append(LITERAL, value);
@@ -62,12 +73,13 @@ final class BsonDiffVisitor implements BsonValueVisitor<Function<BsonValue, Bson
             // no recursive diff for array elements: elements are only replaced
             return primitive(key, value);
         }
-        final int replacementSize = bsonSizeVisitor.eval(value);
+        final int replacementSize = minuendIndex.size(value);
         return oldValue -> {
-            if (value.equals(oldValue)) {
+            if (isUnchanged(value, oldValue)) {
                 return BsonDiff.empty(replacementSize);
             } else if (oldValue.isArray()) {
-                final var bsonArrayDiff = BsonArrayDiff.diff(key, value, oldValue.asArray(), maxWireVersion);
+                final var bsonArrayDiff = BsonArrayDiff.diff(key, value, oldValue.asArray(), maxWireVersion,
+                        minuendIndex, subtrahendIndex);
                 final var diffSize = key.length() + bsonSizeVisitor.eval(bsonArrayDiff);
                 if (diffSize <= replacementSize) {
                     return BsonDiff.set(replacementSize, diffSize, key, bsonArrayDiff);
@@ -84,10 +96,10 @@ final class BsonDiffVisitor implements BsonValueVisitor<Function<BsonValue, Bson
     public Function<BsonValue, BsonDiff> object(final JsonPointer key, final BsonDocument value) {
         return oldValue -> {
             if (!oldValue.isDocument() || value.isEmpty()) {
-                return BsonDiff.set(bsonSizeVisitor.eval(value), key, literal(value));
+                return BsonDiff.set(minuendIndex.size(value), key, literal(value));
             }
-            if (value.equals(oldValue)) {
-                return BsonDiff.empty(bsonSizeVisitor.eval(value));
+            if (isUnchanged(value, oldValue)) {
+                return BsonDiff.empty(minuendIndex.size(value));
             }
             final var oldDocument = oldValue.asDocument();
             Stream<Pair<JsonPointer, BsonValue>> set = Stream.empty();
@@ -99,12 +111,12 @@ final class BsonDiffVisitor implements BsonValueVisitor<Function<BsonValue, Bson
                 final var nextValue = entry.getValue();
                 if (!oldDocument.containsKey(entry.getKey())) {
                     set = Stream.concat(set, Stream.of(Pair.create(nextKey, literal(nextValue))));
-                    final var nextSize = bsonSizeVisitor.eval(nextValue);
+                    final var nextSize = minuendIndex.size(nextValue);
                     diffSize += nextKey.length() + nextSize;
                     replacementSize += nextSize + entry.getKey().length();
                 } else {
                     final var prevValue = oldDocument.get(entry.getKey());
-                    if (!nextValue.equals(prevValue)) {
+                    if (!isUnchanged(nextValue, prevValue)) {
                         final var nextDiff = eval(nextKey, nextValue).apply(prevValue);
                         final var nextReplacementSize = nextDiff.replacementSize + nextKey.length();
                         if (nextDiff.diffSize <= nextReplacementSize) {
@@ -117,7 +129,7 @@ final class BsonDiffVisitor implements BsonValueVisitor<Function<BsonValue, Bson
                         }
                         replacementSize += nextDiff.replacementSize + entry.getKey().length();
                     } else {
-                        replacementSize += bsonSizeVisitor.eval(nextValue) + entry.getKey().length();
+                        replacementSize += minuendIndex.size(nextValue) + entry.getKey().length();
                     }
                 }
             }
@@ -132,6 +144,10 @@ final class BsonDiffVisitor implements BsonValueVisitor<Function<BsonValue, Bson
         };
     }
 
+    private boolean isUnchanged(final BsonValue value, final BsonValue oldValue) {
+        return minuendIndex.isEqual(value, subtrahendIndex, oldValue);
+    }
+
     private static BsonValue literal(final BsonValue value) {
         return value.isDocument() ? new BsonDocument().append(LITERAL, value) : value;
     }
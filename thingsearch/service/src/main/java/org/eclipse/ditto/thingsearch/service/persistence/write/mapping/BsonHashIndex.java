@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+
+/**
+ * Lazily computed structural hashes and sizes of the documents and arrays of BSON values, keyed by identity.
+ * <p>
+ * The hash of a document does not depend on the order of its fields, same as {@link BsonDocument#equals(Object)}.
+ * Different hashes prove that 2 values are different; equal hashes have to be confirmed by {@code equals}.
+ * Sizes are the same as computed by {@link BsonSizeVisitor}.
+ * </p>
+ * <p>
+ * An index may be kept together with the BSON values it indexes in order to compute the next diff against them
+ * without hashing them again. Indexed BSON values must not be modified.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@NotThreadSafe
+public final class BsonHashIndex {
+
+    private static final BsonSizeVisitor BSON_SIZE_VISITOR = new BsonSizeVisitor();
+
+    private static final long DOCUMENT_SEED = 0x9E3779B97F4A7C15L;
+    private static final long ARRAY_SEED = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME = 0x100000001B3L;
+
+    @Nullable private Map<BsonValue, Entry> entries;
+
+    private BsonHashIndex() {
+        // entries are allocated on first use as most indexes are never used
+        entries = null;
+    }
+
+    /**
+     * Create an empty index.
+     *
+     * @return the index.
+     */
+    public static BsonHashIndex newInstance() {
+        return new BsonHashIndex();
+    }
+
+    /**
+     * Test whether a value indexed by this index is equal to a value indexed by another index.
+     *
+     * @param value the value indexed by this index.
+     * @param thatIndex the index of the other value.
+     * @param that the other value.
+     * @return whether the values are equal.
+     */
+    boolean isEqual(final BsonValue value, final BsonHashIndex thatIndex, final BsonValue that) {
+        return value == that || hash(value) == thatIndex.hash(that) && value.equals(that);
+    }
+
+    /**
+     * @param value the value.
+     * @return the structural hash of the value.
+     */
+    long hash(final BsonValue value) {
+        if (isContainer(value)) {
+            return getEntry(value).hash();
+        } else {
+            return mix(value.hashCode());
+        }
+    }
+
+    /**
+     * @param value the value.
+     * @return the size of the value as computed by {@link BsonSizeVisitor}.
+     */
+    int size(final BsonValue value) {
+        if (isContainer(value)) {
+            return getEntry(value).size();
+        } else {
+            return BSON_SIZE_VISITOR.evalPrimitive(value);
+        }
+    }
+
+    private Entry getEntry(final BsonValue value) {
+        if (null == entries) {
+            entries = new IdentityHashMap<>();
+        }
+        final Entry cached = entries.get(value);
+        if (null != cached) {
+            return cached;
+        }
+        final Entry entry = value.isDocument() ? computeDocumentEntry(value.asDocument())
+                : computeArrayEntry(value.asArray());
+        entries.put(value, entry);
+        return entry;
+    }
+
+    private Entry computeDocumentEntry(final BsonDocument document) {
+        long hash = DOCUMENT_SEED;
+        int size = 0;
+        for (final var field : document.entrySet()) {
+            final var key = field.getKey();
+            final var value = field.getValue();
+            // commutative combination: BsonDocument equality does not depend on the order of fields
+            hash += mix(key.hashCode() * PRIME ^ hash(value));
+            size += key.getBytes(StandardCharsets.UTF_8).length + size(value);
+        }
+        return new Entry(hash, size);
+    }
+
+    private Entry computeArrayEntry(final BsonArray array) {
+        long hash = ARRAY_SEED;
+        int size = 0;
+        for (final BsonValue element : array) {
+            hash = hash * PRIME + hash(element);
+            size += size(element);
+        }
+        return new Entry(mix(hash), size);
+    }
+
+    private static boolean isContainer(final BsonValue value) {
+        final BsonType type = value.getBsonType();
+        return type == BsonType.DOCUMENT || type == BsonType.ARRAY;
+    }
+
+    // finalizer of MurmurHash3
+    private static long mix(final long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private record Entry(long hash, int size) {}
+
+}
@@ -41,6 +41,7 @@ import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
 import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.BsonDiff;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.BsonHashIndex;
 import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
 import org.eclipse.ditto.thingsearch.service.updater.actors.ThingUpdater;
 import org.mongodb.scala.bson.BsonNumber;
@@ -66,13 +67,21 @@ public final class ThingWriteModel extends AbstractWriteModel {
     private final BsonDocument thingDocument;
     private final boolean isPatchUpdate;
     private final long previousRevision;
+    private final BsonHashIndex thingDocumentIndex;
 
     private ThingWriteModel(final Metadata metadata, final BsonDocument thingDocument, final boolean isPatchUpdate,
             final long previousRevision) {
+        this(metadata, thingDocument, isPatchUpdate, previousRevision, BsonHashIndex.newInstance());
+    }
+
+    private ThingWriteModel(final Metadata metadata, final BsonDocument thingDocument, final boolean isPatchUpdate,
+            final long previousRevision, final BsonHashIndex thingDocumentIndex) {
         super(metadata);
         this.thingDocument = thingDocument;
         this.isPatchUpdate = isPatchUpdate;
         this.previousRevision = previousRevision;
+        // filled while computing diffs; kept so that the next diff against this model does not hash the document again
+        this.thingDocumentIndex = thingDocumentIndex;
     }
 
     /**
@@ -143,7 +152,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
      * @return The patch update.
      */
     public ThingWriteModel asPatchUpdate(final long previousRevision) {
-        return new ThingWriteModel(getMetadata(), thingDocument, true, previousRevision);
+        return new ThingWriteModel(getMetadata(), thingDocument, true, previousRevision, thingDocumentIndex);
     }
 
     @Override
@@ -153,7 +162,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
 
     @Override
     public ThingWriteModel setMetadata(final Metadata metadata) {
-        return new ThingWriteModel(metadata, thingDocument, isPatchUpdate, previousRevision);
+        return new ThingWriteModel(metadata, thingDocument, isPatchUpdate, previousRevision, thingDocumentIndex);
     }
 
     /**
@@ -228,7 +237,7 @@ public final class ThingWriteModel extends AbstractWriteModel {
             PATCH_SKIP_COUNT.increment();
             return Optional.empty();
         } else {
-            final var diff = tryComputeDiff(currentWriteModel, lastWriteModel.getThingDocument(), maxWireVersion);
+            final var diff = tryComputeDiff(currentWriteModel, lastWriteModel, maxWireVersion);
             if (diff.isPresent() && diff.get().isDiffSmaller()) {
                 final var aggregationPipeline = diff.get().consumeAndExport();
                 if (aggregationPipeline.isEmpty()) {
@@ -261,10 +270,12 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return Optional.of(MongoWriteModel.of(thingWriteModel, mongoWriteModel, isPatchUpdate1));
     }
 
-    private Optional<BsonDiff> tryComputeDiff(final BsonDocument minuend, final BsonDocument subtrahend,
+    private Optional<BsonDiff> tryComputeDiff(final BsonDocument minuend, final ThingWriteModel lastWriteModel,
             final int maxWireVersion) {
+        final BsonDocument subtrahend = lastWriteModel.getThingDocument();
         try {
-            return Optional.of(BsonDiff.minusThingDocs(minuend, subtrahend, maxWireVersion));
+            return Optional.of(BsonDiff.minusThingDocs(minuend, thingDocumentIndex, subtrahend,
+                    lastWriteModel.thingDocumentIndex, maxWireVersion));
         } catch (final BsonInvalidOperationException e) {
             LOGGER.error("Failed to compute BSON diff between <{}> and <{}>", minuend, subtrahend, e);
             return Optional.empty();
@@ -103,6 +103,37 @@ public final class WriteResultAndErrors {
                 unexpectedError, bulkWriteCorrelationId);
     }
 
+    /**
+     * Create a WriteResultAndErrors from the parts of a bulk write result.
+     *
+     * @param writeModels the requested write models.
+     * @param bulkWriteResult the bulk write result.
+     * @param bulkWriteErrors the bulk write errors, their indexes refer to the requested write models.
+     * @param bulkWriteCorrelationId a correlationId to use for correlating bulk write log statements.
+     * @return the write result.
+     * @since 3.6.0
+     */
+    public static WriteResultAndErrors of(final Collection<MongoWriteModel> writeModels,
+            final BulkWriteResult bulkWriteResult,
+            final List<BulkWriteError> bulkWriteErrors,
+            final String bulkWriteCorrelationId) {
+        return new WriteResultAndErrors(writeModels, bulkWriteResult, List.copyOf(bulkWriteErrors), null,
+                bulkWriteCorrelationId);
+    }
+
+    /**
+     * Create a copy of this WriteResultAndErrors with other requested write models, e.g. in order to report the result
+     * of a write model to the write models it superseded.
+     *
+     * @param writeModels the requested write models.
+     * @return the copy.
+     * @since 3.6.0
+     */
+    public WriteResultAndErrors withWriteModels(final Collection<MongoWriteModel> writeModels) {
+        return new WriteResultAndErrors(writeModels, bulkWriteResult, bulkWriteErrors, unexpectedError,
+                bulkWriteCorrelationId);
+    }
+
     /**
      * Retrieve the requested write models.
      *
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Adapts the size of search index bulk writes and the number of bulk writes in flight to the observed bulk write
+ * latency (additive increase, multiplicative decrease):
+ * <ul>
+ *     <li>a bulk write slower than the target latency halves both limits,</li>
+ *     <li>a full bulk written within the target latency means that updates are piling up, so both limits grow,</li>
+ *     <li>a bulk which was not full leaves the limits unchanged.</li>
+ * </ul>
+ */
+@ThreadSafe
+final class AdaptiveBulkLimits {
+
+    private static final CompletableFuture<Void> PERMIT_GRANTED = CompletableFuture.completedFuture(null);
+
+    private final int maxBulkSize;
+    private final int maxParallelism;
+    private final Duration targetLatency;
+    private final int bulkSizeIncrement;
+    private final Queue<CompletableFuture<Void>> waitingForPermit;
+
+    private int bulkSize;
+    private int parallelism;
+    private int inFlight;
+
+    private AdaptiveBulkLimits(final int maxBulkSize, final int maxParallelism, final Duration targetLatency) {
+        this.maxBulkSize = maxBulkSize;
+        this.maxParallelism = maxParallelism;
+        this.targetLatency = targetLatency;
+        bulkSizeIncrement = Math.max(1, maxBulkSize / 16);
+        waitingForPermit = new ArrayDeque<>();
+        bulkSize = Math.max(1, maxBulkSize / 4);
+        parallelism = maxParallelism;
+        inFlight = 0;
+    }
+
+    /**
+     * Create adaptive bulk limits.
+     *
+     * @param maxBulkSize the upper bound of the bulk size.
+     * @param maxParallelism the upper bound of bulk writes in flight.
+     * @param targetLatency the bulk write latency above which the limits are reduced.
+     * @return the limits.
+     */
+    static AdaptiveBulkLimits of(final int maxBulkSize, final int maxParallelism, final Duration targetLatency) {
+        return new AdaptiveBulkLimits(maxBulkSize, maxParallelism, targetLatency);
+    }
+
+    /**
+     * @return the current number of write models to write with one bulk write.
+     */
+    synchronized int getBulkSize() {
+        return bulkSize;
+    }
+
+    /**
+     * @return the current number of bulk writes which may be in flight at the same time.
+     */
+    synchronized int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Acquire a permit to start a bulk write. The returned stage completes as soon as fewer than
+     * {@link #getParallelism()} bulk writes are in flight.
+     *
+     * @return the stage completing when the bulk write may start.
+     */
+    synchronized CompletionStage<Void> acquireBulkWritePermit() {
+        if (inFlight < parallelism) {
+            inFlight++;
+            return PERMIT_GRANTED;
+        }
+        final var waiting = new CompletableFuture<Void>();
+        waitingForPermit.add(waiting);
+        return waiting;
+    }
+
+    /**
+     * Release the permit of a completed bulk write and adapt the limits.
+     *
+     * @param writtenBulkSize the number of write models of the completed bulk write.
+     * @param latency how long the bulk write took.
+     */
+    void releaseBulkWritePermit(final int writtenBulkSize, final Duration latency) {
+        @Nullable final CompletableFuture<Void> nextPermit;
+        synchronized (this) {
+            adapt(writtenBulkSize, latency);
+            inFlight--;
+            if (inFlight < parallelism && !waitingForPermit.isEmpty()) {
+                inFlight++;
+                nextPermit = waitingForPermit.poll();
+            } else {
+                nextPermit = null;
+            }
+        }
+        // complete outside the lock as completing triggers the bulk write
+        if (null != nextPermit) {
+            nextPermit.complete(null);
+        }
+    }
+
+    private void adapt(final int writtenBulkSize, final Duration latency) {
+        if (latency.compareTo(targetLatency) > 0) {
+            bulkSize = Math.max(1, bulkSize / 2);
+            parallelism = Math.max(1, parallelism / 2);
+        } else if (writtenBulkSize >= bulkSize) {
+            bulkSize = Math.min(maxBulkSize, bulkSize + bulkSizeIncrement);
+            parallelism = Math.min(maxParallelism, parallelism + 1);
+        }
+    }
+
+}
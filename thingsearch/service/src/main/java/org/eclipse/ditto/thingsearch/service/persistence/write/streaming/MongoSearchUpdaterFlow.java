@@ -12,23 +12,38 @@
  */
 package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.bson.BsonDocument;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.service.common.config.PersistenceStreamConfig;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
 import org.eclipse.ditto.thingsearch.service.updater.actors.ThingUpdater;
 
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.DeleteManyModel;
 import com.mongodb.client.model.DeleteOneModel;
@@ -39,31 +54,106 @@ import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
+import org.apache.pekko.Done;
 import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.Scheduler;
 import org.apache.pekko.japi.pf.PFBuilder;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.BoundedSourceQueue;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.QueueOfferResult;
+import org.apache.pekko.stream.RestartSettings;
+import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.stream.javadsl.RestartFlow;
+import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
 
+import scala.concurrent.ExecutionContextExecutor;
+
 /**
  * Flow mapping write models to write results via the search persistence.
+ * <p>
+ * The write models of all flows created by one MongoSearchUpdaterFlow are written by one shared stream, which batches
+ * them into bulk writes whenever the persistence applies backpressure. Write models of the same thing within a batch
+ * are coalesced to the latest one. The bulk size and the number of bulk writes in flight adapt to the observed bulk
+ * write latency via {@link AdaptiveBulkLimits}.
+ * </p>
+ * <p>
+ * Write models are offered to the shared stream again after a short delay while its queue is full. If the shared
+ * stream fails, it is restarted with backoff and the write models it was processing are reported as unexpected
+ * errors, so that their thing updaters retry them.
+ * </p>
  */
 final class MongoSearchUpdaterFlow {
 
     private static final String TRACE_THING_BULK_UPDATE = "things_wildcard_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_wildcard_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final Duration OFFER_RETRY_DELAY = Duration.ofMillis(10L);
+
+    private static final Gauge BULK_SIZE_LIMIT =
+            DittoMetrics.gauge("things_wildcard_search_thing_bulkUpdate_bulk_size_limit");
+    private static final Gauge PARALLELISM_LIMIT =
+            DittoMetrics.gauge("things_wildcard_search_thing_bulkUpdate_parallelism_limit");
+    private static final Counter COALESCED_UPDATES =
+            DittoMetrics.counter("things_wildcard_search_thing_bulkUpdate_coalesced_updates");
 
     private static final ThreadSafeDittoLogger LOGGER =
             DittoLoggerFactory.getThreadSafeLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<BsonDocument> collection;
+    private final AdaptiveBulkLimits bulkLimits;
+    private final Materializer materializer;
+    private final Scheduler scheduler;
+    private final ExecutionContextExecutor executor;
+    private final BoundedSourceQueue<PendingWrite> pendingWrites;
 
     private MongoSearchUpdaterFlow(final MongoCollection<BsonDocument> collection,
-            final PersistenceStreamConfig persistenceConfig) {
+            final PersistenceStreamConfig persistenceConfig,
+            final ActorSystem actorSystem) {
 
         final var writeConcern = persistenceConfig.getWithAcknowledgementsWriteConcern();
         LOGGER.info("Update writeConcern=<{}>", writeConcern);
         this.collection = collection.withWriteConcern(writeConcern);
+        final int maxBulkSize = persistenceConfig.getMaxBulkSize();
+        final int maxParallelism = persistenceConfig.getParallelism();
+        bulkLimits = AdaptiveBulkLimits.of(maxBulkSize, maxParallelism, persistenceConfig.getTargetBulkWriteLatency());
+        materializer = SystemMaterializer.get(actorSystem).materializer();
+        scheduler = actorSystem.getScheduler();
+        executor = actorSystem.getDispatcher();
+        final var backOffConfig = persistenceConfig.getExponentialBackOffConfig();
+        final var restartSettings =
+                RestartSettings.create(backOffConfig.getMin(), backOffConfig.getMax(), backOffConfig.getRandomFactor());
+        pendingWrites = Source.<PendingWrite>queue(2 * maxBulkSize * maxParallelism)
+                .via(RestartFlow.onFailuresWithBackoff(restartSettings,
+                        () -> bulkWriteFlow(maxBulkSize, maxParallelism)))
+                .to(Sink.ignore())
+                .run(materializer);
+    }
+
+    private Flow<PendingWrite, Done, NotUsed> bulkWriteFlow(final int maxBulkSize, final int maxParallelism) {
+        final Set<PendingWrite> processedWrites = ConcurrentHashMap.newKeySet();
+        return Flow.<PendingWrite>create()
+                .map(pendingWrite -> {
+                    processedWrites.add(pendingWrite);
+                    pendingWrite.result().whenComplete((result, error) -> processedWrites.remove(pendingWrite));
+                    return pendingWrite;
+                })
+                .batch(maxBulkSize, MongoSearchUpdaterFlow::startBatch, MongoSearchUpdaterFlow::addToBatch)
+                .mapConcat(this::coalesceAndPartition)
+                .mapAsync(1, bulk -> bulkLimits.acquireBulkWritePermit().thenApply(permit -> bulk))
+                .mapAsyncUnordered(maxParallelism, this::writeBulk)
+                .watchTermination((notUsed, termination) -> {
+                    termination.exceptionally(error -> {
+                        LOGGER.error("Search index bulk write stream failed, restarting it: {}", error.toString());
+                        processedWrites.forEach(pendingWrite -> pendingWrite.complete(
+                                WriteResultAndErrors.unexpectedError(List.of(pendingWrite.writeModel()), error, "")));
+                        return Done.getInstance();
+                    });
+                    return notUsed;
+                });
     }
 
     /**
@@ -71,14 +161,17 @@ final class MongoSearchUpdaterFlow {
      *
      * @param database the MongoDB database.
      * @param persistenceConfig the persistence configuration for the search updater stream.
+     * @param actorSystem the actor system to run the shared bulk write stream in.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database,
-            final PersistenceStreamConfig persistenceConfig) {
+            final PersistenceStreamConfig persistenceConfig,
+            final ActorSystem actorSystem) {
 
         return new MongoSearchUpdaterFlow(
                 database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME, BsonDocument.class),
-                persistenceConfig
+                persistenceConfig,
+                actorSystem
         );
     }
 
@@ -88,9 +181,153 @@ final class MongoSearchUpdaterFlow {
      * @return The flow.
      */
     public Flow<MongoWriteModel, ThingUpdater.Result, NotUsed> create() {
-        return Flow.<MongoWriteModel>create()
-                .flatMapConcat(writeModel -> executeBulkWrite(List.of(writeModel))
-                        .map(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
+        return Flow.<MongoWriteModel>create().mapAsync(1, this::enqueue);
+    }
+
+    private CompletionStage<ThingUpdater.Result> enqueue(final MongoWriteModel writeModel) {
+        return offer(new PendingWrite(writeModel, new CompletableFuture<>()));
+    }
+
+    private CompletionStage<ThingUpdater.Result> offer(final PendingWrite pendingWrite) {
+        final QueueOfferResult offerResult = pendingWrites.offer(pendingWrite);
+        if (QueueOfferResult.enqueued().equals(offerResult)) {
+            return pendingWrite.result();
+        } else if (QueueOfferResult.dropped().equals(offerResult)) {
+            // the queue is full: apply backpressure to the thing updater instead of losing its write model
+            return Patterns.after(OFFER_RETRY_DELAY, scheduler, executor, () -> offer(pendingWrite));
+        } else {
+            // the thing updater retries the write after a backoff
+            final var error = new IllegalStateException("Search index bulk write queue rejected write model: " +
+                    offerResult);
+            pendingWrite.complete(WriteResultAndErrors.unexpectedError(List.of(pendingWrite.writeModel()), error, ""));
+            return pendingWrite.result();
+        }
+    }
+
+    private static List<PendingWrite> startBatch(final PendingWrite pendingWrite) {
+        final List<PendingWrite> batch = new ArrayList<>();
+        batch.add(pendingWrite);
+        return batch;
+    }
+
+    private static List<PendingWrite> addToBatch(final List<PendingWrite> batch, final PendingWrite pendingWrite) {
+        batch.add(pendingWrite);
+        return batch;
+    }
+
+    private List<List<CoalescedWrite>> coalesceAndPartition(final List<PendingWrite> batch) {
+        final List<CoalescedWrite> coalescedWrites = coalesce(batch);
+        COALESCED_UPDATES.increment(batch.size() - coalescedWrites.size());
+        final int bulkSize = bulkLimits.getBulkSize();
+        final List<List<CoalescedWrite>> bulks = new ArrayList<>(coalescedWrites.size() / bulkSize + 1);
+        for (int i = 0; i < coalescedWrites.size(); i += bulkSize) {
+            bulks.add(coalescedWrites.subList(i, Math.min(i + bulkSize, coalescedWrites.size())));
+        }
+        return bulks;
+    }
+
+    /**
+     * Coalesce the pending writes of the same thing to the latest one.
+     *
+     * @param batch the pending writes in the order of their arrival.
+     * @return the latest pending write of each thing together with the pending writes it supersedes.
+     */
+    static List<CoalescedWrite> coalesce(final List<PendingWrite> batch) {
+        final Map<ThingId, CoalescedWrite> latestWrites = new LinkedHashMap<>();
+        for (final PendingWrite pendingWrite : batch) {
+            final var thingId = pendingWrite.writeModel().getDitto().getMetadata().getThingId();
+            final CoalescedWrite previous = latestWrites.remove(thingId);
+            final List<PendingWrite> superseded;
+            if (null == previous) {
+                superseded = List.of();
+            } else {
+                superseded = new ArrayList<>(previous.superseded());
+                superseded.add(previous.pendingWrite());
+            }
+            latestWrites.put(thingId, new CoalescedWrite(pendingWrite, superseded));
+        }
+        return new ArrayList<>(latestWrites.values());
+    }
+
+    private CompletionStage<Done> writeBulk(final List<CoalescedWrite> bulk) {
+        final List<MongoWriteModel> writeModels = bulk.stream()
+                .map(coalescedWrite -> coalescedWrite.pendingWrite().writeModel())
+                .toList();
+        final long startNanos = System.nanoTime();
+        return executeBulkWrite(writeModels)
+                .runWith(Sink.head(), materializer)
+                .handle((resultAndErrors, error) -> {
+                    bulkLimits.releaseBulkWritePermit(writeModels.size(),
+                            Duration.ofNanos(System.nanoTime() - startNanos));
+                    BULK_SIZE_LIMIT.set((long) bulkLimits.getBulkSize());
+                    PARALLELISM_LIMIT.set((long) bulkLimits.getParallelism());
+                    final WriteResultAndErrors bulkResult = null != error
+                            ? WriteResultAndErrors.unexpectedError(writeModels, error, "")
+                            : resultAndErrors;
+                    completePendingWrites(bulk, splitPerWriteModel(bulkResult));
+                    return Done.getInstance();
+                });
+    }
+
+    private static void completePendingWrites(final List<CoalescedWrite> bulk,
+            final List<WriteResultAndErrors> results) {
+
+        for (int i = 0; i < bulk.size(); i++) {
+            final CoalescedWrite coalescedWrite = bulk.get(i);
+            final WriteResultAndErrors result = results.get(i);
+            coalescedWrite.pendingWrite().complete(result);
+            for (final PendingWrite superseded : coalescedWrite.superseded()) {
+                superseded.complete(result.withWriteModels(List.of(superseded.writeModel())));
+            }
+        }
+    }
+
+    /**
+     * Split the result of a bulk write into the results the write models would have had if they were written one by
+     * one, so that each thing updater only acknowledges its own write model.
+     * If some patch updates of the bulk were not applied, all patch updates of the bulk are reported as not applied as
+     * it is not possible to identify the patch updates which were not applied.
+     *
+     * @param bulkResult the result of the bulk write.
+     * @return the results of the write models in the order of the write models of the bulk.
+     */
+    static List<WriteResultAndErrors> splitPerWriteModel(final WriteResultAndErrors bulkResult) {
+        final List<MongoWriteModel> writeModels = bulkResult.getWriteModels();
+        final String correlationId = bulkResult.getBulkWriteCorrelationId();
+        final BulkWriteResult bulkWriteResult = bulkResult.getBulkWriteResult();
+        final List<WriteResultAndErrors> results = new ArrayList<>(writeModels.size());
+        if (bulkResult.getUnexpectedError().isPresent() || !bulkWriteResult.wasAcknowledged()) {
+            for (final MongoWriteModel writeModel : writeModels) {
+                results.add(bulkResult.withWriteModels(List.of(writeModel)));
+            }
+            return results;
+        }
+
+        final long updateCount = writeModels.stream()
+                .filter(writeModel -> !(writeModel.getDitto() instanceof ThingDeleteModel))
+                .count();
+        final boolean updatesMissing =
+                bulkWriteResult.getMatchedCount() + bulkWriteResult.getUpserts().size() < updateCount;
+        for (int i = 0; i < writeModels.size(); i++) {
+            final int index = i;
+            final MongoWriteModel writeModel = writeModels.get(i);
+            final List<BulkWriteError> errors = bulkResult.getBulkWriteErrors().stream()
+                    .filter(error -> error.getIndex() == index)
+                    .map(error -> new BulkWriteError(error.getCode(), error.getMessage(), error.getDetails(), 0))
+                    .toList();
+            final List<BulkWriteUpsert> upserts = bulkWriteResult.getUpserts().stream()
+                    .filter(upsert -> upsert.getIndex() == index)
+                    .map(upsert -> new BulkWriteUpsert(0, upsert.getId()))
+                    .toList();
+            final boolean isDelete = writeModel.getDitto() instanceof ThingDeleteModel;
+            final boolean notMatched = !errors.isEmpty() || !upserts.isEmpty() || isDelete ||
+                    (updatesMissing && writeModel.isPatchUpdate());
+            final int matched = notMatched ? 0 : 1;
+            final int removed = isDelete && errors.isEmpty() ? 1 : 0;
+            final var result = BulkWriteResult.acknowledged(0, matched, removed, matched, upserts, List.of());
+            results.add(WriteResultAndErrors.of(List.of(writeModel), result, errors, correlationId));
+        }
+        return results;
     }
 
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(final Collection<MongoWriteModel> writeModels) {
@@ -170,4 +407,25 @@ final class MongoSearchUpdaterFlow {
         }
     }
 
+    /**
+     * A write model waiting to be written with the next bulk write.
+     *
+     * @param writeModel the write model.
+     * @param result the future to complete with the result of the write model.
+     */
+    record PendingWrite(MongoWriteModel writeModel, CompletableFuture<ThingUpdater.Result> result) {
+
+        private void complete(final WriteResultAndErrors resultAndErrors) {
+            result.complete(new ThingUpdater.Result(writeModel, resultAndErrors));
+        }
+    }
+
+    /**
+     * The latest pending write of a thing in a batch.
+     *
+     * @param pendingWrite the pending write to write.
+     * @param superseded the earlier pending writes of the same thing which are not written.
+     */
+    record CoalescedWrite(PendingWrite pendingWrite, List<PendingWrite> superseded) {}
+
 }
@@ -103,12 +103,20 @@ public final class SearchRootActor extends DittoRootActor {
             log.info("Skipping IndexInitializer because it is disabled.");
         }
 
-        return searchConfig.getMongoHintsByNamespace()
+        final var persistenceWithHints = searchConfig.getMongoHintsByNamespace()
                 .map(mongoHintsByNamespace -> {
                     log.info("Applying MongoDB hints <{}>.", mongoHintsByNamespace);
                     return persistence.withHintsByNamespace(mongoHintsByNamespace);
                 })
                 .orElse(persistence);
+
+        final var queryPlanCacheConfig = searchConfig.getQueryPlanCacheConfig();
+        if (queryPlanCacheConfig.isEnabled()) {
+            log.info("Learning MongoDB hints per query shape with <{}>.", queryPlanCacheConfig);
+            return persistenceWithHints.withQueryPlanCache(queryPlanCacheConfig);
+        } else {
+            return persistenceWithHints;
+        }
     }
 
     private ActorRef initializeHealthCheckActor(final SearchConfig searchConfig,
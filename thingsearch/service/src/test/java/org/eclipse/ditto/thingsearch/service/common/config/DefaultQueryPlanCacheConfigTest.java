@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit tests for {@link DefaultQueryPlanCacheConfig}.
+ */
+public final class DefaultQueryPlanCacheConfigTest {
+
+    private static Config config;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        config = ConfigFactory.load("query-plan-cache-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultQueryPlanCacheConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultQueryPlanCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final QueryPlanCacheConfig underTest = DefaultQueryPlanCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(QueryPlanCacheConfig.QueryPlanCacheConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(QueryPlanCacheConfig.QueryPlanCacheConfigValue.MAX_SHAPES.getDefaultValue());
+        softly.assertThat(underTest.getMinSamplesPerHint())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.MIN_SAMPLES_PER_HINT.getConfigPath())
+                .isEqualTo(QueryPlanCacheConfig.QueryPlanCacheConfigValue.MIN_SAMPLES_PER_HINT.getDefaultValue());
+        softly.assertThat(underTest.getReExplorationInterval())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.RE_EXPLORATION_INTERVAL.getConfigPath())
+                .isEqualTo(QueryPlanCacheConfig.QueryPlanCacheConfigValue.RE_EXPLORATION_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getSlowShapeThreshold())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.SLOW_SHAPE_THRESHOLD.getConfigPath())
+                .isEqualTo(QueryPlanCacheConfig.QueryPlanCacheConfigValue.SLOW_SHAPE_THRESHOLD.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final QueryPlanCacheConfig underTest = DefaultQueryPlanCacheConfig.of(config);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxShapes())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.MAX_SHAPES.getConfigPath())
+                .isEqualTo(50);
+        softly.assertThat(underTest.getMinSamplesPerHint())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.MIN_SAMPLES_PER_HINT.getConfigPath())
+                .isEqualTo(5);
+        softly.assertThat(underTest.getReExplorationInterval())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.RE_EXPLORATION_INTERVAL.getConfigPath())
+                .isEqualTo(20);
+        softly.assertThat(underTest.getSlowShapeThreshold())
+                .as(QueryPlanCacheConfig.QueryPlanCacheConfigValue.SLOW_SHAPE_THRESHOLD.getConfigPath())
+                .isEqualTo(Duration.ofMillis(250L));
+    }
+
+}
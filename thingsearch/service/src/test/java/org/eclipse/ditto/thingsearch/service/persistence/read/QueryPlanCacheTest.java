@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.eclipse.ditto.base.service.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.rql.query.QueryBuilderFactory;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.CriteriaFactory;
+import org.eclipse.ditto.rql.query.expression.FieldExpressionUtil;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQueryBuilderFactory;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit tests for the query shapes of {@link QueryPlanCache}.
+ */
+public final class QueryPlanCacheTest {
+
+    private static final CriteriaFactory cf = CriteriaFactory.getInstance();
+    private static final ThingsFieldExpressionFactory ef = ThingsFieldExpressionFactory.of(
+            Map.of(FieldExpressionUtil.FIELD_NAME_THING_ID, FieldExpressionUtil.FIELD_ID,
+                    FieldExpressionUtil.FIELD_NAME_NAMESPACE, FieldExpressionUtil.FIELD_NAMESPACE));
+    private static final QueryBuilderFactory qbf = new MongoQueryBuilderFactory(
+            DefaultLimitsConfig.of(ConfigFactory.load("test").getConfig(ScopedConfig.DITTO_SCOPE)));
+
+    @Test
+    public void queriesDifferingOnlyInValuesHaveSameShape() {
+        final Query first = query(cf.and(List.of(
+                cf.fieldCriteria(ef.filterByAttribute("manufacturer"), cf.eq("ACME")),
+                cf.fieldCriteria(ef.filterByNamespace(), cf.in(List.of("org.eclipse", "org.example"))))));
+        final Query second = query(cf.and(List.of(
+                cf.fieldCriteria(ef.filterByAttribute("manufacturer"), cf.eq("Bosch")),
+                cf.fieldCriteria(ef.filterByNamespace(), cf.in(List.of("com.example", "com.acme"))))));
+
+        assertThat(shape(first)).isEqualTo(shape(second));
+    }
+
+    @Test
+    public void queriesWithDifferentOperatorsHaveDifferentShapes() {
+        final Query eq = query(cf.fieldCriteria(ef.filterByAttribute("counter"), cf.eq(5)));
+        final Query gt = query(cf.fieldCriteria(ef.filterByAttribute("counter"), cf.gt(5)));
+
+        assertThat(shape(eq)).isNotEqualTo(shape(gt));
+    }
+
+    @Test
+    public void queriesWithDifferentValueTypesHaveDifferentShapes() {
+        final Query number = query(cf.fieldCriteria(ef.filterByAttribute("counter"), cf.eq(5)));
+        final Query string = query(cf.fieldCriteria(ef.filterByAttribute("counter"), cf.eq("5")));
+
+        assertThat(shape(number)).isNotEqualTo(shape(string));
+    }
+
+    @Test
+    public void prefixAndInfixLikeHaveDifferentShapes() {
+        final Query prefix = query(cf.fieldCriteria(ef.filterByAttribute("name"), cf.like("lamp*")));
+        final Query otherPrefix = query(cf.fieldCriteria(ef.filterByAttribute("name"), cf.like("sensor*")));
+        final Query infix = query(cf.fieldCriteria(ef.filterByAttribute("name"), cf.like("*lamp*")));
+
+        assertThat(shape(prefix)).isEqualTo(shape(otherPrefix));
+        assertThat(shape(prefix)).isNotEqualTo(shape(infix));
+    }
+
+    @Test
+    public void sortAndRestrictionsArePartOfShape() {
+        final Criteria criteria = cf.fieldCriteria(ef.filterByAttribute("counter"), cf.eq(5));
+        final Query byThingId = query(criteria);
+        final Query byCounter = qbf.newBuilder(criteria)
+                .sort(List.of(new SortOption(ef.sortByAttribute("counter"), SortDirection.DESC)))
+                .build();
+
+        assertThat(shape(byThingId)).isNotEqualTo(shape(byCounter));
+        assertThat(QueryPlanCache.getShape("find", byThingId, true, false, null))
+                .isNotEqualTo(QueryPlanCache.getShape("find", byThingId, false, false, null))
+                .isNotEqualTo(QueryPlanCache.getShape("find", byThingId, true, true, null))
+                .isNotEqualTo(QueryPlanCache.getShape("count", byThingId, true, false, null))
+                .isNotEqualTo(QueryPlanCache.getShape("find", byThingId, true, false,
+                        new BsonDocument("_namespace", new BsonInt32(1))));
+    }
+
+    private static Query query(final Criteria criteria) {
+        return qbf.newBuilder(criteria).build();
+    }
+
+    private static String shape(final Query query) {
+        return QueryPlanCache.getShape("find", query, true, false, null);
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link QueryPlan}.
+ */
+public final class QueryPlanTest {
+
+    private static final Duration SLOW_THRESHOLD = Duration.ofSeconds(1L);
+
+    private final QueryPlan.HintCandidate noHint = new QueryPlan.HintCandidate("none", null);
+    private final QueryPlan.HintCandidate globalRead =
+            new QueryPlan.HintCandidate("global_read", new BsonDocument("gr", new BsonInt32(1)));
+    private final QueryPlan.HintCandidate namespace =
+            new QueryPlan.HintCandidate("_namespace", new BsonDocument("_namespace", new BsonInt32(1)));
+
+    @Test
+    public void exploresEachCandidateBeforeChoosingTheFastest() {
+        final QueryPlan underTest = newPlan(2, 100);
+
+        assertThat(executeWithTimes(underTest, 6, 50L, 10L, 30L))
+                .containsExactly("none", "none", "global_read", "global_read", "_namespace", "_namespace");
+        assertThat(underTest.getBestHintName()).isEqualTo("global_read");
+        assertThat(underTest.getBestAverage()).contains(Duration.ofMillis(10L));
+        assertThat(executeWithTimes(underTest, 3, 50L, 10L, 30L))
+                .containsOnly("global_read");
+    }
+
+    @Test
+    public void doesNotExploreCandidatesWhoseExecutionIsPending() {
+        final QueryPlan underTest = newPlan(1, 100);
+
+        assertThat(underTest.chooseHint()).isSameAs(noHint);
+        assertThat(underTest.chooseHint()).isSameAs(globalRead);
+        assertThat(underTest.chooseHint()).isSameAs(namespace);
+    }
+
+    @Test
+    public void reExploresOtherCandidatesPeriodically() {
+        final QueryPlan underTest = newPlan(1, 5);
+
+        final List<String> chosen = executeWithTimes(underTest, 20, 50L, 10L, 30L);
+
+        assertThat(chosen.subList(0, 3)).containsExactly("none", "global_read", "_namespace");
+        assertThat(chosen.get(4)).isNotEqualTo("global_read");
+        assertThat(chosen.get(9)).isNotEqualTo("global_read");
+        assertThat(chosen.subList(10, 14)).containsOnly("global_read");
+    }
+
+    @Test
+    public void switchesToAnotherCandidateWhenTheFastestGetsSlower() {
+        final QueryPlan underTest = newPlan(1, 2);
+        executeWithTimes(underTest, 3, 50L, 10L, 30L);
+
+        executeWithTimes(underTest, 40, 50L, 500L, 30L);
+
+        assertThat(underTest.getBestHintName()).isEqualTo("_namespace");
+    }
+
+    @Test
+    public void retriesFailedHintOnlyWhenReExploring() {
+        final QueryPlan underTest = newPlan(1, 10);
+        executeWithTimes(underTest, 3, 50L, 10L, 30L);
+        final QueryPlan.HintCandidate failing = underTest.chooseHint();
+        assertThat(failing).isSameAs(globalRead);
+
+        underTest.record(failing, Duration.ofMillis(1L), false, SLOW_THRESHOLD);
+        assertThat(underTest.getBestHintName()).isEqualTo("_namespace");
+
+        // the 10th execution re-explores the failed hint, which is used again after it succeeded
+        final List<String> chosen = executeWithTimes(underTest, 10, 50L, 10L, 30L);
+        assertThat(chosen.subList(0, 5)).containsOnly("_namespace");
+        assertThat(chosen.get(5)).isEqualTo("global_read");
+        assertThat(chosen.subList(6, 10)).containsOnly("global_read");
+    }
+
+    @Test
+    public void doesNotChooseHintWhichFailsAgainOutsideOfReExploration() {
+        final QueryPlan underTest = newPlan(1, 5);
+        executeWithTimes(underTest, 3, 50L, 10L, 30L);
+        underTest.record(underTest.chooseHint(), Duration.ofMillis(1L), false, SLOW_THRESHOLD);
+
+        int globalReadExecutions = 0;
+        for (int i = 0; i < 20; i++) {
+            final QueryPlan.HintCandidate candidate = underTest.chooseHint();
+            if (candidate == globalRead) {
+                ++globalReadExecutions;
+                underTest.record(candidate, Duration.ofMillis(1L), false, SLOW_THRESHOLD);
+            } else {
+                underTest.record(candidate, Duration.ofMillis(30L), true, SLOW_THRESHOLD);
+            }
+        }
+
+        // 4 re-explorations alternate between the failed hint and the candidate without hint
+        assertThat(globalReadExecutions).isEqualTo(2);
+        assertThat(underTest.getBestHintName()).isEqualTo("_namespace");
+    }
+
+    @Test
+    public void reportsTransitionsOfSlowState() {
+        final QueryPlan underTest = new QueryPlan("shape", new BsonDocument(), new BsonDocument(),
+                List.of(noHint), 1, 100);
+
+        assertThat(underTest.record(underTest.chooseHint(), Duration.ofSeconds(2L), true, SLOW_THRESHOLD)).isTrue();
+        assertThat(underTest.isSlow()).isTrue();
+        assertThat(underTest.record(underTest.chooseHint(), Duration.ofSeconds(2L), true, SLOW_THRESHOLD)).isFalse();
+
+        boolean changed = false;
+        for (int i = 0; i < 20 && !changed; i++) {
+            changed = underTest.record(underTest.chooseHint(), Duration.ofMillis(10L), true, SLOW_THRESHOLD);
+        }
+        assertThat(changed).isTrue();
+        assertThat(underTest.isSlow()).isFalse();
+    }
+
+    private QueryPlan newPlan(final int minSamplesPerHint, final int reExplorationInterval) {
+        return new QueryPlan("shape", new BsonDocument(), new BsonDocument(), List.of(noHint, globalRead, namespace),
+                minSamplesPerHint, reExplorationInterval);
+    }
+
+    private static List<String> executeWithTimes(final QueryPlan plan, final int executions,
+            final long noHintMillis, final long globalReadMillis, final long namespaceMillis) {
+
+        final String[] chosen = new String[executions];
+        for (int i = 0; i < executions; i++) {
+            final QueryPlan.HintCandidate candidate = plan.chooseHint();
+            final long millis;
+            switch (candidate.getName()) {
+                case "global_read":
+                    millis = globalReadMillis;
+                    break;
+                case "_namespace":
+                    millis = namespaceMillis;
+                    break;
+                default:
+                    millis = noHintMillis;
+            }
+            plan.record(candidate, Duration.ofMillis(millis), true, SLOW_THRESHOLD);
+            chosen[i] = candidate.getName();
+        }
+        return List.of(chosen);
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.junit.Test;
+
+/**
+ * Tests {@link BsonHashIndex}.
+ */
+public final class BsonHashIndexTest {
+
+    @Test
+    public void equalDocumentsHaveEqualHashesRegardlessOfFieldOrder() {
+        final BsonDocument document = BsonDocument.parse("{\"a\":1,\"b\":{\"c\":[1,2,{\"d\":\"e\"}]}}");
+        final BsonDocument reordered = BsonDocument.parse("{\"b\":{\"c\":[1,2,{\"d\":\"e\"}]},\"a\":1}");
+        final var index = BsonHashIndex.newInstance();
+        final var otherIndex = BsonHashIndex.newInstance();
+
+        assertThat(index.hash(document)).isEqualTo(otherIndex.hash(reordered));
+        assertThat(index.isEqual(document, otherIndex, reordered)).isTrue();
+    }
+
+    @Test
+    public void changedLeafChangesHashesOfAllAncestors() {
+        final BsonDocument document = BsonDocument.parse("{\"a\":1,\"b\":{\"c\":[1,2,{\"d\":\"e\"}]}}");
+        final BsonDocument changed = BsonDocument.parse("{\"a\":1,\"b\":{\"c\":[1,2,{\"d\":\"f\"}]}}");
+        final var index = BsonHashIndex.newInstance();
+        final var otherIndex = BsonHashIndex.newInstance();
+
+        assertThat(index.hash(document)).isNotEqualTo(otherIndex.hash(changed));
+        assertThat(index.hash(document.get("b"))).isNotEqualTo(otherIndex.hash(changed.get("b")));
+        assertThat(index.isEqual(document.get("a"), otherIndex, changed.get("a"))).isTrue();
+        assertThat(index.isEqual(document, otherIndex, changed)).isFalse();
+    }
+
+    @Test
+    public void arrayHashDependsOnElementOrder() {
+        final BsonArray array = new BsonArray();
+        array.add(new BsonInt32(1));
+        array.add(new BsonString("2"));
+        final BsonArray reversed = new BsonArray();
+        reversed.add(new BsonString("2"));
+        reversed.add(new BsonInt32(1));
+        final var index = BsonHashIndex.newInstance();
+
+        assertThat(index.hash(array)).isNotEqualTo(index.hash(reversed));
+        assertThat(index.isEqual(array, index, reversed)).isFalse();
+    }
+
+    @Test
+    public void sizeIsTheSameAsComputedByBsonSizeVisitor() {
+        final BsonDocument document =
+                BsonDocument.parse("{\"a\":1,\"ü\":\"umlaut\",\"b\":{\"c\":[1,2.5,{\"d\":true}],\"e\":null}}");
+        final var index = BsonHashIndex.newInstance();
+
+        assertThat(index.size(document)).isEqualTo(new BsonSizeVisitor().eval(document));
+        assertThat(index.size(document.get("b"))).isEqualTo(new BsonSizeVisitor().eval(document.get("b")));
+    }
+
+    @Test
+    public void diffWithCachedIndexIsTheSameAsWithoutIndex() {
+        final BsonDocument previous = BsonDocument.parse("{\"_id\":\"x:y\",\"t\":{\"a\":1,\"b\":{\"c\":\"d\"}}," +
+                "\"f\":[{\"id\":\"f1\",\"p\":{\"x\":1}},{\"id\":\"f2\",\"p\":{\"x\":2}}]}");
+        final BsonDocument next = BsonDocument.parse("{\"_id\":\"x:y\",\"t\":{\"a\":1,\"b\":{\"c\":\"e\"}}," +
+                "\"f\":[{\"id\":\"f1\",\"p\":{\"x\":1}},{\"id\":\"f2\",\"p\":{\"x\":3}}]}");
+        final var previousIndex = BsonHashIndex.newInstance();
+        // fill the index of the previous document
+        BsonDiff.minusThingDocs(previous, previousIndex, next, BsonHashIndex.newInstance(), 13);
+
+        final var withoutIndex = BsonDiff.minusThingDocs(next, previous, 13);
+        final var withIndex =
+                BsonDiff.minusThingDocs(next, BsonHashIndex.newInstance(), previous, previousIndex, 13);
+
+        assertThat(withIndex.isDiffSmaller()).isEqualTo(withoutIndex.isDiffSmaller());
+        assertThat(withIndex.consumeAndExport()).isEqualTo(withoutIndex.consumeAndExport());
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping.benchmark;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.policies.api.Permission;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.BsonDiff;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.BsonHashIndex;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for computing the incremental update of a search index document after a single property changed.
+ * <p>
+ * Run with {@code java -jar target/ditto-thingsearch-service-*-benchmark.jar BsonDiffBenchmark -prof gc}
+ * after building the module with the {@code build-benchmark-assembly} profile.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class BsonDiffBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int MAX_WIRE_VERSION = 13;
+    private static final int PROPERTIES_PER_FEATURE = 10;
+    private static final int NESTING_FAN_OUT = 10;
+
+    /**
+     * The shape of the thing:
+     * <ul>
+     *     <li>{@code flatAttributes}: all entries are top level attributes,</li>
+     *     <li>{@code nestedAttributes}: the entries are attributes nested into objects of 10 fields each,</li>
+     *     <li>{@code features}: the entries are properties of features with 10 properties each.</li>
+     * </ul>
+     */
+    @Param({"flatAttributes", "nestedAttributes", "features"})
+    public String shape;
+
+    /**
+     * The number of flattened entries of the thing.
+     */
+    @Param({"100", "1000", "10000"})
+    public int entries;
+
+    private BsonDocument previousDocument;
+    private BsonDocument nextDocument;
+    private BsonHashIndex previousDocumentIndex;
+
+    @Setup
+    public void setup() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("org.eclipse.ditto:benchmark"))
+                .forLabel("owner")
+                .setSubject("integration:benchmark", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.THING, "/", Permission.READ)
+                .build();
+        final JsonObject previousThing = createThing(1L);
+        final JsonPointer changedPointer = getLastEntryPointer();
+        final JsonObject nextThing = createThing(2L).setValue(changedPointer, "changed");
+        previousDocument = toDocument(previousThing, policy);
+        nextDocument = toDocument(nextThing, policy);
+        previousDocumentIndex = BsonHashIndex.newInstance();
+        // fill the index of the previous document as the write model of the previous update would have done
+        BsonDiff.minusThingDocs(previousDocument, previousDocumentIndex, nextDocument, BsonHashIndex.newInstance(),
+                MAX_WIRE_VERSION);
+    }
+
+    /**
+     * Diff without any cached hashes, e.g. after the thing updater was started.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public List<BsonDocument> minusThingDocs() {
+        return BsonDiff.minusThingDocs(nextDocument, previousDocument, MAX_WIRE_VERSION).consumeAndExport();
+    }
+
+    /**
+     * Diff against the previous document whose hashes were cached by the previous update, which is the common case.
+     */
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public List<BsonDocument> minusThingDocsWithCachedIndex() {
+        return BsonDiff.minusThingDocs(nextDocument, BsonHashIndex.newInstance(), previousDocument,
+                previousDocumentIndex, MAX_WIRE_VERSION).consumeAndExport();
+    }
+
+    private JsonObject createThing(final long revision) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark")
+                .set("policyId", "org.eclipse.ditto:benchmark")
+                .set("_revision", revision);
+        switch (shape) {
+            case "flatAttributes" -> builder.set("attributes", createFlatObject(entries));
+            case "nestedAttributes" -> builder.set("attributes", createNestedObject(entries));
+            case "features" -> {
+                final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+                for (int i = 0; i < entries / PROPERTIES_PER_FEATURE; i++) {
+                    features.set("feature-" + i, JsonFactory.newObjectBuilder()
+                            .set("properties", createFlatObject(PROPERTIES_PER_FEATURE))
+                            .build());
+                }
+                builder.set("features", features.build());
+            }
+            default -> throw new IllegalArgumentException("Unknown shape <" + shape + ">");
+        }
+        return builder.build();
+    }
+
+    private JsonPointer getLastEntryPointer() {
+        return switch (shape) {
+            case "flatAttributes" -> JsonPointer.of("/attributes/entry-" + (entries - 1));
+            case "nestedAttributes" -> JsonPointer.of("/attributes/group-" + (entries / NESTING_FAN_OUT - 1) +
+                    "/entry-" + (NESTING_FAN_OUT - 1));
+            case "features" -> JsonPointer.of("/features/feature-" + (entries / PROPERTIES_PER_FEATURE - 1) +
+                    "/properties/entry-" + (PROPERTIES_PER_FEATURE - 1));
+            default -> throw new IllegalArgumentException("Unknown shape <" + shape + ">");
+        };
+    }
+
+    private static JsonObject createFlatObject(final int size) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.set("entry-" + i, i % 2 == 0 ? JsonFactory.newValue(i * 1.5) : JsonFactory.newValue("value-" + i));
+        }
+        return builder.build();
+    }
+
+    private static JsonObject createNestedObject(final int size) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < size / NESTING_FAN_OUT; i++) {
+            builder.set("group-" + i, createFlatObject(NESTING_FAN_OUT));
+        }
+        return builder.build();
+    }
+
+    private static BsonDocument toDocument(final JsonObject thing, final Policy policy) {
+        return EnforcedThingMapper.toWriteModel(thing, policy, Set.of(), 1L, null, -1).getThingDocument();
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link AdaptiveBulkLimits}.
+ */
+public final class AdaptiveBulkLimitsTest {
+
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(100);
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofMillis(500);
+
+    @Test
+    public void fullFastBulksIncreaseLimitsUpToMaximum() {
+        final var underTest = AdaptiveBulkLimits.of(64, 4, TARGET_LATENCY);
+        assertThat(underTest.getBulkSize()).isEqualTo(16);
+
+        underTest.releaseBulkWritePermit(underTest.getBulkSize(), FAST);
+        assertThat(underTest.getBulkSize()).isEqualTo(20);
+
+        for (int i = 0; i < 100; i++) {
+            underTest.releaseBulkWritePermit(underTest.getBulkSize(), FAST);
+        }
+        assertThat(underTest.getBulkSize()).isEqualTo(64);
+        assertThat(underTest.getParallelism()).isEqualTo(4);
+    }
+
+    @Test
+    public void partialFastBulksKeepLimits() {
+        final var underTest = AdaptiveBulkLimits.of(64, 4, TARGET_LATENCY);
+
+        underTest.releaseBulkWritePermit(3, FAST);
+
+        assertThat(underTest.getBulkSize()).isEqualTo(16);
+        assertThat(underTest.getParallelism()).isEqualTo(4);
+    }
+
+    @Test
+    public void slowBulksDecreaseLimitsDownToOne() {
+        final var underTest = AdaptiveBulkLimits.of(64, 4, TARGET_LATENCY);
+
+        underTest.releaseBulkWritePermit(1, SLOW);
+        assertThat(underTest.getBulkSize()).isEqualTo(8);
+        assertThat(underTest.getParallelism()).isEqualTo(2);
+
+        for (int i = 0; i < 10; i++) {
+            underTest.releaseBulkWritePermit(1, SLOW);
+        }
+        assertThat(underTest.getBulkSize()).isEqualTo(1);
+        assertThat(underTest.getParallelism()).isEqualTo(1);
+    }
+
+    @Test
+    public void permitsAreLimitedByParallelism() {
+        final var underTest = AdaptiveBulkLimits.of(64, 2, TARGET_LATENCY);
+
+        final CompletableFuture<Void> first = underTest.acquireBulkWritePermit().toCompletableFuture();
+        final CompletableFuture<Void> second = underTest.acquireBulkWritePermit().toCompletableFuture();
+        final CompletableFuture<Void> third = underTest.acquireBulkWritePermit().toCompletableFuture();
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(third).isNotDone();
+
+        underTest.releaseBulkWritePermit(1, FAST);
+        assertThat(third).isCompleted();
+    }
+
+    @Test
+    public void slowBulkWithholdsPermitsUntilBelowReducedParallelism() {
+        final var underTest = AdaptiveBulkLimits.of(64, 2, TARGET_LATENCY);
+
+        underTest.acquireBulkWritePermit();
+        underTest.acquireBulkWritePermit();
+        final CompletableFuture<Void> third = underTest.acquireBulkWritePermit().toCompletableFuture();
+
+        // parallelism drops to 1 while 1 bulk write is still in flight
+        underTest.releaseBulkWritePermit(1, SLOW);
+        assertThat(third).isNotDone();
+
+        underTest.releaseBulkWritePermit(1, FAST);
+        assertThat(third).isCompleted();
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
+import org.junit.Test;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+/**
+ * Tests the batching helpers of {@link MongoSearchUpdaterFlow}.
+ */
+public final class MongoSearchUpdaterFlowTest {
+
+    @Test
+    public void coalesceKeepsLatestWriteModelPerThing() {
+        final var a1 = pendingWrite(writeModel("a", 1L, false, false));
+        final var b1 = pendingWrite(writeModel("b", 1L, false, false));
+        final var a2 = pendingWrite(writeModel("a", 2L, false, true));
+        final var a3 = pendingWrite(writeModel("a", 3L, false, true));
+
+        final var coalesced = MongoSearchUpdaterFlow.coalesce(List.of(a1, b1, a2, a3));
+
+        assertThat(coalesced).containsExactly(
+                new MongoSearchUpdaterFlow.CoalescedWrite(b1, List.of()),
+                new MongoSearchUpdaterFlow.CoalescedWrite(a3, List.of(a1, a2)));
+    }
+
+    @Test
+    public void splitSuccessfulBulkWrite() {
+        final List<MongoWriteModel> writeModels = List.of(
+                writeModel("a", 1L, false, false),
+                writeModel("b", 1L, false, true),
+                writeModel("c", 1L, true, false));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 1, 1,
+                List.of(new BulkWriteUpsert(0, new BsonString("a"))), List.of());
+
+        final var split = MongoSearchUpdaterFlow.splitPerWriteModel(
+                WriteResultAndErrors.success(writeModels, result, "correlation"));
+
+        assertThat(split).hasSize(3);
+        assertThat(statusOf(split.get(0))).isEqualTo(BulkWriteResultAckFlow.Status.OK);
+        assertThat(split.get(0).getBulkWriteResult().getUpserts()).hasSize(1);
+        assertThat(statusOf(split.get(1))).isEqualTo(BulkWriteResultAckFlow.Status.OK);
+        assertThat(split.get(1).getBulkWriteResult().getMatchedCount()).isOne();
+        assertThat(statusOf(split.get(2))).isEqualTo(BulkWriteResultAckFlow.Status.OK);
+        assertThat(split.get(2).getBulkWriteResult().getDeletedCount()).isOne();
+        assertThat(split).allSatisfy(single -> {
+            assertThat(single.getWriteModels()).hasSize(1);
+            assertThat(single.getBulkWriteCorrelationId()).isEqualTo("correlation");
+        });
+    }
+
+    @Test
+    public void splitBulkWriteWithMissingPatchUpdateRetriesAllPatchUpdates() {
+        final List<MongoWriteModel> writeModels = List.of(
+                writeModel("a", 1L, false, true),
+                writeModel("b", 1L, false, true),
+                writeModel("c", 1L, false, false));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 2, 0, 2, List.of(), List.of());
+
+        final var split = MongoSearchUpdaterFlow.splitPerWriteModel(
+                WriteResultAndErrors.success(writeModels, result, "correlation"));
+
+        assertThat(statusOf(split.get(0))).isEqualTo(BulkWriteResultAckFlow.Status.INCORRECT_PATCH);
+        assertThat(statusOf(split.get(1))).isEqualTo(BulkWriteResultAckFlow.Status.INCORRECT_PATCH);
+        assertThat(statusOf(split.get(2))).isEqualTo(BulkWriteResultAckFlow.Status.OK);
+    }
+
+    @Test
+    public void splitBulkWriteErrorsToTheirWriteModels() {
+        final List<MongoWriteModel> writeModels = List.of(
+                writeModel("a", 1L, false, false),
+                writeModel("b", 1L, false, false));
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of());
+        final List<BulkWriteError> errors =
+                List.of(new BulkWriteError(50, "E50 operation timed out", new BsonDocument(), 1));
+
+        final var split = MongoSearchUpdaterFlow.splitPerWriteModel(WriteResultAndErrors.failure(writeModels,
+                new MongoBulkWriteException(result, errors, null, new ServerAddress(), Set.of()), "correlation"));
+
+        assertThat(statusOf(split.get(0))).isEqualTo(BulkWriteResultAckFlow.Status.OK);
+        // a failed update did not match, same as if it had been written alone
+        assertThat(statusOf(split.get(1))).isEqualTo(BulkWriteResultAckFlow.Status.INCORRECT_PATCH);
+        assertThat(split.get(0).getBulkWriteErrors()).isEmpty();
+        assertThat(split.get(1).getBulkWriteErrors()).hasSize(1);
+        assertThat(split.get(1).getBulkWriteErrors().get(0).getIndex()).isZero();
+    }
+
+    @Test
+    public void splitUnexpectedError() {
+        final List<MongoWriteModel> writeModels = List.of(
+                writeModel("a", 1L, false, false),
+                writeModel("b", 1L, true, false));
+
+        final var split = MongoSearchUpdaterFlow.splitPerWriteModel(
+                WriteResultAndErrors.unexpectedError(writeModels, new IllegalStateException("down"), "correlation"));
+
+        assertThat(split).hasSize(2).allSatisfy(single -> {
+            assertThat(single.getWriteModels()).hasSize(1);
+            assertThat(statusOf(single)).isEqualTo(BulkWriteResultAckFlow.Status.UNACKNOWLEDGED);
+        });
+    }
+
+    private static BulkWriteResultAckFlow.Status statusOf(final WriteResultAndErrors writeResultAndErrors) {
+        return BulkWriteResultAckFlow.checkBulkWriteResult(writeResultAndErrors).first();
+    }
+
+    private static MongoSearchUpdaterFlow.PendingWrite pendingWrite(final MongoWriteModel writeModel) {
+        return new MongoSearchUpdaterFlow.PendingWrite(writeModel, new CompletableFuture<>());
+    }
+
+    private static MongoWriteModel writeModel(final String name, final long thingRevision, final boolean isDelete,
+            final boolean isPatchUpdate) {
+
+        final Metadata metadata = Metadata.of(ThingId.of("thing", name), thingRevision, null, null, Set.of(), null);
+        final AbstractWriteModel abstractModel = isDelete
+                ? ThingDeleteModel.of(metadata)
+                : ThingWriteModel.of(metadata, new BsonDocument());
+        return MongoWriteModel.of(abstractModel, abstractModel.toMongo(), isPatchUpdate);
+    }
+
+}
@@ -17,6 +17,7 @@ import java.util.Set;
 import javax.annotation.Nullable;
 
 import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.stream.javadsl.Source;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.json.JsonObject;
@@ -51,13 +52,16 @@ public final class TestSearchUpdaterStream {
      * Create a test stream.
      *
      * @param database the MongoDB database.
+     * @param actorSystem the actor system to run the bulk writes in.
      * @return the test stream.
      */
     public static TestSearchUpdaterStream of(final MongoDatabase database,
-            final SearchUpdateMapper searchUpdateMapper) {
+            final SearchUpdateMapper searchUpdateMapper,
+            final ActorSystem actorSystem) {
 
         final var mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
-                DefaultPersistenceStreamConfig.of(ConfigFactory.empty())
+                DefaultPersistenceStreamConfig.of(ConfigFactory.empty()),
+                actorSystem
         );
         return new TestSearchUpdaterStream(mongoSearchUpdaterFlow);
     }
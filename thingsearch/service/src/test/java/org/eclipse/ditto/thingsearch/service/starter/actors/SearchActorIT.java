@@ -136,7 +136,7 @@ public final class SearchActorIT {
     private static TestSearchUpdaterStream provideWritePersistence(final ActorSystem system) {
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(system.settings().config());
         return TestSearchUpdaterStream.of(mongoClient.getDefaultDatabase(),
-                SearchUpdateMapper.get(system, dittoExtensionsConfig));
+                SearchUpdateMapper.get(system, dittoExtensionsConfig), system);
     }
 
     private static DittoMongoClient provideClientWrapper() {